@@ -0,0 +1,39 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the matcher benchmarks with the GC profiler enabled so that the allocation rate of each benchmark is reported
+ * alongside its throughput and average time. Any of the standard JMH command line options can be supplied e.g.
+ * {@code java -jar target/benchmarks.jar StringRegexMatcher -f 1}
+ *
+ * @author Karl Bennett
+ */
+public class Benchmarks {
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        new org.openjdk.jmh.runner.Runner(
+            new OptionsBuilder().parent(new CommandLineOptions(args)).addProfiler(GCProfiler.class).build()
+        ).run();
+    }
+}
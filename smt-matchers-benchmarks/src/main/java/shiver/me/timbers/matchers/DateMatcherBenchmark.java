@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static shiver.me.timbers.matchers.MismatchDescriptions.describeFailure;
+
+/**
+ * @author Karl Bennett
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class DateMatcherBenchmark {
+
+    private static final long EXPECTED = 1451649600000L;
+
+    @Param({"fallsBefore", "fallsBeforeWithin", "fallsOn", "fallsOnWithin", "fallsAfter", "fallsAfterWithin"})
+    private String matcherName;
+
+    private Matcher<Date> matcher;
+    private Date matching;
+    private Date notMatching;
+
+    @Setup
+    public void setUp() {
+        final Date expected = new Date(EXPECTED);
+        switch (matcherName) {
+            case "fallsBefore":
+                setUp(new BeforeDateMatcher(expected), -1000, 1000);
+                break;
+            case "fallsBeforeWithin":
+                setUp(new BeforeWithinDateMatcher(expected, 5L, SECONDS), -1000, -10000);
+                break;
+            case "fallsOn":
+                setUp(new OnDateMatcher(expected), 0, 1);
+                break;
+            case "fallsOnWithin":
+                setUp(new WithinDateMatcher(expected, 5L, SECONDS), 1000, 10000);
+                break;
+            case "fallsAfter":
+                setUp(new AfterDateMatcher(expected), 1000, -1000);
+                break;
+            case "fallsAfterWithin":
+                setUp(new AfterWithinDateMatcher(expected, 5L, SECONDS), 1000, 10000);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown date matcher: " + matcherName);
+        }
+    }
+
+    private void setUp(Matcher<Date> matcher, long matchingOffset, long notMatchingOffset) {
+        this.matcher = matcher;
+        this.matching = new Date(EXPECTED + matchingOffset);
+        this.notMatching = new Date(EXPECTED + notMatchingOffset);
+    }
+
+    @Benchmark
+    public boolean match() {
+        return matcher.matches(matching);
+    }
+
+    @Benchmark
+    public boolean mismatch() {
+        return matcher.matches(notMatching);
+    }
+
+    @Benchmark
+    public String mismatchDescription() {
+        return describeFailure(matcher, notMatching);
+    }
+}
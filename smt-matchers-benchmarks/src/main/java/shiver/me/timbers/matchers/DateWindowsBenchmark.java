@@ -0,0 +1,99 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.hamcrest.CoreMatchers.anyOf;
+
+/**
+ * Compares checking a date against many windows one at a time with checking it against the {@link DateWindowIndex}.
+ *
+ * @author Karl Bennett
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class DateWindowsBenchmark {
+
+    private static final long START = 1451649600000L;
+    private static final long HOUR = 3600000L;
+
+    @Param({"10", "100", "1000"})
+    private int windowCount;
+
+    private Matcher<Date> linear;
+    private Matcher<Date> indexed;
+    private Date matching;
+    private Date notMatching;
+
+    @Setup
+    public void setUp() {
+        final List<Matcher<? super Date>> matchers = new ArrayList<>();
+        final List<DateWindow> windows = new ArrayList<>();
+        for (int i = 0; i < windowCount; i++) {
+            final WithinDateMatcher window = new WithinDateMatcher(new Date(START + i * HOUR), 5L, MINUTES);
+            matchers.add(window);
+            windows.add(window);
+        }
+        linear = anyOf(matchers);
+        indexed = new DateWindowsMatcher(windows);
+        // The last window is the worst case for the linear check.
+        matching = new Date(START + (windowCount - 1) * HOUR);
+        notMatching = new Date(START + (windowCount - 1) * HOUR + HOUR / 2);
+    }
+
+    @Benchmark
+    public boolean linearMatch() {
+        return linear.matches(matching);
+    }
+
+    @Benchmark
+    public boolean linearMismatch() {
+        return linear.matches(notMatching);
+    }
+
+    @Benchmark
+    public boolean indexedMatch() {
+        return indexed.matches(matching);
+    }
+
+    @Benchmark
+    public boolean indexedMismatch() {
+        return indexed.matches(notMatching);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static shiver.me.timbers.matchers.MismatchDescriptions.describeFailure;
+
+/**
+ * Compares two equal orders with 100 lines each, and two that differ in the last line. The diffs list the differences
+ * between two orders that differ in every line, either stopping after the first 10 or listing all 100.
+ *
+ * @author Karl Bennett
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class DeepEqualsMatcherBenchmark {
+
+    private final Order order = order(100, 1);
+    private final Matcher<Order> matching = DeepEqualsMatcher.deeplyEqualTo(order(100, 1));
+    private final Matcher<Order> notMatching = DeepEqualsMatcher.deeplyEqualTo(order(100, 2));
+    private final Matcher<Order> ignoring = DeepEqualsMatcher.deeplyEqualTo(order(100, 2))
+        .ignoring("lines[*].price");
+    private final Order repriced = order(100, 2, 2);
+    private final ObjectGraphDiff firstTen = new ObjectGraphDiff().withMaxEntries(10);
+    private final ObjectGraphDiff all = new ObjectGraphDiff().withMaxEntries(1000);
+
+    @Benchmark
+    public boolean match() {
+        return matching.matches(order);
+    }
+
+    @Benchmark
+    public boolean matchIgnoring() {
+        return ignoring.matches(order);
+    }
+
+    @Benchmark
+    public boolean mismatch() {
+        return notMatching.matches(order);
+    }
+
+    @Benchmark
+    public String mismatchDescription() {
+        return describeFailure(notMatching, order);
+    }
+
+    @Benchmark
+    public ObjectGraphDiff.Report diffFirstTen() {
+        return firstTen.diff(order, repriced);
+    }
+
+    @Benchmark
+    public ObjectGraphDiff.Report diffAll() {
+        return all.diff(order, repriced);
+    }
+
+    private static Order order(int size, long lastPrice) {
+        return order(size, 1, lastPrice);
+    }
+
+    private static Order order(int size, long price, long lastPrice) {
+        final List<Line> lines = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            lines.add(new Line("SKU-" + i, i, i == size - 1 ? lastPrice : price));
+        }
+        return new Order("ORDER-1", lines);
+    }
+
+    private static class Line {
+
+        private final String sku;
+        private final int quantity;
+        private final long price;
+
+        private Line(String sku, int quantity, long price) {
+            this.sku = sku;
+            this.quantity = quantity;
+            this.price = price;
+        }
+    }
+
+    private static class Order {
+
+        private final String id;
+        private final List<Line> lines;
+
+        private Order(String id, List<Line> lines) {
+            this.id = id;
+            this.lines = lines;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static shiver.me.timbers.matchers.MismatchDescriptions.describeFailure;
+
+/**
+ * The {@code access*} benchmarks read the same private field with each {@link FieldAccess} strategy. The
+ * {@code *LargeVersion} benchmarks read an {@code int} that is outside of the {@link Integer} cache so the boxed
+ * matcher has to allocate.
+ *
+ * @author Karl Bennett
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class FieldMatcherBenchmark {
+
+    private final Order order = new Order("ORDER-1", 3);
+    private final Matcher<Order> matching = FieldMatcher.hasFieldThat("id", equalTo("ORDER-1"));
+    private final Matcher<Order> notMatching = FieldMatcher.hasFieldThat("id", equalTo("ORDER-2"));
+    private final Matcher<Order> superClassField = FieldMatcher.hasField("version", 3);
+    private final Matcher<Order> missing = FieldMatcher.hasField("missing", 3);
+    private final Matcher<Order> reflection = new FieldMatcher<>("version", equalTo(3), FieldAccess.REFLECTION);
+    private final Matcher<Order> methodHandle = new FieldMatcher<>("version", equalTo(3), FieldAccess.METHOD_HANDLE);
+    private final Matcher<Order> generated = new FieldMatcher<>("version", equalTo(3), FieldAccess.GENERATED);
+    private final Matcher<Order> separateFields = allOf(
+        FieldMatcher.<Order>hasField("id", "ORDER-1"),
+        FieldMatcher.<Order>hasField("version", 3)
+    );
+    private final Matcher<Order> fields = FieldsMatcher.hasFields(orderFields());
+    private final Order largeVersionOrder = new Order("ORDER-1", 100000);
+    private final Matcher<Order> boxedLargeVersion = FieldMatcher.hasField("version", 100000);
+    private final Matcher<Order> primitiveLargeVersion = PrimitiveFieldMatcher.hasIntField("version", 100000);
+
+    @Benchmark
+    public boolean match() {
+        return matching.matches(order);
+    }
+
+    @Benchmark
+    public boolean matchSuperClassField() {
+        return superClassField.matches(order);
+    }
+
+    @Benchmark
+    public boolean mismatch() {
+        return notMatching.matches(order);
+    }
+
+    @Benchmark
+    public boolean accessWithReflection() {
+        return reflection.matches(order);
+    }
+
+    @Benchmark
+    public boolean accessWithMethodHandle() {
+        return methodHandle.matches(order);
+    }
+
+    @Benchmark
+    public boolean accessWithGeneratedClass() {
+        return generated.matches(order);
+    }
+
+    @Benchmark
+    public boolean matchFieldsSeparately() {
+        return separateFields.matches(order);
+    }
+
+    @Benchmark
+    public boolean matchFieldsTogether() {
+        return fields.matches(order);
+    }
+
+    @Benchmark
+    public boolean boxedLargeVersion() {
+        return boxedLargeVersion.matches(largeVersionOrder);
+    }
+
+    @Benchmark
+    public boolean primitiveLargeVersion() {
+        return primitiveLargeVersion.matches(largeVersionOrder);
+    }
+
+    @Benchmark
+    public String mismatchDescription() {
+        return describeFailure(notMatching, order);
+    }
+
+    @Benchmark
+    public String missingFieldDescription() {
+        return describeFailure(missing, order);
+    }
+
+    private static Map<String, Matcher<?>> orderFields() {
+        final Map<String, Matcher<?>> fields = new LinkedHashMap<>();
+        fields.put("id", equalTo("ORDER-1"));
+        fields.put("version", equalTo(3));
+        return fields;
+    }
+
+    private static class Entity {
+
+        private final int version;
+
+        private Entity(int version) {
+            this.version = version;
+        }
+    }
+
+    private static class Order extends Entity {
+
+        private final String id;
+
+        private Order(String id, int version) {
+            super(version);
+            this.id = id;
+        }
+    }
+}
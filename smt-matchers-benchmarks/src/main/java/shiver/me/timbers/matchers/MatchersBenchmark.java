@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static shiver.me.timbers.matchers.Matchers.fallsOn;
+import static shiver.me.timbers.matchers.Matchers.hasField;
+import static shiver.me.timbers.matchers.Matchers.hasProperty;
+import static shiver.me.timbers.matchers.Matchers.matches;
+import static shiver.me.timbers.matchers.MismatchDescriptions.describeFailure;
+import static shiver.me.timbers.matchers.Within.within;
+
+/**
+ * Measures the matchers the way they are most often used, created through the {@link Matchers} facade for every
+ * assertion.
+ *
+ * @author Karl Bennett
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class MatchersBenchmark {
+
+    private final Date expected = new Date(1451649600000L);
+    private final Date actual = new Date(1451649601000L);
+    private final Holder holder = new Holder(new Holder(null, "inner"), "outer");
+
+    @Benchmark
+    public boolean fallsOnWithin() {
+        return fallsOn(expected, within(5L, SECONDS)).matches(actual);
+    }
+
+    @Benchmark
+    public String fallsOnMismatchDescription() {
+        return describeFailure(fallsOn(expected), actual);
+    }
+
+    @Benchmark
+    public boolean hasFieldMatch() {
+        return hasField("value", "outer").matches(holder);
+    }
+
+    @Benchmark
+    public boolean hasPropertyMatch() {
+        return hasProperty("holder.value", "inner").matches(holder);
+    }
+
+    @Benchmark
+    public String hasPropertyMismatchDescription() {
+        return describeFailure(hasProperty("holder.value", "outer"), holder);
+    }
+
+    @Benchmark
+    public boolean matchesPattern() {
+        return matches("[a-z]+-[0-9]+").matches("order-12345");
+    }
+
+    @Benchmark
+    public String matchesMismatchDescription() {
+        return describeFailure(matches("[a-z]+-[0-9]+"), "ORDER-12345");
+    }
+
+    private static class Holder {
+
+        private final Holder holder;
+        private final String value;
+
+        private Holder(Holder holder, String value) {
+            this.holder = holder;
+            this.value = value;
+        }
+    }
+}
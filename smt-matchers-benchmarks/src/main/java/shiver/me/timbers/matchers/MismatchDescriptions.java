@@ -0,0 +1,38 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+/**
+ * Builds the same failure message that {@link org.hamcrest.MatcherAssert#assertThat} would so that the cost of a
+ * failed assertion can be measured.
+ *
+ * @author Karl Bennett
+ */
+class MismatchDescriptions {
+
+    static String describeFailure(Matcher<?> matcher, Object actual) {
+        final StringDescription description = new StringDescription();
+        if (!matcher.matches(actual)) {
+            description.appendText("Expected: ").appendDescriptionOf(matcher).appendText("\n     but: ");
+            matcher.describeMismatch(actual, description);
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static shiver.me.timbers.matchers.MismatchDescriptions.describeFailure;
+
+/**
+ * @author Karl Bennett
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class PropertyMatcherBenchmark {
+
+    private final One one = new One(new Two(new Three("value")));
+    private final Matcher<One> matching = PropertyMatcher.hasPropertyThat("two.three.value", equalTo("value"));
+    private final Matcher<One> notMatching = PropertyMatcher.hasPropertyThat("two.three.value", equalTo("other"));
+    private final Matcher<One> missing = PropertyMatcher.hasProperty("two.missing.value", "value");
+    private final Bean bean = new Bean(new Bean(null, "value"), "outer");
+    private final Matcher<Bean[]> indexed = PropertyMatcher.hasPropertyThat("[1].child.value", equalTo("value"));
+    private final Bean[] beans = {bean, bean};
+    private final Bean[] manyBeans = manyBeans(100000);
+    private final Matcher<Bean[]> everyValue = PropertyValuesMatcher.everyValue("[*].child.value", equalTo("value"));
+    private final Matcher<Bean[]> everyValueInParallel =
+        PropertyValuesMatcher.<Bean[]>everyValue("[*].child.value", equalTo("value")).inParallel();
+    private final Matcher<Bean> getters = PropertyMatcher.hasPropertyThat("child.value", equalTo("value"));
+
+    @Benchmark
+    public boolean match() {
+        return matching.matches(one);
+    }
+
+    @Benchmark
+    public boolean mismatch() {
+        return notMatching.matches(one);
+    }
+
+    @Benchmark
+    public boolean matchThroughGetters() {
+        return getters.matches(bean);
+    }
+
+    @Benchmark
+    public boolean matchIndexed() {
+        return indexed.matches(beans);
+    }
+
+    @Benchmark
+    public boolean matchEveryValue() {
+        return everyValue.matches(manyBeans);
+    }
+
+    @Benchmark
+    public boolean matchEveryValueInParallel() {
+        return everyValueInParallel.matches(manyBeans);
+    }
+
+    @Benchmark
+    public String mismatchDescription() {
+        return describeFailure(notMatching, one);
+    }
+
+    @Benchmark
+    public String missingPropertyDescription() {
+        return describeFailure(missing, one);
+    }
+
+    @Benchmark
+    public boolean createAndMatch() {
+        return PropertyMatcher.hasProperty("two.three.value", "value").matches(one);
+    }
+
+    private static class Three {
+
+        private final String value;
+
+        private Three(String value) {
+            this.value = value;
+        }
+    }
+
+    private static class Two {
+
+        private final Three three;
+
+        private Two(Three three) {
+            this.three = three;
+        }
+    }
+
+    private static class One {
+
+        private final Two two;
+
+        private One(Two two) {
+            this.two = two;
+        }
+    }
+
+    private Bean[] manyBeans(int size) {
+        final Bean[] beans = new Bean[size];
+        for (int i = 0; i < size; i++) {
+            beans[i] = new Bean(new Bean(null, "value"), "outer");
+        }
+        return beans;
+    }
+
+    public static class Bean {
+
+        private final Bean child;
+        private final String value;
+
+        private Bean(Bean child, String value) {
+            this.child = child;
+            this.value = value;
+        }
+
+        public Bean getChild() {
+            return child;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+}
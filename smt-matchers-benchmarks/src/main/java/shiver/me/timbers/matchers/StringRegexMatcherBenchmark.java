@@ -0,0 +1,114 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.regex.Pattern;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static shiver.me.timbers.matchers.MismatchDescriptions.describeFailure;
+
+/**
+ * The {@code pattern*} benchmarks run the same regex straight through {@link Pattern} so they show how much the
+ * matcher's required literal check saves on strings that don't match, and the {@code shortId} benchmarks show the cost
+ * of allocating a new {@link java.util.regex.Matcher} for every match of a short string.
+ *
+ * @author Karl Bennett
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class StringRegexMatcherBenchmark {
+
+    private static final String PATTERN = ".*ORDER-[0-9]+ status=(NEW|PAID|SHIPPED).*";
+    private static final String ID_PATTERN = "([A-Z]{3})-([0-9]{6})";
+
+    private final Matcher<CharSequence> matcher = StringRegexMatcher.matches(PATTERN);
+    private final String matching = "2016-01-01 12:00:00 INFO ORDER-123456 status=PAID amount=12.50";
+    private final String notMatching = "2016-01-01 12:00:00 INFO INVOICE-123456 status=PAID amount=12.50";
+    private final String longNotMatching = repeat(notMatching, 32);
+    private final Pattern pattern = Pattern.compile(PATTERN);
+    private final Matcher<CharSequence> idMatcher = StringRegexMatcher.matches(ID_PATTERN);
+    private final Pattern idPattern = Pattern.compile(ID_PATTERN);
+    private final String id = "ABC-123456";
+
+    private static String repeat(String string, int times) {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(string).append(' ');
+        }
+        return builder.toString();
+    }
+
+    @Benchmark
+    public boolean match() {
+        return matcher.matches(matching);
+    }
+
+    @Benchmark
+    public boolean mismatch() {
+        return matcher.matches(notMatching);
+    }
+
+    @Benchmark
+    public boolean longMismatch() {
+        return matcher.matches(longNotMatching);
+    }
+
+    @Benchmark
+    public boolean patternMismatch() {
+        return pattern.matcher(notMatching).matches();
+    }
+
+    @Benchmark
+    public boolean patternLongMismatch() {
+        return pattern.matcher(longNotMatching).matches();
+    }
+
+    @Benchmark
+    public boolean shortIdMatch() {
+        return idMatcher.matches(id);
+    }
+
+    @Benchmark
+    public boolean patternShortIdMatch() {
+        return idPattern.matcher(id).matches();
+    }
+
+    @Benchmark
+    public String mismatchDescription() {
+        return describeFailure(matcher, notMatching);
+    }
+
+    @Benchmark
+    public boolean createAndMatch() {
+        return StringRegexMatcher.matches(PATTERN).matches(matching);
+    }
+}
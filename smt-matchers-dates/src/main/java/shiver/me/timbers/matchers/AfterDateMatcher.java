@@ -28,7 +28,7 @@ import java.util.concurrent.TimeUnit;
  *
  * @author Karl Bennett
  */
-public class AfterDateMatcher extends TypeSafeMatcher<Date> {
+public class AfterDateMatcher extends TypeSafeMatcher<Date> implements EpochMillisMatcher {
 
     /**
      * Check that the actual date is after the expected.
@@ -51,6 +51,7 @@ public class AfterDateMatcher extends TypeSafeMatcher<Date> {
 
     private final TimeOperations timeOperations;
     private final Date expected;
+    private final long expectedTime;
 
     public AfterDateMatcher(Date expected) {
         this(new TimeOperations(), expected);
@@ -59,11 +60,17 @@ public class AfterDateMatcher extends TypeSafeMatcher<Date> {
     AfterDateMatcher(TimeOperations timeOperations, Date expected) {
         this.timeOperations = timeOperations;
         this.expected = expected;
+        this.expectedTime = expected.getTime();
     }
 
     @Override
     protected boolean matchesSafely(Date actual) {
-        return actual.after(expected);
+        return actual.getTime() > expectedTime;
+    }
+
+    @Override
+    public boolean matchesEpochMillis(long actual) {
+        return timeOperations.isAfter(actual, expectedTime);
     }
 
     @Override
@@ -29,6 +29,7 @@ import java.util.concurrent.TimeUnit;
 public class AfterWithinDateMatcher extends TimeOperationsDateMatcher {
 
     private final Date expected;
+    private final long expectedTime;
     private final Long duration;
     private final TimeUnit unit;
 
@@ -39,14 +40,25 @@ public class AfterWithinDateMatcher extends TimeOperationsDateMatcher {
     AfterWithinDateMatcher(TimeOperations timeOperations, Date expected, Long duration, TimeUnit unit) {
         super(timeOperations, duration, unit);
         this.expected = expected;
+        this.expectedTime = expected.getTime();
         this.duration = duration;
         this.unit = unit;
     }
 
     @Override
-    protected boolean matchesTime(TimeOperations timeOperations, long duration, Date actual) {
-        return timeOperations.isBeforeOrEqualTo(actual.getTime(), expected.getTime() + duration)
-            && actual.after(expected);
+    protected boolean matchesTime(TimeOperations timeOperations, long duration, long actual) {
+        return timeOperations.isBeforeOrEqualTo(actual, expectedTime + duration)
+            && timeOperations.isAfter(actual, expectedTime);
+    }
+
+    @Override
+    public long getStartMillis() {
+        return expectedTime + 1;
+    }
+
+    @Override
+    public long getEndMillis() {
+        return expectedTime + unit.toMillis(duration);
     }
 
     @Override
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.Temporal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A matcher to check that a {@link java.time} value (e.g. {@link Instant}, {@link java.time.ZonedDateTime}) falls
+ * before another.
+ *
+ * @author Karl Bennett
+ */
+public class BeforeTemporalMatcher<T extends Temporal> extends TimeOperationsTemporalMatcher<T> {
+
+    /**
+     * Check that the actual time is before the expected.
+     */
+    @Factory
+    public static <T extends Temporal> BeforeTemporalMatcher<T> fallsBefore(T expected) {
+        return new BeforeTemporalMatcher<>(expected);
+    }
+
+    /**
+     * Check that the actual time falls before the expected time within a supplied duration.
+     */
+    public static <T extends Temporal> BeforeWithinTemporalMatcher<T> fallsBefore(T expected, Within within) {
+        return BeforeTemporalMatcher.fallsBefore(expected).within(within.toDuration());
+    }
+
+    private final TimeOperations timeOperations;
+    private final T expected;
+    private final Instant expectedInstant;
+
+    public BeforeTemporalMatcher(T expected) {
+        this(new TimeOperations(), expected);
+    }
+
+    BeforeTemporalMatcher(TimeOperations timeOperations, T expected) {
+        super(timeOperations, expected);
+        this.timeOperations = timeOperations;
+        this.expected = expected;
+        this.expectedInstant = timeOperations.toInstant(expected);
+    }
+
+    @Override
+    protected boolean matchesInstant(TimeOperations timeOperations, Instant actual) {
+        return timeOperations.isBefore(actual, expectedInstant);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("the time to be before ").appendValue(expected);
+    }
+
+    /**
+     * Allow a duration before and including the expected time that the actual time may fall within.
+     */
+    public BeforeWithinTemporalMatcher<T> within(Long duration, TimeUnit unit) {
+        return within(Within.toDuration(duration, unit));
+    }
+
+    /**
+     * Allow a duration before and including the expected time that the actual time may fall within.
+     */
+    public BeforeWithinTemporalMatcher<T> within(Duration duration) {
+        return new BeforeWithinTemporalMatcher<>(timeOperations, expected, duration);
+    }
+}
@@ -29,6 +29,7 @@ import java.util.concurrent.TimeUnit;
 public class BeforeWithinDateMatcher extends TimeOperationsDateMatcher {
 
     private final Date expected;
+    private final long expectedTime;
     private final Long duration;
     private final TimeUnit unit;
 
@@ -39,14 +40,25 @@ public class BeforeWithinDateMatcher extends TimeOperationsDateMatcher {
     BeforeWithinDateMatcher(TimeOperations timeOperations, Date expected, Long duration, TimeUnit unit) {
         super(timeOperations, duration, unit);
         this.expected = expected;
+        this.expectedTime = expected.getTime();
         this.duration = duration;
         this.unit = unit;
     }
 
     @Override
-    protected boolean matchesTime(TimeOperations timeOperations, long duration, Date actual) {
-        return actual.before(expected)
-            && timeOperations.isAfterOrEqualTo(actual.getTime(), expected.getTime() - duration);
+    protected boolean matchesTime(TimeOperations timeOperations, long duration, long actual) {
+        return timeOperations.isBefore(actual, expectedTime)
+            && timeOperations.isAfterOrEqualTo(actual, expectedTime - duration);
+    }
+
+    @Override
+    public long getStartMillis() {
+        return expectedTime - unit.toMillis(duration);
+    }
+
+    @Override
+    public long getEndMillis() {
+        return expectedTime - 1;
     }
 
     @Override
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Description;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.Temporal;
+
+/**
+ * A matcher to check that a {@link java.time} value falls before another within a certain duration.
+ *
+ * @author Karl Bennett
+ */
+public class BeforeWithinTemporalMatcher<T extends Temporal> extends TimeOperationsTemporalMatcher<T> {
+
+    private final T expected;
+    private final Duration duration;
+    private final Instant expectedInstant;
+    private final Instant limit;
+
+    public BeforeWithinTemporalMatcher(T expected, Duration duration) {
+        this(new TimeOperations(), expected, duration);
+    }
+
+    BeforeWithinTemporalMatcher(TimeOperations timeOperations, T expected, Duration duration) {
+        super(timeOperations, expected);
+        this.expected = expected;
+        this.duration = duration;
+        this.expectedInstant = timeOperations.toInstant(expected);
+        this.limit = expectedInstant.minus(duration);
+    }
+
+    @Override
+    protected boolean matchesInstant(TimeOperations timeOperations, Instant actual) {
+        return timeOperations.isBefore(actual, expectedInstant)
+            && timeOperations.isAfterOrEqualTo(actual, limit);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("the time to be no more than ").appendText(duration.toString())
+            .appendText(" before ")
+            .appendValue(expected);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * An index of many {@link DateWindow}s that can find the windows containing a date in {@code O(log n)} time.
+ * <p>
+ * The start and end of every window are sorted into a single time line that splits time into segments where the same
+ * set of windows apply. A query is then a binary search for the segment that contains the date. The index is
+ * immutable once built so it can be shared between threads.
+ *
+ * @author Karl Bennett
+ */
+public class DateWindowIndex<W extends DateWindow> {
+
+    private static final int[] NONE = new int[0];
+
+    private final List<W> windows;
+    private final long[] boundaries;
+    private final int[][] segments;
+
+    public DateWindowIndex(Collection<? extends W> windows) {
+        this.windows = Collections.unmodifiableList(new ArrayList<>(windows));
+        this.boundaries = sortedBoundaries(this.windows);
+        this.segments = segments(this.windows, boundaries);
+    }
+
+    private static long[] sortedBoundaries(List<? extends DateWindow> windows) {
+        final long[] boundaries = new long[windows.size() * 2];
+        int size = 0;
+        for (DateWindow window : windows) {
+            final long start = window.getStartMillis();
+            final long end = window.getEndMillis();
+            if (end < start) {
+                continue;
+            }
+            boundaries[size++] = start;
+            // A window that reaches the end of time never needs to be closed.
+            if (end != Long.MAX_VALUE) {
+                boundaries[size++] = end + 1;
+            }
+        }
+        Arrays.sort(boundaries, 0, size);
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || boundaries[distinct - 1] != boundaries[i]) {
+                boundaries[distinct++] = boundaries[i];
+            }
+        }
+        return Arrays.copyOf(boundaries, distinct);
+    }
+
+    private static int[][] segments(List<? extends DateWindow> windows, long[] boundaries) {
+        final int[] counts = new int[boundaries.length];
+        for (DateWindow window : windows) {
+            final int last = lastSegment(window, boundaries);
+            for (int segment = firstSegment(window, boundaries); segment < last; segment++) {
+                counts[segment]++;
+            }
+        }
+        final int[][] segments = new int[boundaries.length][];
+        for (int segment = 0; segment < segments.length; segment++) {
+            segments[segment] = counts[segment] == 0 ? NONE : new int[counts[segment]];
+            counts[segment] = 0;
+        }
+        for (int index = 0; index < windows.size(); index++) {
+            final DateWindow window = windows.get(index);
+            final int last = lastSegment(window, boundaries);
+            for (int segment = firstSegment(window, boundaries); segment < last; segment++) {
+                segments[segment][counts[segment]++] = index;
+            }
+        }
+        return segments;
+    }
+
+    private static int firstSegment(DateWindow window, long[] boundaries) {
+        if (window.getEndMillis() < window.getStartMillis()) {
+            return 0;
+        }
+        return Arrays.binarySearch(boundaries, window.getStartMillis());
+    }
+
+    private static int lastSegment(DateWindow window, long[] boundaries) {
+        final long end = window.getEndMillis();
+        if (end < window.getStartMillis()) {
+            return 0;
+        }
+        if (end == Long.MAX_VALUE) {
+            return boundaries.length;
+        }
+        return Arrays.binarySearch(boundaries, end + 1);
+    }
+
+    /**
+     * Find all the windows that contain the supplied epoch milliseconds in the order they were given to the index.
+     */
+    public List<W> windowsContaining(long millis) {
+        final int[] indexes = segmentContaining(millis);
+        final List<W> containing = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            containing.add(windows.get(index));
+        }
+        return containing;
+    }
+
+    public List<W> windowsContaining(Date date) {
+        return windowsContaining(date.getTime());
+    }
+
+    /**
+     * Check if any window contains the supplied epoch milliseconds, this doesn't allocate anything.
+     */
+    public boolean anyContains(long millis) {
+        return segmentContaining(millis).length > 0;
+    }
+
+    public List<W> getWindows() {
+        return windows;
+    }
+
+    public int size() {
+        return windows.size();
+    }
+
+    private int[] segmentContaining(long millis) {
+        final int found = Arrays.binarySearch(boundaries, millis);
+        // When the time isn't a boundary it falls in the segment started by the boundary before it.
+        final int segment = found >= 0 ? found : -found - 2;
+        if (segment < 0) {
+            return NONE;
+        }
+        return segments[segment];
+    }
+}
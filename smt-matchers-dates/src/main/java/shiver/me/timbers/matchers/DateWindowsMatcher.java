@@ -0,0 +1,77 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * A matcher to check that a {@link Date} falls within at least one of many {@link DateWindow}s e.g.
+ * {@code fallsWithinAnyOf(fallsOn(first, within(1L, HOURS)), fallsBefore(second, within(5L, MINUTES)))}. The windows
+ * are indexed once when the matcher is created so each check only costs {@code O(log n)} no matter how many windows
+ * there are.
+ *
+ * @author Karl Bennett
+ */
+public class DateWindowsMatcher extends TypeSafeMatcher<Date> implements EpochMillisMatcher {
+
+    /**
+     * Check that the actual date falls within any of the supplied windows.
+     */
+    @Factory
+    public static DateWindowsMatcher fallsWithinAnyOf(DateWindow... windows) {
+        return new DateWindowsMatcher(Arrays.asList(windows));
+    }
+
+    /**
+     * Check that the actual date falls within any of the supplied windows.
+     */
+    public static DateWindowsMatcher fallsWithinAnyOf(Collection<? extends DateWindow> windows) {
+        return new DateWindowsMatcher(windows);
+    }
+
+    private final DateWindowIndex<DateWindow> index;
+
+    public DateWindowsMatcher(Collection<? extends DateWindow> windows) {
+        this(new DateWindowIndex<>(windows));
+    }
+
+    DateWindowsMatcher(DateWindowIndex<DateWindow> index) {
+        this.index = index;
+    }
+
+    @Override
+    protected boolean matchesSafely(Date actual) {
+        return matchesEpochMillis(actual.getTime());
+    }
+
+    @Override
+    public boolean matchesEpochMillis(long actual) {
+        return index.anyContains(actual);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("the date to fall within one of ").appendText(Integer.toString(index.size()))
+            .appendText(" windows");
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import java.util.function.LongPredicate;
+
+/**
+ * A date matcher that can also match a raw timestamp, this allows high volumes of timestamps to be checked without
+ * creating a {@link java.util.Date} for each one. It is also a {@link LongPredicate} so it can be used directly with a
+ * {@link java.util.stream.LongStream}.
+ *
+ * @author Karl Bennett
+ */
+public interface EpochMillisMatcher extends LongPredicate {
+
+    /**
+     * Check the supplied number of milliseconds since the epoch in the same way a {@link java.util.Date} would be.
+     */
+    boolean matchesEpochMillis(long actual);
+
+    @Override
+    default boolean test(long actual) {
+        return matchesEpochMillis(actual);
+    }
+}
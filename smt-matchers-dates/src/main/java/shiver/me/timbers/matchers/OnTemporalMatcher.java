@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.Temporal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A matcher to check that a {@link java.time} value (e.g. {@link Instant}, {@link java.time.ZonedDateTime}) falls
+ * on another.
+ *
+ * @author Karl Bennett
+ */
+public class OnTemporalMatcher<T extends Temporal> extends TimeOperationsTemporalMatcher<T> {
+
+    /**
+     * Check that the actual time is on the expected.
+     */
+    @Factory
+    public static <T extends Temporal> OnTemporalMatcher<T> fallsOn(T expected) {
+        return new OnTemporalMatcher<>(expected);
+    }
+
+    /**
+     * Check that the actual time falls within the supplied duration before or after the expected time.
+     */
+    public static <T extends Temporal> WithinTemporalMatcher<T> fallsOn(T expected, Within within) {
+        return OnTemporalMatcher.fallsOn(expected).within(within.toDuration());
+    }
+
+    private final TimeOperations timeOperations;
+    private final T expected;
+    private final Instant expectedInstant;
+
+    public OnTemporalMatcher(T expected) {
+        this(new TimeOperations(), expected);
+    }
+
+    OnTemporalMatcher(TimeOperations timeOperations, T expected) {
+        super(timeOperations, expected);
+        this.timeOperations = timeOperations;
+        this.expected = expected;
+        this.expectedInstant = timeOperations.toInstant(expected);
+    }
+
+    @Override
+    protected boolean matchesInstant(TimeOperations timeOperations, Instant actual) {
+        return expectedInstant.equals(actual);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("the time to be ").appendValue(expected);
+    }
+
+    /**
+     * Allow a duration around the expected time that the actual time may fall within.
+     */
+    public WithinTemporalMatcher<T> within(Long duration, TimeUnit unit) {
+        return within(Within.toDuration(duration, unit));
+    }
+
+    /**
+     * Allow a duration around the expected time that the actual time may fall within.
+     */
+    public WithinTemporalMatcher<T> within(Duration duration) {
+        return new WithinTemporalMatcher<>(timeOperations, expected, duration);
+    }
+}
@@ -16,11 +16,44 @@
 
 package shiver.me.timbers.matchers;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAccessor;
+
+import static java.lang.String.format;
+import static java.time.ZoneOffset.UTC;
+import static java.time.temporal.ChronoField.EPOCH_DAY;
+import static java.time.temporal.ChronoField.INSTANT_SECONDS;
+import static java.time.temporal.ChronoField.NANO_OF_DAY;
+
 /**
  * @author Karl Bennett
  */
 class TimeOperations {
 
+    /**
+     * @return true if the time has a fixed place on the time line (e.g. {@link Instant} or
+     * {@link java.time.ZonedDateTime}).
+     */
+    static boolean isZoned(TemporalAccessor time) {
+        return time.isSupported(INSTANT_SECONDS);
+    }
+
+    /**
+     * @return true if the time has a date and a time of day but no zone (e.g. {@link LocalDateTime}).
+     */
+    static boolean isLocal(TemporalAccessor time) {
+        return !isZoned(time) && time.isSupported(EPOCH_DAY) && time.isSupported(NANO_OF_DAY);
+    }
+
+    boolean isBefore(long actual, long expected) {
+        return actual < expected;
+    }
+
+    boolean isAfter(long actual, long expected) {
+        return actual > expected;
+    }
+
     boolean isBeforeOrEqualTo(long actual, long expected) {
         return expected >= actual;
     }
@@ -28,4 +61,35 @@ class TimeOperations {
     boolean isAfterOrEqualTo(long actual, long expected) {
         return expected <= actual;
     }
+
+    /**
+     * Times without a zone (e.g. {@link LocalDateTime}) are placed on the time line at UTC so they can only be
+     * meaningfully compared with other times without a zone. A time without both a date and a time of day (e.g.
+     * {@link java.time.LocalDate}) is rejected.
+     */
+    Instant toInstant(TemporalAccessor time) {
+        if (isZoned(time)) {
+            return Instant.from(time);
+        }
+        if (isLocal(time)) {
+            return LocalDateTime.from(time).toInstant(UTC);
+        }
+        throw new IllegalArgumentException(format("The time (%s) must have both a date and a time of day.", time));
+    }
+
+    boolean isBefore(Instant actual, Instant expected) {
+        return actual.isBefore(expected);
+    }
+
+    boolean isAfter(Instant actual, Instant expected) {
+        return actual.isAfter(expected);
+    }
+
+    boolean isBeforeOrEqualTo(Instant actual, Instant expected) {
+        return !actual.isAfter(expected);
+    }
+
+    boolean isAfterOrEqualTo(Instant actual, Instant expected) {
+        return !actual.isBefore(expected);
+    }
 }
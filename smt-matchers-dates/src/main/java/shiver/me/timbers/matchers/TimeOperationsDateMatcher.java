@@ -24,7 +24,7 @@ import java.util.concurrent.TimeUnit;
 /**
  * @author Karl Bennett
  */
-abstract class TimeOperationsDateMatcher extends TypeSafeMatcher<Date> {
+abstract class TimeOperationsDateMatcher extends TypeSafeMatcher<Date> implements EpochMillisMatcher, DateWindow {
 
     private final TimeOperations timeOperations;
     private final long durationInMillis;
@@ -36,8 +36,13 @@ abstract class TimeOperationsDateMatcher extends TypeSafeMatcher<Date> {
 
     @Override
     protected boolean matchesSafely(Date actual) {
+        return matchesEpochMillis(actual.getTime());
+    }
+
+    @Override
+    public boolean matchesEpochMillis(long actual) {
         return matchesTime(timeOperations, durationInMillis, actual);
     }
 
-    protected abstract boolean matchesTime(TimeOperations timeOperations, long duration, Date actual);
+    protected abstract boolean matchesTime(TimeOperations timeOperations, long duration, long actual);
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.time.Instant;
+import java.time.temporal.Temporal;
+
+import static java.lang.String.format;
+import static shiver.me.timbers.matchers.TimeOperations.isLocal;
+import static shiver.me.timbers.matchers.TimeOperations.isZoned;
+
+/**
+ * The base for the {@link java.time} matchers, every time is converted to an {@link Instant} so that all the
+ * different time types can be compared with the same nanosecond precision operations. The expected time must have both
+ * a date and a time of day, and a time with a zone (e.g. {@link java.time.ZonedDateTime}) never matches a time without
+ * one (e.g. {@link java.time.LocalDateTime}) because there is no way to know where the local time falls.
+ *
+ * @author Karl Bennett
+ */
+abstract class TimeOperationsTemporalMatcher<T extends Temporal> extends TypeSafeMatcher<T> {
+
+    private final TimeOperations timeOperations;
+    private final boolean expectedZoned;
+
+    TimeOperationsTemporalMatcher(TimeOperations timeOperations, T expected) {
+        if (!isZoned(expected) && !isLocal(expected)) {
+            throw new IllegalArgumentException(
+                format("The expected time (%s) must have both a date and a time of day.", expected)
+            );
+        }
+        this.timeOperations = timeOperations;
+        this.expectedZoned = isZoned(expected);
+    }
+
+    @Override
+    protected boolean matchesSafely(T actual) {
+        return isComparable(actual) && matchesInstant(timeOperations, timeOperations.toInstant(actual));
+    }
+
+    @Override
+    protected void describeMismatchSafely(T actual, Description mismatchDescription) {
+        if (isComparable(actual)) {
+            super.describeMismatchSafely(actual, mismatchDescription);
+            return;
+        }
+        mismatchDescription.appendText("was ").appendValue(actual);
+        if (!isZoned(actual) && !isLocal(actual)) {
+            mismatchDescription.appendText(" which doesn't have both a date and a time of day");
+        } else if (expectedZoned) {
+            mismatchDescription.appendText(" which has no zone so can't be compared with a zoned time");
+        } else {
+            mismatchDescription.appendText(" which has a zone so can't be compared with a local time");
+        }
+    }
+
+    private boolean isComparable(T actual) {
+        return expectedZoned ? isZoned(actual) : isLocal(actual);
+    }
+
+    protected abstract boolean matchesInstant(TimeOperations timeOperations, Instant actual);
+}
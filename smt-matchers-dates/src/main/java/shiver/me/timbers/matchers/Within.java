@@ -16,8 +16,13 @@
 
 package shiver.me.timbers.matchers;
 
+import java.time.Duration;
+import java.util.Date;
 import java.util.concurrent.TimeUnit;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
 /**
  * This class is a simple holder for the within duration values.
  *
@@ -26,15 +31,33 @@ import java.util.concurrent.TimeUnit;
 public class Within {
 
     public static Within within(Long duration, TimeUnit unit) {
-        return new Within(duration, unit);
+        return new Within(duration, unit, toDuration(duration, unit));
+    }
+
+    /**
+     * The {@link Date} matchers only have millisecond precision so will see this duration truncated to milliseconds,
+     * the {@link java.time} matchers use the full nanosecond precision.
+     */
+    public static Within within(Duration duration) {
+        return new Within(duration.toMillis(), MILLISECONDS, duration);
+    }
+
+    static Duration toDuration(Long duration, TimeUnit unit) {
+        if (unit.compareTo(SECONDS) >= 0) {
+            // Converting a large number of days to nanoseconds would overflow.
+            return Duration.ofSeconds(unit.toSeconds(duration));
+        }
+        return Duration.ofNanos(unit.toNanos(duration));
     }
 
     private final Long duration;
     private final TimeUnit unit;
+    private final Duration javaDuration;
 
-    private Within(Long duration, TimeUnit unit) {
+    private Within(Long duration, TimeUnit unit, Duration javaDuration) {
         this.duration = duration;
         this.unit = unit;
+        this.javaDuration = javaDuration;
     }
 
     public Long getDuration() {
@@ -44,4 +67,8 @@ public class Within {
     public TimeUnit getUnit() {
         return unit;
     }
+
+    public Duration toDuration() {
+        return javaDuration;
+    }
 }
@@ -29,6 +29,7 @@ import java.util.concurrent.TimeUnit;
 public class WithinDateMatcher extends TimeOperationsDateMatcher {
 
     private final Date expected;
+    private final long expectedTime;
     private final Long duration;
     private final TimeUnit unit;
 
@@ -39,21 +40,29 @@ public class WithinDateMatcher extends TimeOperationsDateMatcher {
     WithinDateMatcher(TimeOperations timeOperations, Date expected, Long duration, TimeUnit unit) {
         super(timeOperations, duration, unit);
         this.expected = expected;
+        this.expectedTime = expected.getTime();
         this.duration = duration;
         this.unit = unit;
     }
 
     @Override
-    protected boolean matchesTime(TimeOperations timeOperations, long duration, Date actual) {
-        final long actualTime = actual.getTime();
-        final long expectedTime = expected.getTime();
-        return timeOperations.isAfterOrEqualTo(actualTime, expectedTime - duration)
-            && timeOperations.isBeforeOrEqualTo(actualTime, expectedTime + duration);
+    protected boolean matchesTime(TimeOperations timeOperations, long duration, long actual) {
+        return timeOperations.isAfterOrEqualTo(actual, expectedTime - duration)
+            && timeOperations.isBeforeOrEqualTo(actual, expectedTime + duration);
+    }
+
+    @Override
+    public long getStartMillis() {
+        return expectedTime - unit.toMillis(duration);
+    }
+
+    @Override
+    public long getEndMillis() {
+        return expectedTime + unit.toMillis(duration);
     }
 
     @Override
     public void describeTo(Description description) {
-        final long expectedTime = expected.getTime();
         final long durationInMillis = unit.toMillis(duration);
         description.appendText("the date to be within ")
             .appendValue(new Date(expectedTime - durationInMillis))
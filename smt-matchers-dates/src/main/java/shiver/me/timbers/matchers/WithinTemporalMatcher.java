@@ -0,0 +1,60 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Description;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.Temporal;
+
+/**
+ * A matcher to check that a {@link java.time} value falls within a duration of another.
+ *
+ * @author Karl Bennett
+ */
+public class WithinTemporalMatcher<T extends Temporal> extends TimeOperationsTemporalMatcher<T> {
+
+    private final Temporal start;
+    private final Temporal end;
+    private final Instant startInstant;
+    private final Instant endInstant;
+
+    public WithinTemporalMatcher(T expected, Duration duration) {
+        this(new TimeOperations(), expected, duration);
+    }
+
+    WithinTemporalMatcher(TimeOperations timeOperations, T expected, Duration duration) {
+        super(timeOperations, expected);
+        this.start = expected.minus(duration);
+        this.end = expected.plus(duration);
+        final Instant expectedInstant = timeOperations.toInstant(expected);
+        this.startInstant = expectedInstant.minus(duration);
+        this.endInstant = expectedInstant.plus(duration);
+    }
+
+    @Override
+    protected boolean matchesInstant(TimeOperations timeOperations, Instant actual) {
+        return timeOperations.isAfterOrEqualTo(actual, startInstant)
+            && timeOperations.isBeforeOrEqualTo(actual, endInstant);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("the time to be within ").appendValue(start).appendText(" and ").appendValue(end);
+    }
+}
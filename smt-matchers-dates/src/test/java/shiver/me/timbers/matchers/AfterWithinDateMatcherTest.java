@@ -59,7 +59,7 @@ public class AfterWithinDateMatcherTest {
         // Given
         given(date1.getTime()).willReturn(dateTime1);
         given(date2.getTime()).willReturn(dateTime2);
-        given(date2.after(date1)).willReturn(true);
+        given(timeOperations.isAfter(dateTime2, dateTime1)).willReturn(true);
         given(timeOperations.isBeforeOrEqualTo(dateTime2, dateTime1 + durationInMillis)).willReturn(true);
 
         // When
@@ -85,7 +85,7 @@ public class AfterWithinDateMatcherTest {
         // Given
         given(date1.getTime()).willReturn(dateTime1);
         given(date2.getTime()).willReturn(dateTime2);
-        given(date2.after(date1)).willReturn(false);
+        given(timeOperations.isAfter(dateTime2, dateTime1)).willReturn(false);
         given(timeOperations.isBeforeOrEqualTo(dateTime2, dateTime1 + durationInMillis)).willReturn(true);
 
         // When
@@ -111,7 +111,7 @@ public class AfterWithinDateMatcherTest {
         // Given
         given(date1.getTime()).willReturn(dateTime1);
         given(date2.getTime()).willReturn(dateTime2);
-        given(date2.after(date1)).willReturn(true);
+        given(timeOperations.isAfter(dateTime2, dateTime1)).willReturn(true);
         given(timeOperations.isBeforeOrEqualTo(dateTime2, dateTime1 + durationInMillis)).willReturn(false);
 
         // When
@@ -120,4 +120,29 @@ public class AfterWithinDateMatcherTest {
         // Then
         assertThat(actual, is(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void Can_check_a_timestamp_without_creating_a_date() {
+
+        final Date date = mock(Date.class);
+        final Long duration = someLong();
+        final TimeUnit unit = someEnum(TimeUnit.class);
+
+        final long durationInMillis = unit.toMillis(duration);
+
+        final long dateTime1 = someLong();
+        final long dateTime2 = someLong();
+
+        // Given
+        given(date.getTime()).willReturn(dateTime1);
+        given(timeOperations.isBeforeOrEqualTo(dateTime2, dateTime1 + durationInMillis)).willReturn(true);
+        given(timeOperations.isAfter(dateTime2, dateTime1)).willReturn(true);
+
+        // When
+        final boolean actual = new AfterWithinDateMatcher(timeOperations, date, duration, unit)
+            .matchesEpochMillis(dateTime2);
+
+        // Then
+        assertThat(actual, is(true));
+    }
+}
@@ -26,7 +26,9 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static shiver.me.timbers.data.random.RandomBooleans.someBoolean;
 import static shiver.me.timbers.data.random.RandomEnums.someEnum;
 import static shiver.me.timbers.data.random.RandomLongs.someLong;
 import static shiver.me.timbers.data.random.RandomTimes.someTime;
@@ -95,4 +97,24 @@ public class BeforeDateMatcherTest {
         // Then
         assertThat(actual, not(nullValue()));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void Can_check_that_a_timestamp_is_before_another_date() {
+
+        final Date date = mock(Date.class);
+        final long dateTime = someLong();
+        final long actualTime = someLong();
+
+        final Boolean expected = someBoolean();
+
+        // Given
+        given(date.getTime()).willReturn(dateTime);
+        given(timeOperations.isBefore(actualTime, dateTime)).willReturn(expected);
+
+        // When
+        final boolean actual = new BeforeDateMatcher(timeOperations, date).matchesEpochMillis(actualTime);
+
+        // Then
+        assertThat(actual, is(expected));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static shiver.me.timbers.data.random.RandomBooleans.someBoolean;
+import static shiver.me.timbers.data.random.RandomIntegers.someIntegerBetween;
+import static shiver.me.timbers.data.random.RandomLongs.someLongBetween;
+
+public class BeforeTemporalMatcherTest {
+
+    private TimeOperations timeOperations;
+
+    @Before
+    public void setUp() {
+        timeOperations = mock(TimeOperations.class);
+    }
+
+    @Test
+    public void Can_check_that_a_time_is_before_another_time() {
+
+        final Instant expected = someInstant();
+        final Instant time = someInstant();
+
+        final Boolean expectedResult = someBoolean();
+
+        // Given
+        given(timeOperations.toInstant(expected)).willReturn(expected);
+        given(timeOperations.toInstant(time)).willReturn(time);
+        given(timeOperations.isBefore(time, expected)).willReturn(expectedResult);
+
+        // When
+        final boolean actual = new BeforeTemporalMatcher<>(timeOperations, expected).matches(time);
+
+        // Then
+        assertThat(actual, is(expectedResult));
+    }
+
+    @Test
+    public void Can_create_a_within_matcher() {
+
+        final Instant expected = someInstant();
+        final Duration duration = Duration.ofNanos(someLongBetween(0L, 1000000L));
+
+        // Given
+        given(timeOperations.toInstant(expected)).willReturn(expected);
+
+        // When
+        final BeforeWithinTemporalMatcher<Instant> actual = new BeforeTemporalMatcher<>(timeOperations, expected)
+            .within(duration);
+
+        // Then
+        assertThat(actual.toString(), is(new BeforeWithinTemporalMatcher<>(expected, duration).toString()));
+    }
+
+    @Test
+    public void Can_describe_the_expected_time() {
+
+        // Given
+        final Instant expected = someInstant();
+
+        // When
+        final String actual = new BeforeTemporalMatcher<>(expected).toString();
+
+        // Then
+        assertThat(actual, containsString(expected.toString()));
+    }
+
+    private static Instant someInstant() {
+        return Instant.ofEpochSecond(someLongBetween(-1000000000L, 1000000000L), someIntegerBetween(0, 999999999));
+    }
+}
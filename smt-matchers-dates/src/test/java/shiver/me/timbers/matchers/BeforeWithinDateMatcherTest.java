@@ -60,7 +60,7 @@ public class BeforeWithinDateMatcherTest {
         given(date1.getTime()).willReturn(dateTime1);
         given(date2.getTime()).willReturn(dateTime2);
         given(timeOperations.isAfterOrEqualTo(dateTime2, dateTime1 - durationInMillis)).willReturn(true);
-        given(date2.before(date1)).willReturn(true);
+        given(timeOperations.isBefore(dateTime2, dateTime1)).willReturn(true);
 
         // When
         final boolean actual = new BeforeWithinDateMatcher(timeOperations, date1, duration, unit).matches(date2);
@@ -86,7 +86,7 @@ public class BeforeWithinDateMatcherTest {
         given(date1.getTime()).willReturn(dateTime1);
         given(date2.getTime()).willReturn(dateTime2);
         given(timeOperations.isAfterOrEqualTo(dateTime2, dateTime1 - durationInMillis)).willReturn(false);
-        given(date2.before(date1)).willReturn(true);
+        given(timeOperations.isBefore(dateTime2, dateTime1)).willReturn(true);
 
         // When
         final boolean actual = new BeforeWithinDateMatcher(timeOperations, date1, duration, unit).matches(date2);
@@ -112,7 +112,7 @@ public class BeforeWithinDateMatcherTest {
         given(date1.getTime()).willReturn(dateTime1);
         given(date2.getTime()).willReturn(dateTime2);
         given(timeOperations.isAfterOrEqualTo(dateTime2, dateTime1 - durationInMillis)).willReturn(true);
-        given(date2.before(date1)).willReturn(false);
+        given(timeOperations.isBefore(dateTime2, dateTime1)).willReturn(false);
 
         // When
         final boolean actual = new BeforeWithinDateMatcher(timeOperations, date1, duration, unit).matches(date2);
@@ -120,4 +120,29 @@ public class BeforeWithinDateMatcherTest {
         // Then
         assertThat(actual, is(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void Can_check_a_timestamp_without_creating_a_date() {
+
+        final Date date = mock(Date.class);
+        final Long duration = someLong();
+        final TimeUnit unit = someEnum(TimeUnit.class);
+
+        final long durationInMillis = unit.toMillis(duration);
+
+        final long dateTime1 = someLong();
+        final long dateTime2 = someLong();
+
+        // Given
+        given(date.getTime()).willReturn(dateTime1);
+        given(timeOperations.isAfterOrEqualTo(dateTime2, dateTime1 - durationInMillis)).willReturn(true);
+        given(timeOperations.isBefore(dateTime2, dateTime1)).willReturn(true);
+
+        // When
+        final boolean actual = new BeforeWithinDateMatcher(timeOperations, date, duration, unit)
+            .matchesEpochMillis(dateTime2);
+
+        // Then
+        assertThat(actual, is(true));
+    }
+}
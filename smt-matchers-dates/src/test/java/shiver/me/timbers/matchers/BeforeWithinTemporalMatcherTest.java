@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static shiver.me.timbers.data.random.RandomIntegers.someIntegerBetween;
+import static shiver.me.timbers.data.random.RandomLongs.someLongBetween;
+
+public class BeforeWithinTemporalMatcherTest {
+
+    private TimeOperations timeOperations;
+
+    @Before
+    public void setUp() {
+        timeOperations = mock(TimeOperations.class);
+    }
+
+    @Test
+    public void Can_check_that_a_time_is_within_the_duration() {
+
+        final Instant expected = someInstant();
+        final Instant time = someInstant();
+        final Duration duration = Duration.ofNanos(someLongBetween(0L, 1000000L));
+
+        // Given
+        given(timeOperations.toInstant(expected)).willReturn(expected);
+        given(timeOperations.toInstant(time)).willReturn(time);
+        given(timeOperations.isAfterOrEqualTo(time, expected.minus(duration))).willReturn(true);
+        given(timeOperations.isBefore(time, expected)).willReturn(true);
+
+        // When
+        final boolean actual = new BeforeWithinTemporalMatcher<>(timeOperations, expected, duration).matches(time);
+
+        // Then
+        assertThat(actual, is(true));
+    }
+
+    @Test
+    public void Can_check_that_a_time_is_not_within_the_duration() {
+
+        final Instant expected = someInstant();
+        final Instant time = someInstant();
+        final Duration duration = Duration.ofNanos(someLongBetween(0L, 1000000L));
+
+        // Given
+        given(timeOperations.toInstant(expected)).willReturn(expected);
+        given(timeOperations.toInstant(time)).willReturn(time);
+        given(timeOperations.isAfterOrEqualTo(time, expected.minus(duration))).willReturn(true);
+        given(timeOperations.isBefore(time, expected)).willReturn(false);
+
+        // When
+        final boolean actual = new BeforeWithinTemporalMatcher<>(timeOperations, expected, duration).matches(time);
+
+        // Then
+        assertThat(actual, is(false));
+    }
+
+    @Test
+    public void Can_describe_the_expected_time() {
+
+        // Given
+        final Instant expected = someInstant();
+        final Duration duration = Duration.ofNanos(someLongBetween(0L, 1000000L));
+
+        // When
+        final String actual = new BeforeWithinTemporalMatcher<>(expected, duration).toString();
+
+        // Then
+        assertThat(actual, is("the time to be no more than " + duration + " before <" + expected + ">"));
+    }
+
+    private static Instant someInstant() {
+        return Instant.ofEpochSecond(someLongBetween(-1000000000L, 1000000000L), someIntegerBetween(0, 999999999));
+    }
+}
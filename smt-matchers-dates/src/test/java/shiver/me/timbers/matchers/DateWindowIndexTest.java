@@ -0,0 +1,180 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Description;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static shiver.me.timbers.data.random.RandomIntegers.someIntegerBetween;
+import static shiver.me.timbers.data.random.RandomLongs.someLongBetween;
+
+public class DateWindowIndexTest {
+
+    @Test
+    public void Can_find_the_windows_that_contain_a_time() {
+
+        final Window first = new Window(10, 20);
+        final Window second = new Window(15, 30);
+        final Window third = new Window(40, 50);
+
+        // Given
+        final DateWindowIndex<Window> index = new DateWindowIndex<>(asList(first, second, third));
+
+        // Then
+        assertThat(index.windowsContaining(9), empty());
+        assertThat(index.windowsContaining(10), contains(first));
+        assertThat(index.windowsContaining(15), contains(first, second));
+        assertThat(index.windowsContaining(20), contains(first, second));
+        assertThat(index.windowsContaining(21), contains(second));
+        assertThat(index.windowsContaining(31), empty());
+        assertThat(index.windowsContaining(new Date(50)), contains(third));
+        assertThat(index.windowsContaining(51), empty());
+        assertThat(index.anyContains(35), is(false));
+        assertThat(index.anyContains(45), is(true));
+    }
+
+    @Test
+    public void Can_index_windows_at_the_edges_of_time() {
+
+        final Window first = new Window(Long.MIN_VALUE, 0);
+        final Window second = new Window(0, Long.MAX_VALUE);
+
+        // Given
+        final DateWindowIndex<Window> index = new DateWindowIndex<>(asList(first, second));
+
+        // Then
+        assertThat(index.windowsContaining(Long.MIN_VALUE), contains(first));
+        assertThat(index.windowsContaining(0), contains(first, second));
+        assertThat(index.windowsContaining(Long.MAX_VALUE), contains(second));
+    }
+
+    @Test
+    public void Empty_windows_never_contain_a_time() {
+
+        // Given
+        final DateWindowIndex<Window> index = new DateWindowIndex<>(asList(new Window(10, 9)));
+
+        // Then
+        assertThat(index.anyContains(9), is(false));
+        assertThat(index.anyContains(10), is(false));
+        assertThat(index.size(), is(1));
+    }
+
+    @Test
+    public void Can_index_no_windows() {
+
+        // Given
+        final DateWindowIndex<Window> index = new DateWindowIndex<>(Collections.<Window>emptyList());
+
+        // Then
+        assertThat(index.anyContains(someLongBetween(-1000L, 1000L)), is(false));
+        assertThat(index.getWindows(), empty());
+    }
+
+    @Test
+    public void Can_find_the_same_windows_as_checking_every_window() {
+
+        final List<Window> windows = new ArrayList<>();
+        for (int i = 0; i < someIntegerBetween(50, 200); i++) {
+            final long start = someLongBetween(0L, 10000L);
+            windows.add(new Window(start, start + someLongBetween(-10L, 1000L)));
+        }
+
+        // Given
+        final DateWindowIndex<Window> index = new DateWindowIndex<>(windows);
+
+        // Then
+        for (long time = -1; time <= 11001; time++) {
+            final List<Window> expected = new ArrayList<>();
+            for (Window window : windows) {
+                if (window.getStartMillis() <= time && time <= window.getEndMillis()) {
+                    expected.add(window);
+                }
+            }
+            assertThat(index.windowsContaining(time), is(expected));
+        }
+    }
+
+    @Test
+    public void Can_index_the_date_matcher_windows() {
+
+        // Given
+        final Date expected = new Date(someLongBetween(1000L, 100000L));
+        final WithinDateMatcher on = new WithinDateMatcher(expected, 10L, MILLISECONDS);
+        final BeforeWithinDateMatcher before = new BeforeWithinDateMatcher(expected, 5L, MILLISECONDS);
+        final AfterWithinDateMatcher after = new AfterWithinDateMatcher(expected, 5L, MILLISECONDS);
+        final DateWindowIndex<DateWindow> index = new DateWindowIndex<DateWindow>(asList(on, before, after));
+        final long time = expected.getTime();
+
+        // Then
+        assertThat(index.windowsContaining(time - 11), empty());
+        assertThat(index.windowsContaining(time - 10), is(windows(on)));
+        assertThat(index.windowsContaining(time - 5), is(windows(on, before)));
+        assertThat(index.windowsContaining(time - 1), is(windows(on, before)));
+        assertThat(index.windowsContaining(time), is(windows(on)));
+        assertThat(index.windowsContaining(time + 1), is(windows(on, after)));
+        assertThat(index.windowsContaining(time + 5), is(windows(on, after)));
+        assertThat(index.windowsContaining(time + 6), is(windows(on)));
+        assertThat(index.windowsContaining(time + 11), empty());
+    }
+
+    private static List<DateWindow> windows(DateWindow... windows) {
+        return asList(windows);
+    }
+
+    private static class Window implements DateWindow {
+
+        private final long start;
+        private final long end;
+
+        private Window(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public long getStartMillis() {
+            return start;
+        }
+
+        @Override
+        public long getEndMillis() {
+            return end;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText(start + " to " + end);
+        }
+
+        @Override
+        public String toString() {
+            return start + " to " + end;
+        }
+    }
+}
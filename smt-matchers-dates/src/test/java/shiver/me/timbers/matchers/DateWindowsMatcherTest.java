@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.junit.Test;
+
+import java.util.Date;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static shiver.me.timbers.data.random.RandomBooleans.someBoolean;
+import static shiver.me.timbers.data.random.RandomIntegers.someIntegerBetween;
+import static shiver.me.timbers.data.random.RandomLongs.someLong;
+import static shiver.me.timbers.data.random.RandomLongs.someLongBetween;
+import static shiver.me.timbers.matchers.DateWindowsMatcher.fallsWithinAnyOf;
+
+public class DateWindowsMatcherTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void Can_check_that_a_date_falls_within_any_of_the_windows() {
+
+        final DateWindowIndex<DateWindow> index = mock(DateWindowIndex.class);
+        final long time = someLong();
+
+        final Boolean expected = someBoolean();
+
+        // Given
+        given(index.anyContains(time)).willReturn(expected);
+
+        // When
+        final boolean actual = new DateWindowsMatcher(index).matches(new Date(time));
+
+        // Then
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void Can_check_that_a_timestamp_falls_within_any_of_the_windows() {
+
+        final DateWindowIndex<DateWindow> index = mock(DateWindowIndex.class);
+        final long time = someLong();
+
+        final Boolean expected = someBoolean();
+
+        // Given
+        given(index.anyContains(time)).willReturn(expected);
+
+        // When
+        final boolean actual = new DateWindowsMatcher(index).matchesEpochMillis(time);
+
+        // Then
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void Can_describe_the_windows() {
+
+        final DateWindowIndex<DateWindow> index = mock(DateWindowIndex.class);
+        final Integer size = someIntegerBetween(1, 1000);
+
+        // Given
+        given(index.size()).willReturn(size);
+
+        // When
+        final String actual = new DateWindowsMatcher(index).toString();
+
+        // Then
+        assertThat(actual, is("the date to fall within one of " + size + " windows"));
+    }
+
+    @Test
+    public void Can_create_the_matcher_from_the_date_matchers() {
+
+        // Given
+        final Date expected = new Date(someLongBetween(1000L, 100000L));
+        final long time = expected.getTime();
+
+        // When
+        final DateWindowsMatcher actual = fallsWithinAnyOf(
+            new BeforeWithinDateMatcher(new Date(time - 10), 5L, MILLISECONDS),
+            new AfterWithinDateMatcher(expected, 5L, MILLISECONDS)
+        );
+
+        // Then
+        assertThat(actual.matches(new Date(time - 16)), is(false));
+        assertThat(actual.matches(new Date(time - 15)), is(true));
+        assertThat(actual.matches(new Date(time)), is(false));
+        assertThat(actual.matches(new Date(time + 5)), is(true));
+        assertThat(fallsWithinAnyOf(asList(new WithinDateMatcher(expected, 1L, MILLISECONDS))).matches(expected),
+            is(true));
+    }
+}
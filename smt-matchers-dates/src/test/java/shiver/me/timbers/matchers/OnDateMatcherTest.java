@@ -21,11 +21,13 @@ import org.junit.Test;
 
 import java.util.Date;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongPredicate;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static shiver.me.timbers.data.random.RandomEnums.someEnum;
 import static shiver.me.timbers.data.random.RandomLongs.someLong;
@@ -58,6 +60,9 @@ public class OnDateMatcherTest {
         // Given
         final Date date1 = mock(Date.class);
         final Date date2 = mock(Date.class);
+        final long time = someLong();
+        given(date1.getTime()).willReturn(time);
+        given(date2.getTime()).willReturn(time + 1);
 
         // When
         final boolean actual = new OnDateMatcher(timeOperations, date1).matches(date2);
@@ -80,4 +85,60 @@ public class OnDateMatcherTest {
         // Then
         assertThat(actual, not(nullValue()));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void Can_check_that_a_timestamp_is_on_a_date() {
+
+        // Given
+        final long time = someLong();
+
+        // When
+        final boolean actual = new OnDateMatcher(timeOperations, new Date(time)).matchesEpochMillis(time);
+
+        // Then
+        assertThat(actual, is(true));
+    }
+
+    @Test
+    public void Can_check_that_a_timestamp_is_not_on_a_date() {
+
+        // Given
+        final long time = someLong();
+
+        // When
+        final boolean actual = new OnDateMatcher(timeOperations, new Date(time)).matchesEpochMillis(time + 1);
+
+        // Then
+        assertThat(actual, is(false));
+    }
+
+    @Test
+    public void Can_keep_the_expected_time_if_the_expected_date_is_changed() {
+
+        // Given
+        final long time = someLong();
+        final Date expected = new Date(time);
+        final OnDateMatcher matcher = new OnDateMatcher(timeOperations, expected);
+
+        // When
+        expected.setTime(time + 1);
+
+        // Then
+        assertThat(matcher.matches(new Date(time)), is(true));
+        assertThat(matcher.matchesEpochMillis(time), is(true));
+    }
+
+    @Test
+    public void Can_use_the_matcher_as_a_long_predicate() {
+
+        // Given
+        final long time = someLong();
+
+        // When
+        final LongPredicate actual = new OnDateMatcher(timeOperations, new Date(time));
+
+        // Then
+        assertThat(actual.test(time), is(true));
+        assertThat(actual.test(time + 1), is(false));
+    }
+}
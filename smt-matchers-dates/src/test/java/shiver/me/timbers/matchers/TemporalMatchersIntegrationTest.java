@@ -0,0 +1,195 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import com.github.mustachejava.DefaultMustacheFactory;
+import com.github.mustachejava.Mustache;
+import com.github.mustachejava.resolver.ClasspathResolver;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.StringWriter;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.Temporal;
+import java.util.HashMap;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+import static shiver.me.timbers.data.random.RandomIntegers.someIntegerBetween;
+import static shiver.me.timbers.data.random.RandomLongs.someLongBetween;
+import static shiver.me.timbers.matchers.AfterTemporalMatcher.fallsAfter;
+import static shiver.me.timbers.matchers.BeforeTemporalMatcher.fallsBefore;
+import static shiver.me.timbers.matchers.OnTemporalMatcher.fallsOn;
+import static shiver.me.timbers.matchers.Within.within;
+
+public class TemporalMatchersIntegrationTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    private Mustache onErrorTemplate;
+    private Mustache beforeWithinErrorTemplate;
+    private StringWriter writer;
+
+    @Before
+    public void setUp() {
+        final DefaultMustacheFactory mustacheFactory = new DefaultMustacheFactory(new ClasspathResolver());
+        onErrorTemplate = mustacheFactory.compile("invalid-time-error-message.mustache");
+        beforeWithinErrorTemplate = mustacheFactory.compile("invalid-before-within-time-error-message.mustache");
+        writer = new StringWriter();
+    }
+
+    @Test
+    public void Can_check_instants_with_nanosecond_precision() {
+
+        // Given
+        final Instant expected = someInstant();
+
+        // Then
+        assertThat(expected, fallsOn(expected));
+        assertThat(expected.plusNanos(1), not(fallsOn(expected)));
+        assertThat(expected.minusNanos(1), fallsBefore(expected));
+        assertThat(expected.plusNanos(1), fallsAfter(expected));
+        assertThat(expected.plusNanos(1), fallsOn(expected).within(Duration.ofNanos(1)));
+        assertThat(expected.plusNanos(2), not(fallsOn(expected).within(Duration.ofNanos(1))));
+        assertThat(expected.minusNanos(1), fallsBefore(expected, within(Duration.ofNanos(1))));
+        assertThat(expected.plusMillis(1), fallsAfter(expected).within(1L, MILLISECONDS));
+    }
+
+    @Test
+    public void Can_check_zoned_times_in_different_zones() {
+
+        // Given
+        final Instant instant = someInstant();
+        final ZonedDateTime expected = ZonedDateTime.ofInstant(instant, ZoneId.of("Europe/London"));
+        final ZonedDateTime actual = ZonedDateTime.ofInstant(instant, ZoneId.of("Australia/Sydney"));
+
+        // Then
+        assertThat(actual, fallsOn(expected));
+        assertThat(actual.plusSeconds(1), fallsAfter(expected, within(Duration.ofSeconds(1))));
+    }
+
+    @Test
+    public void Can_check_offset_times() {
+
+        // Given
+        final OffsetDateTime expected = OffsetDateTime.ofInstant(someInstant(), ZoneOffset.ofHours(3));
+
+        // Then
+        assertThat(expected.withOffsetSameInstant(ZoneOffset.UTC), fallsOn(expected));
+        assertThat(expected.minusNanos(1), fallsBefore(expected));
+    }
+
+    @Test
+    public void Can_check_local_date_times() {
+
+        // Given
+        final LocalDateTime expected = LocalDateTime.ofInstant(someInstant(), ZoneOffset.UTC);
+
+        // Then
+        assertThat(expected, fallsOn(expected));
+        assertThat(expected.plusDays(1), fallsAfter(expected).within(Duration.ofDays(1)));
+        assertThat(expected.minusDays(2), not(fallsOn(expected, within(Duration.ofDays(1)))));
+    }
+
+    @Test
+    public void Cannot_check_a_time_against_a_date_without_a_time_of_day() {
+
+        // Given
+        final LocalDate expected = LocalDate.of(2020, 1, 1);
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("The expected time (2020-01-01) must have both a date and a time of day.");
+
+        // When
+        fallsOn(expected);
+    }
+
+    @Test
+    public void Cannot_match_a_zoned_time_against_a_local_time() {
+
+        // Given
+        final Temporal expected = Instant.EPOCH;
+        final Temporal actual = LocalDateTime.of(1970, 1, 1, 0, 0);
+        final Description description = new StringDescription();
+
+        // When
+        final Matcher<Temporal> matcher = fallsOn(expected);
+        matcher.describeMismatch(actual, description);
+
+        // Then
+        assertThat(actual, not(matcher));
+        assertThat(expected, not(fallsOn(actual)));
+        assertThat(
+            description.toString(),
+            equalTo("was <1970-01-01T00:00> which has no zone so can't be compared with a zoned time")
+        );
+    }
+
+    @Test
+    public void Can_get_a_meaningful_assertion_error_message() {
+
+        // Given
+        final Instant expected = someInstant();
+        final Instant actual = expected.plusNanos(1);
+        onErrorTemplate.execute(writer, new HashMap<String, Instant>() {{
+            put("expected", expected);
+            put("actual", actual);
+        }});
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage(writer.toString());
+
+        // Then
+        assertThat(actual, fallsOn(expected));
+    }
+
+    @Test
+    public void Can_get_a_meaningful_assertion_error_message_for_a_duration() {
+
+        // Given
+        final ZonedDateTime expected = ZonedDateTime.ofInstant(someInstant(), ZoneId.of("UTC"));
+        final Duration duration = Duration.ofMillis(someLongBetween(1L, 1000L));
+        final ZonedDateTime actual = expected.minus(duration).minusNanos(1);
+        beforeWithinErrorTemplate.execute(writer, new HashMap<String, Object>() {{
+            put("duration", duration);
+            put("expected", expected);
+            put("actual", actual);
+        }});
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage(writer.toString());
+
+        // Then
+        assertThat(actual, fallsBefore(expected).within(duration));
+    }
+
+    private static Instant someInstant() {
+        return Instant.ofEpochSecond(someLongBetween(0L, 4000000000L), someIntegerBetween(0, 999999999));
+    }
+}
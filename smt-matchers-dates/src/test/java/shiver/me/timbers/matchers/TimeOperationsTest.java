@@ -18,6 +18,14 @@ package shiver.me.timbers.matchers;
 
 import org.junit.Test;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static shiver.me.timbers.data.random.RandomLongs.someLong;
@@ -105,4 +113,118 @@ public class TimeOperationsTest {
         // Then
         assertThat(actual, is(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void Can_check_that_a_time_is_strictly_before_another_time() {
+
+        // Given
+        final Long expectedTime = someLong();
+
+        // When
+        final boolean before = new TimeOperations().isBefore(expectedTime - 1, expectedTime);
+        final boolean equal = new TimeOperations().isBefore(expectedTime, expectedTime);
+
+        // Then
+        assertThat(before, is(true));
+        assertThat(equal, is(false));
+    }
+
+    @Test
+    public void Can_check_that_a_time_is_strictly_after_another_time() {
+
+        // Given
+        final Long expectedTime = someLong();
+
+        // When
+        final boolean after = new TimeOperations().isAfter(expectedTime + 1, expectedTime);
+        final boolean equal = new TimeOperations().isAfter(expectedTime, expectedTime);
+
+        // Then
+        assertThat(after, is(true));
+        assertThat(equal, is(false));
+    }
+
+    @Test
+    public void Can_convert_an_instant_to_an_instant() {
+
+        // Given
+        final Instant expected = Instant.ofEpochSecond(someLong() / 1000, 1);
+
+        // When
+        final Instant actual = new TimeOperations().toInstant(expected);
+
+        // Then
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    public void Can_convert_zoned_times_to_instants() {
+
+        // Given
+        final Instant expected = Instant.ofEpochSecond(1000000000L, 123456789);
+        final TimeOperations operations = new TimeOperations();
+
+        // When
+        final Instant zoned = operations.toInstant(ZonedDateTime.ofInstant(expected, ZoneId.of("Asia/Tokyo")));
+        final Instant offset = operations.toInstant(OffsetDateTime.ofInstant(expected, ZoneOffset.ofHours(-5)));
+
+        // Then
+        assertThat(zoned, is(expected));
+        assertThat(offset, is(expected));
+    }
+
+    @Test
+    public void Can_convert_a_local_date_time_to_an_instant_at_utc() {
+
+        // Given
+        final Instant expected = Instant.ofEpochSecond(1000000000L, 123456789);
+
+        // When
+        final Instant actual = new TimeOperations().toInstant(LocalDateTime.ofInstant(expected, ZoneOffset.UTC));
+
+        // Then
+        assertThat(actual, is(expected));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Cannot_convert_a_date_without_a_time_of_day_to_an_instant() {
+
+        // When
+        new TimeOperations().toInstant(LocalDate.of(2020, 1, 1));
+    }
+
+    @Test
+    public void Can_tell_zoned_times_from_local_times() {
+
+        // Given
+        final Instant instant = Instant.ofEpochSecond(someLong() / 1000);
+
+        // Then
+        assertThat(TimeOperations.isZoned(instant), is(true));
+        assertThat(TimeOperations.isZoned(ZonedDateTime.ofInstant(instant, ZoneOffset.UTC)), is(true));
+        assertThat(TimeOperations.isLocal(instant), is(false));
+        assertThat(TimeOperations.isLocal(LocalDateTime.ofInstant(instant, ZoneOffset.UTC)), is(true));
+        assertThat(TimeOperations.isZoned(LocalDateTime.ofInstant(instant, ZoneOffset.UTC)), is(false));
+        assertThat(TimeOperations.isLocal(LocalDate.of(2020, 1, 1)), is(false));
+    }
+
+    @Test
+    public void Can_compare_instants_with_nanosecond_precision() {
+
+        // Given
+        final Instant time = Instant.ofEpochSecond(someLong() / 1000, 500);
+        final Instant earlier = time.minusNanos(1);
+        final Instant later = time.plusNanos(1);
+        final TimeOperations operations = new TimeOperations();
+
+        // Then
+        assertThat(operations.isBefore(earlier, time), is(true));
+        assertThat(operations.isBefore(time, time), is(false));
+        assertThat(operations.isAfter(later, time), is(true));
+        assertThat(operations.isAfter(time, time), is(false));
+        assertThat(operations.isBeforeOrEqualTo(time, time), is(true));
+        assertThat(operations.isBeforeOrEqualTo(later, time), is(false));
+        assertThat(operations.isAfterOrEqualTo(time, time), is(true));
+        assertThat(operations.isAfterOrEqualTo(earlier, time), is(false));
+    }
+}
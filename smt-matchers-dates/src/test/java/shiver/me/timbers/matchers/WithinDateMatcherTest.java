@@ -120,4 +120,29 @@ public class WithinDateMatcherTest {
         // Then
         assertThat(actual, is(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void Can_check_a_timestamp_without_creating_a_date() {
+
+        final Date date = mock(Date.class);
+        final Long duration = someLong();
+        final TimeUnit unit = someEnum(TimeUnit.class);
+
+        final long durationInMillis = unit.toMillis(duration);
+
+        final long dateTime1 = someLong();
+        final long dateTime2 = someLong();
+
+        // Given
+        given(date.getTime()).willReturn(dateTime1);
+        given(timeOperations.isAfterOrEqualTo(dateTime2, dateTime1 - durationInMillis)).willReturn(true);
+        given(timeOperations.isBeforeOrEqualTo(dateTime2, dateTime1 + durationInMillis)).willReturn(true);
+
+        // When
+        final boolean actual = new WithinDateMatcher(timeOperations, date, duration, unit)
+            .matchesEpochMillis(dateTime2);
+
+        // Then
+        assertThat(actual, is(true));
+    }
+}
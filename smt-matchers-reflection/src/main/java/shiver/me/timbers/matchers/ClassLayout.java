@@ -0,0 +1,48 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+/**
+ * The instance fields of a class and all of its super classes along with the accessors used to read them. Static and
+ * synthetic fields (e.g. the reference an inner class keeps to its outer instance) are left out. A field that is hidden
+ * by a field with the same name in a sub class is kept and named after the class that declares it, e.g.
+ * {@code Base.name}.
+ *
+ * @author Karl Bennett
+ */
+class ClassLayout {
+
+    private final String[] names;
+    private final FieldAccessor[] accessors;
+
+    ClassLayout(String[] names, FieldAccessor[] accessors) {
+        this.names = names;
+        this.accessors = accessors;
+    }
+
+    int size() {
+        return names.length;
+    }
+
+    String getName(int index) {
+        return names[index];
+    }
+
+    FieldAccessor getAccessor(int index) {
+        return accessors[index];
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matches an object that is structurally equal to the expected object. Both object graphs are walked field by field
+ * without calling the {@code equals} methods of the objects in them, only JDK types (e.g. {@link String},
+ * {@link Number}, {@link java.time.Instant}), enums, {@link Set}s, and objects whose fields can't be read are compared
+ * with {@code equals}. Atomic values and string builders are compared by their contents. Arrays, {@link List}s, other
+ * {@link Collection}s, and {@link Map}s are compared element by element.
+ * <p>
+ * The fields of each class are only looked up once, and objects that have already been compared are not compared again
+ * so graphs with cycles can be matched. Matching stops at the first difference, {@link #withFullDiff()} only finds the
+ * rest when the mismatch is described. Only JDK value types are rendered in the descriptions, any other object is
+ * described by its class so a failure on a large graph doesn't print the whole graph.
+ *
+ * @author Karl Bennett
+ */
+public class DeepEqualsMatcher<T> extends DescribingMatcher<T> {
+
+    private static final int MAX_VALUE_LENGTH = ObjectGraphDiff.DEFAULT_MAX_VALUE_LENGTH;
+
+    /**
+     * Check that the object is structurally equal to the expected object.
+     */
+    @Factory
+    public static <T> DeepEqualsMatcher<T> deeplyEqualTo(T expected) {
+        return new DeepEqualsMatcher<>(
+            new Reflections(),
+            expected,
+            Collections.<String>emptyList(),
+            0,
+            0,
+            null,
+            false
+        );
+    }
+
+    private final Reflections reflections;
+    private final T expected;
+    private final List<String> ignored;
+    private final double numericTolerance;
+    private final long timeTolerance;
+    private final TimeUnit timeToleranceUnit;
+    private final boolean fullDiff;
+    private final GraphComparison comparison;
+
+    DeepEqualsMatcher(
+        Reflections reflections,
+        T expected,
+        List<String> ignored,
+        double numericTolerance,
+        long timeTolerance,
+        TimeUnit timeToleranceUnit,
+        boolean fullDiff
+    ) {
+        this.reflections = reflections;
+        this.expected = expected;
+        this.ignored = ignored;
+        this.numericTolerance = numericTolerance;
+        this.timeTolerance = timeTolerance;
+        this.timeToleranceUnit = timeToleranceUnit;
+        this.fullDiff = fullDiff;
+        this.comparison = new GraphComparison(
+            reflections,
+            ignored,
+            numericTolerance,
+            timeTolerance,
+            timeToleranceUnit,
+            Integer.MAX_VALUE
+        );
+    }
+
+    /**
+     * Don't compare the values of the supplied properties (e.g. "customer.id" or "lines[*].id"), a "[*]" segment will
+     * match any index or key.
+     */
+    public DeepEqualsMatcher<T> ignoring(String... properties) {
+        final List<String> ignoring = new ArrayList<>(ignored);
+        ignoring.addAll(Arrays.asList(properties));
+        return new DeepEqualsMatcher<>(
+            reflections,
+            expected,
+            ignoring,
+            numericTolerance,
+            timeTolerance,
+            timeToleranceUnit,
+            fullDiff
+        );
+    }
+
+    /**
+     * Allow numbers of the same type to differ by up to the supplied amount. Whole numbers,
+     * {@link java.math.BigInteger}s, and {@link java.math.BigDecimal}s are compared exactly rather than as doubles.
+     */
+    public DeepEqualsMatcher<T> withNumericTolerance(double tolerance) {
+        if (tolerance < 0) {
+            throw new IllegalArgumentException("The numeric tolerance must not be negative.");
+        }
+        return new DeepEqualsMatcher<>(
+            reflections,
+            expected,
+            ignored,
+            tolerance,
+            timeTolerance,
+            timeToleranceUnit,
+            fullDiff
+        );
+    }
+
+    /**
+     * Allow {@link Date}s and {@link Temporal}s (e.g. {@link java.time.Instant}) of the same type to differ by up to
+     * the supplied duration.
+     */
+    public DeepEqualsMatcher<T> withTimeTolerance(long tolerance, TimeUnit unit) {
+        if (tolerance < 0) {
+            throw new IllegalArgumentException("The time tolerance must not be negative.");
+        }
+        Objects.requireNonNull(unit, "The time tolerance unit must not be null.");
+        return new DeepEqualsMatcher<>(reflections, expected, ignored, numericTolerance, tolerance, unit, fullDiff);
+    }
+
+    /**
+     * Compare the whole of both object graphs and describe every difference instead of stopping at the first. Matching
+     * still stops at the first difference, the rest are only found when the mismatch is described.
+     */
+    public DeepEqualsMatcher<T> withFullDiff() {
+        return new DeepEqualsMatcher<>(
+            reflections,
+            expected,
+            ignored,
+            numericTolerance,
+            timeTolerance,
+            timeToleranceUnit,
+            true
+        );
+    }
+
+    @Override
+    protected boolean matchesSafely(T actual, Description mismatchDescription) {
+        return compare(actual, false, mismatchDescription);
+    }
+
+    /**
+     * Only a failed match is described, so the whole of both graphs is only walked for a full diff once it's known that
+     * they differ.
+     */
+    @Override
+    protected void describeMismatchSafely(T actual, Description mismatchDescription) {
+        compare(actual, fullDiff, mismatchDescription);
+    }
+
+    private boolean compare(T actual, final boolean everyDifference, Description mismatchDescription) {
+        final List<GraphComparison.Difference> differences = new ArrayList<>(1);
+        comparison.compare(expected, actual, new GraphComparison.Listener() {
+            @Override
+            public boolean difference(GraphComparison.Difference difference) {
+                differences.add(difference);
+                return everyDifference;
+            }
+        });
+        if (differences.isEmpty()) {
+            return true;
+        }
+        if (differences.size() == 1) {
+            describe(differences.get(0), mismatchDescription.appendText("the object differed at "));
+            return false;
+        }
+        mismatchDescription.appendText("the object had ").appendText(Integer.toString(differences.size()))
+            .appendText(" differences:");
+        for (GraphComparison.Difference difference : differences) {
+            describe(difference, mismatchDescription.appendText("\n          "));
+        }
+        return false;
+    }
+
+    private static void describe(GraphComparison.Difference difference, Description description) {
+        description.appendText(difference.getNode().getPath()).appendText(": ");
+        if (difference.getReason() != null) {
+            description.appendText(difference.getReason());
+            return;
+        }
+        description.appendText("expected ").appendText(difference.describeExpected(MAX_VALUE_LENGTH))
+            .appendText(" but was ").appendText(difference.describeActual(MAX_VALUE_LENGTH));
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("an object deeply equal to ")
+            .appendText(GraphComparison.describeValue(expected, MAX_VALUE_LENGTH));
+        if (!ignored.isEmpty()) {
+            description.appendValueList(" ignoring ", ", ", "", ignored);
+        }
+        if (numericTolerance > 0) {
+            description.appendText(" with a numeric tolerance of ").appendValue(numericTolerance);
+        }
+        if (timeTolerance > 0) {
+            description.appendText(" with a time tolerance of ").appendText(Long.toString(timeTolerance))
+                .appendText(" ").appendText(timeToleranceUnit.name().toLowerCase());
+        }
+    }
+}
@@ -16,39 +16,56 @@
 
 package shiver.me.timbers.matchers;
 
+import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
-import org.hamcrest.TypeSafeMatcher;
+import org.hamcrest.internal.ReflectiveTypeFinder;
 
 /**
- * Matcher tha can have it's describing behaviour overridden programmatically.
+ * Matcher that works out why it failed to match only when it is asked to describe the mismatch. Matching is carried
+ * out with the shared {@link Description#NONE} so it doesn't allocate a description or record anything, which means a
+ * single instance can be shared between threads and kept as a constant.
+ * <p>
+ * Implementations should append the reason for a mismatch to the supplied description from within
+ * {@link #matchesSafely(Object, Description)} and must not hold any state that changes between matches.
  *
  * @author Karl Bennett
  */
-public abstract class DescribingMatcher<T> extends TypeSafeMatcher<T> {
+public abstract class DescribingMatcher<T> extends BaseMatcher<T> {
 
-    private DescribeTo describeTo;
-    private DescribeMismatch describeMismatch;
+    private static final ReflectiveTypeFinder TYPE_FINDER = new ReflectiveTypeFinder("matchesSafely", 2, 0);
 
-    @Override
-    public final void describeTo(Description description) {
-        describeTo.describeTo(description);
-    }
+    private final Class<?> expectedType;
 
-    @Override
-    protected final void describeMismatchSafely(T item, Description mismatchDescription) {
-        describeMismatch.describeMismatch(mismatchDescription);
+    protected DescribingMatcher() {
+        this.expectedType = TYPE_FINDER.findExpectedType(getClass());
     }
 
-    protected final void assignDescribers(DescribeTo describeTo, DescribeMismatch describeMismatch) {
-        this.describeTo = describeTo;
-        this.describeMismatch = describeMismatch;
+    /**
+     * Check the item, appending the reason for a mismatch to the description.
+     */
+    protected abstract boolean matchesSafely(T item, Description mismatchDescription);
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public final boolean matches(Object item) {
+        return expectedType.isInstance(item) && matchesSafely((T) item, Description.NONE);
     }
 
-    protected interface DescribeTo {
-        void describeTo(Description description);
+    @Override
+    @SuppressWarnings("unchecked")
+    public final void describeMismatch(Object item, Description description) {
+        if (!expectedType.isInstance(item)) {
+            super.describeMismatch(item, description);
+            return;
+        }
+        describeMismatchSafely((T) item, description);
     }
 
-    protected interface DescribeMismatch {
-        void describeMismatch(Description description);
+    /**
+     * Append the reason the item didn't match, by default the item is checked again with the description. Override this
+     * when working out the reason takes more work than is needed to only decide whether the item matches.
+     */
+    protected void describeMismatchSafely(T item, Description mismatchDescription) {
+        matchesSafely(item, mismatchDescription);
     }
 }
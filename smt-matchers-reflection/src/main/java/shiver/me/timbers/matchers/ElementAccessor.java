@@ -0,0 +1,147 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import java.lang.reflect.Array;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads a bracketed segment of a property (e.g. "[3]" or "[region]") from a {@link List}, an array, or a {@link Map}.
+ * The element is looked up directly so nothing is iterated or copied. A {@link Map} is first checked for the key as a
+ * {@link String} and then, if the key is a number, as an {@link Integer}.
+ *
+ * @author Karl Bennett
+ */
+class ElementAccessor implements FieldAccessor {
+
+    /**
+     * A failed {@code instanceof} check against an interface is slow, so the kind of each class is only worked out
+     * once.
+     */
+    private static final ClassValue<Kind> KINDS = new ClassValue<Kind>() {
+        @Override
+        protected Kind computeValue(Class<?> type) {
+            if (Object[].class.isAssignableFrom(type)) {
+                return Kind.ARRAY;
+            }
+            if (type.isArray()) {
+                return Kind.PRIMITIVE_ARRAY;
+            }
+            if (List.class.isAssignableFrom(type)) {
+                return Kind.LIST;
+            }
+            if (Map.class.isAssignableFrom(type)) {
+                return Kind.MAP;
+            }
+            return Kind.OTHER;
+        }
+    };
+
+    static boolean isElement(String segment) {
+        return segment.startsWith("[");
+    }
+
+    private final String key;
+    private final int index;
+
+    ElementAccessor(String segment) {
+        this.key = segment.substring(1, segment.length() - 1);
+        this.index = parseIndex(key);
+    }
+
+    private static int parseIndex(String key) {
+        if (key.isEmpty() || key.length() > 9) {
+            return -1;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (!Character.isDigit(key.charAt(i))) {
+                return -1;
+            }
+        }
+        return Integer.parseInt(key);
+    }
+
+    @Override
+    public Object get(Object object) throws NoSuchFieldException {
+        switch (KINDS.get(object.getClass())) {
+            case ARRAY:
+                final Object[] array = (Object[]) object;
+                if (index >= 0 && index < array.length) {
+                    return array[index];
+                }
+                break;
+            case PRIMITIVE_ARRAY:
+                if (index >= 0 && index < Array.getLength(object)) {
+                    return Array.get(object, index);
+                }
+                break;
+            case LIST:
+                final List<?> list = (List<?>) object;
+                if (index >= 0 && index < list.size()) {
+                    return list.get(index);
+                }
+                break;
+            case MAP:
+                return getEntry((Map<?, ?>) object);
+            default:
+                break;
+        }
+        throw noSuchElement(object);
+    }
+
+    private Object getEntry(Map<?, ?> map) throws NoSuchFieldException {
+        final Object value = getValue(map, key);
+        if (value != null || containsKey(map, key)) {
+            return value;
+        }
+        if (index >= 0) {
+            final Object indexValue = getValue(map, index);
+            if (indexValue != null || containsKey(map, index)) {
+                return indexValue;
+            }
+        }
+        throw noSuchElement(map);
+    }
+
+    /**
+     * A sorted map will throw an exception if it is given a key of the wrong type.
+     */
+    private static Object getValue(Map<?, ?> map, Object key) {
+        try {
+            return map.get(key);
+        } catch (ClassCastException | NullPointerException e) {
+            return null;
+        }
+    }
+
+    private static boolean containsKey(Map<?, ?> map, Object key) {
+        try {
+            return map.containsKey(key);
+        } catch (ClassCastException | NullPointerException e) {
+            return false;
+        }
+    }
+
+    private NoSuchFieldException noSuchElement(Object object) {
+        return new NoSuchFieldException(object.getClass().getName() + "[" + key + "]");
+    }
+
+    private enum Kind {
+        ARRAY, PRIMITIVE_ARRAY, LIST, MAP, OTHER
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import java.lang.reflect.Field;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * The built in ways of reading field values. The strategy used by matchers that aren't given one can be set with the
+ * {@code smt.matchers.field.access} system property or with {@link #setDefault(FieldAccessStrategy)}.
+ *
+ * @author Karl Bennett
+ */
+public enum FieldAccess implements FieldAccessStrategy {
+
+    /**
+     * Read fields with {@link Field#get(Object)}, which repeats the access checks and boxes primitives on every read.
+     */
+    REFLECTION {
+        @Override
+        public Function<Object, Object> getter(Field field) {
+            return FieldGetters.reflective(field);
+        }
+    },
+
+    /**
+     * Read fields with a {@link java.lang.invoke.MethodHandle} getter, the access checks are only done once.
+     */
+    METHOD_HANDLE {
+        @Override
+        public Function<Object, Object> getter(Field field) throws IllegalAccessException {
+            return FieldGetters.methodHandle(field);
+        }
+    },
+
+    /**
+     * Read fields with a class that is generated for each field and reads it directly, so the JIT can inline the read
+     * like any other field access. The class is defined as a hidden class so it needs Java 15 or later. Below Java 15
+     * this strategy falls back to {@link #METHOD_HANDLE} for every field, as it does on any version for a field the
+     * class can't be generated for.
+     */
+    GENERATED {
+        @Override
+        public Function<Object, Object> getter(Field field) throws IllegalAccessException {
+            if (GeneratedFieldGetters.isSupported()) {
+                try {
+                    return GeneratedFieldGetters.generate(field);
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    // Fall back to a method handle for any field that a hidden class can't read.
+                }
+            }
+            return METHOD_HANDLE.getter(field);
+        }
+    };
+
+    static final String ACCESS_PROPERTY = "smt.matchers.field.access";
+
+    private static volatile FieldAccessStrategy defaultStrategy =
+        parse(System.getProperty(ACCESS_PROPERTY), METHOD_HANDLE);
+
+    /**
+     * An unknown strategy name is ignored so that a mistyped system property can't stop the matchers from loading.
+     */
+    static FieldAccess parse(String name, FieldAccess fallback) {
+        if (name == null) {
+            return fallback;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+
+    public static FieldAccessStrategy getDefault() {
+        return defaultStrategy;
+    }
+
+    /**
+     * Change the strategy that is used by all the field and property matchers that are created without one.
+     */
+    public static void setDefault(FieldAccessStrategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("The default field access strategy cannot be null.");
+        }
+        defaultStrategy = strategy;
+    }
+}
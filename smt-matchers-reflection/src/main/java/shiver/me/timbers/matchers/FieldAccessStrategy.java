@@ -0,0 +1,39 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import java.lang.reflect.Field;
+import java.util.function.Function;
+
+/**
+ * A way of creating a getter for a field. Every getter is created once for each class and field and is then reused
+ * for every match, so the strategy can do expensive work up front to make the getter fast. The built in strategies are
+ * in {@link FieldAccess}, their getters are shared by every matcher. The getters of any other strategy are cached by
+ * each matcher that is given it, so reuse the matcher to reuse the getters.
+ *
+ * @author Karl Bennett
+ */
+public interface FieldAccessStrategy {
+
+    /**
+     * Create a getter for the field, it will have already been made accessible. The getter is passed the object to read
+     * the field from, which will be null for a static field.
+     *
+     * @throws IllegalAccessException if the field cannot be read with this strategy.
+     */
+    Function<Object, Object> getter(Field field) throws IllegalAccessException;
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * @author Karl Bennett
+ */
+class FieldGetters {
+
+    static Function<Object, Object> reflective(Field field) {
+        return new ReflectiveGetter(field);
+    }
+
+    static Function<Object, Object> methodHandle(Field field) throws IllegalAccessException {
+        final MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+        if (Modifier.isStatic(field.getModifiers())) {
+            return new MethodHandleGetter(
+                MethodHandles.dropArguments(getter.asType(methodType(Object.class)), 0, Object.class)
+            );
+        }
+        return new MethodHandleGetter(getter.asType(methodType(Object.class, Object.class)));
+    }
+
+    /**
+     * A getter that calls the supplied no argument instance method, e.g. a JavaBean getter or a record component
+     * accessor.
+     */
+    static Function<Object, Object> methodHandle(Method method) throws IllegalAccessException {
+        return new MethodHandleGetter(
+            MethodHandles.lookup().unreflect(method).asType(methodType(Object.class, Object.class))
+        );
+    }
+
+    private static class ReflectiveGetter implements Function<Object, Object> {
+
+        private final Field field;
+
+        private ReflectiveGetter(Field field) {
+            this.field = field;
+        }
+
+        @Override
+        public Object apply(Object object) {
+            try {
+                return field.get(object);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static class MethodHandleGetter implements Function<Object, Object> {
+
+        private final MethodHandle getter;
+
+        private MethodHandleGetter(MethodHandle getter) {
+            this.getter = getter;
+        }
+
+        @Override
+        public Object apply(Object object) {
+            try {
+                return (Object) getter.invokeExact(object);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -52,6 +52,13 @@ public class FieldMatcher<T> extends DescribingMatcher<T> {
         this(new Reflections(), fieldName, matcher);
     }
 
+    /**
+     * Read the field with the supplied strategy (e.g. {@link FieldAccess#GENERATED}) instead of the default.
+     */
+    public FieldMatcher(String fieldName, Matcher matcher, FieldAccessStrategy strategy) {
+        this(new Reflections(strategy), fieldName, matcher);
+    }
+
     FieldMatcher(Reflections reflections, String fieldName, Matcher matcher) {
         this.reflections = reflections;
         this.fieldName = fieldName;
@@ -59,67 +66,30 @@ public class FieldMatcher<T> extends DescribingMatcher<T> {
     }
 
     @Override
-    protected boolean matchesSafely(final T actual) {
+    protected boolean matchesSafely(T actual, Description mismatchDescription) {
+        final Object value;
         try {
-            describeFailedMatcher(actual);
-            return matcher.matches(reflections.getFieldValue(fieldName, actual));
+            value = reflections.getFieldValue(fieldName, actual);
         } catch (NoSuchFieldException e) {
-            describeMissingField(actual);
+            mismatchDescription.appendText("the field does not exist in class ").appendText(actual.getClass().getName())
+                .appendText(".");
+            return false;
         } catch (IllegalAccessException e) {
-            describeInaccessibleField(actual);
+            mismatchDescription.appendText("the field is inaccessible in class ")
+                .appendText(actual.getClass().getName()).appendText(".");
+            return false;
+        }
+        if (matcher.matches(value)) {
+            return true;
         }
+        mismatchDescription.appendText("the field in class ").appendText(actual.getClass().getName())
+            .appendText(" does not match.");
         return false;
     }
 
-    private void describeFailedMatcher(final T actual) {
-        assignDescribers(
-            new DescribeTo() {
-                public void describeTo(Description description) {
-                    description.appendText("class ").appendText(actual.getClass().getName())
-                        .appendText(" to contain a field named ").appendText(fieldName).appendText(" that is ")
-                        .appendDescriptionOf(matcher);
-                }
-            },
-            new DescribeMismatch() {
-                @Override
-                public void describeMismatch(Description description) {
-                    description.appendText("the field does not match.");
-                }
-            }
-        );
-    }
-
-    private void describeMissingField(final T actual) {
-        assignDescribers(
-            new DescribeTo() {
-                public void describeTo(Description description) {
-                    description.appendText("class ").appendText(actual.getClass().getName())
-                        .appendText(" to contain a field named ").appendText(fieldName).appendText(".");
-                }
-            },
-            new DescribeMismatch() {
-                @Override
-                public void describeMismatch(Description description) {
-                    description.appendText("the field does not exist.");
-                }
-            }
-        );
-    }
-
-    private void describeInaccessibleField(final T actual) {
-        assignDescribers(
-            new DescribeTo() {
-                public void describeTo(Description description) {
-                    description.appendText("to be able to access the field named ").appendText(fieldName)
-                        .appendText(" in class ").appendText(actual.getClass().getName()).appendText(".");
-                }
-            },
-            new DescribeMismatch() {
-                @Override
-                public void describeMismatch(Description description) {
-                    description.appendText("the field is inaccessible.");
-                }
-            }
-        );
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("an object with a field named ").appendText(fieldName).appendText(" that is ")
+            .appendDescriptionOf(matcher);
     }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Matches the values of several fields within an object. All the field accessors are resolved together once for each
+ * class and every field is read in a single pass, so unlike a combination of {@link FieldMatcher}s every field that
+ * doesn't match is reported in the one description.
+ *
+ * @author Karl Bennett
+ */
+public class FieldsMatcher<T> extends DescribingMatcher<T> {
+
+    /**
+     * Check the that each named fields value is valid for the matcher it is mapped to, the fields are checked in the
+     * iteration order of the map.
+     */
+    @Factory
+    public static <T> FieldsMatcher<T> hasFields(Map<String, ? extends Matcher<?>> matchers) {
+        return new FieldsMatcher<>(matchers);
+    }
+
+    private final Reflections reflections;
+    private final String[] names;
+    private final Matcher<?>[] matchers;
+    private final AtomicReference<Binding> binding = new AtomicReference<>();
+
+    public FieldsMatcher(Map<String, ? extends Matcher<?>> matchers) {
+        this(new Reflections(), matchers);
+    }
+
+    /**
+     * Read the fields with the supplied strategy (e.g. {@link FieldAccess#GENERATED}) instead of the default.
+     */
+    public FieldsMatcher(Map<String, ? extends Matcher<?>> matchers, FieldAccessStrategy strategy) {
+        this(new Reflections(strategy), matchers);
+    }
+
+    FieldsMatcher(Reflections reflections, Map<String, ? extends Matcher<?>> matchers) {
+        if (matchers.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be matched.");
+        }
+        this.reflections = reflections;
+        this.names = new String[matchers.size()];
+        this.matchers = new Matcher<?>[matchers.size()];
+        int index = 0;
+        for (Map.Entry<String, ? extends Matcher<?>> entry : matchers.entrySet()) {
+            this.names[index] = entry.getKey();
+            this.matchers[index] = entry.getValue();
+            index++;
+        }
+    }
+
+    @Override
+    protected boolean matchesSafely(T actual, Description mismatchDescription) {
+        final FieldAccessor[] accessors = getFieldAccessors(actual.getClass());
+        boolean matched = true;
+        for (int i = 0; i < names.length; i++) {
+            matched &= matchesField(i, accessors[i], actual, matched, mismatchDescription);
+        }
+        return matched;
+    }
+
+    private boolean matchesField(
+        int index,
+        FieldAccessor accessor,
+        Object actual,
+        boolean first,
+        Description mismatchDescription
+    ) {
+        final Object value;
+        try {
+            value = accessor.get(actual);
+        } catch (NoSuchFieldException e) {
+            appendField(index, actual, first, mismatchDescription).appendText("does not exist");
+            return false;
+        } catch (IllegalAccessException e) {
+            appendField(index, actual, first, mismatchDescription).appendText("is inaccessible");
+            return false;
+        }
+        if (matchers[index].matches(value)) {
+            return true;
+        }
+        matchers[index].describeMismatch(value, appendField(index, actual, first, mismatchDescription));
+        return false;
+    }
+
+    private Description appendField(int index, Object actual, boolean first, Description mismatchDescription) {
+        if (first) {
+            mismatchDescription.appendText("the fields in class ").appendText(actual.getClass().getName())
+                .appendText(" did not match:");
+        }
+        return mismatchDescription.appendText("\n          ").appendText(names[index]).appendText(": ");
+    }
+
+    private FieldAccessor[] getFieldAccessors(Class<?> type) {
+        final Binding current = binding.get();
+        if (current != null && current.type == type) {
+            return current.accessors;
+        }
+        final FieldAccessor[] accessors = reflections.getFieldAccessors(names, type);
+        binding.set(new Binding(type, accessors));
+        return accessors;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("an object with ");
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) {
+                description.appendText(", and ");
+            }
+            description.appendText("a field named ").appendText(names[i]).appendText(" that is ")
+                .appendDescriptionOf(matchers[i]);
+        }
+    }
+
+    private static class Binding {
+
+        private final Class<?> type;
+        private final FieldAccessor[] accessors;
+
+        private Binding(Class<?> type, FieldAccessor[] accessors) {
+            this.type = type;
+            this.accessors = accessors;
+        }
+    }
+}
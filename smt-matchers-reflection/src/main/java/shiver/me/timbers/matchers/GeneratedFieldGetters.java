@@ -0,0 +1,294 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Generates a small class for a field that implements {@link Function} by reading the field directly, e.g.
+ * {@code return Integer.valueOf(((Owner) object).field);}. The class is defined as a hidden nestmate of the class that
+ * declares the field, which lets it read private fields without any access checks at run time.
+ * <p>
+ * The hidden class API is only available from Java 15 so it is looked up reflectively, this keeps the library running
+ * on Java 8 where {@link #isSupported()} is false.
+ *
+ * @author Karl Bennett
+ */
+class GeneratedFieldGetters {
+
+    private static final Method PRIVATE_LOOKUP_IN = findPrivateLookupIn();
+    private static final Object NESTMATE_OPTIONS = findNestmateOptions();
+    private static final Method DEFINE_HIDDEN_CLASS = findDefineHiddenClass();
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String FUNCTION = "java/util/function/Function";
+    private static final String CLASS_NAME = "SmtFieldGetter";
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int ALOAD_0 = 0x2A;
+    private static final int ALOAD_1 = 0x2B;
+    private static final int CHECKCAST = 0xC0;
+    private static final int GETFIELD = 0xB4;
+    private static final int GETSTATIC = 0xB2;
+    private static final int INVOKESPECIAL = 0xB7;
+    private static final int INVOKESTATIC = 0xB8;
+    private static final int ARETURN = 0xB0;
+    private static final int RETURN = 0xB1;
+
+    static boolean isSupported() {
+        return PRIVATE_LOOKUP_IN != null && NESTMATE_OPTIONS != null && DEFINE_HIDDEN_CLASS != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Function<Object, Object> generate(Field field) throws ReflectiveOperationException {
+        final Class<?> owner = field.getDeclaringClass();
+        try {
+            final Lookup ownerLookup = (Lookup) PRIVATE_LOOKUP_IN.invoke(null, owner, MethodHandles.lookup());
+            final Lookup getterLookup = (Lookup) DEFINE_HIDDEN_CLASS.invoke(
+                ownerLookup, classBytes(field), true, NESTMATE_OPTIONS
+            );
+            return (Function<Object, Object>) getterLookup
+                .findConstructor(getterLookup.lookupClass(), methodType(void.class)).invoke();
+        } catch (InvocationTargetException e) {
+            throw new IllegalAccessException(field + " cannot be read by a generated class: " + e.getCause());
+        } catch (ReflectiveOperationException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Write the class file for the field getter, it has no branches so it doesn't need any stack map frames.
+     */
+    static byte[] classBytes(Field field) {
+        final Class<?> owner = field.getDeclaringClass();
+        final Class<?> type = field.getType();
+        final Class<?> box = type.isPrimitive() ? boxOf(type) : null;
+        final ConstantPool pool = new ConstantPool();
+        final int thisClass = pool.classRef(packagePrefix(owner) + CLASS_NAME);
+        final int objectClass = pool.classRef(OBJECT);
+        final int functionClass = pool.classRef(FUNCTION);
+        final int objectConstructor = pool.methodRef(objectClass, "<init>", "()V");
+        final int ownerClass = pool.classRef(internalName(owner));
+        final int fieldRef = pool.fieldRef(ownerClass, field.getName(), descriptor(type));
+        final int boxMethod = box == null ? 0 : pool.methodRef(
+            pool.classRef(internalName(box)), "valueOf", "(" + descriptor(type) + ")" + descriptor(box)
+        );
+        final int initName = pool.utf8("<init>");
+        final int initDescriptor = pool.utf8("()V");
+        final int applyName = pool.utf8("apply");
+        final int applyDescriptor = pool.utf8("(Ljava/lang/Object;)Ljava/lang/Object;");
+        final int code = pool.utf8("Code");
+
+        final ByteArrayOutputStream constructorCode = new ByteArrayOutputStream();
+        constructorCode.write(ALOAD_0);
+        writeInstruction(constructorCode, INVOKESPECIAL, objectConstructor);
+        constructorCode.write(RETURN);
+
+        final ByteArrayOutputStream applyCode = new ByteArrayOutputStream();
+        if (Modifier.isStatic(field.getModifiers())) {
+            writeInstruction(applyCode, GETSTATIC, fieldRef);
+        } else {
+            applyCode.write(ALOAD_1);
+            writeInstruction(applyCode, CHECKCAST, ownerClass);
+            writeInstruction(applyCode, GETFIELD, fieldRef);
+        }
+        if (box != null) {
+            writeInstruction(applyCode, INVOKESTATIC, boxMethod);
+        }
+        applyCode.write(ARETURN);
+
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(52);
+            pool.writeTo(out);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(objectClass);
+            out.writeShort(1);
+            out.writeShort(functionClass);
+            out.writeShort(0);
+            out.writeShort(2);
+            writeMethod(out, initName, initDescriptor, code, 1, 1, constructorCode.toByteArray());
+            writeMethod(out, applyName, applyDescriptor, code, 2, 2, applyCode.toByteArray());
+            out.writeShort(0);
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void writeInstruction(ByteArrayOutputStream code, int opcode, int index) {
+        code.write(opcode);
+        code.write(index >> 8);
+        code.write(index);
+    }
+
+    private static void writeMethod(
+        DataOutputStream out,
+        int name,
+        int descriptor,
+        int codeAttribute,
+        int maxStack,
+        int maxLocals,
+        byte[] code
+    ) throws IOException {
+        out.writeShort(ACC_PUBLIC);
+        out.writeShort(name);
+        out.writeShort(descriptor);
+        out.writeShort(1);
+        out.writeShort(codeAttribute);
+        out.writeInt(12 + code.length);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(code.length);
+        out.write(code);
+        out.writeShort(0);
+        out.writeShort(0);
+    }
+
+    private static String internalName(Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    private static String packagePrefix(Class<?> type) {
+        final String name = internalName(type);
+        return name.substring(0, name.lastIndexOf('/') + 1);
+    }
+
+    private static String descriptor(Class<?> type) {
+        if (type.isArray()) {
+            return internalName(type);
+        }
+        if (!type.isPrimitive()) {
+            return "L" + internalName(type) + ";";
+        }
+        return String.valueOf(Array.newInstance(type, 0).getClass().getName().charAt(1));
+    }
+
+    private static Class<?> boxOf(Class<?> type) {
+        return methodType(type).wrap().returnType();
+    }
+
+    private static Method findPrivateLookupIn() {
+        try {
+            return MethodHandles.class.getMethod("privateLookupIn", Class.class, Lookup.class);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object findNestmateOptions() {
+        try {
+            final Class optionType = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            final Object options = Array.newInstance(optionType, 1);
+            Array.set(options, 0, Enum.valueOf(optionType, "NESTMATE"));
+            return options;
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static Method findDefineHiddenClass() {
+        if (NESTMATE_OPTIONS == null) {
+            return null;
+        }
+        try {
+            return Lookup.class.getMethod(
+                "defineHiddenClass", byte[].class, boolean.class, NESTMATE_OPTIONS.getClass()
+            );
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static class ConstantPool {
+
+        private static final int UTF8 = 1;
+        private static final int CLASS = 7;
+        private static final int FIELD_REF = 9;
+        private static final int METHOD_REF = 10;
+        private static final int NAME_AND_TYPE = 12;
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private int count = 1;
+
+        private int utf8(String value) {
+            return add(UTF8, value, 0, 0);
+        }
+
+        private int classRef(String internalName) {
+            return add(CLASS, null, utf8(internalName), 0);
+        }
+
+        private int fieldRef(int owner, String name, String descriptor) {
+            return add(FIELD_REF, null, owner, nameAndType(name, descriptor));
+        }
+
+        private int methodRef(int owner, String name, String descriptor) {
+            return add(METHOD_REF, null, owner, nameAndType(name, descriptor));
+        }
+
+        private int nameAndType(String name, String descriptor) {
+            final int nameIndex = utf8(name);
+            return add(NAME_AND_TYPE, null, nameIndex, utf8(descriptor));
+        }
+
+        private int add(int tag, String value, int first, int second) {
+            try {
+                out.writeByte(tag);
+                if (tag == UTF8) {
+                    out.writeUTF(value);
+                } else {
+                    out.writeShort(first);
+                    if (tag != CLASS) {
+                        out.writeShort(second);
+                    }
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return count++;
+        }
+
+        private void writeTo(DataOutputStream classFile) throws IOException {
+            classFile.writeShort(count);
+            classFile.write(bytes.toByteArray());
+        }
+    }
+}
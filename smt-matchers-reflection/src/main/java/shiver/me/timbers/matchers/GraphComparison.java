@@ -0,0 +1,681 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.StringDescription;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.temporal.Temporal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares two object graphs field by field without calling the {@code equals} methods of the objects in them, only
+ * JDK types (e.g. {@link String}, {@link Number}, {@link java.time.Instant}), enums, {@link Set}s, and objects whose
+ * fields can't be read are compared with {@code equals}. Atomic values and string builders are compared by their
+ * contents. Each difference is handed to a {@link Listener} as soon as it is found so the caller decides how many it
+ * wants, and objects deeper than the maximum depth are counted rather than compared.
+ *
+ * @author Karl Bennett
+ */
+class GraphComparison {
+
+    private final Reflections reflections;
+    private final List<String[]> ignoredPaths;
+    private final double numericTolerance;
+    private final long integralTolerance;
+    private final BigDecimal decimalTolerance;
+    private final long timeTolerance;
+    private final TimeUnit timeToleranceUnit;
+    private final int maxDepth;
+
+    GraphComparison(
+        Reflections reflections,
+        List<String> ignored,
+        double numericTolerance,
+        long timeTolerance,
+        TimeUnit timeToleranceUnit,
+        int maxDepth
+    ) {
+        this.reflections = reflections;
+        this.ignoredPaths = new ArrayList<>(ignored.size());
+        for (String property : ignored) {
+            ignoredPaths.add(PropertyPath.split(property));
+        }
+        this.numericTolerance = numericTolerance;
+        // Integral numbers can only differ by whole amounts so the tolerance is rounded down for them.
+        this.integralTolerance = numericTolerance >= 0x1p63 ? Long.MAX_VALUE : (long) Math.floor(numericTolerance);
+        this.decimalTolerance = Double.isInfinite(numericTolerance) ? null : BigDecimal.valueOf(numericTolerance);
+        this.timeTolerance = timeTolerance;
+        this.timeToleranceUnit = timeToleranceUnit;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Walk both graphs in a single pass, the walk stops as soon as the listener returns false.
+     */
+    Walk compare(Object expected, Object actual, Listener listener) {
+        final Walk walk = new Walk(listener);
+        walk.compare(expected, actual);
+        return walk;
+    }
+
+    /**
+     * Describe a value without calling {@code toString} on anything that isn't a JDK value type, so a large object
+     * graph is never rendered in full. The description is cut off after {@code maxLength} characters.
+     */
+    static String describeValue(Object value, int maxLength) {
+        final String description;
+        if (value == null) {
+            description = "null";
+        } else if (value.getClass().isArray()) {
+            description = describeSize(value.getClass().getComponentType().getName() + "[]", Array.getLength(value));
+        } else if (value instanceof Collection && !(value instanceof Set)) {
+            description = describeSize(value.getClass().getName(), ((Collection<?>) value).size());
+        } else if (value instanceof Map) {
+            description = "a " + value.getClass().getName() + " with " + ((Map<?, ?>) value).size() + " entries";
+        } else if (isValue(value.getClass())) {
+            description = new StringDescription().appendValue(value).toString();
+        } else {
+            description = "a " + value.getClass().getName();
+        }
+        if (description.length() <= maxLength) {
+            return description;
+        }
+        return description.substring(0, maxLength) + "...";
+    }
+
+    private static String describeSize(String type, int size) {
+        return "a " + type + " with " + size + " elements";
+    }
+
+    /**
+     * Different implementations of a {@link List}, {@link Set}, or {@link Map} can still be equal.
+     */
+    private static boolean isSameKind(Object expected, Object actual) {
+        return expected instanceof List && actual instanceof List
+            || expected instanceof Set && actual instanceof Set
+            || expected instanceof Map && actual instanceof Map;
+    }
+
+    /**
+     * A class loaded by the bootstrap class loader (e.g. {@code sun.util.calendar.ZoneInfo}) is part of the JDK, so its
+     * fields usually can't be read and its {@code equals} can be trusted.
+     */
+    private static boolean isValue(Class<?> type) {
+        final String name = type.getName();
+        return type.isEnum() || type.getClassLoader() == null
+            || name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.");
+    }
+
+    /**
+     * @return the contents of an atomic value or a string builder, which don't implement {@code equals}, or the
+     * supplied value itself for anything else.
+     */
+    private static Object contentOf(Object value) {
+        if (value instanceof StringBuilder || value instanceof StringBuffer) {
+            return value.toString();
+        }
+        if (!value.getClass().getName().startsWith("java.util.concurrent.atomic.")) {
+            return value;
+        }
+        if (value instanceof AtomicBoolean) {
+            return ((AtomicBoolean) value).get();
+        }
+        if (value instanceof AtomicInteger) {
+            return ((AtomicInteger) value).get();
+        }
+        if (value instanceof AtomicLong) {
+            return ((AtomicLong) value).get();
+        }
+        if (value instanceof AtomicReference) {
+            return ((AtomicReference<?>) value).get();
+        }
+        if (value instanceof LongAdder) {
+            return ((LongAdder) value).sum();
+        }
+        if (value instanceof DoubleAdder) {
+            return ((DoubleAdder) value).sum();
+        }
+        if (value instanceof LongAccumulator) {
+            return ((LongAccumulator) value).get();
+        }
+        if (value instanceof DoubleAccumulator) {
+            return ((DoubleAccumulator) value).get();
+        }
+        if (value instanceof AtomicIntegerArray) {
+            final AtomicIntegerArray array = (AtomicIntegerArray) value;
+            final int[] content = new int[array.length()];
+            for (int i = 0; i < content.length; i++) {
+                content[i] = array.get(i);
+            }
+            return content;
+        }
+        if (value instanceof AtomicLongArray) {
+            final AtomicLongArray array = (AtomicLongArray) value;
+            final long[] content = new long[array.length()];
+            for (int i = 0; i < content.length; i++) {
+                content[i] = array.get(i);
+            }
+            return content;
+        }
+        if (value instanceof AtomicReferenceArray) {
+            final AtomicReferenceArray<?> array = (AtomicReferenceArray<?>) value;
+            final Object[] content = new Object[array.length()];
+            for (int i = 0; i < content.length; i++) {
+                content[i] = array.get(i);
+            }
+            return content;
+        }
+        return value;
+    }
+
+    private boolean valuesEqual(Object expected, Object actual) {
+        if (numericTolerance > 0 && expected instanceof Number && actual instanceof Number) {
+            return numbersEqual((Number) expected, (Number) actual);
+        }
+        if (timeTolerance > 0 && expected instanceof Date && actual instanceof Date) {
+            final long difference = Math.abs(((Date) expected).getTime() - ((Date) actual).getTime());
+            return difference <= timeToleranceUnit.toMillis(timeTolerance);
+        }
+        if (timeTolerance > 0 && expected instanceof Temporal && actual instanceof Temporal) {
+            try {
+                final Duration difference = Duration.between((Temporal) expected, (Temporal) actual).abs();
+                return difference.compareTo(Duration.ofNanos(timeToleranceUnit.toNanos(timeTolerance))) <= 0;
+            } catch (DateTimeException | ArithmeticException e) {
+                return expected.equals(actual);
+            }
+        }
+        return expected.equals(actual);
+    }
+
+    /**
+     * Whole numbers are compared with exact {@code long} arithmetic, and {@link BigInteger}s and {@link BigDecimal}s
+     * with exact decimal arithmetic, so large values don't lose precision by being turned into doubles first.
+     */
+    private boolean numbersEqual(Number expected, Number actual) {
+        if (isIntegral(expected) && isIntegral(actual)) {
+            final long x = expected.longValue();
+            final long y = actual.longValue();
+            final long difference = x - y;
+            // The subtraction has overflowed if the numbers have different signs and the difference has the sign of y.
+            if (((x ^ y) & (x ^ difference)) >= 0 && difference != Long.MIN_VALUE) {
+                return Math.abs(difference) <= integralTolerance;
+            }
+        }
+        if (decimalTolerance != null && isExact(expected) && isExact(actual)
+            && !(isFloatingPoint(expected) && isFloatingPoint(actual))) {
+            return toBigDecimal(expected).subtract(toBigDecimal(actual)).abs().compareTo(decimalTolerance) <= 0;
+        }
+        final double expectedNumber = expected.doubleValue();
+        final double actualNumber = actual.doubleValue();
+        return Double.compare(expectedNumber, actualNumber) == 0
+            || Math.abs(expectedNumber - actualNumber) <= numericTolerance;
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+    }
+
+    private static boolean isFloatingPoint(Number number) {
+        return number instanceof Double || number instanceof Float;
+    }
+
+    private static boolean isExact(Number number) {
+        return isIntegral(number) || number instanceof BigInteger || number instanceof BigDecimal
+            || isFloatingPoint(number) && !Double.isNaN(number.doubleValue())
+            && !Double.isInfinite(number.doubleValue());
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+        if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        }
+        if (isFloatingPoint(number)) {
+            return BigDecimal.valueOf(number.doubleValue());
+        }
+        return BigDecimal.valueOf(number.longValue());
+    }
+
+    private boolean isIgnored(Node node) {
+        for (String[] path : ignoredPaths) {
+            if (path.length == node.depth && matchesPath(path, node)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesPath(String[] path, Node node) {
+        Node current = node;
+        for (int i = path.length - 1; i >= 0; i--) {
+            final boolean wildcard = PropertyPath.WILDCARD.equals(path[i]) && current.segment.startsWith("[");
+            if (!wildcard && !path[i].equals(current.segment)) {
+                return false;
+            }
+            current = current.parent;
+        }
+        return true;
+    }
+
+    private static boolean primitiveArraysEqual(Object expected, Object actual) {
+        if (expected instanceof int[]) {
+            return Arrays.equals((int[]) expected, (int[]) actual);
+        }
+        if (expected instanceof long[]) {
+            return Arrays.equals((long[]) expected, (long[]) actual);
+        }
+        if (expected instanceof double[]) {
+            return Arrays.equals((double[]) expected, (double[]) actual);
+        }
+        if (expected instanceof byte[]) {
+            return Arrays.equals((byte[]) expected, (byte[]) actual);
+        }
+        if (expected instanceof char[]) {
+            return Arrays.equals((char[]) expected, (char[]) actual);
+        }
+        if (expected instanceof boolean[]) {
+            return Arrays.equals((boolean[]) expected, (boolean[]) actual);
+        }
+        if (expected instanceof float[]) {
+            return Arrays.equals((float[]) expected, (float[]) actual);
+        }
+        return Arrays.equals((short[]) expected, (short[]) actual);
+    }
+
+    /**
+     * Told about each difference as soon as it is found.
+     */
+    interface Listener {
+
+        /**
+         * @return false if the comparison should stop.
+         */
+        boolean difference(Difference difference);
+    }
+
+    /**
+     * The state of a single comparison of the two object graphs, the graphs are walked depth first with an explicit
+     * stack so that very deep graphs (e.g. long linked lists) can't overflow the call stack.
+     */
+    class Walk {
+
+        private final Deque<Node> stack = new ArrayDeque<>();
+        private final Set<Pair> visited = new HashSet<>();
+        private final Listener listener;
+        private boolean stopped;
+        private boolean unfinished;
+        private int uncompared;
+
+        private Walk(Listener listener) {
+            this.listener = listener;
+        }
+
+        /**
+         * @return true if the listener stopped the walk before the whole of both graphs had been compared.
+         */
+        boolean isStopped() {
+            return stopped && (unfinished || !stack.isEmpty());
+        }
+
+        /**
+         * @return the number of objects that were not compared because they were deeper than the maximum depth.
+         */
+        int getUncompared() {
+            return uncompared;
+        }
+
+        private void compare(Object expected, Object actual) {
+            stack.push(new Node(null, null, expected, actual));
+            while (!stack.isEmpty() && !stopped) {
+                compare(stack.pop());
+            }
+        }
+
+        private void compare(Node node) {
+            final Object expected = node.expected;
+            final Object actual = node.actual;
+            if (expected == actual || (!ignoredPaths.isEmpty() && isIgnored(node))) {
+                return;
+            }
+            if (expected == null || actual == null) {
+                add(new Difference(node, null, null, null));
+                return;
+            }
+            final Class<?> type = expected.getClass();
+            if (type != actual.getClass() && !isSameKind(expected, actual)) {
+                final String expectedType = "a " + type.getName();
+                final String actualType = "a " + actual.getClass().getName();
+                final String reason = "expected " + expectedType + " but was " + actualType;
+                add(new Difference(node, reason, expectedType, actualType));
+                return;
+            }
+            final Object expectedContent = contentOf(expected);
+            if (expectedContent != expected) {
+                compare(new Node(node.parent, node.segment, expectedContent, contentOf(actual)));
+                return;
+            }
+            if (type.isArray()) {
+                compareArrays(node, type);
+            } else if (expected instanceof Set) {
+                compareValues(node);
+            } else if (expected instanceof Collection) {
+                compareCollections(node, (Collection<?>) expected, (Collection<?>) actual);
+            } else if (expected instanceof Map) {
+                compareMaps(node, (Map<?, ?>) expected, (Map<?, ?>) actual);
+            } else if (isValue(type)) {
+                compareValues(node);
+            } else {
+                compareFields(node, type);
+            }
+        }
+
+        private void add(Difference difference) {
+            if (stopped) {
+                // A difference found after the walk was stopped, e.g. another missing key in the same map.
+                unfinished = true;
+            } else if (!listener.difference(difference)) {
+                stopped = true;
+            }
+        }
+
+        private void compareValues(Node node) {
+            if (!valuesEqual(node.expected, node.actual)) {
+                add(new Difference(node, null, null, null));
+            }
+        }
+
+        /**
+         * @return true if the children of the node should be compared.
+         */
+        private boolean descend(Node node) {
+            if (node.depth >= maxDepth) {
+                uncompared++;
+                return false;
+            }
+            return visited.add(new Pair(node.expected, node.actual));
+        }
+
+        private void compareFields(Node node, Class<?> type) {
+            if (!descend(node)) {
+                return;
+            }
+            final ClassLayout layout = reflections.getClassLayout(type);
+            final Node[] children = new Node[layout.size()];
+            for (int i = 0; i < children.length; i++) {
+                final FieldAccessor accessor = layout.getAccessor(i);
+                try {
+                    final Object expected = accessor.get(node.expected);
+                    children[i] = new Node(node, layout.getName(i), expected, accessor.get(node.actual));
+                } catch (NoSuchFieldException | IllegalAccessException e) {
+                    // A class whose fields can't all be read (e.g. one in a module that isn't open) decides for itself.
+                    compareValues(node);
+                    return;
+                }
+            }
+            for (int i = children.length - 1; i >= 0; i--) {
+                stack.push(children[i]);
+            }
+        }
+
+        private void compareArrays(Node node, Class<?> type) {
+            final int length = Array.getLength(node.expected);
+            if (length != Array.getLength(node.actual)) {
+                add(sizeDifference(node, length, Array.getLength(node.actual), "elements"));
+                return;
+            }
+            if (type.getComponentType().isPrimitive()) {
+                comparePrimitiveArrays(node, length);
+                return;
+            }
+            if (!descend(node)) {
+                return;
+            }
+            final Object[] expected = (Object[]) node.expected;
+            final Object[] actual = (Object[]) node.actual;
+            for (int i = length - 1; i >= 0; i--) {
+                stack.push(new Node(node, "[" + i + "]", expected[i], actual[i]));
+            }
+        }
+
+        /**
+         * Primitive elements are only read one at a time if the arrays aren't exactly equal.
+         */
+        private void comparePrimitiveArrays(Node node, int length) {
+            if (numericTolerance == 0 && primitiveArraysEqual(node.expected, node.actual)) {
+                return;
+            }
+            if (node.depth >= maxDepth) {
+                uncompared++;
+                return;
+            }
+            int i = 0;
+            for (; i < length && !stopped; i++) {
+                final Object expected = Array.get(node.expected, i);
+                final Object actual = Array.get(node.actual, i);
+                if (!valuesEqual(expected, actual)) {
+                    add(new Difference(new Node(node, "[" + i + "]", expected, actual), null, null, null));
+                }
+            }
+            // Look for one more differing element so a stop on the last difference isn't reported as unfinished.
+            for (; i < length && !unfinished; i++) {
+                unfinished = !valuesEqual(Array.get(node.expected, i), Array.get(node.actual, i));
+            }
+        }
+
+        private void compareCollections(Node node, Collection<?> expected, Collection<?> actual) {
+            if (expected.size() != actual.size()) {
+                add(sizeDifference(node, expected.size(), actual.size(), "elements"));
+                return;
+            }
+            if (!descend(node)) {
+                return;
+            }
+            if (expected instanceof List && expected instanceof RandomAccess && actual instanceof RandomAccess) {
+                final List<?> expectedList = (List<?>) expected;
+                final List<?> actualList = (List<?>) actual;
+                for (int i = expectedList.size() - 1; i >= 0; i--) {
+                    stack.push(new Node(node, "[" + i + "]", expectedList.get(i), actualList.get(i)));
+                }
+                return;
+            }
+            final Object[] expectedElements = expected.toArray();
+            final Object[] actualElements = actual.toArray();
+            for (int i = expectedElements.length - 1; i >= 0; i--) {
+                stack.push(new Node(node, "[" + i + "]", expectedElements[i], actualElements[i]));
+            }
+        }
+
+        private void compareMaps(Node node, Map<?, ?> expected, Map<?, ?> actual) {
+            if (expected.size() != actual.size()) {
+                add(sizeDifference(node, expected.size(), actual.size(), "entries"));
+                return;
+            }
+            if (!descend(node)) {
+                return;
+            }
+            final List<Node> entries = new ArrayList<>(expected.size());
+            for (Map.Entry<?, ?> entry : expected.entrySet()) {
+                final Object key = entry.getKey();
+                final Node child = new Node(node, "[" + key + "]", entry.getValue(), actual.get(key));
+                if (child.actual == null && !actual.containsKey(key)) {
+                    add(new Difference(child, "was missing", null, "missing"));
+                } else {
+                    entries.add(child);
+                }
+            }
+            for (int i = entries.size() - 1; i >= 0; i--) {
+                stack.push(entries.get(i));
+            }
+        }
+
+        private Difference sizeDifference(Node node, int expected, int actual, String things) {
+            return new Difference(
+                node,
+                "expected " + expected + " " + things + " but had " + actual,
+                expected + " " + things,
+                actual + " " + things
+            );
+        }
+    }
+
+    /**
+     * A position within both object graphs, the path to it is only built if there is a difference.
+     */
+    static class Node {
+
+        private final Node parent;
+        private final String segment;
+        private final int depth;
+        private final Object expected;
+        private final Object actual;
+
+        private Node(Node parent, String segment, Object expected, Object actual) {
+            this.parent = parent;
+            this.segment = segment;
+            this.depth = parent == null ? 0 : parent.depth + 1;
+            this.expected = expected;
+            this.actual = actual;
+        }
+
+        Object getExpected() {
+            return expected;
+        }
+
+        Object getActual() {
+            return actual;
+        }
+
+        /**
+         * @return the segments of the path from the root to this node, the root itself has none.
+         */
+        String[] getSegments() {
+            final String[] segments = new String[depth];
+            Node current = this;
+            for (int i = depth - 1; i >= 0; i--) {
+                segments[i] = current.segment;
+                current = current.parent;
+            }
+            return segments;
+        }
+
+        String getPath() {
+            if (parent == null) {
+                return "the root";
+            }
+            final StringBuilder path = new StringBuilder();
+            for (String segment : getSegments()) {
+                if (path.length() > 0 && !segment.startsWith("[")) {
+                    path.append('.');
+                }
+                path.append(segment);
+            }
+            return path.toString();
+        }
+    }
+
+    /**
+     * A difference between the two graphs. If there is no reason the values at the node differ, otherwise the reason
+     * explains the difference and the summaries stand in for the values (a null summary means the value itself).
+     */
+    static class Difference {
+
+        private final Node node;
+        private final String reason;
+        private final String expectedSummary;
+        private final String actualSummary;
+
+        private Difference(Node node, String reason, String expectedSummary, String actualSummary) {
+            this.node = node;
+            this.reason = reason;
+            this.expectedSummary = expectedSummary;
+            this.actualSummary = actualSummary;
+        }
+
+        Node getNode() {
+            return node;
+        }
+
+        String getReason() {
+            return reason;
+        }
+
+        String describeExpected(int maxLength) {
+            return expectedSummary == null ? describeValue(node.expected, maxLength) : expectedSummary;
+        }
+
+        String describeActual(int maxLength) {
+            return actualSummary == null ? describeValue(node.actual, maxLength) : actualSummary;
+        }
+    }
+
+    /**
+     * A pair of objects that are compared by identity.
+     */
+    private static class Pair {
+
+        private final Object expected;
+        private final Object actual;
+
+        private Pair(Object expected, Object actual) {
+            this.expected = expected;
+            this.actual = actual;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof Pair)) {
+                return false;
+            }
+            final Pair that = (Pair) object;
+            return expected == that.expected && actual == that.actual;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(expected) + System.identityHashCode(actual);
+        }
+    }
+}
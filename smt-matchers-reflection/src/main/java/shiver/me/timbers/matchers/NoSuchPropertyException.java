@@ -30,7 +30,7 @@ public class NoSuchPropertyException extends ReflectiveOperationException {
     private final Object errorObject;
 
     public NoSuchPropertyException(String property, int index, Object original, Object error, Throwable e) {
-        this(property, property.split("\\."), index, original, error, e);
+        this(property, PropertyPath.split(property), index, original, error, e);
     }
 
     public NoSuchPropertyException(String property, String[] fieldNames, int index, Object original, Object error, Throwable e) {
@@ -63,6 +63,13 @@ public class NoSuchPropertyException extends ReflectiveOperationException {
     }
 
     private static String buildMessage(String[] fieldNames, int index, Object original, Object error) {
+        if (error == null) {
+            return format(
+                "For class %s, property (%s) is invalid because the value before it is null.",
+                original.getClass().getName(),
+                buildMarkedProperty(fieldNames, index)
+            );
+        }
         return format(
             "For class %s, property (%s) is invalid in composite class %s.",
             original.getClass().getName(),
@@ -72,10 +79,17 @@ public class NoSuchPropertyException extends ReflectiveOperationException {
     }
 
     private static String buildMarkedProperty(String[] fieldNames, int index) {
-        final StringBuilder builder = new StringBuilder(fieldNames[0]);
-        for (int i = 1; i < fieldNames.length; i++) {
-            if (i != index) builder.append('.').append(fieldNames[i]);
-            else builder.append(".[").append(fieldNames[i]).append(']');
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (ElementAccessor.isElement(fieldNames[i])) {
+                if (i != index) builder.append(fieldNames[i]);
+                else builder.append('[').append(fieldNames[i]).append(']');
+            } else if (i == 0) {
+                builder.append(fieldNames[i]);
+            } else {
+                if (i != index) builder.append('.').append(fieldNames[i]);
+                else builder.append(".[").append(fieldNames[i]).append(']');
+            }
         }
         return builder.toString();
     }
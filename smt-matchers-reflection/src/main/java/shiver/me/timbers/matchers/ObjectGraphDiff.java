@@ -0,0 +1,247 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Lists the differences between two object graphs as {@code path: expected -> actual} entries, where the path marks
+ * the segment that differs by wrapping it in brackets (e.g. "[id]", "customer.[name]", or "orders[3].lines[[1]]").
+ * Both graphs are walked once, and the walk stops as soon as the maximum number of entries has been found so a large
+ * graph with many differences is never compared in full. Objects deeper than the maximum depth are counted instead of
+ * compared, and only JDK value types are rendered, cut off at the maximum value length.
+ * <p>
+ * The graphs are compared in the same way as the {@link DeepEqualsMatcher}.
+ *
+ * @author Karl Bennett
+ */
+public class ObjectGraphDiff {
+
+    static final int DEFAULT_MAX_DEPTH = 64;
+    static final int DEFAULT_MAX_ENTRIES = 100;
+    static final int DEFAULT_MAX_VALUE_LENGTH = 100;
+
+    private final Reflections reflections;
+    private final List<String> ignored;
+    private final int maxDepth;
+    private final int maxEntries;
+    private final int maxValueLength;
+    private final GraphComparison comparison;
+
+    public ObjectGraphDiff() {
+        this(
+            new Reflections(),
+            Collections.<String>emptyList(),
+            DEFAULT_MAX_DEPTH,
+            DEFAULT_MAX_ENTRIES,
+            DEFAULT_MAX_VALUE_LENGTH
+        );
+    }
+
+    ObjectGraphDiff(Reflections reflections, List<String> ignored, int maxDepth, int maxEntries, int maxValueLength) {
+        if (maxDepth < 0) {
+            throw new IllegalArgumentException("The maximum depth must not be negative.");
+        }
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("At least one difference must be listed.");
+        }
+        if (maxValueLength < 1) {
+            throw new IllegalArgumentException("The maximum value length must be greater than zero.");
+        }
+        this.reflections = reflections;
+        this.ignored = ignored;
+        this.maxDepth = maxDepth;
+        this.maxEntries = maxEntries;
+        this.maxValueLength = maxValueLength;
+        this.comparison = new GraphComparison(reflections, ignored, 0, 0, null, maxDepth);
+    }
+
+    /**
+     * Don't compare the values of the supplied properties (e.g. "customer.id" or "lines[*].id"), a "[*]" segment will
+     * match any index or key.
+     */
+    public ObjectGraphDiff ignoring(String... properties) {
+        final List<String> ignoring = new ArrayList<>(ignored);
+        ignoring.addAll(Arrays.asList(properties));
+        return new ObjectGraphDiff(reflections, ignoring, maxDepth, maxEntries, maxValueLength);
+    }
+
+    /**
+     * Set the number of segments a path can have, objects any deeper are not compared.
+     */
+    public ObjectGraphDiff withMaxDepth(int maxDepth) {
+        return new ObjectGraphDiff(reflections, ignored, maxDepth, maxEntries, maxValueLength);
+    }
+
+    /**
+     * Set the number of differences after which the comparison will stop.
+     */
+    public ObjectGraphDiff withMaxEntries(int maxEntries) {
+        return new ObjectGraphDiff(reflections, ignored, maxDepth, maxEntries, maxValueLength);
+    }
+
+    /**
+     * Set the number of characters after which a rendered value will be cut off.
+     */
+    public ObjectGraphDiff withMaxValueLength(int maxValueLength) {
+        return new ObjectGraphDiff(reflections, ignored, maxDepth, maxEntries, maxValueLength);
+    }
+
+    /**
+     * Compare the two object graphs and collect the differences.
+     */
+    public Report diff(Object expected, Object actual) {
+        return diff(expected, actual, new Consumer<Entry>() {
+            @Override
+            public void accept(Entry entry) {
+            }
+        });
+    }
+
+    /**
+     * Compare the two object graphs, each difference is passed to the consumer as soon as it is found as well as being
+     * collected into the report.
+     */
+    public Report diff(Object expected, Object actual, final Consumer<? super Entry> consumer) {
+        final List<Entry> entries = new ArrayList<>();
+        final GraphComparison.Walk walk = comparison.compare(expected, actual, new GraphComparison.Listener() {
+            @Override
+            public boolean difference(GraphComparison.Difference difference) {
+                final Entry entry = new Entry(
+                    markPath(difference.getNode().getSegments()),
+                    difference.describeExpected(maxValueLength),
+                    difference.describeActual(maxValueLength)
+                );
+                entries.add(entry);
+                consumer.accept(entry);
+                return entries.size() < maxEntries;
+            }
+        });
+        return new Report(Collections.unmodifiableList(entries), walk.isStopped(), walk.getUncompared(), maxDepth);
+    }
+
+    /**
+     * Wrap the last segment in brackets, e.g. "[id]", "customer.[name]", or "orders[3].lines[[1]]".
+     */
+    private static String markPath(String[] segments) {
+        final StringBuilder path = new StringBuilder();
+        for (int i = 0; i < segments.length; i++) {
+            if (i > 0 && !ElementAccessor.isElement(segments[i])) {
+                path.append('.');
+            }
+            if (i == segments.length - 1) {
+                path.append('[').append(segments[i]).append(']');
+            } else {
+                path.append(segments[i]);
+            }
+        }
+        return path.toString();
+    }
+
+    /**
+     * A single difference, the path is empty if the roots of the graphs differ.
+     */
+    public static class Entry {
+
+        private final String path;
+        private final String expected;
+        private final String actual;
+
+        Entry(String path, String expected, String actual) {
+            this.path = path;
+            this.expected = expected;
+            this.actual = actual;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public String getExpected() {
+            return expected;
+        }
+
+        public String getActual() {
+            return actual;
+        }
+
+        @Override
+        public String toString() {
+            return (path.isEmpty() ? "the root" : path) + ": " + expected + " -> " + actual;
+        }
+    }
+
+    /**
+     * The differences that were found, along with whether the comparison was cut short.
+     */
+    public static class Report {
+
+        private final List<Entry> entries;
+        private final boolean truncated;
+        private final int uncompared;
+        private final int maxDepth;
+
+        Report(List<Entry> entries, boolean truncated, int uncompared, int maxDepth) {
+            this.entries = entries;
+            this.truncated = truncated;
+            this.uncompared = uncompared;
+            this.maxDepth = maxDepth;
+        }
+
+        public List<Entry> getEntries() {
+            return entries;
+        }
+
+        public boolean hasDifferences() {
+            return !entries.isEmpty();
+        }
+
+        /**
+         * @return true if the comparison stopped at the maximum number of entries before both graphs were compared.
+         */
+        public boolean isTruncated() {
+            return truncated;
+        }
+
+        /**
+         * @return the number of objects that were not compared because they were deeper than the maximum depth.
+         */
+        public int getUncompared() {
+            return uncompared;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder report = new StringBuilder();
+            for (Entry entry : entries) {
+                report.append(entry).append('\n');
+            }
+            if (truncated) {
+                report.append("stopped after ").append(entries.size()).append(" differences\n");
+            }
+            if (uncompared > 0) {
+                report.append(uncompared).append(" objects deeper than ").append(maxDepth)
+                    .append(" were not compared\n");
+            }
+            return report.toString();
+        }
+    }
+}
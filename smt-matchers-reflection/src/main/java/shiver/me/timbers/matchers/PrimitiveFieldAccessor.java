@@ -0,0 +1,164 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * A resolved way of reading a primitive field from instances of a single class without boxing its value. The field can
+ * be read as any primitive type that it can be widened to, e.g. an {@code int} field can also be read as a
+ * {@code long} or a {@code double}.
+ *
+ * @author Karl Bennett
+ */
+class PrimitiveFieldAccessor {
+
+    static PrimitiveFieldAccessor missing(String name, Class<?> type) {
+        return new PrimitiveFieldAccessor(name, type, false, null);
+    }
+
+    static PrimitiveFieldAccessor inaccessible(String name, Class<?> type) {
+        return new PrimitiveFieldAccessor(name, type, true, null);
+    }
+
+    static PrimitiveFieldAccessor of(Field field) throws IllegalAccessException {
+        final MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+        return new PrimitiveFieldAccessor(
+            field.getName(),
+            field.getDeclaringClass(),
+            true,
+            Modifier.isStatic(field.getModifiers()) ? MethodHandles.dropArguments(getter, 0, Object.class) : getter
+        );
+    }
+
+    private final String name;
+    private final Class<?> type;
+    private final boolean exists;
+    private final Class<?> fieldType;
+    private final MethodHandle intGetter;
+    private final MethodHandle longGetter;
+    private final MethodHandle doubleGetter;
+    private final MethodHandle booleanGetter;
+
+    private PrimitiveFieldAccessor(String name, Class<?> type, boolean exists, MethodHandle getter) {
+        this.name = name;
+        this.type = type;
+        this.exists = exists;
+        this.fieldType = getter == null ? null : getter.type().returnType();
+        this.intGetter = convert(getter, int.class);
+        this.longGetter = convert(getter, long.class);
+        this.doubleGetter = convert(getter, double.class);
+        this.booleanGetter = convert(getter, boolean.class);
+    }
+
+    private static MethodHandle convert(MethodHandle getter, Class<?> primitive) {
+        if (getter == null || !getter.type().returnType().isPrimitive()) {
+            return null;
+        }
+        try {
+            return getter.asType(methodType(primitive, Object.class));
+        } catch (WrongMethodTypeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the type of the field, or null if it doesn't exist or can't be read.
+     */
+    Class<?> getFieldType() {
+        return fieldType;
+    }
+
+    /**
+     * @return true if the field can be read as the supplied primitive type.
+     */
+    boolean canRead(Class<?> primitive) {
+        return getter(primitive) != null;
+    }
+
+    int getInt(Object object) throws NoSuchFieldException, IllegalAccessException {
+        try {
+            return (int) checked(intGetter).invokeExact(object);
+        } catch (NoSuchFieldException | IllegalAccessException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    long getLong(Object object) throws NoSuchFieldException, IllegalAccessException {
+        try {
+            return (long) checked(longGetter).invokeExact(object);
+        } catch (NoSuchFieldException | IllegalAccessException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    double getDouble(Object object) throws NoSuchFieldException, IllegalAccessException {
+        try {
+            return (double) checked(doubleGetter).invokeExact(object);
+        } catch (NoSuchFieldException | IllegalAccessException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    boolean getBoolean(Object object) throws NoSuchFieldException, IllegalAccessException {
+        try {
+            return (boolean) checked(booleanGetter).invokeExact(object);
+        } catch (NoSuchFieldException | IllegalAccessException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MethodHandle getter(Class<?> primitive) {
+        if (primitive == int.class) {
+            return intGetter;
+        }
+        if (primitive == long.class) {
+            return longGetter;
+        }
+        if (primitive == double.class) {
+            return doubleGetter;
+        }
+        if (primitive == boolean.class) {
+            return booleanGetter;
+        }
+        return null;
+    }
+
+    private MethodHandle checked(MethodHandle getter) throws NoSuchFieldException, IllegalAccessException {
+        if (!exists) {
+            throw new NoSuchFieldException(type.getName() + "." + name);
+        }
+        if (getter == null) {
+            throw new IllegalAccessException(type.getName() + "." + name);
+        }
+        return getter;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+
+/**
+ * Matches the value of a primitive field with a given name within an object. The field is read with a getter that
+ * returns the primitive type and is compared directly, so unlike {@link FieldMatcher} no value is boxed when the field
+ * matches.
+ *
+ * @author Karl Bennett
+ */
+public abstract class PrimitiveFieldMatcher<T> extends DescribingMatcher<T> {
+
+    /**
+     * Check the that the named {@code int} field equals the expected value.
+     */
+    @Factory
+    public static <T> PrimitiveFieldMatcher<T> hasIntField(String fieldName, final int expected) {
+        return new PrimitiveFieldMatcher<T>(new Reflections(), fieldName, int.class) {
+            @Override
+            boolean matchesField(PrimitiveFieldAccessor accessor, Object actual)
+                throws NoSuchFieldException, IllegalAccessException {
+                final int value = accessor.getInt(actual);
+                return value == expected;
+            }
+
+            @Override
+            void describeField(PrimitiveFieldAccessor accessor, Object actual, Description description)
+                throws NoSuchFieldException, IllegalAccessException {
+                description.appendValue(accessor.getInt(actual));
+            }
+
+            @Override
+            void describeExpected(Description description) {
+                description.appendValue(expected);
+            }
+        };
+    }
+
+    /**
+     * Check the that the named {@code long} field, or any field that can be widened to a {@code long}, equals the
+     * expected value.
+     */
+    @Factory
+    public static <T> PrimitiveFieldMatcher<T> hasLongField(String fieldName, final long expected) {
+        return new PrimitiveFieldMatcher<T>(new Reflections(), fieldName, long.class) {
+            @Override
+            boolean matchesField(PrimitiveFieldAccessor accessor, Object actual)
+                throws NoSuchFieldException, IllegalAccessException {
+                final long value = accessor.getLong(actual);
+                return value == expected;
+            }
+
+            @Override
+            void describeField(PrimitiveFieldAccessor accessor, Object actual, Description description)
+                throws NoSuchFieldException, IllegalAccessException {
+                description.appendValue(accessor.getLong(actual));
+            }
+
+            @Override
+            void describeExpected(Description description) {
+                description.appendValue(expected);
+            }
+        };
+    }
+
+    /**
+     * Check the that the named {@code double} field, or any field that can be widened to a {@code double}, equals the
+     * expected value.
+     */
+    @Factory
+    public static <T> PrimitiveFieldMatcher<T> hasDoubleField(String fieldName, double expected) {
+        return hasDoubleFieldCloseTo(fieldName, expected, 0);
+    }
+
+    /**
+     * Check the that the named {@code double} field, or any field that can be widened to a {@code double}, is within
+     * the error of the expected value.
+     */
+    @Factory
+    public static <T> PrimitiveFieldMatcher<T> hasDoubleFieldCloseTo(
+        String fieldName,
+        final double expected,
+        final double error
+    ) {
+        return new PrimitiveFieldMatcher<T>(new Reflections(), fieldName, double.class) {
+            @Override
+            boolean matchesField(PrimitiveFieldAccessor accessor, Object actual)
+                throws NoSuchFieldException, IllegalAccessException {
+                final double value = accessor.getDouble(actual);
+                return Double.compare(value, expected) == 0 || Math.abs(value - expected) <= error;
+            }
+
+            @Override
+            void describeField(PrimitiveFieldAccessor accessor, Object actual, Description description)
+                throws NoSuchFieldException, IllegalAccessException {
+                description.appendValue(accessor.getDouble(actual));
+            }
+
+            @Override
+            void describeExpected(Description description) {
+                if (error == 0) {
+                    description.appendValue(expected);
+                    return;
+                }
+                description.appendText("a numeric value within ").appendValue(error).appendText(" of ")
+                    .appendValue(expected);
+            }
+        };
+    }
+
+    /**
+     * Check the that the named {@code boolean} field equals the expected value.
+     */
+    @Factory
+    public static <T> PrimitiveFieldMatcher<T> hasBooleanField(String fieldName, final boolean expected) {
+        return new PrimitiveFieldMatcher<T>(new Reflections(), fieldName, boolean.class) {
+            @Override
+            boolean matchesField(PrimitiveFieldAccessor accessor, Object actual)
+                throws NoSuchFieldException, IllegalAccessException {
+                final boolean value = accessor.getBoolean(actual);
+                return value == expected;
+            }
+
+            @Override
+            void describeField(PrimitiveFieldAccessor accessor, Object actual, Description description)
+                throws NoSuchFieldException, IllegalAccessException {
+                description.appendValue(accessor.getBoolean(actual));
+            }
+
+            @Override
+            void describeExpected(Description description) {
+                description.appendValue(expected);
+            }
+        };
+    }
+
+    private final Reflections reflections;
+    private final String fieldName;
+    private final Class<?> primitive;
+
+    PrimitiveFieldMatcher(Reflections reflections, String fieldName, Class<?> primitive) {
+        this.reflections = reflections;
+        this.fieldName = fieldName;
+        this.primitive = primitive;
+    }
+
+    /**
+     * Read the field as the primitive type and compare it to the expected value.
+     */
+    abstract boolean matchesField(PrimitiveFieldAccessor accessor, Object actual)
+        throws NoSuchFieldException, IllegalAccessException;
+
+    abstract void describeField(PrimitiveFieldAccessor accessor, Object actual, Description description)
+        throws NoSuchFieldException, IllegalAccessException;
+
+    abstract void describeExpected(Description description);
+
+    @Override
+    protected boolean matchesSafely(T actual, Description mismatchDescription) {
+        final String className = actual.getClass().getName();
+        final PrimitiveFieldAccessor accessor = reflections.getPrimitiveFieldAccessor(fieldName, actual.getClass());
+        try {
+            if (matchesField(accessor, actual)) {
+                return true;
+            }
+            mismatchDescription.appendText("the field in class ").appendText(className).appendText(" was ");
+            describeField(accessor, actual, mismatchDescription);
+            mismatchDescription.appendText(".");
+            return false;
+        } catch (NoSuchFieldException e) {
+            mismatchDescription.appendText("the field does not exist in class ").appendText(className)
+                .appendText(".");
+            return false;
+        } catch (IllegalAccessException e) {
+            if (accessor.getFieldType() == null) {
+                mismatchDescription.appendText("the field is inaccessible in class ").appendText(className)
+                    .appendText(".");
+                return false;
+            }
+            mismatchDescription.appendText("the field is ").appendText(withArticle(accessor.getFieldType()))
+                .appendText(" not ").appendText(withArticle(primitive)).appendText(" in class ")
+                .appendText(className).appendText(".");
+            return false;
+        }
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("an object with ").appendText(withArticle(primitive)).appendText(" field named ")
+            .appendText(fieldName).appendText(" that is ");
+        describeExpected(description);
+    }
+
+    private static String withArticle(Class<?> type) {
+        final String name = type.getName();
+        return ("aeiou".indexOf(name.charAt(0)) < 0 ? "a " : "an ") + name;
+    }
+}
@@ -20,10 +20,15 @@ import org.hamcrest.Description;
 import org.hamcrest.Factory;
 import org.hamcrest.Matcher;
 
+import static java.lang.String.format;
 import static org.hamcrest.CoreMatchers.equalTo;
 
 /**
- * Matches the value of a given property (e.g. "one.two.three") that starts within an object.
+ * Matches the value of a given property (e.g. "one.two.three") that starts within an object. Each segment is read with
+ * a record component accessor, a public getter, or a field, whichever is found first, a getter that throws is a
+ * mismatch. A bracketed segment (e.g. "orders[3]" or "attributes[region]") reads an element of a
+ * {@link java.util.List}, an array, or a {@link java.util.Map}. A "[*]" wildcard is rejected, the values it leads to
+ * are matched with a {@link PropertyValuesMatcher}.
  *
  * @author Karl Bennett
  */
@@ -31,6 +36,7 @@ public class PropertyMatcher<T> extends DescribingMatcher<T> {
 
     private final Reflections reflections;
     private final String property;
+    private final PropertyPath path;
     private final Matcher matcher;
 
     /**
@@ -52,56 +58,57 @@ public class PropertyMatcher<T> extends DescribingMatcher<T> {
         this(new Reflections(), property, matcher);
     }
 
+    /**
+     * Read the property with the supplied strategy (e.g. {@link FieldAccess#GENERATED}) instead of the default.
+     */
+    public PropertyMatcher(String property, Matcher matcher, FieldAccessStrategy strategy) {
+        this(new Reflections(strategy), property, matcher);
+    }
+
     PropertyMatcher(Reflections reflections, String property, Matcher matcher) {
         this.reflections = reflections;
         this.property = property;
+        this.path = new PropertyPath(property);
+        if (path.hasWildcard()) {
+            throw new IllegalArgumentException(format(
+                "The property (%s) has a %s wildcard, use everyValue or anyValue to match its values.",
+                property,
+                PropertyPath.WILDCARD
+            ));
+        }
         this.matcher = matcher;
     }
 
     @Override
-    protected boolean matchesSafely(T actual) {
+    protected boolean matchesSafely(T actual, Description mismatchDescription) {
+        final Object value;
         try {
-            describeFailedMatcher(actual);
-            return matcher.matches(reflections.getPropertyValue(property, actual));
+            value = reflections.getPropertyValue(path, actual);
         } catch (NoSuchPropertyException e) {
-            describeMissingProperty(actual, e);
+            describeInvalidProperty(e, mismatchDescription);
+            return false;
+        }
+        if (matcher.matches(value)) {
+            return true;
         }
+        mismatchDescription.appendText("the property value in class ").appendText(actual.getClass().getName())
+            .appendText(" does not match.");
         return false;
     }
 
-    private void describeFailedMatcher(final T actual) {
-        assignDescribers(
-            new DescribeTo() {
-                public void describeTo(Description description) {
-                    description.appendText("class ").appendText(actual.getClass().getName())
-                        .appendText(" to contain the property ").appendText(property).appendText(" that is ")
-                        .appendDescriptionOf(matcher);
-                }
-            },
-            new DescribeMismatch() {
-                @Override
-                public void describeMismatch(Description description) {
-                    description.appendText("the property value does not match.");
-                }
-            }
-        );
+    static void describeInvalidProperty(NoSuchPropertyException e, Description mismatchDescription) {
+        final Description invalid = mismatchDescription.appendText("the property was invalid at ")
+            .appendText(e.getMarkedProperty());
+        if (e.getErrorObject() == null) {
+            invalid.appendText(" because the value before it was null.");
+            return;
+        }
+        invalid.appendText(" in class ").appendText(e.getErrorObject().getClass().getName()).appendText(".");
     }
 
-    private void describeMissingProperty(final T actual, final NoSuchPropertyException e) {
-        assignDescribers(
-            new DescribeTo() {
-                public void describeTo(Description description) {
-                    description.appendText("class ").appendText(actual.getClass().getName())
-                        .appendText(" to contain the property ").appendText(property).appendText(".");
-                }
-            },
-            new DescribeMismatch() {
-                @Override
-                public void describeMismatch(Description description) {
-                    description.appendText("the property was invalid at ").appendText(e.getMarkedProperty())
-                        .appendText(" in class ").appendText(e.getErrorObject().getClass().getName()).appendText(".");
-                }
-            }
-        );
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("an object with the property ").appendText(property).appendText(" that is ")
+            .appendDescriptionOf(matcher);
     }
 }
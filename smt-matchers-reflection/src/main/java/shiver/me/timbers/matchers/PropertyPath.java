@@ -0,0 +1,160 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.lang.String.format;
+
+/**
+ * A property (e.g. "one.two.three" or "orders[3].lines[0].sku") that has been parsed once so that it can be evaluated
+ * against many objects. Each segment remembers the field accessor it last resolved along with the class it was resolved
+ * for, so repeatedly evaluating the path against objects of the same shape doesn't need to look anything up. Bracketed
+ * segments don't depend on the class so their accessors are created when the property is parsed.
+ *
+ * @author Karl Bennett
+ */
+class PropertyPath {
+
+    static final String WILDCARD = "[*]";
+
+    /**
+     * Split a property into its segments, a bracketed segment keeps its brackets (e.g. "orders[3].sku" is split into
+     * "orders", "[3]", and "sku"). A property with an empty segment (e.g. "", "one.", or "one..two") is rejected.
+     */
+    static String[] split(String property) {
+        final List<String> names = new ArrayList<>();
+        int start = 0;
+        while (true) {
+            int end = start;
+            while (end < property.length() && property.charAt(end) != '.' && property.charAt(end) != '[') {
+                end++;
+            }
+            if (end == start && (end == property.length() || property.charAt(end) == '.')) {
+                throw new IllegalArgumentException(format("The property (%s) has an empty segment.", property));
+            }
+            if (end > start) {
+                names.add(property.substring(start, end));
+            }
+            start = end;
+            while (start < property.length() && property.charAt(start) == '[') {
+                final int close = property.indexOf(']', start);
+                if (close < 0) {
+                    throw new IllegalArgumentException(format("The property (%s) has an unclosed [.", property));
+                }
+                names.add(property.substring(start, close + 1));
+                start = close + 1;
+            }
+            if (start == property.length()) {
+                return names.toArray(new String[names.size()]);
+            }
+            if (property.charAt(start) != '.') {
+                throw new IllegalArgumentException(format("The property (%s) must have a . after a ].", property));
+            }
+            start++;
+        }
+    }
+
+    private final String property;
+    private final String[] names;
+    private final FieldAccessor[] elements;
+    private final boolean[] wildcards;
+    private final boolean hasWildcard;
+    private final AtomicReferenceArray<Binding> bindings;
+
+    PropertyPath(String property) {
+        this.property = property;
+        this.names = split(property);
+        this.elements = new FieldAccessor[names.length];
+        this.wildcards = new boolean[names.length];
+        boolean wildcard = false;
+        for (int i = 0; i < names.length; i++) {
+            if (WILDCARD.equals(names[i])) {
+                wildcards[i] = true;
+                wildcard = true;
+            } else if (ElementAccessor.isElement(names[i])) {
+                elements[i] = new ElementAccessor(names[i]);
+            }
+        }
+        this.hasWildcard = wildcard;
+        this.bindings = new AtomicReferenceArray<>(names.length);
+    }
+
+    String getProperty() {
+        return property;
+    }
+
+    String[] getNames() {
+        return names;
+    }
+
+    int size() {
+        return names.length;
+    }
+
+    /**
+     * @return true if the segment is a "[*]" that stands for every element of a collection, array, or map.
+     */
+    boolean isWildcard(int index) {
+        return wildcards[index];
+    }
+
+    boolean hasWildcard() {
+        return hasWildcard;
+    }
+
+    FieldAccessor getFieldAccessor(Reflections reflections, int index, Class<?> type) {
+        if (elements[index] != null) {
+            return elements[index];
+        }
+        final Binding binding = bindings.get(index);
+        if (binding != null && binding.type == type) {
+            return binding.accessor;
+        }
+        final FieldAccessor accessor = reflections.getPropertyAccessor(names[index], type);
+        bindings.set(index, new Binding(type, accessor));
+        return accessor;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        return this == object || object instanceof PropertyPath && property.equals(((PropertyPath) object).property);
+    }
+
+    @Override
+    public int hashCode() {
+        return property.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return property;
+    }
+
+    private static class Binding {
+
+        private final Class<?> type;
+        private final FieldAccessor accessor;
+
+        private Binding(Class<?> type, FieldAccessor accessor) {
+            this.type = type;
+            this.accessor = accessor;
+        }
+    }
+}
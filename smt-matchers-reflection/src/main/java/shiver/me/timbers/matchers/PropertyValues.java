@@ -0,0 +1,402 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Lazily visits every value that a property with wildcard segments (e.g. "orders[*].lines[*].price") leads to. The
+ * object graph is walked depth first with one frame for each wildcard that is currently being iterated, so no
+ * intermediate collections are built and the walk can stop as soon as the caller has seen enough values.
+ * <p>
+ * A wildcard over an array or a {@link RandomAccess} {@link List} can be split so that the values can be visited by a
+ * parallel stream. The values aren't reported in any particular order.
+ *
+ * @author Karl Bennett
+ */
+class PropertyValues implements Spliterator<Object> {
+
+    private static final Object EXPANDED = new Object();
+
+    private final Reflections reflections;
+    private final PropertyPath path;
+    private final Object original;
+    private final Deque<Frame> frames;
+    private Object root;
+
+    PropertyValues(Reflections reflections, PropertyPath path, Object original) {
+        this(reflections, path, original, original, new ArrayDeque<Frame>());
+    }
+
+    private PropertyValues(
+        Reflections reflections,
+        PropertyPath path,
+        Object original,
+        Object root,
+        Deque<Frame> frames
+    ) {
+        this.reflections = reflections;
+        this.path = path;
+        this.original = original;
+        this.root = root;
+        this.frames = frames;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Object> action) {
+        if (root != EXPANDED) {
+            final Object value = root;
+            root = EXPANDED;
+            if (descend(0, value, action)) {
+                return true;
+            }
+        }
+        while (!frames.isEmpty()) {
+            final Frame frame = frames.peekLast();
+            if (!frame.hasNext()) {
+                frames.removeLast();
+                continue;
+            }
+            if (descend(frame.segment + 1, frame.next(), action)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Read the segments of the property from the supplied index until a wildcard is reached, which is then pushed as a
+     * new frame, or the end of the property is reached, which is then passed to the action.
+     */
+    private boolean descend(int start, Object value, Consumer<? super Object> action) {
+        Object current = value;
+        for (int index = start; index < path.size(); index++) {
+            if (path.isWildcard(index)) {
+                frames.addLast(frameFor(index, current));
+                return false;
+            }
+            current = read(index, current);
+        }
+        action.accept(current);
+        return true;
+    }
+
+    private Object read(int index, Object value) {
+        try {
+            return reflections.getFieldValueForProperty(path, index, original, value);
+        } catch (NoSuchPropertyException e) {
+            throw new InvalidPropertyException(e);
+        }
+    }
+
+    private Frame frameFor(int segment, Object value) {
+        if (value instanceof Object[]) {
+            return new ArrayFrame(segment, (Object[]) value, 0, ((Object[]) value).length);
+        }
+        if (value instanceof List && value instanceof RandomAccess) {
+            return new ListFrame(segment, (List<?>) value, 0, ((List<?>) value).size());
+        }
+        if (value instanceof Map) {
+            return new EntryFrame(segment, ((Map<?, ?>) value).entrySet().iterator());
+        }
+        if (value instanceof Iterable) {
+            return new IteratorFrame(segment, ((Iterable<?>) value).iterator());
+        }
+        if (value != null && value.getClass().isArray()) {
+            return new PrimitiveArrayFrame(segment, value, 0, Array.getLength(value));
+        }
+        throw new InvalidPropertyException(
+            new NoSuchPropertyException(
+                path.getProperty(),
+                path.getNames(),
+                segment,
+                original,
+                value,
+                value == null ? new NullPointerException("The value before [*] is null.")
+                    : new NoSuchFieldException(value.getClass().getName() + "[*]")
+            )
+        );
+    }
+
+    /**
+     * @return the property of the last value that was visited with each wildcard replaced by the index or key that led
+     * to it, e.g. "orders[2].lines[0].price".
+     */
+    String getVisitedProperty() {
+        final String[] names = path.getNames();
+        final Iterator<Frame> wildcards = frames.iterator();
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0 && !ElementAccessor.isElement(names[i])) {
+                builder.append('.');
+            }
+            if (path.isWildcard(i) && wildcards.hasNext()) {
+                builder.append('[').append(wildcards.next().getKey()).append(']');
+            } else {
+                builder.append(names[i]);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Split off the second half of the outer most wildcard that hasn't been finished yet.
+     */
+    @Override
+    public Spliterator<Object> trySplit() {
+        if (!path.hasWildcard()) {
+            return null;
+        }
+        if (root != EXPANDED) {
+            // A property with a wildcard will always push a frame before it reaches a value.
+            descend(0, root, null);
+            root = EXPANDED;
+        }
+        final Frame outer = frames.peekFirst();
+        if (outer == null) {
+            return null;
+        }
+        final Frame suffix = outer.split();
+        if (suffix == null) {
+            return null;
+        }
+        final Deque<Frame> splitFrames = new ArrayDeque<>();
+        splitFrames.add(suffix);
+        return new PropertyValues(reflections, path, original, EXPANDED, splitFrames);
+    }
+
+    @Override
+    public long estimateSize() {
+        final Frame outer = frames.peekFirst();
+        return outer == null ? Long.MAX_VALUE : outer.remaining();
+    }
+
+    @Override
+    public int characteristics() {
+        return 0;
+    }
+
+    /**
+     * A {@link NoSuchPropertyException} that can be thrown out of a stream.
+     */
+    static class InvalidPropertyException extends RuntimeException {
+
+        InvalidPropertyException(NoSuchPropertyException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized NoSuchPropertyException getCause() {
+            return (NoSuchPropertyException) super.getCause();
+        }
+    }
+
+    private abstract static class Frame {
+
+        final int segment;
+
+        private Frame(int segment) {
+            this.segment = segment;
+        }
+
+        abstract boolean hasNext();
+
+        abstract Object next();
+
+        abstract Object getKey();
+
+        /**
+         * @return a frame for the second half of the remaining values, or null if they can't be split.
+         */
+        Frame split() {
+            return null;
+        }
+
+        long remaining() {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private abstract static class RangeFrame extends Frame {
+
+        private int next;
+        private int end;
+
+        private RangeFrame(int segment, int next, int end) {
+            super(segment);
+            this.next = next;
+            this.end = end;
+        }
+
+        abstract Object get(int index);
+
+        abstract RangeFrame copy(int next, int end);
+
+        @Override
+        boolean hasNext() {
+            return next < end;
+        }
+
+        @Override
+        Object next() {
+            return get(next++);
+        }
+
+        @Override
+        Object getKey() {
+            return next - 1;
+        }
+
+        @Override
+        Frame split() {
+            if (end - next < 2) {
+                return null;
+            }
+            final int middle = (next + end) >>> 1;
+            final Frame suffix = copy(middle, end);
+            end = middle;
+            return suffix;
+        }
+
+        @Override
+        long remaining() {
+            return end - next;
+        }
+    }
+
+    private static class ArrayFrame extends RangeFrame {
+
+        private final Object[] array;
+
+        private ArrayFrame(int segment, Object[] array, int next, int end) {
+            super(segment, next, end);
+            this.array = array;
+        }
+
+        @Override
+        Object get(int index) {
+            return array[index];
+        }
+
+        @Override
+        RangeFrame copy(int next, int end) {
+            return new ArrayFrame(segment, array, next, end);
+        }
+    }
+
+    private static class PrimitiveArrayFrame extends RangeFrame {
+
+        private final Object array;
+
+        private PrimitiveArrayFrame(int segment, Object array, int next, int end) {
+            super(segment, next, end);
+            this.array = array;
+        }
+
+        @Override
+        Object get(int index) {
+            return Array.get(array, index);
+        }
+
+        @Override
+        RangeFrame copy(int next, int end) {
+            return new PrimitiveArrayFrame(segment, array, next, end);
+        }
+    }
+
+    private static class ListFrame extends RangeFrame {
+
+        private final List<?> list;
+
+        private ListFrame(int segment, List<?> list, int next, int end) {
+            super(segment, next, end);
+            this.list = list;
+        }
+
+        @Override
+        Object get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        RangeFrame copy(int next, int end) {
+            return new ListFrame(segment, list, next, end);
+        }
+    }
+
+    private static class IteratorFrame extends Frame {
+
+        private final Iterator<?> iterator;
+        private int index = -1;
+
+        private IteratorFrame(int segment, Iterator<?> iterator) {
+            super(segment);
+            this.iterator = iterator;
+        }
+
+        @Override
+        boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        Object next() {
+            index++;
+            return iterator.next();
+        }
+
+        @Override
+        Object getKey() {
+            return index;
+        }
+    }
+
+    private static class EntryFrame extends Frame {
+
+        private final Iterator<? extends Map.Entry<?, ?>> entries;
+        private Map.Entry<?, ?> entry;
+
+        private EntryFrame(int segment, Iterator<? extends Map.Entry<?, ?>> entries) {
+            super(segment);
+            this.entries = entries;
+        }
+
+        @Override
+        boolean hasNext() {
+            return entries.hasNext();
+        }
+
+        @Override
+        Object next() {
+            entry = entries.next();
+            return entry.getValue();
+        }
+
+        @Override
+        Object getKey() {
+            return entry.getKey();
+        }
+    }
+}
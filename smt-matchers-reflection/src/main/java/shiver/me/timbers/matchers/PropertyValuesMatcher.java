@@ -0,0 +1,164 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+
+import java.util.function.Consumer;
+import java.util.stream.StreamSupport;
+
+/**
+ * Matches the values that a property with wildcard segments (e.g. "orders[*].lines[*].price") leads to within an
+ * object. A "[*]" segment stands for every element of an array, {@link Iterable}, or the values of a
+ * {@link java.util.Map}. The values are visited lazily and the matching stops at the first value that decides the
+ * result.
+ *
+ * @author Karl Bennett
+ */
+public class PropertyValuesMatcher<T> extends DescribingMatcher<T> {
+
+    /**
+     * Check the that every value of the property (e.g. "orders[*].lines[*].price") is valid for the supplied matcher.
+     */
+    @Factory
+    public static <T> PropertyValuesMatcher<T> everyValue(String property, Matcher matcher) {
+        return new PropertyValuesMatcher<>(new Reflections(), property, matcher, true, false);
+    }
+
+    /**
+     * Check the that at least one value of the property (e.g. "orders[*].lines[*].sku") is valid for the supplied
+     * matcher.
+     */
+    @Factory
+    public static <T> PropertyValuesMatcher<T> anyValue(String property, Matcher matcher) {
+        return new PropertyValuesMatcher<>(new Reflections(), property, matcher, false, false);
+    }
+
+    private final Reflections reflections;
+    private final PropertyPath path;
+    private final Matcher matcher;
+    private final boolean every;
+    private final boolean parallel;
+
+    PropertyValuesMatcher(Reflections reflections, String property, Matcher matcher, boolean every, boolean parallel) {
+        this(reflections, new PropertyPath(property), matcher, every, parallel);
+    }
+
+    private PropertyValuesMatcher(
+        Reflections reflections,
+        PropertyPath path,
+        Matcher matcher,
+        boolean every,
+        boolean parallel
+    ) {
+        this.reflections = reflections;
+        this.path = path;
+        this.matcher = matcher;
+        this.every = every;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Match the values with a parallel stream, the outer most wildcard over an array or a
+     * {@link java.util.RandomAccess} {@link java.util.List} is split between the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The matcher must be thread safe.
+     */
+    public PropertyValuesMatcher<T> inParallel() {
+        return new PropertyValuesMatcher<>(reflections, path, matcher, every, true);
+    }
+
+    @Override
+    protected boolean matchesSafely(T actual, Description mismatchDescription) {
+        return matches(actual, parallel, mismatchDescription);
+    }
+
+    /**
+     * A failed match is described with a sequential walk so that the first value that didn't match can be found, the
+     * parallel match isn't run again.
+     */
+    @Override
+    protected void describeMismatchSafely(T actual, Description mismatchDescription) {
+        matches(actual, false, mismatchDescription);
+    }
+
+    private boolean matches(T actual, boolean parallel, Description mismatchDescription) {
+        try {
+            return parallel ? matchesInParallel(actual) : matchesSequentially(actual, mismatchDescription);
+        } catch (PropertyValues.InvalidPropertyException e) {
+            PropertyMatcher.describeInvalidProperty(e.getCause(), mismatchDescription);
+            return false;
+        }
+    }
+
+    private boolean matchesInParallel(T actual) {
+        final PropertyValues values = new PropertyValues(reflections, path, actual);
+        if (every) {
+            return StreamSupport.stream(values, true).allMatch(matcher::matches);
+        }
+        return StreamSupport.stream(values, true).anyMatch(matcher::matches);
+    }
+
+    private boolean matchesSequentially(T actual, Description mismatchDescription) {
+        final PropertyValues values = new PropertyValues(reflections, path, actual);
+        final Visit visit = new Visit(matcher);
+        long count = 0;
+        while (values.tryAdvance(visit)) {
+            count++;
+            if (visit.matched != every) {
+                break;
+            }
+        }
+        if (every && !visit.matched && count > 0) {
+            mismatchDescription.appendText("the value of ").appendText(values.getVisitedProperty())
+                .appendText(" in class ").appendText(actual.getClass().getName()).appendText(" ");
+            matcher.describeMismatch(visit.value, mismatchDescription);
+            return false;
+        }
+        if (!every && !visit.matched) {
+            mismatchDescription.appendText("none of the ").appendText(Long.toString(count))
+                .appendText(" values of ").appendText(path.getProperty()).appendText(" in class ")
+                .appendText(actual.getClass().getName()).appendText(" matched.");
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("an object where ").appendText(every ? "every" : "any").appendText(" value of ")
+            .appendText(path.getProperty()).appendText(" is ").appendDescriptionOf(matcher);
+    }
+
+    private static class Visit implements Consumer<Object> {
+
+        private final Matcher matcher;
+        private Object value;
+        private boolean matched;
+
+        private Visit(Matcher matcher) {
+            this.matcher = matcher;
+        }
+
+        @Override
+        public void accept(Object value) {
+            this.value = value;
+            this.matched = matcher.matches(value);
+        }
+    }
+}
@@ -17,58 +17,437 @@
 package shiver.me.timbers.matchers;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import static java.lang.String.format;
 
 /**
  * @author Karl Bennett
  */
 class Reflections {
 
+    /**
+     * The resolved field accessors for each built in strategy, they are shared by every matcher. The caches for any
+     * other strategy are only held by the matchers that use it so that the strategy isn't kept forever.
+     */
+    private static final Map<FieldAccess, Caches> SHARED_CACHES = new EnumMap<>(FieldAccess.class);
+
+    static {
+        for (FieldAccess access : FieldAccess.values()) {
+            SHARED_CACHES.put(access, new Caches(access));
+        }
+    }
+
+    private static final ClassValue<ConcurrentMap<String, PrimitiveFieldAccessor>> PRIMITIVE_ACCESSORS =
+        new ClassValue<ConcurrentMap<String, PrimitiveFieldAccessor>>() {
+            @Override
+            protected ConcurrentMap<String, PrimitiveFieldAccessor> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    private final FieldAccessStrategy strategy;
+    private final ClassValue<ConcurrentMap<String, FieldAccessor>> accessors;
+    private final ClassValue<ConcurrentMap<String, FieldAccessor>> propertyAccessors;
+    private final ClassValue<ClassLayout> layouts;
+
+    Reflections() {
+        this(FieldAccess.getDefault());
+    }
+
+    Reflections(FieldAccessStrategy strategy) {
+        this(strategy, strategy instanceof FieldAccess ? SHARED_CACHES.get(strategy) : new Caches(strategy));
+    }
+
+    private Reflections(FieldAccessStrategy strategy, Caches caches) {
+        this.strategy = strategy;
+        this.accessors = caches.accessors;
+        this.propertyAccessors = caches.propertyAccessors;
+        this.layouts = caches.layouts;
+    }
+
+    private static ClassValue<ConcurrentMap<String, FieldAccessor>> newCache() {
+        return new ClassValue<ConcurrentMap<String, FieldAccessor>>() {
+            @Override
+            protected ConcurrentMap<String, FieldAccessor> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+    }
+
     @SuppressWarnings("unchecked")
     <T> T getFieldValue(String name, Object object) throws NoSuchFieldException, IllegalAccessException {
-        final Field field = findDeclaredField(name, object.getClass());
-        field.setAccessible(true);
-        return (T) field.get(object);
+        return (T) getFieldAccessor(name, object.getClass()).get(object);
     }
 
-    @SuppressWarnings("unchecked")
     <T> T getPropertyValue(String property, Object object)
         throws NoSuchPropertyException {
-        return (T) findProperty(property, property.split("\\."), 0, object, object);
+        return getPropertyValue(new PropertyPath(property), object);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T getPropertyValue(PropertyPath path, Object object) throws NoSuchPropertyException {
+        Object value = object;
+        for (int index = 0; index < path.size(); index++) {
+            value = getFieldValueForProperty(path, index, object, value);
+        }
+        return (T) value;
+    }
+
+    FieldAccessor getFieldAccessor(String name, Class<?> type) {
+        final ConcurrentMap<String, FieldAccessor> typeAccessors = accessors.get(type);
+        final FieldAccessor accessor = typeAccessors.get(name);
+        if (accessor != null) {
+            return accessor;
+        }
+        final FieldAccessor resolved = resolveFieldAccessor(name, type);
+        final FieldAccessor existing = typeAccessors.putIfAbsent(name, resolved);
+        return existing == null ? resolved : existing;
+    }
+
+    /**
+     * Get an accessor for one segment of a property path. The value is read with the first of these that exists, the
+     * record component accessor, then a public JavaBean getter (e.g. {@code getName()} or {@code isActive()}), and
+     * lastly the field itself. A getter is preferred over a field with the same name for every class, not just records.
+     */
+    FieldAccessor getPropertyAccessor(String name, Class<?> type) {
+        final ConcurrentMap<String, FieldAccessor> typeAccessors = propertyAccessors.get(type);
+        final FieldAccessor accessor = typeAccessors.get(name);
+        if (accessor != null) {
+            return accessor;
+        }
+        final FieldAccessor resolved = resolvePropertyAccessor(name, type);
+        final FieldAccessor existing = typeAccessors.putIfAbsent(name, resolved);
+        return existing == null ? resolved : existing;
+    }
+
+    /**
+     * Get the instance fields of the class, they are only looked up once for each class.
+     */
+    ClassLayout getClassLayout(Class<?> type) {
+        return layouts.get(type);
+    }
+
+    private ClassLayout resolveClassLayout(Class<?> type) {
+        final List<Field> fields = new ArrayList<>();
+        final Set<String> visibleNames = new LinkedHashSet<>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    fields.add(field);
+                    visibleNames.add(field.getName());
+                }
+            }
+        }
+        final FieldAccessor[] visibleAccessors = getFieldAccessors(
+            visibleNames.toArray(new String[visibleNames.size()]),
+            type
+        );
+        final String[] names = new String[fields.size()];
+        final FieldAccessor[] accessors = new FieldAccessor[fields.size()];
+        final Set<String> seen = new HashSet<>();
+        int visibleIndex = 0;
+        for (int i = 0; i < names.length; i++) {
+            final Field field = fields.get(i);
+            if (seen.add(field.getName())) {
+                names[i] = field.getName();
+                accessors[i] = visibleAccessors[visibleIndex++];
+            } else {
+                names[i] = qualifiedName(field);
+                accessors[i] = toFieldAccessor(names[i], type, field);
+            }
+        }
+        return new ClassLayout(names, accessors);
     }
 
-    private Field findDeclaredField(String name, Class type) throws NoSuchFieldException {
+    /**
+     * A field hidden by one with the same name in a sub class is named after the class that declares it, e.g.
+     * {@code Base.name}.
+     */
+    private static String qualifiedName(Field field) {
+        final Class<?> declaringClass = field.getDeclaringClass();
+        final String className = declaringClass.getSimpleName().isEmpty()
+            ? declaringClass.getName()
+            : declaringClass.getSimpleName();
+        return className + "." + field.getName();
+    }
+
+    /**
+     * Get the accessors for all of the named fields, any that haven't been resolved yet are found with a single walk of
+     * the class hierarchy.
+     */
+    FieldAccessor[] getFieldAccessors(String[] names, Class<?> type) {
+        final ConcurrentMap<String, FieldAccessor> typeAccessors = accessors.get(type);
+        final FieldAccessor[] resolved = new FieldAccessor[names.length];
+        final Map<String, Field> unresolved = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            resolved[i] = typeAccessors.get(names[i]);
+            if (resolved[i] == null) {
+                unresolved.put(names[i], null);
+            }
+        }
+        if (unresolved.isEmpty()) {
+            return resolved;
+        }
+        findDeclaredFields(unresolved, type);
+        for (int i = 0; i < names.length; i++) {
+            if (resolved[i] == null) {
+                final FieldAccessor accessor = toFieldAccessor(names[i], type, unresolved.get(names[i]));
+                final FieldAccessor existing = typeAccessors.putIfAbsent(names[i], accessor);
+                resolved[i] = existing == null ? accessor : existing;
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * The primitive accessors always use a {@link java.lang.invoke.MethodHandle} with a primitive return type, the
+     * {@link FieldAccessStrategy} getters return objects so they would box the value.
+     */
+    PrimitiveFieldAccessor getPrimitiveFieldAccessor(String name, Class<?> type) {
+        final ConcurrentMap<String, PrimitiveFieldAccessor> typeAccessors = PRIMITIVE_ACCESSORS.get(type);
+        final PrimitiveFieldAccessor accessor = typeAccessors.get(name);
+        if (accessor != null) {
+            return accessor;
+        }
+        final PrimitiveFieldAccessor resolved = resolvePrimitiveFieldAccessor(name, type);
+        final PrimitiveFieldAccessor existing = typeAccessors.putIfAbsent(name, resolved);
+        return existing == null ? resolved : existing;
+    }
+
+    private static PrimitiveFieldAccessor resolvePrimitiveFieldAccessor(String name, Class<?> type) {
+        final Field field = findDeclaredField(name, type);
+        if (field == null) {
+            return PrimitiveFieldAccessor.missing(name, type);
+        }
+        try {
+            field.setAccessible(true);
+            return PrimitiveFieldAccessor.of(field);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return PrimitiveFieldAccessor.inaccessible(name, type);
+        }
+    }
+
+    private FieldAccessor resolvePropertyAccessor(String name, Class<?> type) {
+        final Method method = findAccessorMethod(name, type);
+        if (method == null) {
+            return getFieldAccessor(name, type);
+        }
         try {
-            return type.getDeclaredField(name);
-        } catch (NoSuchFieldException e) {
-            final Class superType = type.getSuperclass();
-            if (superType != null) {
-                return findDeclaredField(name, superType);
+            method.setAccessible(true);
+            return new MethodFieldAccessor(method, FieldGetters.methodHandle(method));
+        } catch (IllegalAccessException | RuntimeException e) {
+            return getFieldAccessor(name, type);
+        }
+    }
+
+    private static Method findAccessorMethod(String name, Class<?> type) {
+        if (isRecord(type)) {
+            final Method component = findPublicGetter(name, type);
+            if (component != null) {
+                return component;
             }
-            throw e;
         }
+        if (name.isEmpty()) {
+            return null;
+        }
+        final String capitalised = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        final Method getter = findPublicGetter("get" + capitalised, type);
+        if (getter != null) {
+            return getter;
+        }
+        final Method is = findPublicGetter("is" + capitalised, type);
+        if (is != null && (is.getReturnType() == boolean.class || is.getReturnType() == Boolean.class)) {
+            return is;
+        }
+        return null;
     }
 
-    private Object findProperty(String property, String[] fieldNames, int index, Object original, Object actual)
-        throws NoSuchPropertyException {
-        final Object value = getFieldValueForProperty(property, fieldNames, index, original, actual);
-        if (index == fieldNames.length - 1) {
-            return value;
+    /**
+     * The source level is too low to call {@code Class.isRecord()} so the records super class is checked instead.
+     */
+    private static boolean isRecord(Class<?> type) {
+        final Class<?> superclass = type.getSuperclass();
+        return superclass != null && "java.lang.Record".equals(superclass.getName());
+    }
+
+    private static Method findPublicGetter(String name, Class<?> type) {
+        try {
+            final Method method = type.getMethod(name);
+            // Object's getClass() is not a property of the object.
+            if (Modifier.isStatic(method.getModifiers()) || method.getReturnType() == void.class
+                || method.getDeclaringClass() == Object.class) {
+                return null;
+            }
+            return method;
+        } catch (NoSuchMethodException e) {
+            return null;
         }
-        return findProperty(property, fieldNames, ++index, original, value);
     }
 
-    private Object getFieldValueForProperty(
-        String property,
-        String[] fieldNames,
-        int index,
-        Object original,
-        Object actual
-    )
+    private FieldAccessor resolveFieldAccessor(String name, Class<?> type) {
+        return toFieldAccessor(name, type, findDeclaredField(name, type));
+    }
+
+    private FieldAccessor toFieldAccessor(String name, Class<?> type, Field field) {
+        if (field == null) {
+            return new MissingFieldAccessor(name, type);
+        }
+        try {
+            field.setAccessible(true);
+            return new GetterFieldAccessor(strategy.getter(field));
+        } catch (IllegalAccessException | RuntimeException e) {
+            return new InaccessibleFieldAccessor(name, type);
+        }
+    }
+
+    private static Field findDeclaredField(String name, Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.getName().equals(name)) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Fill in the fields for the names in the supplied map, a field in a sub class hides any with the same name in its
+     * super classes.
+     */
+    private static void findDeclaredFields(Map<String, Field> fields, Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (fields.containsKey(field.getName()) && fields.get(field.getName()) == null) {
+                    fields.put(field.getName(), field);
+                }
+            }
+        }
+    }
+
+    Object getFieldValueForProperty(PropertyPath path, int index, Object original, Object actual)
         throws NoSuchPropertyException {
+        if (actual == null) {
+            throw new NoSuchPropertyException(
+                path.getProperty(),
+                path.getNames(),
+                index,
+                original,
+                null,
+                new NullPointerException("The value before " + path.getNames()[index] + " is null.")
+            );
+        }
         try {
-            return getFieldValue(fieldNames[index], actual);
+            return path.getFieldAccessor(this, index, actual.getClass()).get(actual);
         } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new NoSuchPropertyException(property, index, original, actual, e);
+            throw new NoSuchPropertyException(path.getProperty(), path.getNames(), index, original, actual, e);
+        }
+    }
+
+    /**
+     * The field accessors for one strategy, a {@link ClassValue} is used so that the cache doesn't stop the classes
+     * from being unloaded.
+     */
+    private static class Caches {
+
+        private final ClassValue<ConcurrentMap<String, FieldAccessor>> accessors = newCache();
+        private final ClassValue<ConcurrentMap<String, FieldAccessor>> propertyAccessors = newCache();
+        private final ClassValue<ClassLayout> layouts;
+
+        private Caches(final FieldAccessStrategy strategy) {
+            this.layouts = new ClassValue<ClassLayout>() {
+                @Override
+                protected ClassLayout computeValue(Class<?> type) {
+                    return new Reflections(strategy, Caches.this).resolveClassLayout(type);
+                }
+            };
+        }
+    }
+
+    private static class GetterFieldAccessor implements FieldAccessor {
+
+        private final Function<Object, Object> getter;
+
+        private GetterFieldAccessor(Function<Object, Object> getter) {
+            this.getter = getter;
+        }
+
+        @Override
+        public Object get(Object object) {
+            return getter.apply(object);
+        }
+    }
+
+    /**
+     * An exception thrown by a getter is turned into an {@link IllegalAccessException} so that it fails the match like
+     * any other property that can't be read.
+     */
+    private static class MethodFieldAccessor implements FieldAccessor {
+
+        private final Method method;
+        private final Function<Object, Object> getter;
+
+        private MethodFieldAccessor(Method method, Function<Object, Object> getter) {
+            this.method = method;
+            this.getter = getter;
+        }
+
+        @Override
+        public Object get(Object object) throws IllegalAccessException {
+            try {
+                return getter.apply(object);
+            } catch (RuntimeException e) {
+                final IllegalAccessException exception = new IllegalAccessException(
+                    format("%s.%s() threw %s", method.getDeclaringClass().getName(), method.getName(), e)
+                );
+                exception.initCause(e);
+                throw exception;
+            }
+        }
+    }
+
+    private static class MissingFieldAccessor implements FieldAccessor {
+
+        private final String name;
+        private final Class<?> type;
+
+        private MissingFieldAccessor(String name, Class<?> type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        @Override
+        public Object get(Object object) throws NoSuchFieldException {
+            throw new NoSuchFieldException(type.getName() + "." + name);
+        }
+    }
+
+    private static class InaccessibleFieldAccessor implements FieldAccessor {
+
+        private final String name;
+        private final Class<?> type;
+
+        private InaccessibleFieldAccessor(String name, Class<?> type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        @Override
+        public Object get(Object object) throws IllegalAccessException {
+            throw new IllegalAccessException(type.getName() + "." + name);
         }
     }
 }
@@ -0,0 +1,420 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static shiver.me.timbers.matchers.DeepEqualsMatcher.deeplyEqualTo;
+
+public class DeepEqualsMatcherTest {
+
+    @Test
+    public void Can_match_an_equal_object_graph() {
+
+        // Then
+        assertThat(order("ORDER-1", 1, 2), deeplyEqualTo(order("ORDER-1", 1, 2)));
+        assertThat(order("ORDER-1", 1, 2), not(deeplyEqualTo(order("ORDER-1", 1, 3))));
+        assertThat(order("ORDER-1", 1, 2), not(deeplyEqualTo(order("ORDER-2", 1, 2))));
+    }
+
+    @Test
+    public void Can_match_objects_that_do_not_implement_equals() {
+
+        // Given
+        final Line expected = new Line("SKU-1", 5);
+
+        // Then
+        assertThat(new Line("SKU-1", 5), deeplyEqualTo(expected));
+        assertThat(new Line("SKU-1", 5), not(equalTo(expected)));
+    }
+
+    @Test
+    public void Can_match_different_implementations_of_lists_and_maps() {
+
+        // Given
+        final Map<String, List<Integer>> expected = new HashMap<>();
+        expected.put("one", new ArrayList<>(asList(1, 2)));
+        final Map<String, List<Integer>> actual = new LinkedHashMap<>();
+        actual.put("one", new LinkedList<>(asList(1, 2)));
+
+        // Then
+        assertThat(actual, deeplyEqualTo(expected));
+    }
+
+    @Test
+    public void Can_match_object_graphs_with_cycles() {
+
+        // Given
+        final Node expected = new Node("one");
+        expected.next = new Node("two");
+        expected.next.next = expected;
+        final Node actual = new Node("one");
+        actual.next = new Node("two");
+        actual.next.next = actual;
+
+        // Then
+        assertThat(actual, deeplyEqualTo(expected));
+    }
+
+    @Test
+    public void Can_match_very_deep_object_graphs() {
+
+        // Given
+        final Node expected = chain(100000);
+        final Node actual = chain(100000);
+
+        // Then
+        assertThat(actual, deeplyEqualTo(expected));
+    }
+
+    @Test
+    public void Can_ignore_properties() {
+
+        // Given
+        final Order expected = order("ORDER-1", 1, 2);
+        final Order actual = order("ORDER-2", 1, 3);
+
+        // Then
+        assertThat(actual, deeplyEqualTo(expected).ignoring("id", "lines[*].quantity"));
+        assertThat(actual, not(deeplyEqualTo(expected).ignoring("id", "lines[0].quantity")));
+    }
+
+    @Test
+    public void Can_match_numbers_and_times_within_a_tolerance() {
+
+        // Given
+        class AClass {
+            private final double price;
+            private final Date date;
+            private final Instant instant;
+
+            private AClass(double price, long time) {
+                this.price = price;
+                this.date = new Date(time);
+                this.instant = Instant.ofEpochMilli(time);
+            }
+        }
+
+        // Then
+        assertThat(
+            new AClass(1.05, 1005),
+            deeplyEqualTo(new AClass(1, 1000)).withNumericTolerance(0.1).withTimeTolerance(5, MILLISECONDS)
+        );
+        assertThat(
+            new AClass(1.05, 1006),
+            not(deeplyEqualTo(new AClass(1, 1000)).withNumericTolerance(0.1).withTimeTolerance(5, MILLISECONDS))
+        );
+    }
+
+    @Test
+    public void Can_match_large_numbers_within_a_tolerance_without_losing_precision() {
+
+        // Given
+        final long large = Long.MAX_VALUE - 1;
+        final BigInteger big = BigInteger.TEN.pow(30);
+        final BigDecimal decimal = new BigDecimal("12345678901234567890.01");
+
+        // Then
+        assertThat(large, not(deeplyEqualTo(large + 1).withNumericTolerance(0.5)));
+        assertThat(large, deeplyEqualTo(large + 1).withNumericTolerance(1));
+        assertThat(Long.MIN_VALUE, not(deeplyEqualTo(Long.MAX_VALUE).withNumericTolerance(1)));
+        assertThat(big, not(deeplyEqualTo(big.add(BigInteger.ONE)).withNumericTolerance(0.5)));
+        assertThat(big, deeplyEqualTo(big.add(BigInteger.ONE)).withNumericTolerance(1));
+        assertThat(decimal, not(deeplyEqualTo(new BigDecimal("12345678901234567890.02")).withNumericTolerance(0.001)));
+        assertThat(decimal, deeplyEqualTo(new BigDecimal("12345678901234567890.02")).withNumericTolerance(0.01));
+    }
+
+    @Test
+    public void Can_match_atomic_values_and_string_builders_by_their_contents() {
+
+        // Given
+        class AClass {
+            private final AtomicInteger count;
+            private final AtomicLong total = new AtomicLong(7);
+            private final AtomicBoolean active = new AtomicBoolean(true);
+            private final AtomicReference<Line> line;
+            private final StringBuilder text = new StringBuilder("text");
+
+            private AClass(int count, int quantity) {
+                this.count = new AtomicInteger(count);
+                this.line = new AtomicReference<>(new Line("SKU-1", quantity));
+            }
+        }
+
+        // Then
+        assertThat(new AClass(1, 2), deeplyEqualTo(new AClass(1, 2)));
+        assertThat(new AClass(1, 2), not(deeplyEqualTo(new AClass(2, 2))));
+        assertThat(new AClass(1, 2), not(deeplyEqualTo(new AClass(1, 3))));
+    }
+
+    @Test
+    public void Can_match_jdk_internal_values_with_equals() {
+
+        // Given
+        class AClass {
+            private final TimeZone zone;
+
+            private AClass(String zone) {
+                this.zone = TimeZone.getTimeZone(zone);
+            }
+        }
+        final StringDescription description = new StringDescription();
+
+        // When
+        deeplyEqualTo(new AClass("UTC")).describeMismatch(new AClass("Asia/Tokyo"), description);
+
+        // Then
+        assertThat(new AClass("UTC"), deeplyEqualTo(new AClass("UTC")));
+        assertThat(description.toString(), startsWith("the object differed at zone: expected <"));
+    }
+
+    @Test
+    public void Can_describe_the_first_difference() {
+
+        // Given
+        final Order actual = order("ORDER-2", 1, 3);
+        final StringDescription description = new StringDescription();
+
+        // When
+        deeplyEqualTo(order("ORDER-1", 1, 2)).describeMismatch(actual, description);
+
+        // Then
+        assertThat(
+            description.toString(),
+            equalTo("the object differed at id: expected \"ORDER-1\" but was \"ORDER-2\"")
+        );
+    }
+
+    @Test
+    public void Can_describe_every_difference() {
+
+        // Given
+        final Order actual = order("ORDER-2", 1, 3, 4);
+        final StringDescription description = new StringDescription();
+        final DeepEqualsMatcher<Order> matcher = deeplyEqualTo(order("ORDER-1", 1, 2)).withFullDiff();
+
+        // When
+        final boolean matched = matcher.matches(actual);
+        matcher.describeMismatch(actual, description);
+
+        // Then
+        assertThat(matched, is(false));
+        assertThat(
+            description.toString(),
+            equalTo(
+                "the object had 2 differences:" +
+                    "\n          id: expected \"ORDER-1\" but was \"ORDER-2\"" +
+                    "\n          lines: expected 2 elements but had 3"
+            )
+        );
+    }
+
+    @Test
+    public void Can_describe_a_difference_deep_in_the_graph() {
+
+        // Given
+        final Map<String, Line> expected = new LinkedHashMap<>();
+        expected.put("first", new Line("SKU-1", 1));
+        final Map<String, Line> actual = new LinkedHashMap<>();
+        actual.put("first", new Line("SKU-1", 2));
+        final StringDescription description = new StringDescription();
+
+        // When
+        deeplyEqualTo(expected).describeMismatch(actual, description);
+
+        // Then
+        assertThat(
+            description.toString(),
+            equalTo("the object differed at [first].quantity: expected <1> but was <2>")
+        );
+    }
+
+    @Test
+    public void Can_describe_a_difference_in_a_field_hidden_by_a_sub_class() {
+
+        // Given
+        class Base {
+            private final String name;
+
+            Base(String name) {
+                this.name = name;
+            }
+        }
+        class Sub extends Base {
+            private final String name;
+
+            Sub(String baseName, String name) {
+                super(baseName);
+                this.name = name;
+            }
+        }
+        final StringDescription description = new StringDescription();
+        final DeepEqualsMatcher<Base> matcher = deeplyEqualTo((Base) new Sub("one", "two"));
+
+        // When
+        final boolean matched = matcher.matches(new Sub("three", "two"));
+        matcher.describeMismatch(new Sub("three", "two"), description);
+
+        // Then
+        assertThat(matched, is(false));
+        assertThat(
+            description.toString(),
+            equalTo("the object differed at Base.name: expected \"one\" but was \"three\"")
+        );
+    }
+
+    @Test
+    public void Can_describe_a_difference_in_type() {
+
+        // Given
+        final StringDescription description = new StringDescription();
+
+        // When
+        deeplyEqualTo((Object) 1).describeMismatch(1L, description);
+
+        // Then
+        assertThat(
+            description.toString(),
+            equalTo("the object differed at the root: expected a java.lang.Integer but was a java.lang.Long")
+        );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Cannot_have_a_negative_tolerance() {
+
+        // When
+        deeplyEqualTo(1).withNumericTolerance(-1);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void Cannot_have_a_time_tolerance_without_a_unit() {
+
+        // When
+        deeplyEqualTo(1).withTimeTolerance(1, null);
+    }
+
+    @Test
+    public void Can_stop_a_full_diff_match_at_the_first_difference() {
+
+        final Reflections reflections = spy(new Reflections());
+
+        // Given
+        final Order expected = order("ORDER-1", 1, 2);
+        final Order actual = order("ORDER-2", 1, 3);
+        final DeepEqualsMatcher<Order> matcher = new DeepEqualsMatcher<>(
+            reflections,
+            expected,
+            Collections.<String>emptyList(),
+            0,
+            0,
+            null,
+            false
+        ).withFullDiff();
+
+        // When
+        final boolean matched = matcher.matches(actual);
+
+        // Then
+        assertThat(matched, is(false));
+        verify(reflections, never()).getClassLayout(Line.class);
+
+        // When
+        matcher.describeMismatch(actual, new StringDescription());
+
+        // Then
+        verify(reflections, atLeastOnce()).getClassLayout(Line.class);
+    }
+
+    private static Order order(String id, int... quantities) {
+        final List<Line> lines = new ArrayList<>();
+        for (int quantity : quantities) {
+            lines.add(new Line("SKU-" + lines.size(), quantity));
+        }
+        return new Order(id, lines);
+    }
+
+    private static Node chain(int length) {
+        final Node head = new Node("0");
+        Node current = head;
+        for (int i = 1; i < length; i++) {
+            current.next = new Node(Integer.toString(i));
+            current = current.next;
+        }
+        return head;
+    }
+
+    private static class Line {
+
+        private final String sku;
+        private final int quantity;
+
+        private Line(String sku, int quantity) {
+            this.sku = sku;
+            this.quantity = quantity;
+        }
+    }
+
+    private static class Order {
+
+        private final String id;
+        private final List<Line> lines;
+
+        private Order(String id, List<Line> lines) {
+            this.id = id;
+            this.lines = lines;
+        }
+    }
+
+    private static class Node {
+
+        private final String name;
+        private Node next;
+
+        private Node(String name) {
+            this.name = name;
+        }
+    }
+}
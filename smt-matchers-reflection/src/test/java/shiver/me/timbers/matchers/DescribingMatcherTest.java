@@ -0,0 +1,98 @@
+/*
+ * Copyright 2015 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class DescribingMatcherTest {
+
+    @Test
+    public void Can_match_with_the_shared_empty_description() {
+
+        final RecordingMatcher matcher = new RecordingMatcher();
+
+        // When
+        final boolean actual = matcher.matches("one");
+        matcher.matches("two");
+
+        // Then
+        assertThat(actual, is(false));
+        assertThat(matcher.descriptions.size(), is(2));
+        assertThat(matcher.descriptions.get(0), sameInstance(Description.NONE));
+        assertThat(matcher.descriptions.get(1), sameInstance(Description.NONE));
+    }
+
+    @Test
+    public void Can_describe_the_mismatch_with_the_given_description() {
+
+        final RecordingMatcher matcher = new RecordingMatcher();
+        final Description description = new StringDescription();
+
+        // When
+        matcher.describeMismatch("one", description);
+
+        // Then
+        assertThat(matcher.descriptions, contains(sameInstance(description)));
+        assertThat(description.toString(), equalTo("the string one"));
+    }
+
+    @Test
+    public void Cannot_match_a_null_or_an_object_of_the_wrong_type() {
+
+        final RecordingMatcher matcher = new RecordingMatcher();
+        final Description description = new StringDescription();
+
+        // When
+        final boolean nullMatched = matcher.matches(null);
+        final boolean integerMatched = matcher.matches(1);
+        matcher.describeMismatch(1, description);
+
+        // Then
+        assertThat(nullMatched, is(false));
+        assertThat(integerMatched, is(false));
+        assertThat(matcher.descriptions.isEmpty(), is(true));
+        assertThat(description.toString(), equalTo("was <1>"));
+    }
+
+    private static class RecordingMatcher extends DescribingMatcher<String> {
+
+        private final List<Description> descriptions = new ArrayList<>();
+
+        @Override
+        protected boolean matchesSafely(String item, Description mismatchDescription) {
+            descriptions.add(mismatchDescription);
+            mismatchDescription.appendText("the string ").appendText(item);
+            return false;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("nothing");
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.function.Function;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+import static shiver.me.timbers.data.random.RandomLongs.someLong;
+import static shiver.me.timbers.data.random.RandomStrings.someString;
+
+public class FieldAccessTest {
+
+    private static final String STATIC_VALUE = "static value";
+
+    private FieldAccessStrategy defaultStrategy;
+
+    @Before
+    public void setUp() {
+        defaultStrategy = FieldAccess.getDefault();
+    }
+
+    @After
+    public void tearDown() {
+        FieldAccess.setDefault(defaultStrategy);
+    }
+
+    @Test
+    public void Can_read_a_private_field_with_every_strategy() throws Exception {
+
+        // Given
+        final String expected = someString();
+        class AClass {
+            private final String fieldName = expected;
+        }
+
+        for (FieldAccess access : FieldAccess.values()) {
+
+            // When
+            final Function<Object, Object> actual = access.getter(accessible(AClass.class, "fieldName"));
+
+            // Then
+            assertThat(access.name(), actual.apply(new AClass()), equalTo((Object) expected));
+        }
+    }
+
+    @Test
+    public void Can_read_a_primitive_field_with_every_strategy() throws Exception {
+
+        // Given
+        final long expected = someLong();
+        class AClass {
+            private final long fieldName = expected;
+        }
+
+        for (FieldAccess access : FieldAccess.values()) {
+
+            // When
+            final Function<Object, Object> actual = access.getter(accessible(AClass.class, "fieldName"));
+
+            // Then
+            assertThat(access.name(), actual.apply(new AClass()), equalTo((Object) expected));
+        }
+    }
+
+    @Test
+    public void Can_read_a_null_field_with_every_strategy() throws Exception {
+
+        // Given
+        class AClass {
+            private final int[] fieldName = null;
+        }
+
+        for (FieldAccess access : FieldAccess.values()) {
+
+            // When
+            final Function<Object, Object> actual = access.getter(accessible(AClass.class, "fieldName"));
+
+            // Then
+            assertThat(access.name(), actual.apply(new AClass()), nullValue());
+        }
+    }
+
+    @Test
+    public void Can_read_a_static_field_with_every_strategy() throws Exception {
+
+        for (FieldAccess access : FieldAccess.values()) {
+
+            // When
+            final Function<Object, Object> actual = access.getter(accessible(FieldAccessTest.class, "STATIC_VALUE"));
+
+            // Then
+            assertThat(access.name(), actual.apply(null), equalTo((Object) STATIC_VALUE));
+        }
+    }
+
+    @Test
+    public void Can_generate_a_class_to_read_a_field() throws Exception {
+
+        assumeTrue("Hidden classes need Java 15 or later.", GeneratedFieldGetters.isSupported());
+
+        // Given
+        class AClass {
+            private final String fieldName = someString();
+        }
+
+        // When
+        final Function<Object, Object> actual = FieldAccess.GENERATED.getter(accessible(AClass.class, "fieldName"));
+
+        // Then
+        assertThat(actual.getClass().getName(), containsString("SmtFieldGetter"));
+    }
+
+    @Test
+    public void Can_fall_back_to_a_method_handle_if_a_class_cannot_be_generated() throws Exception {
+
+        // When
+        final Function<Object, Object> actual = FieldAccess.GENERATED.getter(accessible(Thread.class, "MIN_PRIORITY"));
+
+        // Then
+        assertThat(actual.getClass().getName(), not(containsString("SmtFieldGetter")));
+        assertThat(actual.apply(null), equalTo((Object) Thread.MIN_PRIORITY));
+    }
+
+    @Test
+    public void The_method_handle_strategy_is_the_default() {
+        assertThat(FieldAccess.getDefault(), is((FieldAccessStrategy) FieldAccess.METHOD_HANDLE));
+    }
+
+    @Test
+    public void Can_change_the_default_strategy() {
+
+        // When
+        FieldAccess.setDefault(FieldAccess.GENERATED);
+
+        // Then
+        assertThat(FieldAccess.getDefault(), is((FieldAccessStrategy) FieldAccess.GENERATED));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Cannot_set_the_default_strategy_to_null() {
+        FieldAccess.setDefault(null);
+    }
+
+    @Test
+    public void Can_parse_a_strategy_name() {
+        assertThat(FieldAccess.parse("GENERATED", FieldAccess.METHOD_HANDLE), is(FieldAccess.GENERATED));
+        assertThat(FieldAccess.parse(" reflection ", FieldAccess.METHOD_HANDLE), is(FieldAccess.REFLECTION));
+    }
+
+    @Test
+    public void Can_fall_back_to_the_default_strategy_for_a_missing_or_unknown_name() {
+        assertThat(FieldAccess.parse(null, FieldAccess.METHOD_HANDLE), is(FieldAccess.METHOD_HANDLE));
+        assertThat(FieldAccess.parse("", FieldAccess.METHOD_HANDLE), is(FieldAccess.METHOD_HANDLE));
+        assertThat(FieldAccess.parse("unsafe", FieldAccess.METHOD_HANDLE), is(FieldAccess.METHOD_HANDLE));
+    }
+
+    private static Field accessible(Class<?> type, String name) throws NoSuchFieldException {
+        final Field field = type.getDeclaredField(name);
+        field.setAccessible(true);
+        return field;
+    }
+}
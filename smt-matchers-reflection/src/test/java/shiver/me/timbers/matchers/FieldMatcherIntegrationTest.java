@@ -68,6 +68,22 @@ public class FieldMatcherIntegrationTest {
         assertThat(object, hasFieldThat("fieldName", equalTo(expected)));
     }
 
+    @Test
+    public void Can_apply_a_matcher_to_a_classes_field_with_each_field_access_strategy() {
+
+        // Given
+        final Long expected = someLong();
+        class AClass {
+            private final long fieldName = expected;
+        }
+        final AClass object = new AClass();
+
+        // Then
+        for (FieldAccess access : FieldAccess.values()) {
+            assertThat(object, new FieldMatcher<AClass>("fieldName", equalTo(expected), access));
+        }
+    }
+
     @Test
     public void Can_get_a_meaningful_assertion_error_message_when_the_field_matcher_fails() {
 
@@ -104,9 +120,10 @@ public class FieldMatcherIntegrationTest {
 
         // Given
         final String fieldName = someAlphaNumericString(5);
+        final String matcherError = someAlphaNumericString(10);
         final TypeSafeMatcher<Long> matches = new TypeSafeMatcher<Long>() {
             public void describeTo(Description description) {
-                throw new IllegalStateException("Should not be called.");
+                description.appendText(matcherError);
             }
 
             protected boolean matchesSafely(Long actual) {
@@ -119,6 +136,7 @@ public class FieldMatcherIntegrationTest {
         missingFieldErrorTemplate.execute(writer, new HashMap<String, Object>() {{
             put("class", object.getClass().getName());
             put("name", fieldName);
+            put("matcher", matcherError);
         }});
         expectedException.expect(AssertionError.class);
         expectedException.expectMessage(writer.toString());
@@ -26,6 +26,7 @@ import static org.junit.Assert.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static shiver.me.timbers.data.random.RandomBooleans.someBoolean;
 import static shiver.me.timbers.data.random.RandomStrings.someString;
 
@@ -35,9 +36,11 @@ public class FieldMatcherTest {
     private String name;
     private Matcher matcher;
     private FieldMatcher<Object> fieldMatcher;
+    private Description description;
 
     @Before
     public void setUp() {
+        description = mock(Description.class);
         reflections = mock(Reflections.class);
         name = someString();
         matcher = mock(Matcher.class);
@@ -64,32 +67,62 @@ public class FieldMatcherTest {
     }
 
     @Test
-    public void Can_get_a_default_description() throws NoSuchFieldException, IllegalAccessException {
+    public void Can_match_a_field_without_describing_the_mismatch()
+        throws NoSuchFieldException, IllegalAccessException {
 
         final AClass aClass = new AClass();
-        final Description description = mock(Description.class);
+        final Object value = new Object();
+
+        // Given
+        given(reflections.getFieldValue(name, aClass)).willReturn(value);
+        given(matcher.matches(value)).willReturn(true);
+
+        // When
+        final boolean actual = fieldMatcher.matches(aClass);
+
+        // Then
+        assertThat(actual, is(true));
+        verifyZeroInteractions(description);
+    }
+
+    @Test
+    public void Can_get_a_description() {
 
         final Description descriptionStart = mock(Description.class);
-        final Description descriptionClassName = mock(Description.class);
-        final Description descriptionMiddle = mock(Description.class);
         final Description descriptionFieldName = mock(Description.class);
-        final Description mismatchDescription = mock(Description.class);
 
         // Given
-        given(description.appendText("class ")).willReturn(descriptionStart);
-        given(descriptionStart.appendText(aClass.getClass().getName())).willReturn(descriptionClassName);
-        given(descriptionClassName.appendText(" to contain a field named ")).willReturn(descriptionMiddle);
-        given(descriptionMiddle.appendText(name)).willReturn(descriptionFieldName);
+        given(description.appendText("an object with a field named ")).willReturn(descriptionStart);
+        given(descriptionStart.appendText(name)).willReturn(descriptionFieldName);
         given(descriptionFieldName.appendText(" that is ")).willReturn(descriptionFieldName);
 
         // When
-        fieldMatcher.matches(aClass);
         fieldMatcher.describeTo(description);
-        fieldMatcher.describeMismatch(aClass, mismatchDescription);
 
         // Then
         verify(descriptionFieldName).appendDescriptionOf(matcher);
-        verify(mismatchDescription).appendText("the field does not match.");
+    }
+
+    @Test
+    public void Can_fail_to_match_a_field_and_give_a_meaningful_description()
+        throws NoSuchFieldException, IllegalAccessException {
+
+        final AClass aClass = new AClass();
+        final Object value = new Object();
+        final Description descriptionStart = mock(Description.class);
+        final Description descriptionClassName = mock(Description.class);
+
+        // Given
+        given(reflections.getFieldValue(name, aClass)).willReturn(value);
+        given(matcher.matches(value)).willReturn(false);
+        given(description.appendText("the field in class ")).willReturn(descriptionStart);
+        given(descriptionStart.appendText(aClass.getClass().getName())).willReturn(descriptionClassName);
+
+        // When
+        fieldMatcher.describeMismatch(aClass, description);
+
+        // Then
+        verify(descriptionClassName).appendText(" does not match.");
     }
 
     @Test
@@ -97,28 +130,21 @@ public class FieldMatcherTest {
         throws NoSuchFieldException, IllegalAccessException {
 
         final AClass aClass = new AClass();
-        final Description description = mock(Description.class);
         final Description descriptionStart = mock(Description.class);
         final Description descriptionClassName = mock(Description.class);
-        final Description descriptionMiddle = mock(Description.class);
-        final Description descriptionFieldName = mock(Description.class);
-        final Description mismatchDescription = mock(Description.class);
 
         // Given
         given(reflections.getFieldValue(name, aClass)).willThrow(new NoSuchFieldException());
-        given(description.appendText("class ")).willReturn(descriptionStart);
+        given(description.appendText("the field does not exist in class ")).willReturn(descriptionStart);
         given(descriptionStart.appendText(aClass.getClass().getName())).willReturn(descriptionClassName);
-        given(descriptionClassName.appendText(" to contain a field named ")).willReturn(descriptionMiddle);
-        given(descriptionMiddle.appendText(name)).willReturn(descriptionFieldName);
 
         // When
-        fieldMatcher.matches(aClass);
-        fieldMatcher.describeTo(description);
-        fieldMatcher.describeMismatch(aClass, mismatchDescription);
+        final boolean actual = fieldMatcher.matches(aClass);
+        fieldMatcher.describeMismatch(aClass, description);
 
         // Then
-        verify(descriptionFieldName).appendText(".");
-        verify(mismatchDescription).appendText("the field does not exist.");
+        assertThat(actual, is(false));
+        verify(descriptionClassName).appendText(".");
     }
 
     @Test
@@ -126,28 +152,21 @@ public class FieldMatcherTest {
         throws NoSuchFieldException, IllegalAccessException {
 
         final AClass aClass = new AClass();
-        final Description description = mock(Description.class);
         final Description descriptionStart = mock(Description.class);
         final Description descriptionClassName = mock(Description.class);
-        final Description descriptionMiddle = mock(Description.class);
-        final Description descriptionFieldName = mock(Description.class);
-        final Description mismatchDescription = mock(Description.class);
 
         // Given
         given(reflections.getFieldValue(name, aClass)).willThrow(new IllegalAccessException());
-        given(description.appendText("to be able to access the field named ")).willReturn(descriptionStart);
-        given(descriptionStart.appendText(name)).willReturn(descriptionFieldName);
-        given(descriptionFieldName.appendText(" in class ")).willReturn(descriptionMiddle);
-        given(descriptionMiddle.appendText(aClass.getClass().getName())).willReturn(descriptionClassName);
+        given(description.appendText("the field is inaccessible in class ")).willReturn(descriptionStart);
+        given(descriptionStart.appendText(aClass.getClass().getName())).willReturn(descriptionClassName);
 
         // When
-        fieldMatcher.matches(aClass);
-        fieldMatcher.describeTo(description);
-        fieldMatcher.describeMismatch(aClass, mismatchDescription);
+        final boolean actual = fieldMatcher.matches(aClass);
+        fieldMatcher.describeMismatch(aClass, description);
 
         // Then
+        assertThat(actual, is(false));
         verify(descriptionClassName).appendText(".");
-        verify(mismatchDescription).appendText("the field is inaccessible.");
     }
 
     private class AClass {
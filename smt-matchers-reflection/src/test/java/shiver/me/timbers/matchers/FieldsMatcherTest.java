@@ -0,0 +1,150 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+import static shiver.me.timbers.data.random.RandomLongs.someLong;
+import static shiver.me.timbers.data.random.RandomStrings.someString;
+import static shiver.me.timbers.matchers.FieldsMatcher.hasFields;
+
+public class FieldsMatcherTest {
+
+    @Test
+    public void Can_match_several_fields() {
+
+        // Given
+        final String name = someString();
+        final long version = someLong();
+        class AClass {
+            private final long version;
+
+            private AClass(long version) {
+                this.version = version;
+            }
+        }
+        class BClass extends AClass {
+            private final String name;
+
+            private BClass(String name, long version) {
+                super(version);
+                this.name = name;
+            }
+        }
+        final Map<String, Matcher<?>> matchers = new LinkedHashMap<>();
+        matchers.put("name", equalTo(name));
+        matchers.put("version", equalTo(version));
+
+        // Then
+        assertThat(new BClass(name, version), hasFields(matchers));
+        assertThat(new BClass(name, version + 1), not(hasFields(matchers)));
+    }
+
+    @Test
+    public void Can_match_several_fields_with_the_supplied_strategy() {
+
+        // Given
+        final String name = someString();
+        class AClass {
+            private final String first = name;
+            private final String second = name;
+        }
+        final Map<String, Matcher<?>> matchers = new LinkedHashMap<>();
+        matchers.put("first", equalTo(name));
+        matchers.put("second", equalTo(name));
+
+        // Then
+        for (FieldAccess strategy : FieldAccess.values()) {
+            assertThat(new AClass(), new FieldsMatcher<>(matchers, strategy));
+        }
+    }
+
+    @Test
+    public void Can_get_a_description() {
+
+        // Given
+        final Map<String, Matcher<?>> matchers = new LinkedHashMap<>();
+        matchers.put("one", equalTo(1));
+        matchers.put("two", greaterThan(2));
+        final StringDescription description = new StringDescription();
+
+        // When
+        hasFields(matchers).describeTo(description);
+
+        // Then
+        assertThat(
+            description.toString(),
+            equalTo(
+                "an object with a field named one that is <1>, " +
+                    "and a field named two that is a value greater than <2>"
+            )
+        );
+    }
+
+    @Test
+    public void Can_describe_every_field_that_does_not_match() {
+
+        // Given
+        class AClass {
+            private final int one = 1;
+            private final int two = 2;
+            private final int three = 3;
+        }
+        final AClass object = new AClass();
+        final Map<String, Matcher<?>> matchers = new LinkedHashMap<>();
+        matchers.put("one", equalTo(4));
+        matchers.put("two", equalTo(2));
+        matchers.put("three", equalTo(5));
+        matchers.put("four", equalTo(4));
+        final FieldsMatcher<Object> matcher = hasFields(matchers);
+        final StringDescription description = new StringDescription();
+
+        // When
+        final boolean actual = matcher.matches(object);
+        matcher.describeMismatch(object, description);
+
+        // Then
+        assertThat(actual, is(false));
+        assertThat(
+            description.toString(),
+            equalTo(
+                "the fields in class " + AClass.class.getName() + " did not match:" +
+                    "\n          one: was <1>" +
+                    "\n          three: was <3>" +
+                    "\n          four: does not exist"
+            )
+        );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Cannot_match_no_fields() {
+
+        // When
+        hasFields(Collections.<String, Matcher<?>>emptyMap());
+    }
+}
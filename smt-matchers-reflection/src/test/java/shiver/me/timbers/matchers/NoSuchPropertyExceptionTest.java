@@ -94,6 +94,23 @@ public class NoSuchPropertyExceptionTest {
         assertThat(actual, equalTo(markedProperty));
     }
 
+    @Test
+    public void Can_get_a_marked_property_name_with_a_bracketed_segment() {
+
+        // Given
+        final String[] names = {"orders", "[3]", "lines", "[region]"};
+
+        // When
+        final String one = new NoSuchPropertyException("", names, 1, original, error, new Exception())
+            .getMarkedProperty();
+        final String three = new NoSuchPropertyException("", names, 3, original, error, new Exception())
+            .getMarkedProperty();
+
+        // Then
+        assertThat(one, equalTo("orders[[3]].lines[region]"));
+        assertThat(three, equalTo("orders[3].lines[[region]]"));
+    }
+
     @Test
     public void Can_get_the_missing_fields_name() {
 
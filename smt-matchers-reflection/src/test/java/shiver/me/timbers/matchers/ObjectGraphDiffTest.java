@@ -0,0 +1,287 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class ObjectGraphDiffTest {
+
+    @Test
+    public void Can_find_no_differences_between_equal_object_graphs() {
+
+        // When
+        final ObjectGraphDiff.Report actual = new ObjectGraphDiff()
+            .diff(order("ORDER-1", 1, 2), order("ORDER-1", 1, 2));
+
+        // Then
+        assertThat(actual.hasDifferences(), equalTo(false));
+        assertThat(actual.getEntries(), empty());
+        assertThat(actual.toString(), equalTo(""));
+    }
+
+    @Test
+    public void Can_list_the_differences_with_the_differing_segment_marked() {
+
+        // When
+        final ObjectGraphDiff.Report actual = new ObjectGraphDiff()
+            .diff(order("ORDER-1", 1, 2), order("ORDER-2", 1, 3));
+
+        // Then
+        assertThat(actual.hasDifferences(), equalTo(true));
+        assertThat(actual.isTruncated(), equalTo(false));
+        assertThat(
+            entries(actual),
+            contains("[id]: \"ORDER-1\" -> \"ORDER-2\"", "lines[1].[quantity]: <2> -> <3>")
+        );
+        final ObjectGraphDiff.Entry entry = actual.getEntries().get(1);
+        assertThat(entry.getPath(), equalTo("lines[1].[quantity]"));
+        assertThat(entry.getExpected(), equalTo("<2>"));
+        assertThat(entry.getActual(), equalTo("<3>"));
+    }
+
+    @Test
+    public void Can_describe_structural_differences_without_rendering_whole_objects() {
+
+        // Given
+        final Order expected = order("ORDER-1", 1, 2);
+        final Order actual = order("ORDER-1", 1, 2);
+        actual.lines.set(0, null);
+        final Map<String, Integer> expectedMap = new LinkedHashMap<>();
+        expectedMap.put("one", 1);
+        expectedMap.put("two", 2);
+        final Map<String, Integer> actualMap = new LinkedHashMap<>();
+        actualMap.put("one", 1);
+        actualMap.put("three", 2);
+        final ObjectGraphDiff diff = new ObjectGraphDiff();
+
+        // Then
+        assertThat(
+            entries(diff.diff(expected, actual)),
+            contains("lines[[0]]: a " + Line.class.getName() + " -> null")
+        );
+        assertThat(entries(diff.diff(expected, order("ORDER-1", 1))), contains("[lines]: 2 elements -> 1 elements"));
+        assertThat(entries(diff.diff(expectedMap, actualMap)), contains("[[two]]: <2> -> missing"));
+        assertThat(
+            entries(diff.diff(1, 1L)),
+            contains("the root: a java.lang.Integer -> a java.lang.Long")
+        );
+    }
+
+    @Test
+    public void Can_stop_after_the_maximum_number_of_entries() {
+
+        // When
+        final ObjectGraphDiff.Report actual = new ObjectGraphDiff().withMaxEntries(2)
+            .diff(order("ORDER-1", 1, 2, 3, 4), order("ORDER-1", 5, 6, 7, 8));
+
+        // Then
+        assertThat(actual.isTruncated(), equalTo(true));
+        assertThat(
+            actual.toString(),
+            equalTo(
+                "lines[0].[quantity]: <1> -> <5>\n" +
+                    "lines[1].[quantity]: <2> -> <6>\n" +
+                    "stopped after 2 differences\n"
+            )
+        );
+    }
+
+    @Test
+    public void Can_report_a_truncated_diff_of_primitive_arrays() {
+
+        // Given
+        final int[] ones = new int[200];
+        Arrays.fill(ones, 1);
+
+        // When
+        final ObjectGraphDiff.Report actual = new ObjectGraphDiff().diff(new int[200], ones);
+
+        // Then
+        assertThat(actual.getEntries().size(), equalTo(100));
+        assertThat(actual.isTruncated(), equalTo(true));
+    }
+
+    @Test
+    public void Can_report_a_complete_diff_that_stopped_on_its_last_difference() {
+
+        // Given
+        final int[] expected = new int[200];
+        final int[] actual = new int[200];
+        Arrays.fill(actual, 0, 100, 1);
+
+        // When
+        final ObjectGraphDiff.Report report = new ObjectGraphDiff().diff(expected, actual);
+
+        // Then
+        assertThat(report.getEntries().size(), equalTo(100));
+        assertThat(report.isTruncated(), equalTo(false));
+    }
+
+    @Test
+    public void Can_stream_the_entries_as_they_are_found() {
+
+        // Given
+        final List<ObjectGraphDiff.Entry> streamed = new ArrayList<>();
+
+        // When
+        final ObjectGraphDiff.Report actual = new ObjectGraphDiff().diff(
+            order("ORDER-1", 1, 2),
+            order("ORDER-2", 1, 3),
+            new Consumer<ObjectGraphDiff.Entry>() {
+                @Override
+                public void accept(ObjectGraphDiff.Entry entry) {
+                    streamed.add(entry);
+                }
+            }
+        );
+
+        // Then
+        assertThat(streamed, equalTo(actual.getEntries()));
+    }
+
+    @Test
+    public void Can_limit_the_depth_of_the_comparison() {
+
+        // Given
+        final Node expected = chain("a", "b", "c", "d");
+        final Node actual = chain("a", "b", "c", "e");
+
+        // When
+        final ObjectGraphDiff.Report shallow = new ObjectGraphDiff().withMaxDepth(2).diff(expected, actual);
+        final ObjectGraphDiff.Report deep = new ObjectGraphDiff().withMaxDepth(4).diff(expected, actual);
+
+        // Then
+        assertThat(shallow.hasDifferences(), equalTo(false));
+        assertThat(shallow.getUncompared(), equalTo(1));
+        assertThat(shallow.toString(), equalTo("1 objects deeper than 2 were not compared\n"));
+        assertThat(entries(deep), contains("next.next.next.[name]: \"d\" -> \"e\""));
+        assertThat(deep.getUncompared(), equalTo(0));
+    }
+
+    @Test
+    public void Can_cut_off_long_values() {
+
+        // When
+        final ObjectGraphDiff.Report actual = new ObjectGraphDiff().withMaxValueLength(5)
+            .diff(new Line("SKU-1234", 1), new Line("SKU-5678", 1));
+
+        // Then
+        assertThat(entries(actual), contains("[sku]: \"SKU-... -> \"SKU-..."));
+    }
+
+    @Test
+    public void Can_ignore_properties() {
+
+        // When
+        final ObjectGraphDiff.Report actual = new ObjectGraphDiff().ignoring("id", "lines[*].quantity")
+            .diff(order("ORDER-1", 1, 2), order("ORDER-2", 3, 4));
+
+        // Then
+        assertThat(actual.hasDifferences(), equalTo(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Cannot_have_a_negative_maximum_depth() {
+
+        // When
+        new ObjectGraphDiff().withMaxDepth(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Cannot_have_a_maximum_number_of_entries_less_than_one() {
+
+        // When
+        new ObjectGraphDiff().withMaxEntries(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Cannot_have_a_maximum_value_length_less_than_one() {
+
+        // When
+        new ObjectGraphDiff().withMaxValueLength(0);
+    }
+
+    private static List<String> entries(ObjectGraphDiff.Report report) {
+        final List<String> entries = new ArrayList<>();
+        for (ObjectGraphDiff.Entry entry : report.getEntries()) {
+            entries.add(entry.toString());
+        }
+        return entries;
+    }
+
+    private static Order order(String id, int... quantities) {
+        final List<Line> lines = new ArrayList<>();
+        for (int quantity : quantities) {
+            lines.add(new Line("SKU-" + lines.size(), quantity));
+        }
+        return new Order(id, lines);
+    }
+
+    private static Node chain(String... names) {
+        final Node head = new Node(names[0]);
+        Node current = head;
+        for (String name : Arrays.copyOfRange(names, 1, names.length)) {
+            current.next = new Node(name);
+            current = current.next;
+        }
+        return head;
+    }
+
+    private static class Line {
+
+        private final String sku;
+        private final int quantity;
+
+        private Line(String sku, int quantity) {
+            this.sku = sku;
+            this.quantity = quantity;
+        }
+    }
+
+    private static class Order {
+
+        private final String id;
+        private final List<Line> lines;
+
+        private Order(String id, List<Line> lines) {
+            this.id = id;
+            this.lines = lines;
+        }
+    }
+
+    private static class Node {
+
+        private final String name;
+        private Node next;
+
+        private Node(String name) {
+            this.name = name;
+        }
+    }
+}
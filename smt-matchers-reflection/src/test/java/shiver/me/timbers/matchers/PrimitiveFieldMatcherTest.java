@@ -0,0 +1,207 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+import static shiver.me.timbers.data.random.RandomIntegers.someInteger;
+import static shiver.me.timbers.data.random.RandomLongs.someLong;
+import static shiver.me.timbers.matchers.PrimitiveFieldMatcher.hasBooleanField;
+import static shiver.me.timbers.matchers.PrimitiveFieldMatcher.hasDoubleField;
+import static shiver.me.timbers.matchers.PrimitiveFieldMatcher.hasDoubleFieldCloseTo;
+import static shiver.me.timbers.matchers.PrimitiveFieldMatcher.hasIntField;
+import static shiver.me.timbers.matchers.PrimitiveFieldMatcher.hasLongField;
+
+public class PrimitiveFieldMatcherTest {
+
+    @Test
+    public void Can_match_an_int_field() {
+
+        // Given
+        final int expected = someInteger();
+        class AClass {
+            private final int fieldName = expected;
+        }
+
+        // Then
+        assertThat(new AClass(), hasIntField("fieldName", expected));
+        assertThat(new AClass(), not(hasIntField("fieldName", expected + 1)));
+    }
+
+    @Test
+    public void Can_match_a_long_field() {
+
+        // Given
+        final long expected = someLong();
+        class AClass {
+            private final long fieldName = expected;
+        }
+
+        // Then
+        assertThat(new AClass(), hasLongField("fieldName", expected));
+        assertThat(new AClass(), not(hasLongField("fieldName", expected + 1)));
+    }
+
+    @Test
+    public void Can_match_a_widened_field() {
+
+        // Given
+        final int expected = someInteger();
+        class AClass {
+            private final int fieldName = expected;
+        }
+
+        // Then
+        assertThat(new AClass(), hasLongField("fieldName", expected));
+        assertThat(new AClass(), hasDoubleField("fieldName", expected));
+    }
+
+    @Test
+    public void Can_match_a_double_field() {
+
+        // Given
+        class AClass {
+            private final double fieldName = Double.NaN;
+            private final double other = 1.05;
+        }
+
+        // Then
+        assertThat(new AClass(), hasDoubleField("fieldName", Double.NaN));
+        assertThat(new AClass(), hasDoubleFieldCloseTo("other", 1, 0.1));
+        assertThat(new AClass(), not(hasDoubleFieldCloseTo("other", 1, 0.01)));
+    }
+
+    @Test
+    public void Can_match_a_boolean_field() {
+
+        // Given
+        class AClass {
+            private final boolean fieldName = true;
+        }
+
+        // Then
+        assertThat(new AClass(), hasBooleanField("fieldName", true));
+        assertThat(new AClass(), not(hasBooleanField("fieldName", false)));
+    }
+
+    @Test
+    public void Can_match_a_static_field() {
+
+        // Then
+        assertThat(new StaticClass(), hasIntField("FIELD_NAME", 7));
+    }
+
+    @Test
+    public void Can_get_a_description() {
+
+        // Given
+        final StringDescription description = new StringDescription();
+
+        // When
+        hasIntField("fieldName", 3).describeTo(description);
+
+        // Then
+        assertThat(description.toString(), equalTo("an object with an int field named fieldName that is <3>"));
+    }
+
+    @Test
+    public void Can_get_a_description_of_a_close_to_match() {
+
+        // Given
+        final StringDescription description = new StringDescription();
+
+        // When
+        hasDoubleFieldCloseTo("fieldName", 1.5, 0.5).describeTo(description);
+
+        // Then
+        assertThat(
+            description.toString(),
+            equalTo("an object with a double field named fieldName that is a numeric value within <0.5> of <1.5>")
+        );
+    }
+
+    @Test
+    public void Can_fail_to_match_a_field_and_give_a_meaningful_description() {
+
+        // Given
+        class AClass {
+            private final int fieldName = 4;
+        }
+        final AClass object = new AClass();
+        final StringDescription description = new StringDescription();
+
+        // When
+        hasIntField("fieldName", 3).describeMismatch(object, description);
+
+        // Then
+        assertThat(description.toString(), equalTo("the field in class " + AClass.class.getName() + " was <4>."));
+    }
+
+    @Test
+    public void Can_fail_to_match_a_field_that_does_not_exist_and_give_a_meaningful_description() {
+
+        // Given
+        class AClass {
+        }
+        final AClass object = new AClass();
+        final StringDescription description = new StringDescription();
+        final PrimitiveFieldMatcher<Object> matcher = hasLongField("fieldName", someLong());
+
+        // When
+        final boolean actual = matcher.matches(object);
+        matcher.describeMismatch(object, description);
+
+        // Then
+        assertThat(actual, is(false));
+        assertThat(
+            description.toString(),
+            equalTo("the field does not exist in class " + AClass.class.getName() + ".")
+        );
+    }
+
+    @Test
+    public void Can_fail_to_match_a_field_of_the_wrong_type_and_give_a_meaningful_description() {
+
+        // Given
+        class AClass {
+            private final Long fieldName = someLong();
+        }
+        final AClass object = new AClass();
+        final StringDescription description = new StringDescription();
+        final PrimitiveFieldMatcher<Object> matcher = hasIntField("fieldName", someInteger());
+
+        // When
+        final boolean actual = matcher.matches(object);
+        matcher.describeMismatch(object, description);
+
+        // Then
+        assertThat(actual, is(false));
+        assertThat(
+            description.toString(),
+            equalTo("the field is a java.lang.Long not an int in class " + AClass.class.getName() + ".")
+        );
+    }
+
+    private static class StaticClass {
+        private static final int FIELD_NAME = 7;
+    }
+}
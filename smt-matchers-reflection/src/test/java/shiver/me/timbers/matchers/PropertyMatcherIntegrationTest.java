@@ -20,6 +20,7 @@ import com.github.mustachejava.DefaultMustacheFactory;
 import com.github.mustachejava.Mustache;
 import com.github.mustachejava.resolver.ClasspathResolver;
 import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
 import org.hamcrest.TypeSafeMatcher;
 import org.junit.Before;
 import org.junit.Rule;
@@ -27,10 +28,19 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static java.lang.String.format;
+import static org.hamcrest.Matchers.anything;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertThat;
 import static shiver.me.timbers.data.random.RandomLongs.someLong;
 import static shiver.me.timbers.data.random.RandomStrings.someAlphaNumericString;
@@ -54,6 +64,25 @@ public class PropertyMatcherIntegrationTest {
         writer = new StringWriter();
     }
 
+    @Test
+    public void Can_apply_a_matcher_to_a_property_with_each_field_access_strategy() {
+
+        // Given
+        final Long expected = someLong();
+        class AClass {
+            private final long two = expected;
+        }
+        class BClass {
+            private final AClass one = new AClass();
+        }
+        final BClass object = new BClass();
+
+        // Then
+        for (FieldAccess access : FieldAccess.values()) {
+            assertThat(object, new PropertyMatcher<BClass>("one.two", equalTo(expected), access));
+        }
+    }
+
     @Test
     public void Can_apply_a_matcher_to_a_property() {
 
@@ -73,6 +102,84 @@ public class PropertyMatcherIntegrationTest {
         assertThat(new CClass(), hasPropertyThat("one.two.three", equalTo(expected)));
     }
 
+    @Test
+    public void Can_apply_a_matcher_to_a_property_read_through_getters_behind_an_interface() {
+
+        // Given
+        final String expected = someAlphaNumericString(8);
+        final Order order = new PrivateOrder(new PrivateCustomer(expected));
+
+        // Then
+        assertThat(order, hasPropertyThat("customer.name", equalTo(expected)));
+    }
+
+    @Test
+    public void Can_fail_to_match_a_property_whose_getter_throws() {
+
+        // Given
+        class AClass {
+            public String getName() {
+                throw new IllegalStateException("not loaded");
+            }
+        }
+        final Description description = new StringDescription();
+        final PropertyMatcher<AClass> matcher = hasPropertyThat("name", anything());
+
+        // When
+        final boolean actual = matcher.matches(new AClass());
+        matcher.describeMismatch(new AClass(), description);
+
+        // Then
+        assertThat(actual, is(false));
+        assertThat(description.toString(), startsWith("the property was invalid at "));
+    }
+
+    @Test
+    public void Can_fail_to_match_a_property_after_a_null_value() {
+
+        // Given
+        class AClass {
+            private final String name = someAlphaNumericString(8);
+        }
+        class BClass {
+            private final AClass customer = null;
+        }
+        final Description description = new StringDescription();
+        final PropertyMatcher<BClass> matcher = hasPropertyThat("customer.name", anything());
+
+        // When
+        final boolean actual = matcher.matches(new BClass());
+        matcher.describeMismatch(new BClass(), description);
+
+        // Then
+        assertThat(actual, is(false));
+        assertThat(
+            description.toString(),
+            equalTo("the property was invalid at customer.[name] because the value before it was null.")
+        );
+    }
+
+    @Test
+    public void Can_apply_a_matcher_to_an_indexed_and_keyed_property() {
+
+        // Given
+        final String expected = someAlphaNumericString(8);
+        class AClass {
+            private final HashMap<String, String> attributes = new HashMap<>();
+        }
+        final AClass line = new AClass();
+        line.attributes.put("region", expected);
+        class BClass {
+            private final List<AClass> lines = new ArrayList<>();
+        }
+        final BClass order = new BClass();
+        order.lines.add(new AClass());
+        order.lines.add(line);
+
+        // Then
+        assertThat(order, hasPropertyThat("lines[1].attributes[region]", equalTo(expected)));
+    }
+
     @Test
     public void Can_get_a_meaningful_assertion_error_message_when_the_property_matcher_fails() {
 
@@ -134,6 +241,7 @@ public class PropertyMatcherIntegrationTest {
         missingPropertyErrorTemplate.execute(writer, new HashMap<String, Object>() {{
             put("class", BClass.class.getName());
             put("property", property);
+            put("matcher", matcherError);
             put("markedProperty", "one.[two].three");
             put("invalidClass", AClass.class.getName());
         }});
@@ -190,4 +298,87 @@ public class PropertyMatcherIntegrationTest {
         // Then
         assertThat(object, hasProperty(property, expected));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void Can_share_a_property_matcher_between_threads() throws Exception {
+
+        // Given
+        final Long expected = someLong();
+        class AClass {
+            private final long two;
+
+            private AClass(long two) {
+                this.two = two;
+            }
+        }
+        class BClass {
+            private final AClass one;
+
+            private BClass(long two) {
+                this.one = new AClass(two);
+            }
+        }
+        final PropertyMatcher<BClass> matcher = hasProperty("one.two", expected);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final List<Future<Boolean>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            final boolean match = i % 2 == 0;
+            results.add(executor.submit(new Callable<Boolean>() {
+                @Override
+                public Boolean call() {
+                    final BClass object = new BClass(match ? expected : expected + 1);
+                    final StringDescription description = new StringDescription();
+                    matcher.describeMismatch(object, description);
+                    return matcher.matches(object) == match
+                        && description.toString().equals(
+                        match ? "" : format("the property value in class %s does not match.", BClass.class.getName())
+                    );
+                }
+            }));
+        }
+        executor.shutdown();
+
+        // Then
+        for (Future<Boolean> result : results) {
+            assertThat(result.get(), is(true));
+        }
+    }
+
+    public interface Order {
+        Customer getCustomer();
+    }
+
+    public interface Customer {
+        String getName();
+    }
+
+    private static class PrivateOrder implements Order {
+
+        private final Customer details;
+
+        private PrivateOrder(Customer details) {
+            this.details = details;
+        }
+
+        @Override
+        public Customer getCustomer() {
+            return details;
+        }
+    }
+
+    private static class PrivateCustomer implements Customer {
+
+        private final String fullName;
+
+        private PrivateCustomer(String fullName) {
+            this.fullName = fullName;
+        }
+
+        @Override
+        public String getName() {
+            return fullName;
+        }
+    }
+}
@@ -21,11 +21,14 @@ import org.hamcrest.Matcher;
 import org.junit.Before;
 import org.junit.Test;
 
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static shiver.me.timbers.data.random.RandomBooleans.someBoolean;
 import static shiver.me.timbers.data.random.RandomStrings.someAlphaNumericString;
 import static shiver.me.timbers.data.random.RandomStrings.someString;
@@ -36,9 +39,11 @@ public class PropertyMatcherTest {
     private String property;
     private Matcher matcher;
     private PropertyMatcher<Object> propertyMatcher;
+    private Description description;
 
     @Before
     public void setUp() {
+        description = mock(Description.class);
         reflections = mock(Reflections.class);
         property = someAlphaNumericString(8);
         matcher = mock(Matcher.class);
@@ -54,7 +59,7 @@ public class PropertyMatcherTest {
         final boolean expected = someBoolean();
 
         // Given
-        given(reflections.getPropertyValue(property, aClass)).willReturn(value);
+        given(reflections.getPropertyValue(new PropertyPath(property), aClass)).willReturn(value);
         given(matcher.matches(value)).willReturn(expected);
 
         // When
@@ -65,75 +70,106 @@ public class PropertyMatcherTest {
     }
 
     @Test
-    public void Can_get_a_default_description() throws NoSuchPropertyException, IllegalAccessException {
+    public void Can_match_a_property_without_describing_the_mismatch() throws NoSuchPropertyException {
 
         final AClass aClass = new AClass();
-        final Description description = mock(Description.class);
+        final Object value = new Object();
+
+        // Given
+        given(reflections.getPropertyValue(new PropertyPath(property), aClass)).willReturn(value);
+        given(matcher.matches(value)).willReturn(true);
+
+        // When
+        final boolean actual = propertyMatcher.matches(aClass);
+
+        // Then
+        assertThat(actual, is(true));
+        verifyZeroInteractions(description);
+    }
+
+    @Test
+    public void Can_get_a_description() {
 
         final Description descriptionStart = mock(Description.class);
-        final Description descriptionClassName = mock(Description.class);
-        final Description descriptionMiddle = mock(Description.class);
         final Description descriptionProperty = mock(Description.class);
-        final Description mismatchDescription = mock(Description.class);
 
         // Given
-        given(description.appendText("class ")).willReturn(descriptionStart);
-        given(descriptionStart.appendText(aClass.getClass().getName())).willReturn(descriptionClassName);
-        given(descriptionClassName.appendText(" to contain the property ")).willReturn(descriptionMiddle);
-        given(descriptionMiddle.appendText(property)).willReturn(descriptionProperty);
+        given(description.appendText("an object with the property ")).willReturn(descriptionStart);
+        given(descriptionStart.appendText(property)).willReturn(descriptionProperty);
         given(descriptionProperty.appendText(" that is ")).willReturn(descriptionProperty);
 
         // When
-        propertyMatcher.matches(aClass);
         propertyMatcher.describeTo(description);
-        propertyMatcher.describeMismatch(aClass, mismatchDescription);
 
         // Then
         verify(descriptionProperty).appendDescriptionOf(matcher);
-        verify(mismatchDescription).appendText("the property value does not match.");
     }
 
     @Test
-    public void Can_fail_to_match_a_property_that_does_not_exist_and_give_a_meaningful_description()
-        throws NoSuchPropertyException, IllegalAccessException {
+    public void Can_fail_to_match_a_property_and_give_a_meaningful_description() throws NoSuchPropertyException {
 
         final AClass aClass = new AClass();
-        final Description description = mock(Description.class);
+        final Object value = new Object();
+        final Description descriptionStart = mock(Description.class);
+        final Description descriptionClassName = mock(Description.class);
+
+        // Given
+        given(reflections.getPropertyValue(new PropertyPath(property), aClass)).willReturn(value);
+        given(matcher.matches(value)).willReturn(false);
+        given(description.appendText("the property value in class ")).willReturn(descriptionStart);
+        given(descriptionStart.appendText(aClass.getClass().getName())).willReturn(descriptionClassName);
+
+        // When
+        propertyMatcher.describeMismatch(aClass, description);
+
+        // Then
+        verify(descriptionClassName).appendText(" does not match.");
+    }
 
+    @Test
+    public void Can_fail_to_match_a_property_that_does_not_exist_and_give_a_meaningful_description()
+        throws NoSuchPropertyException {
+
+        final AClass aClass = new AClass();
         final NoSuchPropertyException exception = mock(NoSuchPropertyException.class);
         final Description descriptionStart = mock(Description.class);
-        final Description descriptionClassName = mock(Description.class);
-        final Description descriptionMiddle = mock(Description.class);
-        final Description descriptionProperty = mock(Description.class);
-        final Description mismatchDescription = mock(Description.class);
-        final Description mismatchDescriptionStart = mock(Description.class);
         final String markedProperty = someString();
-        final Description mismatchDescriptionMarkedProperty = mock(Description.class);
-        final Description mismatchDescriptionMiddle = mock(Description.class);
+        final Description descriptionMarkedProperty = mock(Description.class);
+        final Description descriptionMiddle = mock(Description.class);
         final Object object = new Object();
-        final Description mismatchDescriptionEnd = mock(Description.class);
+        final Description descriptionEnd = mock(Description.class);
 
         // Given
-        given(reflections.getPropertyValue(property, aClass)).willThrow(exception);
-        given(description.appendText("class ")).willReturn(descriptionStart);
-        given(descriptionStart.appendText(aClass.getClass().getName())).willReturn(descriptionClassName);
-        given(descriptionClassName.appendText(" to contain the property ")).willReturn(descriptionMiddle);
-        given(descriptionMiddle.appendText(property)).willReturn(descriptionProperty);
-        given(mismatchDescription.appendText("the property was invalid at ")).willReturn(mismatchDescriptionStart);
+        given(reflections.getPropertyValue(new PropertyPath(property), aClass)).willThrow(exception);
+        given(description.appendText("the property was invalid at ")).willReturn(descriptionStart);
         given(exception.getMarkedProperty()).willReturn(markedProperty);
-        given(mismatchDescriptionStart.appendText(markedProperty)).willReturn(mismatchDescriptionMarkedProperty);
-        given(mismatchDescriptionMarkedProperty.appendText(" in class ")).willReturn(mismatchDescriptionMiddle);
+        given(descriptionStart.appendText(markedProperty)).willReturn(descriptionMarkedProperty);
+        given(descriptionMarkedProperty.appendText(" in class ")).willReturn(descriptionMiddle);
         given(exception.getErrorObject()).willReturn(object);
-        given(mismatchDescriptionMiddle.appendText(object.getClass().getName())).willReturn(mismatchDescriptionEnd);
+        given(descriptionMiddle.appendText(object.getClass().getName())).willReturn(descriptionEnd);
 
         // When
-        propertyMatcher.matches(aClass);
-        propertyMatcher.describeTo(description);
-        propertyMatcher.describeMismatch(aClass, mismatchDescription);
+        final boolean actual = propertyMatcher.matches(aClass);
+        propertyMatcher.describeMismatch(aClass, description);
 
         // Then
-        verify(descriptionProperty).appendText(".");
-        verify(mismatchDescriptionEnd).appendText(".");
+        assertThat(actual, is(false));
+        verify(descriptionEnd).appendText(".");
+    }
+
+    @Test
+    public void Cannot_match_a_property_with_a_wildcard() {
+
+        try {
+            // When
+            new PropertyMatcher<>(reflections, "lines[*].sku", matcher);
+            fail("A property with a wildcard should be rejected.");
+        } catch (IllegalArgumentException e) {
+            // Then
+            assertThat(e.getMessage(), equalTo(
+                "The property (lines[*].sku) has a [*] wildcard, use everyValue or anyValue to match its values."
+            ));
+        }
     }
 
     private class AClass {
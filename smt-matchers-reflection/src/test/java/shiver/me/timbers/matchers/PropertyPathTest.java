@@ -0,0 +1,212 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.lang.String.format;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static shiver.me.timbers.data.random.RandomStrings.someAlphaNumericString;
+
+public class PropertyPathTest {
+
+    private Reflections reflections;
+
+    @Before
+    public void setUp() {
+        reflections = mock(Reflections.class);
+    }
+
+    @Test
+    public void Can_split_a_property() {
+
+        // Given
+        final String one = someAlphaNumericString();
+        final String two = someAlphaNumericString();
+        final String three = someAlphaNumericString();
+
+        // When
+        final String[] actual = PropertyPath.split(format("%s.%s.%s", one, two, three));
+
+        // Then
+        assertThat(actual, arrayContaining(one, two, three));
+    }
+
+    @Test
+    public void Can_split_a_single_property() {
+
+        // Given
+        final String property = someAlphaNumericString();
+
+        // When
+        final String[] actual = PropertyPath.split(property);
+
+        // Then
+        assertThat(actual, arrayContaining(property));
+    }
+
+    @Test
+    public void Can_split_a_property_with_indexed_and_keyed_segments() {
+
+        // When
+        final String[] actual = PropertyPath.split("orders[3].lines[0][eu.west].sku");
+
+        // Then
+        assertThat(actual, arrayContaining("orders", "[3]", "lines", "[0]", "[eu.west]", "sku"));
+    }
+
+    @Test
+    public void Can_split_a_property_that_starts_with_an_index() {
+
+        // When
+        final String[] actual = PropertyPath.split("[1].name");
+
+        // Then
+        assertThat(actual, arrayContaining("[1]", "name"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Cannot_split_a_property_with_an_unclosed_bracket() {
+
+        // When
+        PropertyPath.split("orders[3");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Cannot_split_a_property_with_a_name_straight_after_a_bracket() {
+
+        // When
+        PropertyPath.split("orders[3]sku");
+    }
+
+    @Test
+    public void Cannot_split_a_property_with_an_empty_segment() {
+
+        for (String property : new String[]{"", "one.", "one..two", ".one", "orders[3]."}) {
+            try {
+                // When
+                PropertyPath.split(property);
+                fail("An empty segment should have been rejected in: " + property);
+            } catch (IllegalArgumentException e) {
+                // Then
+                assertThat(e.getMessage(), equalTo(format("The property (%s) has an empty segment.", property)));
+            }
+        }
+    }
+
+    @Test
+    public void Can_use_the_same_element_accessor_for_every_class() {
+
+        // Given
+        final PropertyPath path = new PropertyPath("orders[3]");
+
+        // When
+        final FieldAccessor actual = path.getFieldAccessor(reflections, 1, AClass.class);
+
+        // Then
+        assertThat(actual, sameInstance(path.getFieldAccessor(reflections, 1, BClass.class)));
+    }
+
+    @Test
+    public void Can_parse_a_property() {
+
+        // Given
+        final String one = someAlphaNumericString();
+        final String two = someAlphaNumericString();
+        final String property = format("%s.%s", one, two);
+
+        // When
+        final PropertyPath actual = new PropertyPath(property);
+
+        // Then
+        assertThat(actual.getProperty(), equalTo(property));
+        assertThat(actual.getNames(), arrayContaining(one, two));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.toString(), equalTo(property));
+    }
+
+    @Test
+    public void Can_bind_a_segment_to_a_field_accessor_once_per_class() {
+
+        final String name = someAlphaNumericString();
+        final PropertyPath path = new PropertyPath(name);
+        final FieldAccessor expected = mock(FieldAccessor.class);
+
+        // Given
+        given(reflections.getPropertyAccessor(name, AClass.class)).willReturn(expected);
+
+        // When
+        final FieldAccessor actual = path.getFieldAccessor(reflections, 0, AClass.class);
+
+        // Then
+        assertThat(actual, sameInstance(expected));
+        assertThat(path.getFieldAccessor(reflections, 0, AClass.class), sameInstance(expected));
+        verify(reflections, times(1)).getPropertyAccessor(name, AClass.class);
+    }
+
+    @Test
+    public void Can_rebind_a_segment_when_the_class_changes() {
+
+        final String name = someAlphaNumericString();
+        final PropertyPath path = new PropertyPath(name);
+        final FieldAccessor one = mock(FieldAccessor.class);
+        final FieldAccessor two = mock(FieldAccessor.class);
+
+        // Given
+        given(reflections.getPropertyAccessor(name, AClass.class)).willReturn(one);
+        given(reflections.getPropertyAccessor(name, BClass.class)).willReturn(two);
+        path.getFieldAccessor(reflections, 0, AClass.class);
+
+        // When
+        final FieldAccessor actual = path.getFieldAccessor(reflections, 0, BClass.class);
+
+        // Then
+        assertThat(actual, sameInstance(two));
+    }
+
+    @Test
+    public void Can_check_the_equality_of_property_paths() {
+
+        // Given
+        final String property = someAlphaNumericString();
+        final PropertyPath path = new PropertyPath(property);
+
+        // Then
+        assertThat(path, equalTo(path));
+        assertThat(path, equalTo(new PropertyPath(property)));
+        assertThat(path.hashCode(), equalTo(new PropertyPath(property).hashCode()));
+        assertThat(path, not(equalTo(new PropertyPath(property + "a"))));
+        assertThat(path, not(equalTo((Object) property)));
+    }
+
+    private static class AClass {
+    }
+
+    private static class BClass {
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.CustomTypeSafeMatcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.anything;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static shiver.me.timbers.matchers.PropertyValuesMatcher.anyValue;
+import static shiver.me.timbers.matchers.PropertyValuesMatcher.everyValue;
+
+public class PropertyValuesMatcherTest {
+
+    @Test
+    public void Can_check_every_value_of_a_property() {
+
+        // Given
+        final Order order = new Order(new Line(1, 2), new Line(3));
+
+        // Then
+        assertThat(order, everyValue("lines[*].prices[*]", greaterThan(0)));
+        assertThat(order, not(everyValue("lines[*].prices[*]", greaterThan(1))));
+    }
+
+    @Test
+    public void Can_check_any_value_of_a_property() {
+
+        // Given
+        final Order order = new Order(new Line(1, 2), new Line(3));
+
+        // Then
+        assertThat(order, anyValue("lines[*].prices[*]", equalTo(3)));
+        assertThat(order, not(anyValue("lines[*].prices[*]", equalTo(4))));
+    }
+
+    @Test
+    public void Can_check_the_values_of_an_empty_property() {
+
+        // Given
+        final Order order = new Order();
+
+        // Then
+        assertThat(order, everyValue("lines[*].prices[*]", greaterThan(0)));
+        assertThat(order, not(anyValue("lines[*].prices[*]", greaterThan(0))));
+    }
+
+    @Test
+    public void Can_check_every_value_of_a_property_in_parallel() {
+
+        // Given
+        final Order order = new Order(IntStream.range(1, 10000).mapToObj(Line::new).toArray(Line[]::new));
+
+        // Then
+        assertThat(order, everyValue("lines[*].prices[*]", greaterThan(0)).inParallel());
+        assertThat(order, anyValue("lines[*].prices[*]", equalTo(9999)).inParallel());
+        assertThat(order, not(everyValue("lines[*].prices[*]", greaterThan(1)).inParallel()));
+    }
+
+    @Test
+    public void Can_get_a_description() {
+
+        // Given
+        final StringDescription description = new StringDescription();
+
+        // When
+        everyValue("lines[*].price", equalTo(1)).describeTo(description);
+
+        // Then
+        assertThat(description.toString(), equalTo("an object where every value of lines[*].price is <1>"));
+    }
+
+    @Test
+    public void Can_describe_the_first_value_that_does_not_match() {
+
+        // Given
+        final Order order = new Order(new Line(1, 2), new Line(3, -1, -2));
+        final PropertyValuesMatcher<Order> matcher = everyValue("lines[*].prices[*]", greaterThan(0));
+        final StringDescription description = new StringDescription();
+
+        // When
+        matcher.inParallel().describeMismatch(order, description);
+
+        // Then
+        assertThat(
+            description.toString(),
+            equalTo("the value of lines[1].prices[1] in class " + Order.class.getName() + " <-1> was less than <0>")
+        );
+    }
+
+    @Test
+    public void Can_describe_that_no_value_matched() {
+
+        // Given
+        final Order order = new Order(new Line(1, 2), new Line(3));
+        final PropertyValuesMatcher<Order> matcher = anyValue("lines[*].prices[*]", equalTo(4));
+        final StringDescription description = new StringDescription();
+
+        // When
+        matcher.describeMismatch(order, description);
+
+        // Then
+        assertThat(
+            description.toString(),
+            equalTo("none of the 3 values of lines[*].prices[*] in class " + Order.class.getName() + " matched.")
+        );
+    }
+
+    @Test
+    public void Can_describe_an_invalid_property() {
+
+        // Given
+        final Order order = new Order(new Line(1));
+        final PropertyValuesMatcher<Order> matcher = everyValue("lines[*].costs[*]", greaterThan(0));
+        final StringDescription description = new StringDescription();
+
+        // When
+        final boolean actual = matcher.matches(order);
+        matcher.describeMismatch(order, description);
+
+        // Then
+        assertThat(actual, is(false));
+        assertThat(
+            description.toString(),
+            equalTo("the property was invalid at lines[*].[costs][*] in class " + Line.class.getName() + ".")
+        );
+    }
+
+    @Test
+    public void Cannot_match_the_values_of_a_null_property() {
+
+        // Given
+        final Order order = new Order((Line[]) null);
+        final PropertyValuesMatcher<Order> matcher = everyValue("lines[*].prices[*]", anything());
+        final StringDescription description = new StringDescription();
+
+        // When
+        final boolean actual = matcher.matches(order);
+        matcher.describeMismatch(order, description);
+
+        // Then
+        assertThat(actual, is(false));
+        assertThat(anyValue("lines[*].prices[*]", anything()).matches(order), is(false));
+        assertThat(
+            description.toString(),
+            equalTo("the property was invalid at lines[[*]].prices[*] because the value before it was null.")
+        );
+    }
+
+    @Test
+    public void Can_fail_a_parallel_match_without_walking_the_values_again() {
+
+        // Given
+        final Order order = new Order(new Line(-1));
+        final AtomicInteger count = new AtomicInteger();
+        final PropertyValuesMatcher<Order> matcher = everyValue(
+            "lines[*].prices[*]",
+            new CustomTypeSafeMatcher<Integer>("a counted positive number") {
+                @Override
+                protected boolean matchesSafely(Integer item) {
+                    count.incrementAndGet();
+                    return item > 0;
+                }
+            }
+        );
+
+        // When
+        final boolean actual = matcher.inParallel().matches(order);
+
+        // Then
+        assertThat(actual, is(false));
+        assertThat(count.get(), is(1));
+    }
+
+    @Test
+    public void Can_describe_a_failed_parallel_match_with_a_single_sequential_walk() {
+
+        // Given
+        final Order order = new Order(new Line(-1));
+        final AtomicInteger count = new AtomicInteger();
+        final StringDescription description = new StringDescription();
+        final PropertyValuesMatcher<Order> matcher = everyValue(
+            "lines[*].prices[*]",
+            new CustomTypeSafeMatcher<Integer>("a counted positive number") {
+                @Override
+                protected boolean matchesSafely(Integer item) {
+                    count.incrementAndGet();
+                    return item > 0;
+                }
+            }
+        );
+
+        // When
+        matcher.inParallel().describeMismatch(order, description);
+
+        // Then
+        assertThat(count.get(), is(1));
+        assertThat(description.toString(), startsWith("the value of lines[0].prices[0] in class "));
+    }
+
+    private static class Line {
+
+        private final List<Integer> prices;
+
+        private Line(Integer... prices) {
+            this.prices = asList(prices);
+        }
+
+        private Line(int price) {
+            this.prices = IntStream.of(price).boxed().collect(toList());
+        }
+    }
+
+    private static class Order {
+
+        private final Line[] lines;
+
+        private Order(Line... lines) {
+            this.lines = lines;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class PropertyValuesTest {
+
+    @Test
+    public void Can_visit_every_value_of_a_wildcard_property() {
+
+        // Given
+        final Order order = new Order(new Line(1, 2), new Line(3));
+
+        // When
+        final List<Object> actual = values("lines[*].prices[*]", order);
+
+        // Then
+        assertThat(actual, contains((Object) 1, 2, 3));
+    }
+
+    @Test
+    public void Can_visit_the_values_of_maps_and_other_iterables() {
+
+        // Given
+        final Map<String, Integer> map = new LinkedHashMap<>();
+        map.put("one", 1);
+        map.put("two", 2);
+        class AClass {
+            private final Map<String, Integer> prices = map;
+            private final Iterable<Integer> set = new LinkedHashSet<>(asList(3, 4));
+            private final int[] primitives = {5, 6};
+        }
+
+        // Then
+        assertThat(values("prices[*]", new AClass()), contains((Object) 1, 2));
+        assertThat(values("set[*]", new AClass()), contains((Object) 3, 4));
+        assertThat(values("primitives[*]", new AClass()), contains((Object) 5, 6));
+    }
+
+    @Test
+    public void Can_visit_the_single_value_of_a_property_without_a_wildcard() {
+
+        // Given
+        final Order order = new Order(new Line(1, 2), new Line(3));
+
+        // Then
+        assertThat(values("lines[1].prices[0]", order), contains((Object) 3));
+    }
+
+    @Test
+    public void Can_stop_visiting_without_reading_the_remaining_values() {
+
+        // Given
+        final Iterator<Integer> iterator = asList(1, 2, 3).iterator();
+        class AClass {
+            private final Iterable<Integer> values = () -> iterator;
+        }
+        final PropertyValues values = new PropertyValues(
+            new Reflections(),
+            new PropertyPath("values[*]"),
+            new AClass()
+        );
+
+        // When
+        values.tryAdvance(value -> {
+        });
+
+        // Then
+        assertThat(iterator.next(), is(2));
+    }
+
+    @Test
+    public void Can_get_the_property_of_the_last_visited_value() {
+
+        // Given
+        final Map<String, Order> map = new LinkedHashMap<>();
+        map.put("first", new Order(new Line(1)));
+        map.put("second", new Order(new Line(2), new Line(3, 4)));
+        class AClass {
+            private final Map<String, Order> orders = map;
+        }
+        final PropertyValues values = new PropertyValues(
+            new Reflections(),
+            new PropertyPath("orders[*].lines[*].prices[*]"),
+            new AClass()
+        );
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            values.tryAdvance(value -> {
+            });
+        }
+
+        // Then
+        assertThat(values.getVisitedProperty(), equalTo("orders[second].lines[1].prices[0]"));
+    }
+
+    @Test
+    public void Can_split_a_wildcard_so_that_the_values_can_be_visited_in_parallel() {
+
+        // Given
+        final Line[] lines = IntStream.range(0, 1000).mapToObj(Line::new).toArray(Line[]::new);
+        final Order order = new Order(lines);
+        final PropertyPath path = new PropertyPath("lines[*].prices[*]");
+        final PropertyValues values = new PropertyValues(new Reflections(), path, order);
+
+        // When
+        final Spliterator<Object> split = values.trySplit();
+
+        // Then
+        assertThat(split, notNullValue());
+        assertThat(split.estimateSize(), is(500L));
+        assertThat(values.estimateSize(), is(500L));
+        assertThat(
+            StreamSupport.stream(new PropertyValues(new Reflections(), path, order), true).collect(Collectors.toList()),
+            containsInAnyOrder(IntStream.range(0, 1000).boxed().toArray())
+        );
+    }
+
+    @Test
+    public void Cannot_split_a_property_without_a_wildcard() {
+
+        // Given
+        final PropertyValues values = new PropertyValues(
+            new Reflections(),
+            new PropertyPath("lines[0]"),
+            new Order(new Line(1))
+        );
+
+        // Then
+        assertThat(values.trySplit(), nullValue());
+        assertThat(values("lines[0].prices[0]", new Order(new Line(1))), contains((Object) 1));
+    }
+
+    @Test(expected = PropertyValues.InvalidPropertyException.class)
+    public void Cannot_use_a_wildcard_on_a_value_that_is_not_a_collection() {
+
+        // When
+        values("lines[0].prices[0][*]", new Order(new Line(1)));
+    }
+
+    private static List<Object> values(String property, Object object) {
+        final List<Object> values = new ArrayList<>();
+        final PropertyValues spliterator = new PropertyValues(new Reflections(), new PropertyPath(property), object);
+        while (spliterator.tryAdvance(values::add)) {
+        }
+        return values;
+    }
+
+    private static class Line {
+
+        private final int[] prices;
+
+        private Line(int... prices) {
+            this.prices = prices;
+        }
+    }
+
+    private static class Order {
+
+        private final List<Line> lines;
+
+        private Order(Line... lines) {
+            this.lines = asList(lines);
+        }
+    }
+}
@@ -20,10 +20,35 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
-
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isA;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+import static shiver.me.timbers.data.random.RandomIntegers.someInteger;
+import static shiver.me.timbers.data.random.RandomLongs.someLong;
+import static shiver.me.timbers.data.random.RandomStrings.someAlphaNumericString;
 import static shiver.me.timbers.data.random.RandomStrings.someString;
 
 public class ReflectionsTest {
@@ -31,6 +56,9 @@ public class ReflectionsTest {
     @Rule
     public ExpectedException expectedException = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     private Reflections reflections;
 
     @Before
@@ -101,6 +129,510 @@ public class ReflectionsTest {
         reflections.getFieldValue("fieldName", new CClass());
     }
 
+    @Test
+    public void Can_get_the_value_of_a_primitive_field() throws NoSuchFieldException, IllegalAccessException {
+
+        // Given
+        final long expected = someLong();
+        class AClass {
+            private final long fieldName = expected;
+        }
+
+        // When
+        final Long actual = reflections.getFieldValue("fieldName", new AClass());
+
+        // Then
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    public void Can_reuse_a_resolved_field_accessor() {
+
+        // Given
+        class AClass {
+            private final String fieldName = someString();
+        }
+
+        // When
+        final FieldAccessor actual = reflections.getFieldAccessor("fieldName", AClass.class);
+
+        // Then
+        assertThat(actual, sameInstance(new Reflections().getFieldAccessor("fieldName", AClass.class)));
+    }
+
+    @Test
+    public void Can_resolve_a_separate_field_accessor_for_each_class() {
+
+        // Given
+        class AClass {
+            private final String fieldName = someString();
+        }
+        class BClass {
+            private final String fieldName = someString();
+        }
+
+        // When
+        final FieldAccessor actual = reflections.getFieldAccessor("fieldName", AClass.class);
+
+        // Then
+        assertThat(actual, not(sameInstance(reflections.getFieldAccessor("fieldName", BClass.class))));
+    }
+
+    @Test
+    public void Can_get_the_value_of_a_field_with_the_supplied_strategy()
+        throws NoSuchFieldException, IllegalAccessException {
+
+        // Given
+        final String expected = someString();
+        class AClass {
+            private final String fieldName = expected;
+        }
+
+        // When
+        final String actual = new Reflections(FieldAccess.GENERATED).getFieldValue("fieldName", new AClass());
+
+        // Then
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    public void Can_resolve_a_separate_field_accessor_for_each_strategy() {
+
+        // Given
+        class AClass {
+            private final String fieldName = someString();
+        }
+
+        // When
+        final FieldAccessor actual = new Reflections(FieldAccess.REFLECTION)
+            .getFieldAccessor("fieldName", AClass.class);
+
+        // Then
+        assertThat(actual, sameInstance(
+            new Reflections(FieldAccess.REFLECTION).getFieldAccessor("fieldName", AClass.class)
+        ));
+        assertThat(actual, not(sameInstance(
+            new Reflections(FieldAccess.GENERATED).getFieldAccessor("fieldName", AClass.class)
+        )));
+    }
+
+    @Test
+    public void Can_release_a_custom_strategy_once_nothing_uses_it() throws InterruptedException {
+
+        // Given
+        class AClass {
+            private final String fieldName = someString();
+        }
+        FieldAccessStrategy strategy = new FieldAccessStrategy() {
+            @Override
+            public Function<Object, Object> getter(Field field) throws IllegalAccessException {
+                return FieldAccess.REFLECTION.getter(field);
+            }
+        };
+        final WeakReference<FieldAccessStrategy> reference = new WeakReference<>(strategy);
+        new Reflections(strategy).getFieldAccessor("fieldName", AClass.class);
+
+        // When
+        strategy = null;
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // Then
+        assertThat(reference.get(), nullValue());
+    }
+
+    @Test
+    public void Can_get_the_value_of_a_static_field() throws NoSuchFieldException, IllegalAccessException {
+
+        // Given
+        class AClass {
+            private static final String fieldName = "static value";
+        }
+
+        // When
+        final String actual = reflections.getFieldValue("fieldName", new AClass());
+
+        // Then
+        assertThat(actual, is("static value"));
+    }
+
+    @Test
+    public void Can_remember_that_a_field_does_not_exist() throws NoSuchFieldException, IllegalAccessException {
+
+        // Given
+        class AClass {
+        }
+        final FieldAccessor accessor = reflections.getFieldAccessor("fieldName", AClass.class);
+        expectedException.expect(NoSuchFieldException.class);
+        expectedException.expectMessage(AClass.class.getName() + ".fieldName");
+
+        // When
+        assertThat(reflections.getFieldAccessor("fieldName", AClass.class), sameInstance(accessor));
+        accessor.get(new AClass());
+    }
+
+    @Test
+    public void Can_get_the_value_of_an_indexed_property() throws NoSuchPropertyException {
+
+        // Given
+        final String expected = someString();
+        class AClass {
+            private final String sku = expected;
+        }
+        class BClass {
+            private final AClass[] lines = {new AClass(), new AClass()};
+        }
+        class CClass {
+            private final List<BClass> orders = asList(new BClass(), new BClass());
+        }
+
+        // When
+        final String actual = reflections.getPropertyValue("orders[1].lines[0].sku", new CClass());
+
+        // Then
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    public void Can_get_the_value_of_a_keyed_property() throws NoSuchPropertyException {
+
+        // Given
+        final String expected = someString();
+        class AClass {
+            private final Map<String, String> attributes = singletonMap("eu.west", expected);
+            private final Map<Integer, String> codes = new TreeMap<>(singletonMap(7, expected));
+        }
+
+        // When
+        final String actual = reflections.getPropertyValue("attributes[eu.west]", new AClass());
+
+        // Then
+        assertThat(actual, is(expected));
+        assertThat(reflections.<String>getPropertyValue("codes[7]", new AClass()), is(expected));
+    }
+
+    @Test
+    public void Can_fail_to_get_the_value_of_an_index_that_is_out_of_bounds() throws NoSuchPropertyException {
+
+        // Given
+        class AClass {
+            private final int[] lines = {1, 2};
+        }
+        expectedException.expect(NoSuchPropertyException.class);
+        expectedException.expectCause(isA(NoSuchFieldException.class));
+        expectedException.expectMessage(
+            String.format(
+                "For class %s, property (lines[[2]]) is invalid in composite class %s.",
+                AClass.class.getName(),
+                int[].class.getName()
+            )
+        );
+
+        // When
+        reflections.getPropertyValue("lines[2]", new AClass());
+    }
+
+    @Test
+    public void Can_fail_to_get_the_value_of_a_key_that_does_not_exist() throws NoSuchPropertyException {
+
+        // Given
+        class AClass {
+            private final Map<String, String> attributes = singletonMap("one", someString());
+        }
+        expectedException.expect(NoSuchPropertyException.class);
+        expectedException.expectMessage("(attributes[[two]])");
+
+        // When
+        reflections.getPropertyValue("attributes[two]", new AClass());
+    }
+
+    @Test
+    public void Can_get_the_value_of_a_property_from_a_getter() throws NoSuchPropertyException {
+
+        // Given
+        final String expected = someString();
+        class AClass {
+            private final String name = someString();
+
+            public String getName() {
+                return expected;
+            }
+        }
+
+        // When
+        final String actual = reflections.getPropertyValue("name", new AClass());
+
+        // Then
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    public void Can_get_the_value_of_a_property_from_a_boolean_getter_without_a_field()
+        throws NoSuchPropertyException {
+
+        // Given
+        class AClass {
+            public boolean isActive() {
+                return true;
+            }
+        }
+
+        // When
+        final Boolean actual = reflections.getPropertyValue("active", new AClass());
+
+        // Then
+        assertThat(actual, is(true));
+    }
+
+    @Test
+    public void Can_get_the_value_of_a_property_from_a_field_if_the_getter_is_not_public()
+        throws NoSuchPropertyException {
+
+        // Given
+        final String expected = someString();
+        class AClass {
+            private final String name = expected;
+
+            private String getName() {
+                return someString();
+            }
+        }
+
+        // When
+        final String actual = reflections.getPropertyValue("name", new AClass());
+
+        // Then
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    public void Cannot_get_a_property_from_a_getter_that_throws() throws NoSuchPropertyException {
+
+        // Given
+        class AClass {
+            public String getName() {
+                throw new IllegalStateException("not loaded");
+            }
+        }
+        expectedException.expect(NoSuchPropertyException.class);
+
+        // When
+        reflections.getPropertyValue("name", new AClass());
+    }
+
+    @Test
+    public void Cannot_get_the_class_of_an_object_as_a_property() throws NoSuchPropertyException {
+
+        // Given
+        class AClass {
+        }
+        expectedException.expect(NoSuchPropertyException.class);
+
+        // When
+        reflections.getPropertyValue("class", new AClass());
+    }
+
+    @Test
+    public void Can_get_the_value_of_a_property_from_a_record_component() throws Exception {
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeTrue("Records need Java 16 or later.", compiler != null && isPresent("java.lang.Record"));
+
+        final String expected = someAlphaNumericString(8);
+        final File source = new File(folder.getRoot(), "ARecord.java");
+
+        // Given
+        Files.write(source.toPath(), asList(
+            "public record ARecord(String name) {",
+            "    public String getName() { return \"getter\"; }",
+            "}"
+        ), UTF_8);
+        assertThat(compiler.run(null, null, null, source.getPath()), is(0));
+        final Object record;
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{folder.getRoot().toURI().toURL()})) {
+            record = loader.loadClass("ARecord").getConstructor(String.class).newInstance(expected);
+        }
+
+        // When
+        final String actual = reflections.getPropertyValue("name", record);
+
+        // Then
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    public void Can_reuse_a_resolved_property_accessor() {
+
+        // Given
+        class AClass {
+            public String getName() {
+                return someString();
+            }
+        }
+
+        // When
+        final FieldAccessor actual = reflections.getPropertyAccessor("name", AClass.class);
+
+        // Then
+        assertThat(actual, sameInstance(new Reflections().getPropertyAccessor("name", AClass.class)));
+    }
+
+    @Test
+    public void Can_reuse_the_field_accessor_for_a_property_without_a_getter() {
+
+        // Given
+        class AClass {
+            private final String name = someString();
+        }
+
+        // When
+        final FieldAccessor actual = reflections.getPropertyAccessor("name", AClass.class);
+
+        // Then
+        assertThat(actual, sameInstance(reflections.getFieldAccessor("name", AClass.class)));
+    }
+
+    @Test
+    public void Can_get_several_field_accessors_at_once() throws NoSuchFieldException, IllegalAccessException {
+
+        // Given
+        final String expected = someString();
+        class AClass {
+            private final String one = someString();
+            private final String two = expected;
+        }
+        class BClass extends AClass {
+            private final String one = expected;
+        }
+        final FieldAccessor cached = reflections.getFieldAccessor("one", BClass.class);
+
+        // When
+        final FieldAccessor[] actual = reflections.getFieldAccessors(new String[]{"one", "two", "three"}, BClass.class);
+
+        // Then
+        assertThat(actual[0], sameInstance(cached));
+        assertThat(actual[0].get(new BClass()), is((Object) expected));
+        assertThat(actual[1].get(new BClass()), is((Object) expected));
+        assertThat(actual[1], sameInstance(reflections.getFieldAccessor("two", BClass.class)));
+        assertThat(actual[2], sameInstance(reflections.getFieldAccessor("three", BClass.class)));
+    }
+
+    @Test
+    public void Can_get_the_instance_fields_of_a_class_and_its_super_classes() {
+
+        // Given
+        class AClass {
+            private final String one = someString();
+        }
+        class BClass extends AClass {
+            private final String two = someString();
+        }
+
+        // When
+        final ClassLayout actual = reflections.getClassLayout(BClass.class);
+
+        // Then
+        assertThat(actual.size(), is(2));
+        assertThat(actual.getName(0), equalTo("two"));
+        assertThat(actual.getName(1), equalTo("one"));
+        assertThat(actual.getAccessor(0), sameInstance(reflections.getFieldAccessor("two", BClass.class)));
+        assertThat(actual, sameInstance(new Reflections().getClassLayout(BClass.class)));
+    }
+
+    @Test
+    public void Can_get_a_field_that_is_hidden_by_a_sub_class() throws NoSuchFieldException, IllegalAccessException {
+
+        // Given
+        final String hidden = someString();
+        final String visible = someString();
+        class AClass {
+            private final String one = hidden;
+        }
+        class BClass extends AClass {
+            private final String one = visible;
+        }
+
+        // When
+        final ClassLayout actual = reflections.getClassLayout(BClass.class);
+
+        // Then
+        assertThat(actual.size(), is(2));
+        assertThat(actual.getName(0), equalTo("one"));
+        assertThat(actual.getName(1), equalTo("AClass.one"));
+        assertThat(actual.getAccessor(0).get(new BClass()), is((Object) visible));
+        assertThat(actual.getAccessor(1).get(new BClass()), is((Object) hidden));
+    }
+
+    @Test
+    public void Can_read_a_primitive_field_without_boxing() throws NoSuchFieldException, IllegalAccessException {
+
+        // Given
+        final int expected = someInteger();
+        class AClass {
+            private final int fieldName = expected;
+        }
+
+        // When
+        final PrimitiveFieldAccessor actual = reflections.getPrimitiveFieldAccessor("fieldName", AClass.class);
+
+        // Then
+        assertThat(actual.getInt(new AClass()), is(expected));
+        assertThat(actual.getLong(new AClass()), is((long) expected));
+        assertThat(actual.getDouble(new AClass()), is((double) expected));
+        assertThat(actual.canRead(boolean.class), is(false));
+        assertThat(actual, sameInstance(new Reflections().getPrimitiveFieldAccessor("fieldName", AClass.class)));
+    }
+
+    @Test
+    public void Can_fail_to_read_a_primitive_field_as_a_narrower_type()
+        throws NoSuchFieldException, IllegalAccessException {
+
+        // Given
+        class AClass {
+            private final long fieldName = someLong();
+        }
+        final PrimitiveFieldAccessor accessor = reflections.getPrimitiveFieldAccessor("fieldName", AClass.class);
+        expectedException.expect(IllegalAccessException.class);
+        expectedException.expectMessage(AClass.class.getName() + ".fieldName");
+
+        // When
+        assertThat(accessor.getFieldType(), equalTo((Object) long.class));
+        accessor.getInt(new AClass());
+    }
+
+    @Test
+    public void Can_fail_to_read_a_boxed_field_as_a_primitive() {
+
+        // Given
+        class AClass {
+            private final Long fieldName = someLong();
+        }
+
+        // When
+        final PrimitiveFieldAccessor actual = reflections.getPrimitiveFieldAccessor("fieldName", AClass.class);
+
+        // Then
+        assertThat(actual.canRead(long.class), is(false));
+    }
+
+    @Test
+    public void Can_remember_that_a_primitive_field_does_not_exist()
+        throws NoSuchFieldException, IllegalAccessException {
+
+        // Given
+        class AClass {
+        }
+        final PrimitiveFieldAccessor accessor = reflections.getPrimitiveFieldAccessor("fieldName", AClass.class);
+        expectedException.expect(NoSuchFieldException.class);
+        expectedException.expectMessage(AClass.class.getName() + ".fieldName");
+
+        // When
+        assertThat(reflections.getPrimitiveFieldAccessor("fieldName", AClass.class), sameInstance(accessor));
+        accessor.getBoolean(new AClass());
+    }
+
     @Test
     public void Can_get_the_value_of_a_property() throws NoSuchPropertyException, IllegalAccessException {
 
@@ -152,6 +684,36 @@ public class ReflectionsTest {
         assertThat(actual, is(expected));
     }
 
+    @Test
+    public void Can_reuse_a_property_path_with_different_classes() throws NoSuchPropertyException {
+
+        // Given
+        final String expected1 = someString();
+        final String expected2 = someString();
+        class AClass {
+            private final String two = expected1;
+        }
+        class BClass {
+            private final String two = expected2;
+        }
+        class CClass {
+            private final Object one;
+
+            private CClass(Object one) {
+                this.one = one;
+            }
+        }
+        final PropertyPath path = new PropertyPath("one.two");
+
+        // When
+        final String actual1 = reflections.getPropertyValue(path, new CClass(new AClass()));
+        final String actual2 = reflections.getPropertyValue(path, new CClass(new BClass()));
+
+        // Then
+        assertThat(actual1, is(expected1));
+        assertThat(actual2, is(expected2));
+    }
+
     @Test
     public void Can_fail_to_get_the_value_of_a_property() throws NoSuchPropertyException, IllegalAccessException {
 
@@ -207,4 +769,13 @@ public class ReflectionsTest {
         // When
         reflections.getPropertyValue("one.two.three", new FClass());
     }
-}
\ No newline at end of file
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+/**
+ * A {@link CharSequence} that stops a regex from running past a deadline. Every regex engine reads its input through
+ * {@link #charAt(int)} so the clock is checked every {@value #CHECK_INTERVAL} reads and a
+ * {@link RegexTimeoutException} is thrown once the deadline has passed, which unwinds the engine no matter how much
+ * backtracking it still has left to do.
+ *
+ * @author Karl Bennett
+ */
+class BudgetedCharSequence implements CharSequence {
+
+    static final int CHECK_INTERVAL = 1024;
+
+    private final CharSequence sequence;
+    private final Budget budget;
+
+    BudgetedCharSequence(CharSequence sequence, long timeoutNanos) {
+        this(sequence, new Budget(System.nanoTime() + timeoutNanos));
+    }
+
+    private BudgetedCharSequence(CharSequence sequence, Budget budget) {
+        this.sequence = sequence;
+        this.budget = budget;
+    }
+
+    @Override
+    public int length() {
+        return sequence.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        budget.spend();
+        return sequence.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new BudgetedCharSequence(sequence.subSequence(start, end), budget);
+    }
+
+    @Override
+    public String toString() {
+        return sequence.toString();
+    }
+
+    /**
+     * The budget is shared with any sub sequences so they all stop at the same deadline. It is only ever used by the
+     * thread that is running the regex so it needs no synchronisation.
+     */
+    private static class Budget {
+
+        private final long deadline;
+        private int reads;
+
+        private Budget(long deadline) {
+            this.deadline = deadline;
+        }
+
+        private void spend() {
+            if (reads++ % CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+                throw new RegexTimeoutException();
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+/**
+ * @author Karl Bennett
+ */
+class CharSequences {
+
+    /**
+     * @return true if the literal can be found anywhere in the sequence, the sequence is searched in place.
+     */
+    static boolean contains(CharSequence sequence, String literal) {
+        if (sequence instanceof String) {
+            return ((String) sequence).contains(literal);
+        }
+        if (literal.isEmpty()) {
+            return true;
+        }
+        final int last = sequence.length() - literal.length();
+        final char first = literal.charAt(0);
+        for (int start = 0; start <= last; start++) {
+            if (sequence.charAt(start) == first && regionMatches(sequence, start, literal)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true if the sequence contains every one of the literals.
+     */
+    static boolean containsAll(CharSequence sequence, String[] literals) {
+        for (String literal : literals) {
+            if (!contains(sequence, literal)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean regionMatches(CharSequence sequence, int start, String literal) {
+        for (int i = 1; i < literal.length(); i++) {
+            if (sequence.charAt(start + i) != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
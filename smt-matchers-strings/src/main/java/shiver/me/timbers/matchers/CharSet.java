@@ -0,0 +1,94 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+/**
+ * A set of code points that a single step of a {@link LinearRegex} can match, built from ranges and other sets.
+ *
+ * @author Karl Bennett
+ */
+class CharSet {
+
+    static final CharSet ANY = new CharSet(new int[]{Character.MIN_CODE_POINT, Character.MAX_CODE_POINT});
+    static final CharSet DIGITS = new CharSet(new int[]{'0', '9'});
+    static final CharSet WORDS = new CharSet(new int[]{'0', '9', 'A', 'Z', '_', '_', 'a', 'z'});
+    static final CharSet SPACES = new CharSet(new int[]{'\t', '\r', ' ', ' '});
+    static final CharSet LINE_TERMINATORS = new CharSet(new int[]{'\n', '\n', '\r', '\r', 0x85, 0x85, 0x2028, 0x2029});
+    static final CharSet UNIX_LINE_TERMINATORS = new CharSet(new int[]{'\n', '\n'});
+
+    static CharSet single(int codePoint, boolean caseInsensitive) {
+        return new CharSet(new int[]{codePoint, codePoint}, new CharSet[0], false, caseInsensitive);
+    }
+
+    private final int[] ranges;
+    private final CharSet[] members;
+    private final boolean negated;
+    private final boolean caseInsensitive;
+
+    private CharSet(int[] ranges) {
+        this(ranges, new CharSet[0], false, false);
+    }
+
+    /**
+     * @param ranges pairs of inclusive start and end code points.
+     * @param members other sets that are also part of this set.
+     */
+    CharSet(int[] ranges, CharSet[] members, boolean negated, boolean caseInsensitive) {
+        this.ranges = ranges;
+        this.members = members;
+        this.negated = negated;
+        this.caseInsensitive = caseInsensitive;
+    }
+
+    CharSet negate() {
+        return new CharSet(ranges, members, !negated, caseInsensitive);
+    }
+
+    boolean matches(int codePoint) {
+        return contains(codePoint) != negated;
+    }
+
+    private boolean contains(int codePoint) {
+        if (inRanges(codePoint)) {
+            return true;
+        }
+        // Like java.util.regex, case insensitive matching only folds ASCII letters by default.
+        if (caseInsensitive && codePoint < 128 && Character.isLetter(codePoint)) {
+            final int other = Character.isUpperCase(codePoint)
+                ? Character.toLowerCase(codePoint)
+                : Character.toUpperCase(codePoint);
+            if (inRanges(other)) {
+                return true;
+            }
+        }
+        for (CharSet member : members) {
+            if (member.matches(codePoint)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean inRanges(int codePoint) {
+        for (int index = 0; index < ranges.length; index += 2) {
+            if (ranges[index] <= codePoint && codePoint <= ranges[index + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import static shiver.me.timbers.matchers.LinearRegexCompiler.BEGIN;
+import static shiver.me.timbers.matchers.LinearRegexCompiler.CHAR;
+import static shiver.me.timbers.matchers.LinearRegexCompiler.END;
+import static shiver.me.timbers.matchers.LinearRegexCompiler.END_OF_LINE;
+import static shiver.me.timbers.matchers.LinearRegexCompiler.JUMP;
+import static shiver.me.timbers.matchers.LinearRegexCompiler.MATCH;
+import static shiver.me.timbers.matchers.LinearRegexCompiler.SPLIT;
+
+/**
+ * A regex engine that simulates every possible path through a regex at once instead of backtracking, so the time it
+ * takes to match a string is always linear in the length of the string no matter what the regex is. It only supports
+ * the common subset of the {@link java.util.regex.Pattern} syntax, see {@link LinearRegexCompiler}.
+ * <p>
+ * A compiled regex holds no state between matches so it can be shared between threads.
+ *
+ * @author Karl Bennett
+ */
+class LinearRegex {
+
+    static LinearRegex compile(String regex, int flags) throws UnsupportedRegexException {
+        return new LinearRegex(new LinearRegexCompiler(regex, flags));
+    }
+
+    private final int[] operations;
+    private final int[] firsts;
+    private final int[] seconds;
+    private final CharSet[] sets;
+    private final boolean unixLines;
+
+    private LinearRegex(LinearRegexCompiler compiler) {
+        this.operations = compiler.getOperations();
+        this.firsts = compiler.getFirsts();
+        this.seconds = compiler.getSeconds();
+        this.sets = compiler.getSets();
+        this.unixLines = compiler.isUnixLines();
+    }
+
+    /**
+     * @return true if the whole of the input matches the regex.
+     */
+    boolean matches(CharSequence input) {
+        final int size = operations.length;
+        int[] current = new int[size];
+        int[] next = new int[size];
+        final int[] visited = new int[size];
+        final int[] stack = new int[size * 2 + 1];
+        int generation = 1;
+        int currentCount = follow(0, 0, input, current, 0, visited, generation, stack);
+        int position = 0;
+        while (position < input.length()) {
+            if (currentCount == 0) {
+                return false;
+            }
+            final int codePoint = Character.codePointAt(input, position);
+            final int nextPosition = position + Character.charCount(codePoint);
+            generation++;
+            int nextCount = 0;
+            for (int i = 0; i < currentCount; i++) {
+                final int instruction = current[i];
+                if (operations[instruction] == CHAR && sets[instruction].matches(codePoint)) {
+                    nextCount = follow(firsts[instruction], nextPosition, input, next, nextCount, visited, generation,
+                        stack);
+                }
+            }
+            final int[] swap = current;
+            current = next;
+            next = swap;
+            currentCount = nextCount;
+            position = nextPosition;
+        }
+        for (int i = 0; i < currentCount; i++) {
+            if (operations[current[i]] == MATCH) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Follow all the jumps, splits, and assertions from the instruction and add every character step or match that is
+     * reached to the list. Each instruction is only visited once per position, which is what keeps matching linear.
+     */
+    private int follow(
+        int start,
+        int position,
+        CharSequence input,
+        int[] list,
+        int count,
+        int[] visited,
+        int generation,
+        int[] stack
+    ) {
+        int added = count;
+        int top = 0;
+        stack[top++] = start;
+        while (top > 0) {
+            final int instruction = stack[--top];
+            if (visited[instruction] == generation) {
+                continue;
+            }
+            visited[instruction] = generation;
+            switch (operations[instruction]) {
+                case SPLIT:
+                    stack[top++] = seconds[instruction];
+                    stack[top++] = firsts[instruction];
+                    break;
+                case JUMP:
+                    stack[top++] = firsts[instruction];
+                    break;
+                case BEGIN:
+                case END:
+                case END_OF_LINE:
+                    if (holds(operations[instruction], position, input)) {
+                        stack[top++] = firsts[instruction];
+                    }
+                    break;
+                default:
+                    list[added++] = instruction;
+            }
+        }
+        return added;
+    }
+
+    private boolean holds(int assertion, int position, CharSequence input) {
+        switch (assertion) {
+            case BEGIN:
+                return position == 0;
+            case END:
+                return position == input.length();
+            default:
+                return position == input.length() || isFinalLineTerminator(position, input);
+        }
+    }
+
+    private boolean isFinalLineTerminator(int position, CharSequence input) {
+        final int remaining = input.length() - position;
+        if (unixLines) {
+            return remaining == 1 && input.charAt(position) == '\n';
+        }
+        if (remaining == 2) {
+            return input.charAt(position) == '\r' && input.charAt(position + 1) == '\n';
+        }
+        if (remaining != 1) {
+            return false;
+        }
+        final char terminator = input.charAt(position);
+        // Like java.util.regex, never match between the \r and \n of a final \r\n.
+        if (terminator == '\n' && position > 0 && input.charAt(position - 1) == '\r') {
+            return false;
+        }
+        return CharSet.LINE_TERMINATORS.matches(terminator);
+    }
+}
@@ -0,0 +1,573 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiles a regex into a program for the {@link LinearRegex} engine. Only the common subset of the
+ * {@link java.util.regex.Pattern} syntax can be compiled, anything that needs backtracking (back references,
+ * look arounds, possessive quantifiers) or that would make the program too large is rejected with an
+ * {@link UnsupportedRegexException} that names the feature.
+ * <p>
+ * The regex is expected to have already been compiled by {@link java.util.regex.Pattern} so that its syntax is known to
+ * be valid.
+ *
+ * @author Karl Bennett
+ */
+class LinearRegexCompiler {
+
+    static final int CHAR = 0;
+    static final int SPLIT = 1;
+    static final int JUMP = 2;
+    static final int BEGIN = 3;
+    static final int END = 4;
+    static final int END_OF_LINE = 5;
+    static final int MATCH = 6;
+
+    static final int MAX_PROGRAM_SIZE = 10000;
+
+    private static final int SUPPORTED_FLAGS = java.util.regex.Pattern.CASE_INSENSITIVE
+        | java.util.regex.Pattern.DOTALL
+        | java.util.regex.Pattern.UNIX_LINES
+        | java.util.regex.Pattern.LITERAL;
+
+    private final String regex;
+    private final boolean caseInsensitive;
+    private final boolean dotAll;
+    private final boolean unixLines;
+    private final List<Integer> operations = new ArrayList<>();
+    private final List<Integer> firsts = new ArrayList<>();
+    private final List<Integer> seconds = new ArrayList<>();
+    private final List<CharSet> sets = new ArrayList<>();
+    private int index;
+
+    LinearRegexCompiler(String regex, int flags) throws UnsupportedRegexException {
+        if ((flags & ~SUPPORTED_FLAGS) != 0) {
+            throw new UnsupportedRegexException("the flags " + flags);
+        }
+        this.regex = regex;
+        this.caseInsensitive = (flags & java.util.regex.Pattern.CASE_INSENSITIVE) != 0;
+        this.dotAll = (flags & java.util.regex.Pattern.DOTALL) != 0;
+        this.unixLines = (flags & java.util.regex.Pattern.UNIX_LINES) != 0;
+        final Node node = (flags & java.util.regex.Pattern.LITERAL) != 0 ? literal(regex) : parse();
+        node.emit(this);
+        emit(MATCH, 0, 0, null);
+    }
+
+    boolean isUnixLines() {
+        return unixLines;
+    }
+
+    int[] getOperations() {
+        return toArray(operations);
+    }
+
+    int[] getFirsts() {
+        return toArray(firsts);
+    }
+
+    int[] getSeconds() {
+        return toArray(seconds);
+    }
+
+    CharSet[] getSets() {
+        return sets.toArray(new CharSet[sets.size()]);
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        final int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    private int emit(int operation, int first, int second, CharSet set) throws UnsupportedRegexException {
+        if (operations.size() >= MAX_PROGRAM_SIZE) {
+            throw new UnsupportedRegexException("patterns this large");
+        }
+        operations.add(operation);
+        firsts.add(first);
+        seconds.add(second);
+        sets.add(set);
+        return operations.size() - 1;
+    }
+
+    private void patch(int instruction, int first, int second) {
+        firsts.set(instruction, first);
+        seconds.set(instruction, second);
+    }
+
+    private int next() {
+        return operations.size();
+    }
+
+    private Node literal(String string) {
+        final List<Node> nodes = new ArrayList<>();
+        for (int offset = 0; offset < string.length(); ) {
+            final int codePoint = string.codePointAt(offset);
+            nodes.add(new Step(CharSet.single(codePoint, caseInsensitive)));
+            offset += Character.charCount(codePoint);
+        }
+        return new Sequence(nodes);
+    }
+
+    private Node parse() throws UnsupportedRegexException {
+        final Node node = alternation();
+        if (index < regex.length()) {
+            throw new UnsupportedRegexException("an unmatched ')'");
+        }
+        return node;
+    }
+
+    private Node alternation() throws UnsupportedRegexException {
+        final List<Node> alternatives = new ArrayList<>();
+        alternatives.add(sequence());
+        while (index < regex.length() && regex.charAt(index) == '|') {
+            index++;
+            alternatives.add(sequence());
+        }
+        return alternatives.size() == 1 ? alternatives.get(0) : new Alternation(alternatives);
+    }
+
+    private Node sequence() throws UnsupportedRegexException {
+        final List<Node> nodes = new ArrayList<>();
+        while (index < regex.length() && regex.charAt(index) != '|' && regex.charAt(index) != ')') {
+            if (regex.startsWith("\\Q", index)) {
+                quoted(nodes);
+            } else {
+                nodes.add(quantified(atom()));
+            }
+        }
+        return new Sequence(nodes);
+    }
+
+    // A quantifier after a quote only repeats the last quoted character, just like java.util.regex.
+    private void quoted(List<Node> nodes) throws UnsupportedRegexException {
+        final int end = regex.indexOf("\\E", index + 2);
+        final String quoted = end < 0 ? regex.substring(index + 2) : regex.substring(index + 2, end);
+        index = end < 0 ? regex.length() : end + 2;
+        if (quoted.isEmpty()) {
+            if (index < regex.length() && "*+?{".indexOf(regex.charAt(index)) >= 0) {
+                throw new UnsupportedRegexException("a quantifier after an empty quote");
+            }
+            return;
+        }
+        final int last = quoted.offsetByCodePoints(quoted.length(), -1);
+        nodes.add(literal(quoted.substring(0, last)));
+        nodes.add(quantified(literal(quoted.substring(last))));
+    }
+
+    private Node quantified(Node atom) throws UnsupportedRegexException {
+        if (index >= regex.length()) {
+            return atom;
+        }
+        final int min;
+        final int max;
+        switch (regex.charAt(index)) {
+            case '*':
+                min = 0;
+                max = -1;
+                index++;
+                break;
+            case '+':
+                min = 1;
+                max = -1;
+                index++;
+                break;
+            case '?':
+                min = 0;
+                max = 1;
+                index++;
+                break;
+            case '{':
+                final int end = regex.indexOf('}', index);
+                final String[] bounds = regex.substring(index + 1, end).split(",", -1);
+                min = Integer.parseInt(bounds[0].trim());
+                max = bounds.length == 1 ? min : bounds[1].trim().isEmpty() ? -1 : Integer.parseInt(bounds[1].trim());
+                index = end + 1;
+                break;
+            default:
+                return atom;
+        }
+        if (index < regex.length() && regex.charAt(index) == '+') {
+            throw new UnsupportedRegexException("possessive quantifiers");
+        }
+        // A lazy quantifier matches the same strings as a greedy one when the whole string must match.
+        if (index < regex.length() && regex.charAt(index) == '?') {
+            index++;
+        }
+        return new Repeat(atom, min, max);
+    }
+
+    private Node atom() throws UnsupportedRegexException {
+        final char c = regex.charAt(index);
+        switch (c) {
+            case '(':
+                return group();
+            case '[':
+                index++;
+                return new Step(characterClass());
+            case '.':
+                index++;
+                return new Step(dot());
+            case '^':
+                index++;
+                return new Assertion(BEGIN);
+            case '$':
+                index++;
+                return new Assertion(END_OF_LINE);
+            case '\\':
+                return escape();
+            default:
+                final int codePoint = regex.codePointAt(index);
+                index += Character.charCount(codePoint);
+                return new Step(CharSet.single(codePoint, caseInsensitive));
+        }
+    }
+
+    private CharSet dot() {
+        if (dotAll) {
+            return CharSet.ANY;
+        }
+        return (unixLines ? CharSet.UNIX_LINE_TERMINATORS : CharSet.LINE_TERMINATORS).negate();
+    }
+
+    private Node group() throws UnsupportedRegexException {
+        index++;
+        if (regex.startsWith("?:", index)) {
+            index += 2;
+        } else if (regex.startsWith("?<", index) && Character.isLetter(regex.charAt(index + 2))) {
+            index = regex.indexOf('>', index) + 1;
+        } else if (regex.startsWith("?", index)) {
+            throw new UnsupportedRegexException("look arounds, atomic groups, or inline flags");
+        }
+        final Node node = alternation();
+        index++;
+        return node;
+    }
+
+    private Node escape() throws UnsupportedRegexException {
+        final char c = regex.charAt(index + 1);
+        switch (c) {
+            case 'A':
+                index += 2;
+                return new Assertion(BEGIN);
+            case 'z':
+                index += 2;
+                return new Assertion(END);
+            case 'Z':
+                index += 2;
+                return new Assertion(END_OF_LINE);
+            default:
+                final CharSet predefined = predefined(c);
+                if (predefined != null) {
+                    index += 2;
+                    return new Step(predefined);
+                }
+                return new Step(CharSet.single(escapedCodePoint(), caseInsensitive));
+        }
+    }
+
+    private static CharSet predefined(char c) {
+        switch (c) {
+            case 'd':
+                return CharSet.DIGITS;
+            case 'D':
+                return CharSet.DIGITS.negate();
+            case 'w':
+                return CharSet.WORDS;
+            case 'W':
+                return CharSet.WORDS.negate();
+            case 's':
+                return CharSet.SPACES;
+            case 'S':
+                return CharSet.SPACES.negate();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Read an escaped code point (e.g. "\t", "\x41", "\.") starting at the backslash.
+     */
+    private int escapedCodePoint() throws UnsupportedRegexException {
+        final char c = regex.charAt(index + 1);
+        index += 2;
+        switch (c) {
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'f':
+                return '\f';
+            case 'a':
+                return '\u0007';
+            case 'e':
+                return '\u001B';
+            case 'c':
+                return regex.charAt(index++) ^ 64;
+            case 'x':
+                if (regex.charAt(index) == '{') {
+                    final int end = regex.indexOf('}', index);
+                    final int codePoint = Integer.parseInt(regex.substring(index + 1, end), 16);
+                    index = end + 1;
+                    return notSurrogate(codePoint);
+                }
+                return hex(2);
+            case 'u':
+                return unicode();
+            case '0':
+                return octal();
+            default:
+                if (Character.isDigit(c) || c == 'k') {
+                    throw new UnsupportedRegexException("back references");
+                }
+                if (c == 'b' || c == 'B' || c == 'G') {
+                    throw new UnsupportedRegexException("boundary matchers");
+                }
+                if (c == 'p' || c == 'P') {
+                    throw new UnsupportedRegexException("Unicode character classes");
+                }
+                if (Character.isLetter(c)) {
+                    throw new UnsupportedRegexException("the \\" + c + " escape");
+                }
+                return c;
+        }
+    }
+
+    /**
+     * Read the hex digits of a unicode escape. Like {@link java.util.regex.Pattern}, a high surrogate escape that is
+     * directly followed by a low surrogate escape is read as the single code point that the pair encodes.
+     */
+    private int unicode() throws UnsupportedRegexException {
+        final int high = hex(4);
+        if (Character.isHighSurrogate((char) high) && regex.startsWith("\\u", index)) {
+            final int low = Integer.parseInt(regex.substring(index + 2, index + 6), 16);
+            if (Character.isLowSurrogate((char) low)) {
+                index += 6;
+                return Character.toCodePoint((char) high, (char) low);
+            }
+        }
+        return notSurrogate(high);
+    }
+
+    /**
+     * The input is matched a code point at a time so a lone surrogate can't be matched the way
+     * {@link java.util.regex.Pattern} would match it.
+     */
+    private static int notSurrogate(int codePoint) throws UnsupportedRegexException {
+        if (codePoint <= Character.MAX_VALUE && Character.isSurrogate((char) codePoint)) {
+            throw new UnsupportedRegexException("lone surrogate escapes");
+        }
+        return codePoint;
+    }
+
+    private int hex(int digits) {
+        final int codePoint = Integer.parseInt(regex.substring(index, index + digits), 16);
+        index += digits;
+        return codePoint;
+    }
+
+    private int octal() {
+        int codePoint = 0;
+        for (int digits = 0; digits < 3 && index < regex.length(); digits++) {
+            final int digit = regex.charAt(index) - '0';
+            if (digit < 0 || digit > 7 || codePoint * 8 + digit > 0377) {
+                break;
+            }
+            codePoint = codePoint * 8 + digit;
+            index++;
+        }
+        return codePoint;
+    }
+
+    /**
+     * Parse a character class, the opening "[" has already been read.
+     */
+    private CharSet characterClass() throws UnsupportedRegexException {
+        final boolean negated = index < regex.length() && regex.charAt(index) == '^';
+        if (negated) {
+            index++;
+        }
+        final List<Integer> ranges = new ArrayList<>();
+        final List<CharSet> members = new ArrayList<>();
+        boolean first = true;
+        while (regex.charAt(index) != ']' || first) {
+            if (regex.charAt(index) == '[') {
+                throw new UnsupportedRegexException("nested character classes");
+            }
+            if (regex.startsWith("&&", index)) {
+                throw new UnsupportedRegexException("character class intersections");
+            }
+            first = false;
+            if (regex.startsWith("\\Q", index)) {
+                final int end = regex.indexOf("\\E", index + 2);
+                final String quoted = end < 0 ? regex.substring(index + 2) : regex.substring(index + 2, end);
+                for (int offset = 0; offset < quoted.length(); ) {
+                    final int codePoint = quoted.codePointAt(offset);
+                    ranges.add(codePoint);
+                    ranges.add(codePoint);
+                    offset += Character.charCount(codePoint);
+                }
+                index = end < 0 ? regex.length() : end + 2;
+                continue;
+            }
+            if (regex.charAt(index) == '\\') {
+                final CharSet predefined = predefined(regex.charAt(index + 1));
+                if (predefined != null) {
+                    members.add(predefined);
+                    index += 2;
+                    continue;
+                }
+            }
+            final int start = classCodePoint();
+            if (regex.charAt(index) == '-' && regex.charAt(index + 1) != ']') {
+                index++;
+                ranges.add(start);
+                ranges.add(classCodePoint());
+            } else {
+                ranges.add(start);
+                ranges.add(start);
+            }
+        }
+        index++;
+        return new CharSet(toArray(ranges), members.toArray(new CharSet[members.size()]), negated, caseInsensitive);
+    }
+
+    private int classCodePoint() throws UnsupportedRegexException {
+        if (regex.charAt(index) == '\\') {
+            return escapedCodePoint();
+        }
+        final int codePoint = regex.codePointAt(index);
+        index += Character.charCount(codePoint);
+        return codePoint;
+    }
+
+    private interface Node {
+        void emit(LinearRegexCompiler compiler) throws UnsupportedRegexException;
+    }
+
+    private static class Step implements Node {
+
+        private final CharSet set;
+
+        private Step(CharSet set) {
+            this.set = set;
+        }
+
+        @Override
+        public void emit(LinearRegexCompiler compiler) throws UnsupportedRegexException {
+            final int instruction = compiler.emit(CHAR, 0, 0, set);
+            compiler.patch(instruction, instruction + 1, 0);
+        }
+    }
+
+    private static class Assertion implements Node {
+
+        private final int operation;
+
+        private Assertion(int operation) {
+            this.operation = operation;
+        }
+
+        @Override
+        public void emit(LinearRegexCompiler compiler) throws UnsupportedRegexException {
+            final int instruction = compiler.emit(operation, 0, 0, null);
+            compiler.patch(instruction, instruction + 1, 0);
+        }
+    }
+
+    private static class Sequence implements Node {
+
+        private final List<Node> nodes;
+
+        private Sequence(List<Node> nodes) {
+            this.nodes = nodes;
+        }
+
+        @Override
+        public void emit(LinearRegexCompiler compiler) throws UnsupportedRegexException {
+            for (Node node : nodes) {
+                node.emit(compiler);
+            }
+        }
+    }
+
+    private static class Alternation implements Node {
+
+        private final List<Node> alternatives;
+
+        private Alternation(List<Node> alternatives) {
+            this.alternatives = alternatives;
+        }
+
+        @Override
+        public void emit(LinearRegexCompiler compiler) throws UnsupportedRegexException {
+            final List<Integer> jumps = new ArrayList<>();
+            for (int i = 0; i < alternatives.size() - 1; i++) {
+                final int split = compiler.emit(SPLIT, 0, 0, null);
+                alternatives.get(i).emit(compiler);
+                jumps.add(compiler.emit(JUMP, 0, 0, null));
+                compiler.patch(split, split + 1, compiler.next());
+            }
+            alternatives.get(alternatives.size() - 1).emit(compiler);
+            for (int jump : jumps) {
+                compiler.patch(jump, compiler.next(), 0);
+            }
+        }
+    }
+
+    private static class Repeat implements Node {
+
+        private final Node node;
+        private final int min;
+        private final int max;
+
+        private Repeat(Node node, int min, int max) {
+            this.node = node;
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public void emit(LinearRegexCompiler compiler) throws UnsupportedRegexException {
+            for (int i = 0; i < min; i++) {
+                node.emit(compiler);
+            }
+            if (max < 0) {
+                final int split = compiler.emit(SPLIT, 0, 0, null);
+                node.emit(compiler);
+                compiler.emit(JUMP, split, 0, null);
+                compiler.patch(split, split + 1, compiler.next());
+                return;
+            }
+            final List<Integer> splits = new ArrayList<>();
+            for (int i = min; i < max; i++) {
+                splits.add(compiler.emit(SPLIT, 0, 0, null));
+                node.emit(compiler);
+            }
+            for (int split : splits) {
+                compiler.patch(split, split + 1, compiler.next());
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An Aho-Corasick automaton that finds which of many literals appear in a string with a single scan of the string.
+ * The automaton is immutable once built so it can be shared between threads.
+ *
+ * @author Karl Bennett
+ */
+class LiteralSearch {
+
+    private static final int[] NONE = new int[0];
+
+    private final int literalCount;
+    private final char[][] keys;
+    private final int[][] targets;
+    private final int[] failures;
+    private final int[][] outputs;
+
+    LiteralSearch(List<String> literals) {
+        final List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        final List<List<Integer>> ends = new ArrayList<>();
+        addNode(trie, ends);
+        for (int literal = 0; literal < literals.size(); literal++) {
+            int node = 0;
+            for (char c : literals.get(literal).toCharArray()) {
+                Integer next = trie.get(node).get(c);
+                if (next == null) {
+                    next = addNode(trie, ends);
+                    trie.get(node).put(c, next);
+                }
+                node = next;
+            }
+            ends.get(node).add(literal);
+        }
+        this.literalCount = literals.size();
+        this.keys = new char[trie.size()][];
+        this.targets = new int[trie.size()][];
+        for (int node = 0; node < trie.size(); node++) {
+            keys[node] = new char[trie.get(node).size()];
+            targets[node] = new int[trie.get(node).size()];
+            int index = 0;
+            for (Map.Entry<Character, Integer> entry : trie.get(node).entrySet()) {
+                keys[node][index] = entry.getKey();
+                targets[node][index++] = entry.getValue();
+            }
+        }
+        this.failures = new int[trie.size()];
+        this.outputs = new int[trie.size()][];
+        link(ends);
+    }
+
+    private static int addNode(List<TreeMap<Character, Integer>> trie, List<List<Integer>> ends) {
+        trie.add(new TreeMap<Character, Integer>());
+        ends.add(new ArrayList<Integer>());
+        return trie.size() - 1;
+    }
+
+    /**
+     * Link every node to the node for its longest proper suffix and collect all the literals that end at each node.
+     */
+    private void link(List<List<Integer>> ends) {
+        final Deque<Integer> queue = new ArrayDeque<>();
+        outputs[0] = toArray(ends.get(0), NONE);
+        for (int child : targets[0]) {
+            failures[child] = 0;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            final int node = queue.remove();
+            outputs[node] = toArray(ends.get(node), outputs[failures[node]]);
+            for (int index = 0; index < keys[node].length; index++) {
+                final int child = targets[node][index];
+                failures[child] = transition(failures[node], keys[node][index]);
+                queue.add(child);
+            }
+        }
+    }
+
+    private static int[] toArray(List<Integer> own, int[] inherited) {
+        if (own.isEmpty()) {
+            return inherited;
+        }
+        final int[] array = Arrays.copyOf(inherited, inherited.length + own.size());
+        for (int index = 0; index < own.size(); index++) {
+            array[inherited.length + index] = own.get(index);
+        }
+        return array;
+    }
+
+    private int transition(int node, char c) {
+        int current = node;
+        while (true) {
+            final int index = Arrays.binarySearch(keys[current], c);
+            if (index >= 0) {
+                return targets[current][index];
+            }
+            if (current == 0) {
+                return 0;
+            }
+            current = failures[current];
+        }
+    }
+
+    /**
+     * @return a flag for each literal, in the order they were given, that is true if the literal is in the text.
+     */
+    boolean[] search(CharSequence text) {
+        final boolean[] found = new boolean[literalCount];
+        int remaining = literalCount;
+        int node = 0;
+        for (int index = 0; index < text.length() && remaining > 0; index++) {
+            node = transition(node, text.charAt(index));
+            for (int literal : outputs[node]) {
+                if (!found[literal]) {
+                    found[literal] = true;
+                    remaining--;
+                }
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Holds one {@link Matcher} for each thread that uses a {@link Pattern} so that the matcher and its group arrays are
+ * only allocated once per thread instead of once per match.
+ * <p>
+ * A matcher must be released once its result has been read so that it doesn't keep a reference to a possibly large
+ * input. A matcher that is still in use when the same thread asks for another (e.g. from a nested matcher using the
+ * same pool) is never handed out twice, a new one is created instead.
+ *
+ * @author Karl Bennett
+ */
+class MatcherPool {
+
+    private static final String EMPTY = "";
+
+    private final Pattern pattern;
+    private final ThreadLocal<Matcher> matchers;
+
+    MatcherPool(Pattern pattern) {
+        this.pattern = pattern;
+        this.matchers = new ThreadLocal<>();
+    }
+
+    Pattern getPattern() {
+        return pattern;
+    }
+
+    /**
+     * @return a matcher for the input, it must be passed to {@link #release(Matcher)} when it is no longer needed.
+     */
+    Matcher acquire(CharSequence input) {
+        final Matcher matcher = matchers.get();
+        if (matcher == null) {
+            return pattern.matcher(input);
+        }
+        matchers.set(null);
+        return matcher.reset(input);
+    }
+
+    void release(Matcher matcher) {
+        matchers.set(matcher.reset(EMPTY));
+    }
+}
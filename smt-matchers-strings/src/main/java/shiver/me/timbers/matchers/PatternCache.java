@@ -0,0 +1,167 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * A bounded, thread safe, least recently used cache of compiled regex patterns. The size of the shared cache can be
+ * set with the {@code smt.matchers.pattern.cache.size} system property or with {@link #setMaxSize(int)}.
+ *
+ * @author Karl Bennett
+ */
+public class PatternCache {
+
+    static final String SIZE_PROPERTY = "smt.matchers.pattern.cache.size";
+    static final int DEFAULT_SIZE = 256;
+
+    private static final PatternCache SHARED = new PatternCache(Integer.getInteger(SIZE_PROPERTY, DEFAULT_SIZE));
+
+    /**
+     * The cache that is used by all the {@link StringRegexMatcher}s that are not given their own cache.
+     */
+    public static PatternCache sharedCache() {
+        return SHARED;
+    }
+
+    private final Map<Key, Pattern> patterns;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private volatile int maxSize;
+
+    public PatternCache(int maxSize) {
+        this.maxSize = validSize(maxSize);
+        this.patterns = new LinkedHashMap<Key, Pattern>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Pattern> eldest) {
+                return size() > PatternCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Get the compiled version of the supplied regex, it will only be compiled if it isn't already in the cache.
+     */
+    public Pattern compile(String regex) {
+        return compile(regex, 0);
+    }
+
+    /**
+     * Get the compiled version of the supplied regex and flags, it will only be compiled if it isn't already in the
+     * cache.
+     */
+    public Pattern compile(String regex, int flags) {
+        final Key key = new Key(regex, flags);
+        synchronized (patterns) {
+            final Pattern pattern = patterns.get(key);
+            if (pattern != null) {
+                hits.incrementAndGet();
+                return pattern;
+            }
+        }
+        misses.incrementAndGet();
+        // Compile outside of the lock so that a slow pattern doesn't block lookups of the other patterns.
+        final Pattern pattern = Pattern.compile(regex, flags);
+        synchronized (patterns) {
+            patterns.put(key, pattern);
+        }
+        return pattern;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Change the maximum number of patterns that will be cached, the least recently used patterns will be evicted if
+     * the cache is now too large.
+     */
+    public void setMaxSize(int maxSize) {
+        synchronized (patterns) {
+            this.maxSize = validSize(maxSize);
+            final Iterator<Key> keys = patterns.keySet().iterator();
+            while (patterns.size() > maxSize) {
+                keys.next();
+                keys.remove();
+            }
+        }
+    }
+
+    public int size() {
+        synchronized (patterns) {
+            return patterns.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Remove all the cached patterns and reset the hit and miss counts.
+     */
+    public void clear() {
+        synchronized (patterns) {
+            patterns.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+    }
+
+    private static int validSize(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The pattern cache size must be greater than zero.");
+        }
+        return maxSize;
+    }
+
+    private static class Key {
+
+        private final String regex;
+        private final int flags;
+
+        private Key(String regex, int flags) {
+            this.regex = regex;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) object;
+            return flags == that.flags && regex.equals(that.regex);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * regex.hashCode() + flags;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A set of regex patterns that can be matched against a {@link CharSequence} together. A literal that must appear in every match is
+ * found for each pattern when the set is built, then for each string a single scan finds which of those literals are
+ * present. Only the patterns whose literal was found (or that have no literal) are then run against the string.
+ * <p>
+ * Each pattern is run with its own {@link MatcherPool} so no {@link java.util.regex.Matcher} is allocated per match, and
+ * the set holds no state between matches so it can be shared between threads.
+ *
+ * @author Karl Bennett
+ */
+public class PatternSet {
+
+    private final RegexMatcher regexMatcher;
+    private final List<String> patterns;
+    private final MatcherPool[] matcherPools;
+    private final int[] literalIndexes;
+    private final LiteralSearch literalSearch;
+
+    public PatternSet(Collection<String> patterns) {
+        this(patterns, 0);
+    }
+
+    public PatternSet(Collection<String> patterns, int flags) {
+        this(new RegexMatcher(), patterns, flags);
+    }
+
+    PatternSet(RegexMatcher regexMatcher, Collection<String> patterns, int flags) {
+        this.regexMatcher = regexMatcher;
+        this.patterns = Collections.unmodifiableList(new ArrayList<>(patterns));
+        this.matcherPools = new MatcherPool[this.patterns.size()];
+        this.literalIndexes = new int[this.patterns.size()];
+        final List<String> literals = new ArrayList<>();
+        final Map<String, Integer> literalIndexesByLiteral = new HashMap<>();
+        for (int index = 0; index < matcherPools.length; index++) {
+            final String pattern = this.patterns.get(index);
+            matcherPools[index] = new MatcherPool(regexMatcher.compile(pattern, flags));
+            literalIndexes[index] = literalIndex(
+                RegexLiterals.requiredLiteral(pattern, flags),
+                literals,
+                literalIndexesByLiteral
+            );
+        }
+        this.literalSearch = new LiteralSearch(literals);
+    }
+
+    private static int literalIndex(String literal, List<String> literals, Map<String, Integer> literalIndexes) {
+        if (literal == null) {
+            return -1;
+        }
+        final Integer index = literalIndexes.get(literal);
+        if (index != null) {
+            return index;
+        }
+        literals.add(literal);
+        literalIndexes.put(literal, literals.size() - 1);
+        return literals.size() - 1;
+    }
+
+    public List<String> getPatterns() {
+        return patterns;
+    }
+
+    /**
+     * @return the patterns that match the supplied string in the order they were added to the set.
+     */
+    public List<String> matchingPatterns(CharSequence string) {
+        final boolean[] found = literalSearch.search(string);
+        final List<String> matching = new ArrayList<>();
+        for (int index = 0; index < matcherPools.length; index++) {
+            if (matches(index, found, string)) {
+                matching.add(patterns.get(index));
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * @return the patterns that do not match the supplied string in the order they were added to the set.
+     */
+    public List<String> nonMatchingPatterns(CharSequence string) {
+        final boolean[] found = literalSearch.search(string);
+        final List<String> nonMatching = new ArrayList<>();
+        for (int index = 0; index < matcherPools.length; index++) {
+            if (!matches(index, found, string)) {
+                nonMatching.add(patterns.get(index));
+            }
+        }
+        return nonMatching;
+    }
+
+    public boolean matchesAny(CharSequence string) {
+        final boolean[] found = literalSearch.search(string);
+        for (int index = 0; index < matcherPools.length; index++) {
+            if (matches(index, found, string)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean matchesAll(CharSequence string) {
+        final boolean[] found = literalSearch.search(string);
+        // Check all the literals first so a missing literal fails the match without running any regex.
+        for (int literalIndex : literalIndexes) {
+            if (literalIndex >= 0 && !found[literalIndex]) {
+                return false;
+            }
+        }
+        for (int index = 0; index < matcherPools.length; index++) {
+            if (!regexMatcher.matches(matcherPools[index], string)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matches(int index, boolean[] found, CharSequence string) {
+        final int literalIndex = literalIndexes[index];
+        if (literalIndex >= 0 && !found[literalIndex]) {
+            return false;
+        }
+        return regexMatcher.matches(matcherPools[index], string);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import java.util.Locale;
+
+/**
+ * The engines that a {@link StringRegexMatcher} can use to run its regex. The engine that is used when none is given
+ * can be set with the {@code smt.matchers.regex.engine} system property or with {@link #setDefault(RegexEngine)}.
+ *
+ * @author Karl Bennett
+ */
+public enum RegexEngine {
+
+    /**
+     * The backtracking {@link java.util.regex.Pattern} engine, it supports all the regex syntax but some regex can take
+     * exponential time to match some strings.
+     */
+    JAVA,
+
+    /**
+     * An engine that takes time linear in the length of the string for every regex. It supports the common subset of
+     * the regex syntax, a matcher will fall back to the {@link #JAVA} engine for any regex it can't support.
+     */
+    LINEAR;
+
+    static final String ENGINE_PROPERTY = "smt.matchers.regex.engine";
+
+    private static volatile RegexEngine defaultEngine = parse(System.getProperty(ENGINE_PROPERTY), JAVA);
+
+    /**
+     * An unknown engine name is ignored so that a mistyped system property can't stop the matchers from loading.
+     */
+    static RegexEngine parse(String name, RegexEngine fallback) {
+        if (name == null) {
+            return fallback;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+
+    public static RegexEngine getDefault() {
+        return defaultEngine;
+    }
+
+    /**
+     * Change the engine that is used by all the {@link StringRegexMatcher}s that are created without an engine.
+     */
+    public static void setDefault(RegexEngine engine) {
+        if (engine == null) {
+            throw new IllegalArgumentException("The default regex engine cannot be null.");
+        }
+        defaultEngine = engine;
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.regex.Pattern.CANON_EQ;
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static java.util.regex.Pattern.COMMENTS;
+import static java.util.regex.Pattern.LITERAL;
+
+/**
+ * Finds the literal strings that must appear in any string a regex matches, e.g. {@code "ORDER-"} for
+ * {@code ".*ORDER-[0-9]+.*"}. This is used to cheaply rule out strings before running the regex. The regex is only
+ * looked at one character at a time so anything that is hard to reason about (alternation, case insensitivity, inline
+ * flags) means no literals are found, which is always safe.
+ *
+ * @author Karl Bennett
+ */
+class RegexLiterals {
+
+    private static final Comparator<String> LONGEST_FIRST = new Comparator<String>() {
+        @Override
+        public int compare(String left, String right) {
+            return Integer.compare(right.length(), left.length());
+        }
+    };
+
+    /**
+     * @return the longest literal that every match must contain or {@code null} if there isn't one.
+     */
+    static String requiredLiteral(String regex, int flags) {
+        final List<String> literals = requiredLiterals(regex, flags);
+        return literals.isEmpty() ? null : literals.get(0);
+    }
+
+    /**
+     * @return all the literals that every match must contain, longest first.
+     */
+    static List<String> requiredLiterals(String regex, int flags) {
+        if ((flags & (CASE_INSENSITIVE | COMMENTS | CANON_EQ)) != 0) {
+            return Collections.emptyList();
+        }
+        if ((flags & LITERAL) != 0) {
+            return regex.isEmpty() ? Collections.<String>emptyList() : Collections.singletonList(regex);
+        }
+        return new RegexLiterals(regex).literals();
+    }
+
+    private final String regex;
+    private final StringBuilder run = new StringBuilder();
+    private final List<String> literals = new ArrayList<>();
+    private boolean lastAtomInRun;
+
+    private RegexLiterals(String regex) {
+        this.regex = regex;
+    }
+
+    private List<String> literals() {
+        int index = 0;
+        while (index < regex.length()) {
+            index = next(index);
+            if (index < 0) {
+                return Collections.emptyList();
+            }
+        }
+        endRun();
+        Collections.sort(literals, LONGEST_FIRST);
+        return literals;
+    }
+
+    private int next(int index) {
+        final char c = regex.charAt(index);
+        switch (c) {
+            case '\\':
+                return escape(index);
+            case '[':
+                endRun();
+                return skipClass(index);
+            case '(':
+                if (isInlineFlags(index)) {
+                    return -1;
+                }
+                endRun();
+                return skipGroup(index);
+            case ')':
+            case '|':
+                return -1;
+            case '*':
+            case '?':
+                dropLastAtom();
+                endRun();
+                return index + 1;
+            case '{':
+                dropLastAtom();
+                endRun();
+                return skipTo('}', index);
+            case '+':
+            case '.':
+            case '^':
+            case '$':
+                endRun();
+                return index + 1;
+            default:
+                append(String.valueOf(c));
+                return index + 1;
+        }
+    }
+
+    private int escape(int index) {
+        if (index + 1 >= regex.length()) {
+            return -1;
+        }
+        final char c = regex.charAt(index + 1);
+        if (c == 'Q') {
+            final int end = regex.indexOf("\\E", index + 2);
+            append(end < 0 ? regex.substring(index + 2) : regex.substring(index + 2, end));
+            return end < 0 ? regex.length() : end + 2;
+        }
+        if (Character.isLetterOrDigit(c)) {
+            endRun();
+            return skipEscape(index);
+        }
+        append(String.valueOf(c));
+        return index + 2;
+    }
+
+    private int skipEscape(int index) {
+        final char c = regex.charAt(index + 1);
+        final int start = index + 2;
+        final boolean braced = start < regex.length() && regex.charAt(start) == '{';
+        switch (c) {
+            case 'p':
+            case 'P':
+                return braced ? skipTo('}', start) : start + 1;
+            case 'x':
+                return braced ? skipTo('}', start) : start + 2;
+            case 'N':
+                return braced ? skipTo('}', start) : start;
+            case 'u':
+                return start + 4;
+            case 'c':
+                return start + 1;
+            case 'k':
+                return skipTo('>', start);
+            default:
+                // Octal escapes and back references are followed by more digits.
+                int end = start;
+                while (Character.isDigit(c) && end < regex.length() && Character.isDigit(regex.charAt(end))) {
+                    end++;
+                }
+                return end;
+        }
+    }
+
+    private boolean isInlineFlags(int index) {
+        if (!regex.startsWith("(?", index)) {
+            return false;
+        }
+        int end = index + 2;
+        while (end < regex.length() && (Character.isLetter(regex.charAt(end)) || regex.charAt(end) == '-')) {
+            end++;
+        }
+        // Flags like "(?i)" change how the rest of the regex matches, "(?i:...)" only changes its own group.
+        return end < regex.length() && regex.charAt(end) == ')';
+    }
+
+    private int skipClass(int index) {
+        int current = index + 1;
+        if (current < regex.length() && regex.charAt(current) == '^') {
+            current++;
+        }
+        if (current < regex.length() && regex.charAt(current) == ']') {
+            current++;
+        }
+        while (current < regex.length()) {
+            final char c = regex.charAt(current);
+            if (c == '\\') {
+                current = skipEscaped(current);
+            } else if (c == '[') {
+                current = skipClass(current);
+            } else if (c == ']') {
+                return current + 1;
+            } else {
+                current++;
+            }
+        }
+        return current;
+    }
+
+    private int skipGroup(int index) {
+        int depth = 0;
+        int current = index;
+        while (current < regex.length()) {
+            final char c = regex.charAt(current);
+            if (c == '\\') {
+                current = skipEscaped(current);
+            } else if (c == '[') {
+                current = skipClass(current);
+            } else {
+                if (c == '(') {
+                    depth++;
+                } else if (c == ')' && --depth == 0) {
+                    return current + 1;
+                }
+                current++;
+            }
+        }
+        return current;
+    }
+
+    private int skipEscaped(int index) {
+        if (regex.startsWith("\\Q", index)) {
+            final int end = regex.indexOf("\\E", index + 2);
+            return end < 0 ? regex.length() : end + 2;
+        }
+        return index + 2;
+    }
+
+    private int skipTo(char c, int index) {
+        final int end = regex.indexOf(c, index);
+        return end < 0 ? regex.length() : end + 1;
+    }
+
+    private void append(String literal) {
+        run.append(literal);
+        lastAtomInRun = !literal.isEmpty();
+    }
+
+    private void dropLastAtom() {
+        if (!lastAtomInRun) {
+            return;
+        }
+        int length = run.length() - 1;
+        if (length > 0 && Character.isSurrogatePair(run.charAt(length - 1), run.charAt(length))) {
+            length--;
+        }
+        run.setLength(length);
+    }
+
+    private void endRun() {
+        if (run.length() > 0) {
+            literals.add(run.toString());
+        }
+        run.setLength(0);
+        lastAtomInRun = false;
+    }
+}
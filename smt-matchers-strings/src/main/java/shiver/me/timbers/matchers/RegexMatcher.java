@@ -16,6 +16,7 @@
 
 package shiver.me.timbers.matchers;
 
+import java.util.List;
 import java.util.regex.Pattern;
 
 /**
@@ -23,7 +24,56 @@ import java.util.regex.Pattern;
  */
 class RegexMatcher {
 
+    private final PatternCache patternCache;
+
+    RegexMatcher() {
+        this(PatternCache.sharedCache());
+    }
+
+    RegexMatcher(PatternCache patternCache) {
+        this.patternCache = patternCache;
+    }
+
+    public Pattern compile(String regex, int flags) {
+        return patternCache.compile(regex, flags);
+    }
+
+    /**
+     * @return the literals that must be in any string the regex matches, this will be empty if none can be found.
+     */
+    public String[] requiredLiterals(String regex, int flags) {
+        final List<String> literals = RegexLiterals.requiredLiterals(regex, flags);
+        return literals.toArray(new String[literals.size()]);
+    }
+
+    /**
+     * @throws UnsupportedRegexException if the regex uses syntax that the {@link RegexEngine#LINEAR} engine can't run.
+     */
+    public LinearRegex compileLinear(String regex, int flags) throws UnsupportedRegexException {
+        return LinearRegex.compile(regex, flags);
+    }
+
     public boolean matches(String regex, String string) {
-        return Pattern.matches(regex, string);
+        return matches(patternCache.compile(regex), string);
+    }
+
+    public boolean matches(Pattern pattern, CharSequence string) {
+        return pattern.matcher(string).matches();
+    }
+
+    /**
+     * Match with the calling thread's pooled matcher so that no {@link java.util.regex.Matcher} is allocated.
+     */
+    public boolean matches(MatcherPool matcherPool, CharSequence string) {
+        final java.util.regex.Matcher matcher = matcherPool.acquire(string);
+        try {
+            return matcher.matches();
+        } finally {
+            matcherPool.release(matcher);
+        }
+    }
+
+    public boolean matches(LinearRegex linearRegex, CharSequence string) {
+        return linearRegex.matches(string);
     }
 }
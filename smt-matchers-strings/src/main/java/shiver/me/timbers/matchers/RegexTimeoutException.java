@@ -0,0 +1,29 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+/**
+ * Thrown when a regex is still running after its time budget has been spent.
+ *
+ * @author Karl Bennett
+ */
+class RegexTimeoutException extends RuntimeException {
+
+    RegexTimeoutException() {
+        super("The regex evaluation exceeded its time budget.");
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+/**
+ * A matcher to check that a {@link CharSequence} contains a match for the supplied regex pattern anywhere within it.
+ * Each thread reuses the same {@link java.util.regex.Matcher} so the matcher can be shared between threads without
+ * allocating on every match.
+ *
+ * @author Karl Bennett
+ */
+public class StringContainsPatternMatcher extends TypeSafeMatcher<CharSequence> {
+
+    /**
+     * Check the that the supplied value contains a match for the regex pattern.
+     */
+    @Factory
+    public static <T extends CharSequence> Matcher<T> containsPattern(String pattern) {
+        return typed(new StringContainsPatternMatcher(pattern));
+    }
+
+    /**
+     * Check the that the supplied value contains a match for the regex pattern compiled with the supplied flags.
+     */
+    @Factory
+    public static <T extends CharSequence> Matcher<T> containsPattern(String pattern, int flags) {
+        return typed(new StringContainsPatternMatcher(pattern, flags));
+    }
+
+    // The matcher accepts any CharSequence so it can safely be typed to the sequence the caller is matching.
+    @SuppressWarnings("unchecked")
+    private static <T extends CharSequence> Matcher<T> typed(Matcher<? super T> matcher) {
+        return (Matcher<T>) matcher;
+    }
+
+    private final String pattern;
+    private final MatcherPool matcherPool;
+    private final String[] requiredLiterals;
+
+    public StringContainsPatternMatcher(String pattern) {
+        this(pattern, 0);
+    }
+
+    public StringContainsPatternMatcher(String pattern, int flags) {
+        this(new RegexMatcher(), pattern, flags);
+    }
+
+    StringContainsPatternMatcher(RegexMatcher regexMatcher, String pattern, int flags) {
+        this.pattern = pattern;
+        this.matcherPool = new MatcherPool(regexMatcher.compile(pattern, flags));
+        this.requiredLiterals = regexMatcher.requiredLiterals(pattern, flags);
+    }
+
+    @Override
+    protected boolean matchesSafely(CharSequence string) {
+        if (!CharSequences.containsAll(string, requiredLiterals)) {
+            return false;
+        }
+        final java.util.regex.Matcher matcher = matcherPool.acquire(string);
+        try {
+            return matcher.find();
+        } finally {
+            matcherPool.release(matcher);
+        }
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("the string to contain the pattern ").appendValue(pattern).appendText(".");
+    }
+
+    @Override
+    protected void describeMismatchSafely(CharSequence string, Description mismatchDescription) {
+        mismatchDescription.appendText("was ").appendValue(string.toString());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A matcher to check that a {@link CharSequence} matches any, or all, of many regex patterns. The patterns are held in a
+ * {@link PatternSet} so each string is only scanned once to rule out the patterns that can't match.
+ *
+ * @author Karl Bennett
+ */
+public class StringMultiRegexMatcher extends TypeSafeMatcher<CharSequence> {
+
+    /**
+     * Check that at least one of the regex patterns matches the supplied value.
+     */
+    @Factory
+    public static <T extends CharSequence> Matcher<T> matchesAnyOf(String... patterns) {
+        return matchesAnyOf(Arrays.asList(patterns));
+    }
+
+    /**
+     * Check that at least one of the regex patterns matches the supplied value.
+     */
+    public static <T extends CharSequence> Matcher<T> matchesAnyOf(Collection<String> patterns) {
+        return typed(new StringMultiRegexMatcher(new PatternSet(patterns), false));
+    }
+
+    /**
+     * Check that every one of the regex patterns matches the supplied value.
+     */
+    @Factory
+    public static <T extends CharSequence> Matcher<T> matchesAllOf(String... patterns) {
+        return matchesAllOf(Arrays.asList(patterns));
+    }
+
+    /**
+     * Check that every one of the regex patterns matches the supplied value.
+     */
+    public static <T extends CharSequence> Matcher<T> matchesAllOf(Collection<String> patterns) {
+        return typed(new StringMultiRegexMatcher(new PatternSet(patterns), true));
+    }
+
+    // The matcher accepts any CharSequence so it can safely be typed to the sequence the caller is matching.
+    @SuppressWarnings("unchecked")
+    private static <T extends CharSequence> Matcher<T> typed(Matcher<? super T> matcher) {
+        return (Matcher<T>) matcher;
+    }
+
+    private final PatternSet patternSet;
+    private final boolean all;
+
+    public StringMultiRegexMatcher(PatternSet patternSet, boolean all) {
+        this.patternSet = patternSet;
+        this.all = all;
+    }
+
+    @Override
+    protected boolean matchesSafely(CharSequence string) {
+        return all ? patternSet.matchesAll(string) : patternSet.matchesAny(string);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("the string to match ").appendText(all ? "all" : "any")
+            .appendValueList(" of the patterns [", ", ", "].", patternSet.getPatterns());
+    }
+
+    @Override
+    protected void describeMismatchSafely(CharSequence string, Description mismatchDescription) {
+        mismatchDescription.appendText("was ").appendValue(string.toString());
+        if (all) {
+            mismatchDescription.appendValueList(
+                " which did not match [", ", ", "]", patternSet.nonMatchingPatterns(string)
+            );
+        } else {
+            mismatchDescription.appendText(" which matched none of them");
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.util.regex.Pattern;
+
+/**
+ * A matcher to check that a {@link CharSequence} matches, or contains a match for, the supplied regex pattern and that
+ * one of the pattern's capture groups matches another matcher. The group is captured by the same single run of the
+ * regex that checks the pattern, and each thread reuses the same {@link java.util.regex.Matcher} so the matcher can be
+ * shared between threads without allocating on every match.
+ *
+ * @author Karl Bennett
+ */
+public class StringRegexGroupMatcher extends TypeSafeMatcher<CharSequence> {
+
+    private static final int NAMED = -1;
+
+    /**
+     * Check the that the regex pattern matches the supplied value and that the named group matches the group matcher.
+     */
+    @Factory
+    public static <T extends CharSequence> Matcher<T> matchesWithGroup(
+        String pattern,
+        String group,
+        Matcher<? super String> groupMatcher
+    ) {
+        return typed(new StringRegexGroupMatcher(new RegexMatcher(), pattern, 0, false, group, NAMED, groupMatcher));
+    }
+
+    /**
+     * Check the that the regex pattern matches the supplied value and that the numbered group matches the group
+     * matcher.
+     */
+    @Factory
+    public static <T extends CharSequence> Matcher<T> matchesWithGroup(
+        String pattern,
+        int group,
+        Matcher<? super String> groupMatcher
+    ) {
+        return typed(new StringRegexGroupMatcher(new RegexMatcher(), pattern, 0, false, null, group, groupMatcher));
+    }
+
+    /**
+     * Check the that the supplied value contains a match for the regex pattern and that the named group of the first
+     * match matches the group matcher.
+     */
+    @Factory
+    public static <T extends CharSequence> Matcher<T> containsPatternWithGroup(
+        String pattern,
+        String group,
+        Matcher<? super String> groupMatcher
+    ) {
+        return typed(new StringRegexGroupMatcher(new RegexMatcher(), pattern, 0, true, group, NAMED, groupMatcher));
+    }
+
+    /**
+     * Check the that the supplied value contains a match for the regex pattern and that the numbered group of the first
+     * match matches the group matcher.
+     */
+    @Factory
+    public static <T extends CharSequence> Matcher<T> containsPatternWithGroup(
+        String pattern,
+        int group,
+        Matcher<? super String> groupMatcher
+    ) {
+        return typed(new StringRegexGroupMatcher(new RegexMatcher(), pattern, 0, true, null, group, groupMatcher));
+    }
+
+    // The matcher accepts any CharSequence so it can safely be typed to the sequence the caller is matching.
+    @SuppressWarnings("unchecked")
+    private static <T extends CharSequence> Matcher<T> typed(Matcher<? super T> matcher) {
+        return (Matcher<T>) matcher;
+    }
+
+    private final String pattern;
+    private final MatcherPool matcherPool;
+    private final String[] requiredLiterals;
+    private final boolean find;
+    private final String groupName;
+    private final int groupIndex;
+    private final Matcher<? super String> groupMatcher;
+
+    StringRegexGroupMatcher(
+        RegexMatcher regexMatcher,
+        String pattern,
+        int flags,
+        boolean find,
+        String groupName,
+        int groupIndex,
+        Matcher<? super String> groupMatcher
+    ) {
+        final Pattern compiledPattern = regexMatcher.compile(pattern, flags);
+        if (groupName == null && (groupIndex < 0 || groupIndex > compiledPattern.matcher("").groupCount())) {
+            throw new IllegalArgumentException("The pattern " + pattern + " has no group " + groupIndex + ".");
+        }
+        if (groupName != null && !hasGroupNamed(compiledPattern, groupName)) {
+            throw new IllegalArgumentException("The pattern " + pattern + " has no group named " + groupName + ".");
+        }
+        this.pattern = pattern;
+        this.matcherPool = new MatcherPool(compiledPattern);
+        this.requiredLiterals = regexMatcher.requiredLiterals(pattern, flags);
+        this.find = find;
+        this.groupName = groupName;
+        this.groupIndex = groupIndex;
+        this.groupMatcher = groupMatcher;
+    }
+
+    /**
+     * Ask the compiled pattern itself whether it has the named group. A group can only be looked up by name after a
+     * successful match, so the pattern is swapped into a matcher that has already matched, which keeps the match but
+     * forgets its groups.
+     */
+    private static boolean hasGroupNamed(Pattern pattern, String name) {
+        final java.util.regex.Matcher matcher = Pattern.compile("").matcher("");
+        matcher.find();
+        matcher.usePattern(pattern);
+        try {
+            matcher.group(name);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Override
+    protected boolean matchesSafely(CharSequence string) {
+        final Capture capture = capture(string);
+        return capture.matched && groupMatcher.matches(capture.group);
+    }
+
+    /**
+     * Run the regex once and read the group, the group value is copied out so the pooled matcher can be released before
+     * the group matcher is run.
+     */
+    private Capture capture(CharSequence string) {
+        if (!CharSequences.containsAll(string, requiredLiterals)) {
+            return Capture.NO_MATCH;
+        }
+        final java.util.regex.Matcher matcher = matcherPool.acquire(string);
+        try {
+            if (!(find ? matcher.find() : matcher.matches())) {
+                return Capture.NO_MATCH;
+            }
+            return new Capture(groupName == null ? matcher.group(groupIndex) : matcher.group(groupName));
+        } finally {
+            matcherPool.release(matcher);
+        }
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText(find ? "the string to contain the pattern " : "the string to match the pattern ")
+            .appendValue(pattern).appendText(" with group ").appendValue(groupName == null ? groupIndex : groupName)
+            .appendText(" ").appendDescriptionOf(groupMatcher).appendText(".");
+    }
+
+    @Override
+    protected void describeMismatchSafely(CharSequence string, Description mismatchDescription) {
+        final Capture capture = capture(string);
+        if (!capture.matched) {
+            mismatchDescription.appendText("was ").appendValue(string.toString())
+                .appendText(find ? " which did not contain the pattern" : " which did not match the pattern");
+            return;
+        }
+        mismatchDescription.appendText("group ").appendValue(groupName == null ? groupIndex : groupName)
+            .appendText(" ");
+        groupMatcher.describeMismatch(capture.group, mismatchDescription);
+    }
+
+    private static class Capture {
+
+        private static final Capture NO_MATCH = new Capture(false, null);
+
+        private final boolean matched;
+        private final String group;
+
+        private Capture(String group) {
+            this(true, group);
+        }
+
+        private Capture(boolean matched, String group) {
+            this.matched = matched;
+            this.group = group;
+        }
+    }
+}
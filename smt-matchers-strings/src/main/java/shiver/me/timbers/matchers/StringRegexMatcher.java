@@ -21,42 +21,252 @@ import org.hamcrest.Factory;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
 
+import java.lang.ref.WeakReference;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
 /**
- * A matcher to check that a {@link String} matches the supplied regex pattern.
+ * A matcher to check that a {@link String}, or any other {@link CharSequence} (e.g. a {@link StringBuilder} or a
+ * {@link java.nio.CharBuffer}), matches the supplied regex pattern. The sequence is read in place so large inputs never
+ * have to be copied into a {@link String}. The matcher holds no state between matches so it can be shared between
+ * threads.
+ * <p>
+ * If the pattern contains literals that every match must contain (e.g. {@code "ORDER-"} in
+ * {@code ".*ORDER-[0-9]+.*"}) then strings without those literals are rejected with quick substring searches before
+ * the regex is run. Each thread reuses its own {@link java.util.regex.Matcher} so matching doesn't allocate.
+ * <p>
+ * The regex can be run with the {@link RegexEngine#LINEAR} engine so that matching a hostile string can never take more
+ * than linear time, any regex that engine doesn't support is run with {@link Pattern} instead and the description of
+ * the matcher will say why.
+ * <p>
+ * A timeout can be set so that a regex that runs too long stops matching and the mismatch is described as a timeout
+ * instead of the test hanging. Each thread remembers the outcome of its last timed match so describing the mismatch
+ * doesn't spend the timeout a second time.
  *
  * @author Karl Bennett
  */
-public class StringRegexMatcher extends TypeSafeMatcher<String> {
+public class StringRegexMatcher extends TypeSafeMatcher<CharSequence> {
+
+    static final int MAX_DESCRIBED_LENGTH = 1024;
 
     private final RegexMatcher regexMatcher;
     private final String pattern;
-    private String string;
+    private final MatcherPool matcherPool;
+    private final String[] requiredLiterals;
+    private final LinearRegex linearRegex;
+    private final String fallbackReason;
+    private final long timeout;
+    private final TimeUnit timeoutUnit;
+    private final ThreadLocal<TimedMatch> lastTimedMatch = new ThreadLocal<>();
 
     /**
      * Check the that the regex pattern matches the supplied value.
      */
     @Factory
-    public static Matcher<String> matches(String pattern) {
-        return new StringRegexMatcher(pattern);
+    public static <T extends CharSequence> Matcher<T> matches(String pattern) {
+        return typed(new StringRegexMatcher(pattern));
+    }
+
+    /**
+     * Check the that the regex pattern compiled with the supplied flags (e.g. {@link Pattern#CASE_INSENSITIVE})
+     * matches the supplied value.
+     */
+    @Factory
+    public static <T extends CharSequence> Matcher<T> matches(String pattern, int flags) {
+        return typed(new StringRegexMatcher(pattern, flags));
+    }
+
+    /**
+     * Check the that the regex pattern matches the supplied value using the supplied engine.
+     */
+    @Factory
+    public static <T extends CharSequence> Matcher<T> matches(String pattern, RegexEngine engine) {
+        return typed(new StringRegexMatcher(pattern, 0, engine));
+    }
+
+    /**
+     * Check the that the regex pattern compiled with the supplied flags matches the supplied value using the supplied
+     * engine.
+     */
+    @Factory
+    public static <T extends CharSequence> Matcher<T> matches(String pattern, int flags, RegexEngine engine) {
+        return typed(new StringRegexMatcher(pattern, flags, engine));
+    }
+
+    /**
+     * Check the that the regex pattern matches the supplied value, the match fails if it takes longer than the timeout.
+     */
+    @Factory
+    public static <T extends CharSequence> Matcher<T> matches(String pattern, long timeout, TimeUnit unit) {
+        return typed(new StringRegexMatcher(pattern).withTimeout(timeout, unit));
+    }
+
+    // The matcher accepts any CharSequence so it can safely be typed to the sequence the caller is matching.
+    @SuppressWarnings("unchecked")
+    private static <T extends CharSequence> Matcher<T> typed(Matcher<? super T> matcher) {
+        return (Matcher<T>) matcher;
     }
 
     public StringRegexMatcher(String pattern) {
-        this(new RegexMatcher(), pattern);
+        this(pattern, 0);
+    }
+
+    public StringRegexMatcher(String pattern, int flags) {
+        this(pattern, flags, RegexEngine.getDefault());
+    }
+
+    public StringRegexMatcher(String pattern, int flags, RegexEngine engine) {
+        this(new RegexMatcher(), pattern, flags, engine);
     }
 
     StringRegexMatcher(RegexMatcher regexMatcher, String pattern) {
+        this(regexMatcher, pattern, 0);
+    }
+
+    StringRegexMatcher(RegexMatcher regexMatcher, String pattern, int flags) {
+        this(regexMatcher, pattern, flags, RegexEngine.JAVA);
+    }
+
+    StringRegexMatcher(RegexMatcher regexMatcher, String pattern, int flags, RegexEngine engine) {
         this.regexMatcher = regexMatcher;
         this.pattern = pattern;
+        // The pattern is always compiled so that invalid syntax is reported the same way for every engine.
+        this.matcherPool = new MatcherPool(regexMatcher.compile(pattern, flags));
+        this.requiredLiterals = regexMatcher.requiredLiterals(pattern, flags);
+        LinearRegex linearRegex = null;
+        String fallbackReason = null;
+        if (engine == RegexEngine.LINEAR) {
+            try {
+                linearRegex = regexMatcher.compileLinear(pattern, flags);
+            } catch (UnsupportedRegexException e) {
+                fallbackReason = e.getMessage();
+            }
+        }
+        this.linearRegex = linearRegex;
+        this.fallbackReason = fallbackReason;
+        this.timeout = 0;
+        this.timeoutUnit = null;
+    }
+
+    private StringRegexMatcher(StringRegexMatcher matcher, long timeout, TimeUnit timeoutUnit) {
+        this.regexMatcher = matcher.regexMatcher;
+        this.pattern = matcher.pattern;
+        this.matcherPool = matcher.matcherPool;
+        this.requiredLiterals = matcher.requiredLiterals;
+        this.linearRegex = matcher.linearRegex;
+        this.fallbackReason = matcher.fallbackReason;
+        this.timeout = timeout;
+        this.timeoutUnit = timeoutUnit;
+    }
+
+    /**
+     * Stop any match that is still running after the timeout, the match will fail with a mismatch description that says
+     * the timeout was exceeded.
+     */
+    public StringRegexMatcher withTimeout(long timeout, TimeUnit unit) {
+        if (timeout < 1) {
+            throw new IllegalArgumentException("The regex timeout must be greater than zero.");
+        }
+        return new StringRegexMatcher(this, timeout, unit);
     }
 
     @Override
-    protected boolean matchesSafely(String string) {
-        this.string = string;
-        return regexMatcher.matches(pattern, string);
+    protected boolean matchesSafely(CharSequence string) {
+        if (timeoutUnit == null) {
+            return matchesWithinTimeout(string);
+        }
+        try {
+            final boolean matches = matchesWithinTimeout(string);
+            lastTimedMatch.set(new TimedMatch(string, false));
+            return matches;
+        } catch (RegexTimeoutException e) {
+            lastTimedMatch.set(new TimedMatch(string, true));
+            return false;
+        }
+    }
+
+    private boolean matchesWithinTimeout(CharSequence string) {
+        if (!CharSequences.containsAll(string, requiredLiterals)) {
+            return false;
+        }
+        final CharSequence input = timeoutUnit == null ? string
+            : new BudgetedCharSequence(string, timeoutUnit.toNanos(timeout));
+        if (linearRegex != null) {
+            return regexMatcher.matches(linearRegex, input);
+        }
+        return regexMatcher.matches(matcherPool, input);
     }
 
     @Override
     public void describeTo(Description description) {
-        description.appendText("the string to match the pattern ").appendValue(pattern).appendText(".");
+        final Description patternDescription = description.appendText("the string to match the pattern ")
+            .appendValue(pattern);
+        if (fallbackReason != null) {
+            patternDescription.appendText(" (matched with java.util.regex because the linear engine does not support ")
+                .appendText(fallbackReason).appendText(")");
+        }
+        patternDescription.appendText(".");
+    }
+
+    @Override
+    protected void describeMismatchSafely(CharSequence string, Description mismatchDescription) {
+        if (timeoutUnit != null) {
+            final TimedMatch timedMatch = lastTimedMatch.get();
+            lastTimedMatch.remove();
+            if (timedMatch != null && timedMatch.isFor(string)) {
+                if (timedMatch.timedOut) {
+                    mismatchDescription.appendText("pattern evaluation exceeded ").appendText(describeTimeout());
+                    return;
+                }
+            } else {
+                // This thread didn't just match the string so the regex has to be run again, with a fresh timeout, to
+                // find out if it was the timeout that caused the mismatch.
+                try {
+                    matchesWithinTimeout(string);
+                } catch (RegexTimeoutException e) {
+                    mismatchDescription.appendText("pattern evaluation exceeded ").appendText(describeTimeout())
+                        .appendText(" when it was run again to describe the mismatch");
+                    return;
+                }
+            }
+        }
+        // Only the start of a large sequence is copied into the description.
+        if (string.length() > MAX_DESCRIBED_LENGTH) {
+            mismatchDescription.appendText("was ")
+                .appendValue(string.subSequence(0, MAX_DESCRIBED_LENGTH).toString() + "...")
+                .appendText(" (" + string.length() + " characters)");
+            return;
+        }
+        mismatchDescription.appendText("was ").appendValue(string.toString());
+    }
+
+    private String describeTimeout() {
+        switch (timeoutUnit) {
+            case NANOSECONDS:
+                return timeout + "ns";
+            case MICROSECONDS:
+                return timeout + "\u00b5s";
+            case MILLISECONDS:
+                return timeout + "ms";
+            case SECONDS:
+                return timeout + "s";
+            default:
+                return timeout + " " + timeoutUnit.name().toLowerCase();
+        }
+    }
+
+    private static class TimedMatch {
+
+        private final WeakReference<CharSequence> string;
+        private final boolean timedOut;
+
+        private TimedMatch(CharSequence string, boolean timedOut) {
+            this.string = new WeakReference<>(string);
+            this.timedOut = timedOut;
+        }
+
+        private boolean isFor(CharSequence string) {
+            return this.string.get() == string;
+        }
     }
 }
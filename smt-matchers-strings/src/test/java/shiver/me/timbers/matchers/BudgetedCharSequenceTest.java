@@ -0,0 +1,55 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static shiver.me.timbers.data.random.RandomStrings.someAlphaNumericString;
+
+public class BudgetedCharSequenceTest {
+
+    @Test
+    public void Can_read_the_wrapped_sequence_within_the_budget() {
+
+        // Given
+        final String string = someAlphaNumericString(8);
+
+        // When
+        final CharSequence actual = new BudgetedCharSequence(string, TimeUnit.MINUTES.toNanos(1));
+
+        // Then
+        assertThat(actual.length(), is(string.length()));
+        assertThat(actual.charAt(3), is(string.charAt(3)));
+        assertThat(actual.subSequence(2, 5).toString(), equalTo(string.substring(2, 5)));
+        assertThat(actual.toString(), equalTo(string));
+    }
+
+    @Test(expected = RegexTimeoutException.class)
+    public void Cannot_read_the_wrapped_sequence_after_the_deadline() {
+        new BudgetedCharSequence(someAlphaNumericString(8), -1).charAt(0);
+    }
+
+    @Test(expected = RegexTimeoutException.class)
+    public void Cannot_read_a_sub_sequence_after_the_deadline() {
+        new BudgetedCharSequence(someAlphaNumericString(8), -1).subSequence(1, 4).charAt(0);
+    }
+}
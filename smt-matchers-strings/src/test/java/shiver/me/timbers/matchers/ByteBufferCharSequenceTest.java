@@ -0,0 +1,110 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static shiver.me.timbers.data.random.RandomStrings.someAlphaNumericString;
+
+public class ByteBufferCharSequenceTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void Can_read_the_characters_in_a_byte_buffer() {
+
+        // Given
+        final String string = someAlphaNumericString(8) + "é";
+
+        // When
+        final CharSequence actual = new ByteBufferCharSequence(ByteBuffer.wrap(string.getBytes(ISO_8859_1)));
+
+        // Then
+        assertThat(actual.length(), is(string.length()));
+        assertThat(actual.charAt(8), is('é'));
+        assertThat(actual.toString(), equalTo(string));
+    }
+
+    @Test
+    public void Can_read_only_the_remaining_bytes_of_a_byte_buffer() {
+
+        final String string = someAlphaNumericString(8);
+        final ByteBuffer buffer = ByteBuffer.wrap(string.getBytes(ISO_8859_1));
+
+        // Given
+        buffer.position(2);
+        buffer.limit(6);
+
+        // When
+        final CharSequence actual = new ByteBufferCharSequence(buffer);
+
+        // Then
+        assertThat(actual.toString(), equalTo(string.substring(2, 6)));
+    }
+
+    @Test
+    public void Can_get_a_sub_sequence() {
+
+        // Given
+        final String string = someAlphaNumericString(8);
+
+        // When
+        final CharSequence actual = new ByteBufferCharSequence(ByteBuffer.wrap(string.getBytes(ISO_8859_1)))
+            .subSequence(2, 7).subSequence(1, 3);
+
+        // Then
+        assertThat(actual.toString(), equalTo(string.substring(3, 5)));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void Cannot_read_past_the_end_of_the_sequence() {
+        new ByteBufferCharSequence(ByteBuffer.wrap(new byte[4])).subSequence(0, 2).charAt(2);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void Cannot_get_a_sub_sequence_past_the_end_of_the_sequence() {
+        new ByteBufferCharSequence(ByteBuffer.wrap(new byte[4])).subSequence(1, 5);
+    }
+
+    @Test
+    public void Can_map_a_file() throws IOException {
+
+        final File file = folder.newFile();
+        final String string = someAlphaNumericString(32);
+
+        // Given
+        Files.write(file.toPath(), string.getBytes(ISO_8859_1));
+
+        // When
+        final CharSequence actual = ByteBufferCharSequence.mapFile(file.toPath());
+
+        // Then
+        assertThat(actual.toString(), equalTo(string));
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static shiver.me.timbers.matchers.CharSequences.contains;
+import static shiver.me.timbers.matchers.CharSequences.containsAll;
+
+public class CharSequencesTest {
+
+    @Test
+    public void Instantiation_to_get_full_coverage() {
+        new CharSequences();
+    }
+
+    @Test
+    public void Can_find_a_literal_in_a_char_sequence() {
+        assertThat(contains(new StringBuilder("some ORDER-1 text"), "ORDER-"), is(true));
+        assertThat(contains(new StringBuilder("ORDER-"), "ORDER-"), is(true));
+        assertThat(contains(new StringBuilder("some text"), ""), is(true));
+        assertThat(contains("some ORDER-1 text", "ORDER-"), is(true));
+    }
+
+    @Test
+    public void Cannot_find_a_missing_literal_in_a_char_sequence() {
+        assertThat(contains(new StringBuilder("some ORDER text"), "ORDER-"), is(false));
+        assertThat(contains(new StringBuilder("ORDER"), "ORDER-"), is(false));
+        assertThat(contains("some ORDER text", "ORDER-"), is(false));
+    }
+
+    @Test
+    public void Can_check_that_a_char_sequence_contains_all_the_literals() {
+        assertThat(containsAll(new StringBuilder("ORDER-1 status=NEW"), new String[]{"ORDER-", "status="}), is(true));
+        assertThat(containsAll(new StringBuilder("ORDER-1 state=NEW"), new String[]{"ORDER-", "status="}), is(false));
+        assertThat(containsAll(new StringBuilder("anything"), new String[0]), is(true));
+    }
+}
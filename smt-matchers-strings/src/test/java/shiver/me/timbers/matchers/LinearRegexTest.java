@@ -0,0 +1,152 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static java.util.regex.Pattern.COMMENTS;
+import static java.util.regex.Pattern.DOTALL;
+import static java.util.regex.Pattern.LITERAL;
+import static java.util.regex.Pattern.MULTILINE;
+import static java.util.regex.Pattern.UNIX_LINES;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class LinearRegexTest {
+
+    private static final String[] INPUTS = {
+        "", "a", "b", "ab", "aab", "abc", "abcabc", "ABC", "aBc", "abd", "a.c", "a\nc", "abc\n", "abc\r\n", "abc\r",
+        "abc\n\n", "\n", "123", "12a", "a1_2", " \t", "x y", "ORDER-42", "order-42 status=PAID", "ORDER-7 status=NEW",
+        "2016-01-31", "-3.14", "3.", "zzzzzz", "aaaa", "aaaaa", "ab-cd", "[x]", "a]b", "q^w", "tab\there", "é",
+        "😀", "a😀c", "\u0000", "\u001b", "id-ab", "id-abab", "id-abbb", "id-", "\r\n",
+        " \r\n", "x😀😀", "😀😁", "\uD83D"
+    };
+
+    private static final String[] REGEXES = {
+        "", "a", "abc", "a|b", "ab|abc|abcabc", "a*", "a+", "a?", "a*b", "a+b", "(a|b)*", "(?:ab)+", "(?<name>a)bc",
+        "a{2}", "a{2,}", "a{2,4}", "a{0,1}b", "(ab){1,2}", "a*?", "a+?b", "(ab)??c?", ".", ".*", "a.c", ".+\n?",
+        "[abc]+", "[^abc]+", "[a-c]{3}", "[a-]+", "[-a]+", "[]a]+", "[^]a]b", "[\\]x\\[]+", "[\\d\\s]+", "[^\\w]+",
+        "\\d+", "\\D+", "\\w+", "\\W+", "\\s+", "\\S+", "-?\\d+(\\.\\d*)?", "\\d{4}-\\d{2}-\\d{2}",
+        ".*ORDER-[0-9]+.*", "ORDER-\\d+ status=(NEW|PAID)", "^abc$", "\\Aabc\\z", "abc\\Z", "abc$", "^$", "a$b",
+        "q\\^w", "a\\.c", "\\Qa.c\\E", "\\Q[x]", "tab\\there", "\\x61+", "\\x{1F600}", "a\\x{1F600}c", "\\u00e9",
+        "\\0141b", "\\00", "\\cA?\\e?", "\\t\\n\\r\\f\\a", "[\\x61-\\x63]+", "[\\Qa]\\E]+", "(a*)*", "(a|aa)+",
+        "(a?){4}a{4}", "z*z*z*z*z*z*y", "[^\\n]+", "[a-z]+\\n", "id-\\Qab\\E+", "\\Qab\\E{2}", "\\Qa.\\E*c",
+        "a\\Q\\Eb+", "\\Q\\E", "\\s$\\s", "abc\\r$\\n", "abc\\r\\Z\\n", "\\s*$", "\\uD83D\\uDE00",
+        "x\\uD83D\\uDE00+", "[\\uD83D\\uDE00-\\uD83D\\uDE01]+", "\\x{1F600}+"
+    };
+
+    private static final int[] FLAGS = {0, CASE_INSENSITIVE, DOTALL, UNIX_LINES, CASE_INSENSITIVE | DOTALL};
+
+    @Test
+    public void Can_match_the_same_strings_as_java_util_regex() throws UnsupportedRegexException {
+
+        for (String regex : REGEXES) {
+            for (int flags : FLAGS) {
+
+                // Given
+                final Pattern pattern = Pattern.compile(regex, flags);
+
+                // When
+                final LinearRegex actual = LinearRegex.compile(regex, flags);
+
+                // Then
+                for (String input : INPUTS) {
+                    assertThat(
+                        "/" + regex + "/ with flags " + flags + " against \"" + input + "\"",
+                        actual.matches(input),
+                        is(pattern.matcher(input).matches())
+                    );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void Can_match_a_literal_regex() throws UnsupportedRegexException {
+
+        // When
+        final LinearRegex actual = LinearRegex.compile("a.c*", LITERAL | CASE_INSENSITIVE);
+
+        // Then
+        assertThat(actual.matches("A.C*"), is(true));
+        assertThat(actual.matches("abcc"), is(false));
+    }
+
+    @Test
+    public void Can_repeat_only_the_last_character_of_a_quote() throws UnsupportedRegexException {
+
+        // When
+        final LinearRegex actual = LinearRegex.compile("id-\\Qab\\E+", 0);
+
+        // Then
+        assertThat(actual.matches("id-abbb"), is(true));
+        assertThat(actual.matches("id-abab"), is(false));
+    }
+
+    @Test(timeout = 5000)
+    public void Can_match_a_regex_that_would_make_java_util_regex_backtrack_exponentially()
+        throws UnsupportedRegexException {
+
+        final StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            input.append('a');
+        }
+
+        // When
+        final LinearRegex actual = LinearRegex.compile("(a+)+b", 0);
+
+        // Then
+        assertThat(actual.matches(input), is(false));
+        assertThat(actual.matches(input.append('b')), is(true));
+    }
+
+    @Test
+    public void Cannot_compile_a_regex_that_needs_backtracking() {
+        assertUnsupported("(a)\\1", 0, "back references");
+        assertUnsupported("(?<x>a)\\k<x>", 0, "back references");
+        assertUnsupported("a(?=b)", 0, "look arounds, atomic groups, or inline flags");
+        assertUnsupported("(?>a)", 0, "look arounds, atomic groups, or inline flags");
+        assertUnsupported("(?i)a", 0, "look arounds, atomic groups, or inline flags");
+        assertUnsupported("a++", 0, "possessive quantifiers");
+        assertUnsupported("\\ba", 0, "boundary matchers");
+        assertUnsupported("\\p{Lu}", 0, "Unicode character classes");
+        assertUnsupported("[a[b]]", 0, "nested character classes");
+        assertUnsupported("[a-z&&[^b]]", 0, "character class intersections");
+        assertUnsupported("\\R", 0, "the \\R escape");
+        assertUnsupported("a", MULTILINE, "the flags " + MULTILINE);
+        assertUnsupported("a", COMMENTS, "the flags " + COMMENTS);
+        assertUnsupported("a{5000}b{5001}", 0, "patterns this large");
+        assertUnsupported("a\\Q\\E+", 0, "a quantifier after an empty quote");
+        assertUnsupported("\\uD83D", 0, "lone surrogate escapes");
+        assertUnsupported("\\uD83Da", 0, "lone surrogate escapes");
+        assertUnsupported("\\x{DE00}", 0, "lone surrogate escapes");
+    }
+
+    private static void assertUnsupported(String regex, int flags, String feature) {
+        try {
+            LinearRegex.compile(regex, flags);
+            fail("/" + regex + "/ should not be supported.");
+        } catch (UnsupportedRegexException e) {
+            assertThat(e.getMessage(), is(feature));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static shiver.me.timbers.data.random.RandomStrings.someString;
+
+public class LiteralSearchTest {
+
+    @Test
+    public void Can_find_which_literals_are_in_a_string() {
+
+        // Given
+        final LiteralSearch search = new LiteralSearch(asList("he", "she", "his", "hers", "xyz"));
+
+        // When
+        final boolean[] actual = search.search("ushers");
+
+        // Then
+        assertThat(actual, is(new boolean[]{true, true, false, true, false}));
+    }
+
+    @Test
+    public void Can_find_literals_that_overlap_and_are_suffixes_of_each_other() {
+
+        // Given
+        final LiteralSearch search = new LiteralSearch(asList("abcd", "bc", "c", "bcx", "aab"));
+
+        // When
+        final boolean[] actual = search.search("aabcx");
+
+        // Then
+        assertThat(actual, is(new boolean[]{false, true, true, true, true}));
+    }
+
+    @Test
+    public void Can_find_an_empty_literal_in_any_string() {
+
+        // Given
+        final LiteralSearch search = new LiteralSearch(asList("", "a"));
+
+        // When
+        final boolean[] actual = search.search("b");
+
+        // Then
+        assertThat(actual, is(new boolean[]{true, false}));
+    }
+
+    @Test
+    public void Can_search_with_no_literals() {
+
+        // When
+        final boolean[] actual = new LiteralSearch(Collections.<String>emptyList()).search(someString());
+
+        // Then
+        assertThat(actual, is(new boolean[0]));
+    }
+
+    @Test
+    public void Can_find_the_same_literals_as_index_of() {
+
+        final String text = "The quick brown fox jumps over the lazy dog, the dog sleeps.";
+        final String[] literals = {"the", "dog", "fox j", "cat", "o", "lazy dog,", "sleeps.!", "The"};
+
+        // Given
+        final LiteralSearch search = new LiteralSearch(asList(literals));
+
+        // When
+        final boolean[] actual = search.search(text);
+
+        // Then
+        for (int index = 0; index < literals.length; index++) {
+            assertThat(literals[index], actual[index], is(text.contains(literals[index])));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.junit.Test;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class MatcherPoolTest {
+
+    private final MatcherPool pool = new MatcherPool(Pattern.compile("a+"));
+
+    @Test
+    public void Can_reuse_a_released_matcher() {
+
+        // Given
+        final Matcher matcher = pool.acquire("aaa");
+        pool.release(matcher);
+
+        // When
+        final Matcher actual = pool.acquire("aa");
+
+        // Then
+        assertThat(actual, sameInstance(matcher));
+        assertThat(actual.matches(), is(true));
+    }
+
+    @Test
+    public void Can_acquire_a_new_matcher_while_one_is_still_in_use() {
+
+        // Given
+        final Matcher matcher = pool.acquire("aaa");
+
+        // When
+        final Matcher actual = pool.acquire("b");
+
+        // Then
+        assertThat(actual, not(sameInstance(matcher)));
+        assertThat(matcher.matches(), is(true));
+        assertThat(actual.matches(), is(false));
+    }
+
+    @Test
+    public void Can_give_each_thread_its_own_matcher() throws InterruptedException {
+
+        final Matcher[] other = new Matcher[1];
+
+        // Given
+        pool.release(pool.acquire("a"));
+
+        // When
+        final Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                other[0] = pool.acquire("a");
+            }
+        });
+        thread.start();
+        thread.join();
+
+        // Then
+        assertThat(other[0], not(sameInstance(pool.acquire("a"))));
+    }
+}
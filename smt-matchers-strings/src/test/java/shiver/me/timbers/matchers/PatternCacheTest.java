@@ -0,0 +1,153 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static shiver.me.timbers.data.random.RandomIntegers.someIntegerBetween;
+import static shiver.me.timbers.data.random.RandomStrings.someAlphaNumericString;
+
+public class PatternCacheTest {
+
+    @Test
+    public void Can_get_the_shared_cache() {
+
+        // When
+        final PatternCache actual = PatternCache.sharedCache();
+
+        // Then
+        assertThat(actual, sameInstance(PatternCache.sharedCache()));
+    }
+
+    @Test
+    public void Can_compile_a_pattern() {
+
+        // Given
+        final String regex = someAlphaNumericString();
+
+        // When
+        final Pattern actual = new PatternCache(1).compile(regex);
+
+        // Then
+        assertThat(actual.pattern(), equalTo(regex));
+        assertThat(actual.flags(), is(0));
+    }
+
+    @Test
+    public void Can_reuse_a_compiled_pattern() {
+
+        final PatternCache cache = new PatternCache(someIntegerBetween(1, 10));
+
+        // Given
+        final String regex = someAlphaNumericString();
+
+        // When
+        final Pattern actual = cache.compile(regex, CASE_INSENSITIVE);
+
+        // Then
+        assertThat(actual, sameInstance(cache.compile(regex, CASE_INSENSITIVE)));
+        assertThat(actual.flags(), is(CASE_INSENSITIVE));
+        assertThat(cache.getMisses(), is(1L));
+        assertThat(cache.getHits(), is(1L));
+    }
+
+    @Test
+    public void Can_cache_the_same_pattern_with_different_flags() {
+
+        final PatternCache cache = new PatternCache(someIntegerBetween(2, 10));
+
+        // Given
+        final String regex = someAlphaNumericString();
+
+        // When
+        final Pattern actual = cache.compile(regex);
+
+        // Then
+        assertThat(actual, not(sameInstance(cache.compile(regex, CASE_INSENSITIVE))));
+        assertThat(cache.size(), is(2));
+        assertThat(cache.getMisses(), is(2L));
+    }
+
+    @Test
+    public void Can_evict_the_least_recently_used_pattern() {
+
+        final PatternCache cache = new PatternCache(2);
+
+        // Given
+        final Pattern one = cache.compile("one");
+        final Pattern two = cache.compile("two");
+        cache.compile("one");
+
+        // When
+        cache.compile("three");
+
+        // Then
+        assertThat(cache.size(), is(2));
+        assertThat(cache.compile("one"), sameInstance(one));
+        assertThat(cache.compile("two"), not(sameInstance(two)));
+    }
+
+    @Test
+    public void Can_shrink_the_cache() {
+
+        final PatternCache cache = new PatternCache(3);
+
+        // Given
+        cache.compile("one");
+        cache.compile("two");
+        cache.compile("three");
+
+        // When
+        cache.setMaxSize(1);
+
+        // Then
+        assertThat(cache.getMaxSize(), is(1));
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    public void Can_clear_the_cache() {
+
+        final PatternCache cache = new PatternCache(someIntegerBetween(1, 10));
+
+        // Given
+        cache.compile(someAlphaNumericString());
+
+        // When
+        cache.clear();
+
+        // Then
+        assertThat(cache.size(), is(0));
+        assertThat(cache.getHits(), is(0L));
+        assertThat(cache.getMisses(), is(0L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Cannot_create_a_cache_with_no_size() {
+
+        // When
+        new PatternCache(someIntegerBetween(-10, 1));
+    }
+}
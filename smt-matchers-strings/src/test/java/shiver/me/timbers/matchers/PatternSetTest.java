@@ -0,0 +1,173 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static java.util.Arrays.asList;
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static shiver.me.timbers.data.random.RandomIntegers.someIntegerBetween;
+import static shiver.me.timbers.data.random.RandomStrings.someAlphaString;
+
+public class PatternSetTest {
+
+    @Test
+    public void Can_find_which_patterns_match_a_string() {
+
+        // Given
+        final PatternSet patterns = new PatternSet(asList(".*ORDER-[0-9]+.*", ".*ERROR.*", "\\w+ \\w+", ".*ORDER.*"));
+
+        // Then
+        assertThat(patterns.matchingPatterns("an ORDER-123 failed"), contains(".*ORDER-[0-9]+.*", ".*ORDER.*"));
+        assertThat(patterns.matchingPatterns("some ERROR"), contains(".*ERROR.*", "\\w+ \\w+"));
+        assertThat(patterns.matchingPatterns("nothing-here"), empty());
+        assertThat(patterns.nonMatchingPatterns("an ORDER-123 failed"), contains(".*ERROR.*", "\\w+ \\w+"));
+        assertThat(patterns.getPatterns(), contains(".*ORDER-[0-9]+.*", ".*ERROR.*", "\\w+ \\w+", ".*ORDER.*"));
+    }
+
+    @Test
+    public void Can_check_if_any_pattern_matches_a_string() {
+
+        // Given
+        final PatternSet patterns = new PatternSet(asList(".*ORDER-[0-9]+.*", "[0-9]+"));
+
+        // Then
+        assertThat(patterns.matchesAny("ORDER-1"), is(true));
+        assertThat(patterns.matchesAny("123"), is(true));
+        assertThat(patterns.matchesAny("ORDER-"), is(false));
+    }
+
+    @Test
+    public void Can_check_if_all_the_patterns_match_a_string() {
+
+        // Given
+        final PatternSet patterns = new PatternSet(asList(".*ORDER-[0-9]+.*", ".*failed", ".*"));
+
+        // Then
+        assertThat(patterns.matchesAll("ORDER-1 failed"), is(true));
+        assertThat(patterns.matchesAll("ORDER-1 passed"), is(false));
+        assertThat(patterns.matchesAll("ORDER-X failed"), is(false));
+    }
+
+    @Test
+    public void Can_match_with_flags() {
+
+        // Given
+        final PatternSet patterns = new PatternSet(asList(".*order.*"), CASE_INSENSITIVE);
+
+        // Then
+        assertThat(patterns.matchesAny("AN ORDER"), is(true));
+    }
+
+    @Test
+    public void An_empty_set_matches_nothing_but_all_of_nothing_matches() {
+
+        // Given
+        final PatternSet patterns = new PatternSet(Collections.<String>emptyList());
+
+        // Then
+        assertThat(patterns.matchesAny(someAlphaString()), is(false));
+        assertThat(patterns.matchesAll(someAlphaString()), is(true));
+    }
+
+    @Test
+    public void Does_not_run_a_regex_if_its_literal_is_missing() {
+
+        final RegexMatcher regexMatcher = mock(RegexMatcher.class);
+        final Pattern pattern = Pattern.compile(".*ORDER.*");
+
+        // Given
+        given(regexMatcher.compile(".*ORDER.*", 0)).willReturn(pattern);
+        final PatternSet patterns = new PatternSet(regexMatcher, asList(".*ORDER.*"), 0);
+
+        // When
+        patterns.matchesAny("no orders");
+        patterns.matchesAll("no orders");
+        patterns.matchingPatterns("no orders");
+
+        // Then
+        verify(regexMatcher, never()).matches(any(MatcherPool.class), any(CharSequence.class));
+    }
+
+    @Test
+    public void Can_run_each_regex_with_its_pooled_matcher() {
+
+        final RegexMatcher regexMatcher = mock(RegexMatcher.class);
+
+        // Given
+        given(regexMatcher.compile(".*ORDER.*", 0)).willReturn(Pattern.compile(".*ORDER.*"));
+        given(regexMatcher.matches(any(MatcherPool.class), any(CharSequence.class))).willReturn(true);
+        final PatternSet patterns = new PatternSet(regexMatcher, asList(".*ORDER.*"), 0);
+
+        // When
+        final boolean any = patterns.matchesAny(new StringBuilder("an ORDER"));
+        final boolean all = patterns.matchesAll(new StringBuilder("an ORDER"));
+
+        // Then
+        assertThat(any, is(true));
+        assertThat(all, is(true));
+        verify(regexMatcher, never()).matches(any(Pattern.class), any(CharSequence.class));
+    }
+
+    @Test
+    public void Can_find_the_same_matches_as_running_every_regex() {
+
+        final List<String> regexes = asList(
+            ".*ab.*", "a+b", "[ab]*c[ab]*", ".*abc", "(ab)+", "b?ca", ".*c.*", "a.c", "\\Qab\\E.*", "ab|ba", "(?i)AB.*"
+        );
+        final PatternSet patterns = new PatternSet(regexes);
+
+        for (int i = 0; i < 500; i++) {
+
+            // Given
+            final String string = someString("abc", someIntegerBetween(0, 8));
+            final List<String> expected = new ArrayList<>();
+            for (String regex : regexes) {
+                if (string.matches(regex)) {
+                    expected.add(regex);
+                }
+            }
+
+            // Then
+            assertThat(string, patterns.matchingPatterns(string), is(expected));
+            assertThat(string, patterns.matchesAny(string), is(!expected.isEmpty()));
+            assertThat(string, patterns.matchesAll(string), is(expected.size() == regexes.size()));
+        }
+    }
+
+    private static String someString(String characters, int length) {
+        final StringBuilder string = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            string.append(characters.charAt(someIntegerBetween(0, characters.length())));
+        }
+        return string.toString();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class RegexEngineTest {
+
+    private RegexEngine defaultEngine;
+
+    @Before
+    public void setUp() {
+        defaultEngine = RegexEngine.getDefault();
+    }
+
+    @After
+    public void tearDown() {
+        RegexEngine.setDefault(defaultEngine);
+    }
+
+    @Test
+    public void The_java_engine_is_the_default() {
+        assertThat(RegexEngine.getDefault(), is(RegexEngine.JAVA));
+    }
+
+    @Test
+    public void Can_change_the_default_engine() {
+
+        // When
+        RegexEngine.setDefault(RegexEngine.LINEAR);
+
+        // Then
+        assertThat(RegexEngine.getDefault(), is(RegexEngine.LINEAR));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Cannot_set_the_default_engine_to_null() {
+        RegexEngine.setDefault(null);
+    }
+
+    @Test
+    public void Can_parse_an_engine_name() {
+        assertThat(RegexEngine.parse("LINEAR", RegexEngine.JAVA), is(RegexEngine.LINEAR));
+        assertThat(RegexEngine.parse(" linear ", RegexEngine.JAVA), is(RegexEngine.LINEAR));
+    }
+
+    @Test
+    public void Can_fall_back_to_the_default_engine_for_a_missing_or_unknown_name() {
+        assertThat(RegexEngine.parse(null, RegexEngine.JAVA), is(RegexEngine.JAVA));
+        assertThat(RegexEngine.parse("", RegexEngine.JAVA), is(RegexEngine.JAVA));
+        assertThat(RegexEngine.parse("re2", RegexEngine.JAVA), is(RegexEngine.JAVA));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.junit.Test;
+
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static java.util.regex.Pattern.COMMENTS;
+import static java.util.regex.Pattern.DOTALL;
+import static java.util.regex.Pattern.LITERAL;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static shiver.me.timbers.matchers.RegexLiterals.requiredLiteral;
+import static shiver.me.timbers.matchers.RegexLiterals.requiredLiterals;
+
+public class RegexLiteralsTest {
+
+    @Test
+    public void Instantiation_to_get_full_coverage() {
+        requiredLiteral("", 0);
+    }
+
+    @Test
+    public void Can_find_the_literal_in_a_plain_string() {
+        assertThat(requiredLiteral("some text", 0), is("some text"));
+    }
+
+    @Test
+    public void Can_find_the_longest_literal_between_meta_characters() {
+        assertThat(requiredLiteral(".*ORDER-[0-9]+.*", 0), is("ORDER-"));
+        assertThat(requiredLiteral("^ab.abcd$", DOTALL), is("abcd"));
+        assertThat(requiredLiteral("a\\d+bcd\\w*ef", 0), is("bcd"));
+        assertThat(requiredLiteral("ab(cd|ef)+ghi", 0), is("ghi"));
+        assertThat(requiredLiteral("[abc(]+xy(?:z)", 0), is("xy"));
+    }
+
+    @Test
+    public void Optional_characters_are_not_part_of_the_literal() {
+        assertThat(requiredLiteral("abcd?", 0), is("abc"));
+        assertThat(requiredLiteral("abcd*", 0), is("abc"));
+        assertThat(requiredLiteral("abcd{0,2}", 0), is("abc"));
+        assertThat(requiredLiteral("abcd+", 0), is("abcd"));
+        assertThat(requiredLiteral("ab\\.*", 0), is("ab"));
+        assertThat(requiredLiteral("a😀?", 0), is("a"));
+    }
+
+    @Test
+    public void Can_find_escaped_and_quoted_literals() {
+        assertThat(requiredLiteral("\\$\\{name\\}", 0), is("${name}"));
+        assertThat(requiredLiteral(".*\\Q[x]*\\E.*", 0), is("[x]*"));
+        assertThat(requiredLiteral(".*\\Q[x]", 0), is("[x]"));
+        assertThat(requiredLiteral("(\\Q)\\E)ab", 0), is("ab"));
+        assertThat(requiredLiteral("[\\]]ab", 0), is("ab"));
+        assertThat(requiredLiteral("[^]a]ab", 0), is("ab"));
+        assertThat(requiredLiteral("[a[bc]]ab", 0), is("ab"));
+        assertThat(requiredLiteral("[\\Q]\\E]ab", 0), is("ab"));
+    }
+
+    @Test
+    public void Escape_sequences_are_not_literals() {
+        assertThat(requiredLiteral("\\x41\\u0042\\p{Alpha}\\pLc", 0), is("c"));
+        assertThat(requiredLiteral("\\x{41}d\\N{LATIN SMALL LETTER A}", 0), is("d"));
+        assertThat(requiredLiteral("(a)\\1234b\\0123c\\cAd", 0), is("b"));
+        assertThat(requiredLiteral("(?<n>a)\\k<n>bc", 0), is("bc"));
+        assertThat(requiredLiteral("\\Nab", 0), is("ab"));
+    }
+
+    @Test
+    public void Can_find_no_literal_when_the_regex_is_hard_to_reason_about() {
+        assertThat(requiredLiteral("abc|def", 0), nullValue());
+        assertThat(requiredLiteral("(?i)abc", 0), nullValue());
+        assertThat(requiredLiteral("abc", CASE_INSENSITIVE), nullValue());
+        assertThat(requiredLiteral("abc", COMMENTS), nullValue());
+        assertThat(requiredLiteral(".*", 0), nullValue());
+        assertThat(requiredLiteral("a)", 0), nullValue());
+        assertThat(requiredLiteral("a\\", 0), nullValue());
+    }
+
+    @Test
+    public void Can_find_the_literal_around_scoped_flags() {
+        assertThat(requiredLiteral("(?i:abc)def", 0), is("def"));
+        assertThat(requiredLiteral("(?s)abc", 0), nullValue());
+    }
+
+    @Test
+    public void A_literal_pattern_is_its_own_literal() {
+        assertThat(requiredLiteral(".*", LITERAL), is(".*"));
+        assertThat(requiredLiteral("", LITERAL), nullValue());
+    }
+
+    @Test
+    public void Can_find_all_the_required_literals_longest_first() {
+        assertThat(requiredLiterals(".*ORDER-[0-9]+ status=(NEW|PAID).*", 0), contains(" status=", "ORDER-"));
+        assertThat(requiredLiterals("a.bc.def", 0), contains("def", "bc", "a"));
+        assertThat(requiredLiterals("a|b", 0), empty());
+        assertThat(requiredLiterals("a", CASE_INSENSITIVE), empty());
+        assertThat(requiredLiterals("a|b", LITERAL), contains("a|b"));
+        assertThat(requiredLiterals("", LITERAL), empty());
+    }
+}
@@ -18,9 +18,13 @@ package shiver.me.timbers.matchers;
 
 import org.junit.Test;
 
+import java.util.regex.Pattern;
+
 import static java.lang.String.format;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 import static shiver.me.timbers.data.random.RandomFloats.someFloat;
 import static shiver.me.timbers.data.random.RandomIntegers.someInteger;
 import static shiver.me.timbers.data.random.RandomStrings.someAlphaNumericString;
@@ -39,4 +43,79 @@ public class RegexMatcherTest {
         // Then
         assertThat(actual, is(true));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void Can_match_a_compiled_pattern_to_some_text() {
+
+        // Given
+        final String string = format("%d %4s", someInteger(), someAlphaNumericString(4));
+
+        // When
+        final boolean actual = new RegexMatcher().matches(Pattern.compile("-?\\d+ [a-zA-Z0-9]{4}"), string);
+
+        // Then
+        assertThat(actual, is(true));
+    }
+
+    @Test
+    public void Can_compile_a_pattern_with_the_pattern_cache() {
+
+        final PatternCache patternCache = mock(PatternCache.class);
+        final String regex = someAlphaNumericString();
+        final int flags = someInteger();
+
+        final Pattern expected = Pattern.compile(regex);
+
+        // Given
+        given(patternCache.compile(regex, flags)).willReturn(expected);
+
+        // When
+        final Pattern actual = new RegexMatcher(patternCache).compile(regex, flags);
+
+        // Then
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    public void Can_find_the_literals_required_by_a_regex() {
+
+        // When
+        final String[] actual = new RegexMatcher().requiredLiterals(".*ORDER-[0-9]+ status=(NEW|PAID).*", 0);
+
+        // Then
+        assertThat(actual, is(new String[]{" status=", "ORDER-"}));
+    }
+
+    @Test
+    public void Can_match_a_linear_regex_to_some_text() throws UnsupportedRegexException {
+
+        final RegexMatcher regexMatcher = new RegexMatcher();
+
+        // Given
+        final String string = format("%d %4s", someInteger(), someAlphaNumericString(4));
+
+        // When
+        final boolean actual = regexMatcher.matches(regexMatcher.compileLinear("-?\\d+ [a-zA-Z0-9]{4}", 0), string);
+
+        // Then
+        assertThat(actual, is(true));
+    }
+
+    @Test
+    public void Can_match_with_a_pooled_matcher_more_than_once() {
+
+        final MatcherPool matcherPool = new MatcherPool(Pattern.compile("-?\\d+ [a-zA-Z0-9]{4}"));
+        final RegexMatcher regexMatcher = new RegexMatcher();
+
+        // Given
+        final String string = format("%d %4s", someInteger(), someAlphaNumericString(4));
+
+        // When
+        final boolean actual = regexMatcher.matches(matcherPool, string);
+
+        // Then
+        assertThat(actual, is(true));
+        assertThat(regexMatcher.matches(matcherPool, "not" + string), is(false));
+        assertThat(regexMatcher.matches(matcherPool, string), is(true));
+    }
+}
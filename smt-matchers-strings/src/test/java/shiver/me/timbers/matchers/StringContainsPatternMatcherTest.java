@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static shiver.me.timbers.data.random.RandomStrings.someAlphaNumericString;
+
+public class StringContainsPatternMatcherTest {
+
+    private RegexMatcher regexMatcher;
+    private String pattern;
+
+    @Before
+    public void setUp() {
+        regexMatcher = mock(RegexMatcher.class);
+        pattern = "ORDER-[0-9]+";
+        given(regexMatcher.compile(pattern, 0)).willReturn(Pattern.compile(pattern));
+        given(regexMatcher.requiredLiterals(pattern, 0)).willReturn(new String[0]);
+    }
+
+    @Test
+    public void Instantiation_to_get_full_coverage() {
+        new StringContainsPatternMatcher(someAlphaNumericString());
+    }
+
+    @Test
+    public void Can_check_that_a_string_contains_a_pattern() {
+
+        // Given
+        final StringContainsPatternMatcher matcher = new StringContainsPatternMatcher(regexMatcher, pattern, 0);
+
+        // Then
+        assertThat(matcher.matchesSafely("some ORDER-12 text"), is(true));
+        assertThat(matcher.matchesSafely(new StringBuilder("ORDER-3")), is(true));
+        assertThat(matcher.matchesSafely("some ORDER- text"), is(false));
+    }
+
+    @Test
+    public void Can_reject_a_string_without_the_required_literals() {
+
+        // Given
+        given(regexMatcher.requiredLiterals(pattern, 0)).willReturn(new String[]{"INVOICE-"});
+
+        // When
+        final boolean actual = new StringContainsPatternMatcher(regexMatcher, pattern, 0)
+            .matchesSafely("some ORDER-12 text");
+
+        // Then
+        assertThat(actual, is(false));
+    }
+
+    @Test
+    public void Can_describe_the_matcher() {
+
+        final Description description = new StringDescription();
+
+        // When
+        new StringContainsPatternMatcher(regexMatcher, pattern, 0).describeTo(description);
+
+        // Then
+        assertThat(description.toString(), equalTo("the string to contain the pattern \"ORDER-[0-9]+\"."));
+    }
+
+    @Test
+    public void Can_describe_a_mismatch() {
+
+        final Description description = new StringDescription();
+
+        // When
+        new StringContainsPatternMatcher(regexMatcher, pattern, 0).describeMismatch(
+            new StringBuilder("some text"), description
+        );
+
+        // Then
+        assertThat(description.toString(), equalTo("was \"some text\""));
+    }
+}
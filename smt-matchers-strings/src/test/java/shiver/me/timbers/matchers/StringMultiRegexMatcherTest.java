@@ -0,0 +1,147 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.CharBuffer;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static shiver.me.timbers.data.random.RandomBooleans.someBoolean;
+import static shiver.me.timbers.data.random.RandomStrings.someString;
+import static shiver.me.timbers.matchers.StringMultiRegexMatcher.matchesAllOf;
+import static shiver.me.timbers.matchers.StringMultiRegexMatcher.matchesAnyOf;
+
+public class StringMultiRegexMatcherTest {
+
+    private PatternSet patternSet;
+
+    @Before
+    public void setUp() {
+        patternSet = mock(PatternSet.class);
+    }
+
+    @Test
+    public void Can_check_that_a_string_matches_any_of_the_patterns() {
+
+        final String string = someString();
+
+        final Boolean expected = someBoolean();
+
+        // Given
+        given(patternSet.matchesAny(string)).willReturn(expected);
+
+        // When
+        final boolean actual = new StringMultiRegexMatcher(patternSet, false).matchesSafely(string);
+
+        // Then
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    public void Can_check_that_a_string_matches_all_of_the_patterns() {
+
+        final String string = someString();
+
+        final Boolean expected = someBoolean();
+
+        // Given
+        given(patternSet.matchesAll(string)).willReturn(expected);
+
+        // When
+        final boolean actual = new StringMultiRegexMatcher(patternSet, true).matchesSafely(string);
+
+        // Then
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    public void Can_describe_the_patterns() {
+
+        final List<String> patterns = asList("one", "two");
+
+        // Given
+        given(patternSet.getPatterns()).willReturn(patterns);
+
+        // When
+        final String any = new StringMultiRegexMatcher(patternSet, false).toString();
+        final String all = new StringMultiRegexMatcher(patternSet, true).toString();
+
+        // Then
+        assertThat(any, is("the string to match any of the patterns [\"one\", \"two\"]."));
+        assertThat(all, is("the string to match all of the patterns [\"one\", \"two\"]."));
+    }
+
+    @Test
+    public void Can_describe_which_patterns_did_not_match() {
+
+        final Description description = new StringDescription();
+
+        // Given
+        given(patternSet.nonMatchingPatterns("three")).willReturn(asList("two"));
+
+        // When
+        new StringMultiRegexMatcher(patternSet, true).describeMismatchSafely("three", description);
+
+        // Then
+        assertThat(description.toString(), is("was \"three\" which did not match [\"two\"]"));
+    }
+
+    @Test
+    public void Can_describe_that_no_patterns_matched() {
+
+        final Description description = new StringDescription();
+
+        // When
+        new StringMultiRegexMatcher(patternSet, false).describeMismatchSafely("three", description);
+
+        // Then
+        assertThat(description.toString(), is("was \"three\" which matched none of them"));
+    }
+
+    @Test
+    public void Can_create_the_matchers_with_the_factories() {
+
+        // Then
+        assertThat("an ORDER-1", matchesAnyOf(".*ERROR.*", ".*ORDER-[0-9]+"));
+        assertThat("an ORDER-1", matchesAllOf(".*ORDER.*", "an .*"));
+        assertThat(matchesAnyOf(".*ERROR.*").matches("an ORDER-1"), is(false));
+        assertThat(matchesAllOf(".*ERROR.*", ".*ORDER.*").matches("an ORDER-1"), is(false));
+    }
+
+    @Test
+    public void Can_check_that_any_char_sequence_matches_the_patterns() {
+
+        final Description description = new StringDescription();
+
+        // When
+        matchesAllOf(".*ERROR.*", ".*ORDER.*").describeMismatch(new StringBuilder("an ORDER-1"), description);
+
+        // Then
+        assertThat(CharBuffer.wrap("an ORDER-1"), matchesAnyOf(".*ERROR.*", ".*ORDER-[0-9]+"));
+        assertThat(new StringBuilder("an ORDER-1"), matchesAllOf(".*ORDER.*", "an .*"));
+        assertThat(description.toString(), is("was \"an ORDER-1\" which did not match [\".*ERROR.*\"]"));
+    }
+}
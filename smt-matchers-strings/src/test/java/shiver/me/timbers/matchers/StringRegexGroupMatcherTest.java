@@ -0,0 +1,221 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Matchers.anyObject;
+
+public class StringRegexGroupMatcherTest {
+
+    private static final String PATTERN = "(?<year>\\d{4})-(\\d{2})-\\d{2}";
+
+    private RegexMatcher regexMatcher;
+
+    @Before
+    public void setUp() {
+        regexMatcher = mock(RegexMatcher.class);
+        given(regexMatcher.compile(PATTERN, 0)).willReturn(Pattern.compile(PATTERN));
+        given(regexMatcher.requiredLiterals(PATTERN, 0)).willReturn(new String[0]);
+    }
+
+    @Test
+    public void Can_check_that_a_string_matches_a_pattern_with_a_named_group() {
+
+        // Given
+        final StringRegexGroupMatcher matcher = groupMatcher(false, "year", -1, equalTo("2016"));
+
+        // Then
+        assertThat(matcher.matchesSafely("2016-01-31"), is(true));
+        assertThat(matcher.matchesSafely("2015-01-31"), is(false));
+        assertThat(matcher.matchesSafely("on 2016-01-31"), is(false));
+    }
+
+    @Test
+    public void Can_check_that_a_string_matches_a_pattern_with_a_numbered_group() {
+
+        // Given
+        final StringRegexGroupMatcher matcher = groupMatcher(false, null, 2, equalTo("01"));
+
+        // Then
+        assertThat(matcher.matchesSafely(new StringBuilder("2016-01-31")), is(true));
+        assertThat(matcher.matchesSafely("2016-02-31"), is(false));
+    }
+
+    @Test
+    public void Can_check_that_a_string_contains_a_pattern_with_a_group() {
+
+        // Given
+        final StringRegexGroupMatcher matcher = groupMatcher(true, "year", -1, equalTo("2016"));
+
+        // Then
+        assertThat(matcher.matchesSafely("created on 2016-01-31 at noon"), is(true));
+        assertThat(matcher.matchesSafely("created on 2015-01-31 at noon"), is(false));
+        assertThat(matcher.matchesSafely("created at noon"), is(false));
+    }
+
+    @Test
+    public void Can_pass_a_group_that_did_not_participate_in_the_match_as_null() {
+
+        final String pattern = "a(b)?c";
+
+        // Given
+        given(regexMatcher.compile(pattern, 0)).willReturn(Pattern.compile(pattern));
+        given(regexMatcher.requiredLiterals(pattern, 0)).willReturn(new String[0]);
+
+        // When
+        final boolean actual = new StringRegexGroupMatcher(regexMatcher, pattern, 0, false, null, 1, nullValue())
+            .matchesSafely("ac");
+
+        // Then
+        assertThat(actual, is(true));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void Does_not_check_the_group_if_the_string_does_not_have_the_required_literals() {
+
+        final Matcher<String> group = mock(Matcher.class);
+
+        // Given
+        given(regexMatcher.requiredLiterals(PATTERN, 0)).willReturn(new String[]{"-"});
+
+        // When
+        final boolean actual = groupMatcher(false, "year", -1, group).matchesSafely("20160131");
+
+        // Then
+        assertThat(actual, is(false));
+        verify(group, never()).matches(anyObject());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Cannot_use_a_group_name_that_is_not_in_the_pattern() {
+        groupMatcher(false, "month", -1, equalTo("01"));
+    }
+
+    @Test
+    public void Cannot_use_a_group_name_that_is_only_quoted_or_escaped_in_the_pattern() {
+        assertNoGroupNamed("\\Q(?<month>\\E\\d+");
+        assertNoGroupNamed("\\(?<month>\\d+");
+        assertNoGroupNamed("[(?<month>]\\d+");
+    }
+
+    @Test
+    public void Can_use_a_group_name_that_is_in_the_pattern() {
+
+        // When
+        final StringRegexGroupMatcher actual = new StringRegexGroupMatcher(
+            new RegexMatcher(), "\\Q(?<x>\\E(?<month>\\d+)", 0, true, "month", -1, equalTo("01")
+        );
+
+        // Then
+        assertThat(actual.matches("(?<x>01"), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Cannot_use_a_group_number_that_is_not_in_the_pattern() {
+        groupMatcher(false, null, 3, equalTo("01"));
+    }
+
+    @Test
+    public void Can_describe_the_matcher() {
+
+        final Description description = new StringDescription();
+
+        // When
+        groupMatcher(false, "year", -1, equalTo("2016")).describeTo(description);
+
+        // Then
+        assertThat(description.toString(), equalTo(
+            "the string to match the pattern \"(?<year>\\d{4})-(\\d{2})-\\d{2}\" with group \"year\" \"2016\"."
+        ));
+    }
+
+    @Test
+    public void Can_describe_the_contains_matcher() {
+
+        final Description description = new StringDescription();
+
+        // When
+        groupMatcher(true, null, 2, equalTo("01")).describeTo(description);
+
+        // Then
+        assertThat(description.toString(), equalTo(
+            "the string to contain the pattern \"(?<year>\\d{4})-(\\d{2})-\\d{2}\" with group <2> \"01\"."
+        ));
+    }
+
+    @Test
+    public void Can_describe_a_mismatch_of_the_group() {
+
+        final Description description = new StringDescription();
+
+        // When
+        groupMatcher(false, "year", -1, equalTo("2016")).describeMismatch("2015-01-31", description);
+
+        // Then
+        assertThat(description.toString(), equalTo("group \"year\" was \"2015\""));
+    }
+
+    @Test
+    public void Can_describe_a_mismatch_of_the_pattern() {
+
+        final Description description = new StringDescription();
+
+        // When
+        groupMatcher(false, "year", -1, equalTo("2016")).describeMismatch("2016/01/31", description);
+        groupMatcher(true, "year", -1, equalTo("2016")).describeMismatch(" and ", description);
+
+        // Then
+        assertThat(description.toString(), equalTo(
+            "was \"2016/01/31\" which did not match the pattern" + "was \" and \" which did not contain the pattern"
+        ));
+    }
+
+    private void assertNoGroupNamed(String pattern) {
+        try {
+            new StringRegexGroupMatcher(new RegexMatcher(), pattern, 0, true, "month", -1, equalTo("01"));
+            fail("The pattern " + pattern + " should not have a group named month.");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), equalTo("The pattern " + pattern + " has no group named month."));
+        }
+    }
+
+    private StringRegexGroupMatcher groupMatcher(
+        boolean find,
+        String groupName,
+        int groupIndex,
+        Matcher<? super String> group
+    ) {
+        return new StringRegexGroupMatcher(regexMatcher, PATTERN, 0, find, groupName, groupIndex, group);
+    }
+}
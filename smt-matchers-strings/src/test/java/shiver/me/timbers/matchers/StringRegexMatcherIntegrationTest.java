@@ -23,11 +23,19 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.StringWriter;
+import java.nio.CharBuffer;
+import java.nio.file.Files;
 import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertThat;
 import static shiver.me.timbers.data.random.RandomFloats.someFloat;
 import static shiver.me.timbers.data.random.RandomIntegers.someInteger;
@@ -40,6 +48,9 @@ public class StringRegexMatcherIntegrationTest {
     @Rule
     public ExpectedException expectedException = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     private Mustache noMatchErrorMessage;
     private StringWriter writer;
 
@@ -60,6 +71,75 @@ public class StringRegexMatcherIntegrationTest {
         assertThat(actual, matches("-?\\d+ -?\\d+\\.\\d\\d [a-zA-Z0-9]{4}"));
     }
 
+    @Test
+    public void Can_check_that_a_string_matches_a_pattern_with_a_required_literal() {
+
+        // Given
+        final String actual = format("%s ORDER-%d", someAlphaNumericString(8), Math.abs(someInteger()));
+
+        // Then
+        assertThat(actual, matches(".*ORDER-[0-9]+"));
+        assertThat(actual, not(matches(".*INVOICE-[0-9]+")));
+        assertThat(actual, not(matches(".*ORDER-[0-9]+ paid")));
+    }
+
+    @Test
+    public void Can_check_that_a_char_sequence_matches_the_supplied_pattern() throws IOException {
+
+        final String string = format("%s ORDER-%d", someAlphaNumericString(8), Math.abs(someInteger()));
+        final File file = folder.newFile();
+
+        // Given
+        Files.write(file.toPath(), string.getBytes(ISO_8859_1));
+
+        // Then
+        assertThat(new StringBuilder(string), matches(".*ORDER-[0-9]+"));
+        assertThat(CharBuffer.wrap(string), matches(".*ORDER-[0-9]+", RegexEngine.LINEAR));
+        assertThat(ByteBufferCharSequence.mapFile(file.toPath()), matches(".*ORDER-[0-9]+"));
+        assertThat(ByteBufferCharSequence.mapFile(file.toPath()), not(matches(".*INVOICE-[0-9]+")));
+    }
+
+    @Test(timeout = 5000)
+    public void Can_check_that_a_string_matches_a_pattern_with_the_linear_engine() {
+
+        final StringBuilder actual = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            actual.append('a');
+        }
+
+        // Then
+        assertThat(format("%d %s", someInteger(), someAlphaNumericString(4)),
+            matches("-?\\d+ [a-zA-Z0-9]{4}", RegexEngine.LINEAR));
+        assertThat(actual.toString(), not(matches("(a+)+b", RegexEngine.LINEAR)));
+    }
+
+    @Test
+    public void Can_match_line_terminators_and_surrogate_escapes_like_java_util_regex_with_the_linear_engine() {
+
+        // Then
+        assertThat("\r\n", not(matches("\\s$\\s", RegexEngine.LINEAR)));
+        assertThat("abc\r\n", not(matches("abc\\r$\\n", RegexEngine.LINEAR)));
+        assertThat("abc\r\n", matches("abc$\\r\\n", RegexEngine.LINEAR));
+        assertThat("😀", matches("\\uD83D\\uDE00", RegexEngine.LINEAR));
+        assertThat("x😀😀", matches("x\\uD83D\\uDE00+", RegexEngine.LINEAR));
+    }
+
+    @Test(timeout = 5000)
+    public void Can_stop_matching_a_string_that_takes_longer_than_the_timeout() {
+
+        final StringBuilder actual = new StringBuilder();
+        for (int i = 0; i < 30; i++) {
+            actual.append('a');
+        }
+
+        // Given
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("but: pattern evaluation exceeded 50ms");
+
+        // Then
+        assertThat(actual.toString(), matches("((a+)+)+[bc]", 50, TimeUnit.MILLISECONDS));
+    }
+
     @Test
     public void Can_get_a_meaningful_assertion_error_message() {
 
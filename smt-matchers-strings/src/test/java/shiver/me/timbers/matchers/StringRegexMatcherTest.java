@@ -17,30 +17,71 @@
 package shiver.me.timbers.matchers;
 
 import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentMatcher;
 
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.argThat;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static shiver.me.timbers.data.random.RandomBooleans.someBoolean;
+import static shiver.me.timbers.data.random.RandomIntegers.someInteger;
+import static shiver.me.timbers.data.random.RandomStrings.someAlphaNumericString;
 import static shiver.me.timbers.data.random.RandomStrings.someString;
 
 public class StringRegexMatcherTest {
 
     private RegexMatcher regexMatcher;
     private String pattern;
+    private Pattern compiledPattern;
     private StringRegexMatcher matcher;
 
     @Before
     public void setUp() {
         regexMatcher = mock(RegexMatcher.class);
         pattern = someString();
+        compiledPattern = Pattern.compile(someAlphaNumericString());
+        given(regexMatcher.compile(pattern, 0)).willReturn(compiledPattern);
+        given(regexMatcher.requiredLiterals(pattern, 0)).willReturn(new String[0]);
         matcher = new StringRegexMatcher(regexMatcher, pattern);
     }
 
+    @Test
+    public void Instantiation_to_get_full_coverage() {
+        new StringRegexMatcher(someAlphaNumericString());
+    }
+
+    @Test
+    public void Can_compile_the_pattern_once_on_creation() {
+
+        final int flags = someInteger();
+
+        // Given
+        given(regexMatcher.compile(pattern, flags)).willReturn(compiledPattern);
+        given(regexMatcher.requiredLiterals(pattern, flags)).willReturn(new String[0]);
+
+        // When
+        final StringRegexMatcher actual = new StringRegexMatcher(regexMatcher, pattern, flags);
+        actual.matchesSafely(someString());
+        actual.matchesSafely(someString());
+
+        // Then
+        verify(regexMatcher).compile(pattern, flags);
+    }
+
     @Test
     public void Can_check_that_a_string_matches_a_pattern() {
 
@@ -49,7 +90,7 @@ public class StringRegexMatcherTest {
         final Boolean expected = someBoolean();
 
         // Given
-        given(regexMatcher.matches(pattern, string)).willReturn(expected);
+        given(regexMatcher.matches(poolOf(compiledPattern), eq(string))).willReturn(expected);
 
         // When
         final boolean actual = matcher.matchesSafely(string);
@@ -58,6 +99,279 @@ public class StringRegexMatcherTest {
         assertThat(actual, is(expected));
     }
 
+    @Test
+    public void Can_reject_a_string_without_the_required_literals_without_running_the_regex() {
+
+        final String literal1 = someAlphaNumericString(8);
+        final String literal2 = someAlphaNumericString(8);
+
+        // Given
+        given(regexMatcher.requiredLiterals(pattern, 0)).willReturn(new String[]{literal1, literal2});
+
+        // When
+        final boolean actual = new StringRegexMatcher(regexMatcher, pattern).matchesSafely(someString() + literal1);
+
+        // Then
+        assertThat(actual, is(false));
+        verify(regexMatcher, never()).matches(any(MatcherPool.class), anyString());
+    }
+
+    @Test
+    public void Can_run_the_regex_if_a_string_has_the_required_literals() {
+
+        final String literal1 = someAlphaNumericString(8);
+        final String literal2 = someAlphaNumericString(8);
+        final String string = someString() + literal2 + someString() + literal1;
+
+        final Boolean expected = someBoolean();
+
+        // Given
+        given(regexMatcher.requiredLiterals(pattern, 0)).willReturn(new String[]{literal1, literal2});
+        given(regexMatcher.matches(poolOf(compiledPattern), eq(string))).willReturn(expected);
+
+        // When
+        final boolean actual = new StringRegexMatcher(regexMatcher, pattern).matchesSafely(string);
+
+        // Then
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    public void Can_reject_a_char_sequence_without_the_required_literals_without_running_the_regex() {
+
+        final String literal = someAlphaNumericString(8);
+
+        // Given
+        given(regexMatcher.requiredLiterals(pattern, 0)).willReturn(new String[]{literal});
+
+        // When
+        final boolean actual = new StringRegexMatcher(regexMatcher, pattern)
+            .matchesSafely(new StringBuilder(literal.substring(1)).append(literal, 0, 7));
+
+        // Then
+        assertThat(actual, is(false));
+        verify(regexMatcher, never()).matches(any(MatcherPool.class), any(CharSequence.class));
+    }
+
+    @Test
+    public void Can_run_the_regex_if_a_char_sequence_has_the_required_literals() {
+
+        final String literal = someAlphaNumericString(8);
+        final StringBuilder string = new StringBuilder(someString()).append(literal).append(someString());
+
+        final Boolean expected = someBoolean();
+
+        // Given
+        given(regexMatcher.requiredLiterals(pattern, 0)).willReturn(new String[]{literal});
+        given(regexMatcher.matches(poolOf(compiledPattern), eq(string))).willReturn(expected);
+
+        // When
+        final boolean actual = new StringRegexMatcher(regexMatcher, pattern).matchesSafely(string);
+
+        // Then
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    public void Can_describe_a_mismatch_for_a_char_sequence() {
+
+        final String string = someString();
+        final Description description = new StringDescription();
+
+        // When
+        matcher.describeMismatch(new StringBuilder(string), description);
+
+        // Then
+        assertThat(description.toString(), equalTo("was " + new StringDescription().appendValue(string)));
+    }
+
+    @Test
+    public void Can_describe_a_mismatch_for_a_large_char_sequence_without_copying_all_of_it() {
+
+        final String start = someAlphaNumericString(StringRegexMatcher.MAX_DESCRIBED_LENGTH);
+        final StringBuilder string = new StringBuilder(start).append(someAlphaNumericString(10));
+        final Description description = new StringDescription();
+
+        // When
+        matcher.describeMismatch(string, description);
+
+        // Then
+        assertThat(description.toString(), equalTo(
+            "was " + new StringDescription().appendValue(start + "...") + " (" + string.length() + " characters)"
+        ));
+    }
+
+    @Test
+    public void Can_check_that_a_string_matches_a_pattern_with_the_linear_engine() throws UnsupportedRegexException {
+
+        final LinearRegex linearRegex = LinearRegex.compile(someAlphaNumericString(), 0);
+        final String string = someString();
+
+        final Boolean expected = someBoolean();
+
+        // Given
+        given(regexMatcher.compileLinear(pattern, 0)).willReturn(linearRegex);
+        given(regexMatcher.matches(linearRegex, string)).willReturn(expected);
+
+        // When
+        final boolean actual = new StringRegexMatcher(regexMatcher, pattern, 0, RegexEngine.LINEAR)
+            .matchesSafely(string);
+
+        // Then
+        assertThat(actual, is(expected));
+        verify(regexMatcher, never()).matches(any(MatcherPool.class), anyString());
+    }
+
+    @Test
+    public void Can_fall_back_to_java_util_regex_if_the_linear_engine_does_not_support_the_pattern()
+        throws UnsupportedRegexException {
+
+        final String string = someString();
+
+        final Boolean expected = someBoolean();
+
+        // Given
+        given(regexMatcher.compileLinear(pattern, 0)).willThrow(new UnsupportedRegexException("back references"));
+        given(regexMatcher.matches(poolOf(compiledPattern), eq(string))).willReturn(expected);
+
+        // When
+        final boolean actual = new StringRegexMatcher(regexMatcher, pattern, 0, RegexEngine.LINEAR)
+            .matchesSafely(string);
+
+        // Then
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    public void Can_describe_why_the_linear_engine_was_not_used() throws UnsupportedRegexException {
+
+        final Description description = new StringDescription();
+
+        // Given
+        given(regexMatcher.compileLinear(pattern, 0)).willThrow(new UnsupportedRegexException("back references"));
+
+        // When
+        new StringRegexMatcher(regexMatcher, pattern, 0, RegexEngine.LINEAR).describeTo(description);
+
+        // Then
+        assertThat(description.toString(), equalTo(
+            "the string to match the pattern " + new StringDescription().appendValue(pattern) +
+                " (matched with java.util.regex because the linear engine does not support back references)."
+        ));
+    }
+
+    @Test
+    public void Can_fail_to_match_a_string_that_takes_longer_than_the_timeout() {
+
+        final String string = someString();
+
+        // Given
+        given(regexMatcher.matches(poolOf(compiledPattern), any(BudgetedCharSequence.class)))
+            .willThrow(new RegexTimeoutException());
+
+        // When
+        final boolean actual = matcher.withTimeout(50, TimeUnit.MILLISECONDS).matchesSafely(string);
+
+        // Then
+        assertThat(actual, is(false));
+    }
+
+    @Test
+    public void Can_match_a_string_within_the_timeout() {
+
+        final String string = someString();
+
+        final Boolean expected = someBoolean();
+
+        // Given
+        given(regexMatcher.matches(poolOf(compiledPattern), any(BudgetedCharSequence.class))).willReturn(expected);
+
+        // When
+        final boolean actual = matcher.withTimeout(1, TimeUnit.SECONDS).matchesSafely(string);
+
+        // Then
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    public void Can_describe_a_mismatch_caused_by_the_timeout_without_running_the_regex_again() {
+
+        final String string = someString();
+        final Description description = new StringDescription();
+        final StringRegexMatcher timedMatcher = matcher.withTimeout(50, TimeUnit.MILLISECONDS);
+
+        // Given
+        given(regexMatcher.matches(poolOf(compiledPattern), any(BudgetedCharSequence.class)))
+            .willThrow(new RegexTimeoutException());
+
+        // When
+        timedMatcher.matchesSafely(string);
+        timedMatcher.describeMismatch(string, description);
+
+        // Then
+        assertThat(description.toString(), equalTo("pattern evaluation exceeded 50ms"));
+        verify(regexMatcher, times(1)).matches(poolOf(compiledPattern), any(BudgetedCharSequence.class));
+    }
+
+    @Test
+    public void Can_describe_a_mismatch_that_was_not_caused_by_the_timeout_without_running_the_regex_again() {
+
+        final String string = someString();
+        final Description description = new StringDescription();
+        final StringRegexMatcher timedMatcher = matcher.withTimeout(2, TimeUnit.SECONDS);
+
+        // Given
+        given(regexMatcher.matches(poolOf(compiledPattern), any(BudgetedCharSequence.class))).willReturn(false);
+
+        // When
+        timedMatcher.matchesSafely(string);
+        timedMatcher.describeMismatch(string, description);
+
+        // Then
+        assertThat(description.toString(), equalTo("was " + new StringDescription().appendValue(string)));
+        verify(regexMatcher, times(1)).matches(poolOf(compiledPattern), any(BudgetedCharSequence.class));
+    }
+
+    @Test
+    public void Can_describe_a_timeout_that_happened_when_the_regex_was_run_again() {
+
+        final Description description = new StringDescription();
+
+        // Given
+        given(regexMatcher.matches(poolOf(compiledPattern), any(BudgetedCharSequence.class)))
+            .willThrow(new RegexTimeoutException());
+
+        // When
+        matcher.withTimeout(50, TimeUnit.MILLISECONDS).describeMismatch(someString(), description);
+
+        // Then
+        assertThat(
+            description.toString(),
+            equalTo("pattern evaluation exceeded 50ms when it was run again to describe the mismatch")
+        );
+    }
+
+    @Test
+    public void Can_describe_a_mismatch_that_was_not_caused_by_the_timeout() {
+
+        final String string = someString();
+        final Description description = new StringDescription();
+
+        // Given
+        given(regexMatcher.matches(poolOf(compiledPattern), any(BudgetedCharSequence.class))).willReturn(false);
+
+        // When
+        matcher.withTimeout(2, TimeUnit.SECONDS).describeMismatch(string, description);
+
+        // Then
+        assertThat(description.toString(), equalTo("was " + new StringDescription().appendValue(string)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Cannot_set_a_timeout_that_is_not_positive() {
+        matcher.withTimeout(0, TimeUnit.MILLISECONDS);
+    }
+
     @Test
     public void Can_fail_to_match_the_string_with_the_pattern_and_give_a_meaningful_description() {
 
@@ -77,4 +391,13 @@ public class StringRegexMatcherTest {
         // Then
         verify(descriptionPattern).appendText(".");
     }
-}
\ No newline at end of file
+
+    private static MatcherPool poolOf(final Pattern pattern) {
+        return argThat(new ArgumentMatcher<MatcherPool>() {
+            @Override
+            public boolean matches(Object argument) {
+                return ((MatcherPool) argument).getPattern() == pattern;
+            }
+        });
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * A matcher to check that every item in an {@link Iterable} matches the supplied matcher. Matching stops at the first
+ * item that doesn't match. Only when the mismatch is described are all the items checked so that the number of
+ * failures can be reported along with the descriptions of the first few.
+ * <p>
+ * An {@link Iterable} that isn't a {@link Collection} (e.g. a stream's iterator or a
+ * {@link java.nio.file.DirectoryStream}) might only be iterable once, so for those the remaining failures are found as
+ * soon as the first item fails to match and are kept for the current thread until the mismatch is described.
+ * <p>
+ * The same item matcher is used for every item so any reflective lookups it does (e.g. a
+ * {@link PropertyMatcher}) are only resolved once for each concrete class in the collection.
+ *
+ * @author Karl Bennett
+ */
+public class EveryItemMatcher<T> extends TypeSafeMatcher<Iterable<? extends T>> {
+
+    static final int DEFAULT_MAX_FAILURES = 10;
+
+    /**
+     * Check that every item matches the supplied matcher, the first 10 failures will be described.
+     */
+    @Factory
+    public static <T> EveryItemMatcher<T> everyItemMatches(Matcher<? super T> matcher) {
+        return new EveryItemMatcher<>(matcher, DEFAULT_MAX_FAILURES);
+    }
+
+    /**
+     * Check that every item matches the supplied matcher, up to {@code maxFailures} failures will be described.
+     */
+    public static <T> EveryItemMatcher<T> everyItemMatches(Matcher<? super T> matcher, int maxFailures) {
+        return new EveryItemMatcher<>(matcher, maxFailures);
+    }
+
+    private final Matcher<? super T> matcher;
+    private final int maxFailures;
+    private final ThreadLocal<Failures> lastFailures = new ThreadLocal<>();
+
+    public EveryItemMatcher(Matcher<? super T> matcher, int maxFailures) {
+        if (maxFailures < 1) {
+            throw new IllegalArgumentException("At least one failure must be described.");
+        }
+        this.matcher = matcher;
+        this.maxFailures = maxFailures;
+    }
+
+    @Override
+    protected boolean matchesSafely(Iterable<? extends T> items) {
+        final Iterator<? extends T> iterator = items.iterator();
+        long index = 0;
+        while (iterator.hasNext()) {
+            final T item = iterator.next();
+            if (!matcher.matches(item)) {
+                if (!(items instanceof Collection)) {
+                    final Failures failures = new Failures(items);
+                    failures.add(index, item);
+                    lastFailures.set(collectFailures(failures, iterator, index + 1));
+                }
+                return false;
+            }
+            index++;
+        }
+        return true;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("every item to match ").appendDescriptionOf(matcher);
+    }
+
+    @Override
+    protected void describeMismatchSafely(Iterable<? extends T> items, Description mismatchDescription) {
+        Failures failures = lastFailures.get();
+        lastFailures.remove();
+        if (failures == null || !failures.isFor(items)) {
+            failures = collectFailures(new Failures(items), items.iterator(), 0);
+        }
+        failures.describeTo(mismatchDescription);
+    }
+
+    private Failures collectFailures(Failures failures, Iterator<? extends T> iterator, long start) {
+        long index = start;
+        while (iterator.hasNext()) {
+            final T item = iterator.next();
+            if (!matcher.matches(item)) {
+                failures.add(index, item);
+            }
+            index++;
+        }
+        failures.total = index;
+        return failures;
+    }
+
+    private class Failures {
+
+        private final WeakReference<Iterable<?>> items;
+        private final Description descriptions = new StringDescription();
+        private long failed;
+        private long total;
+
+        private Failures(Iterable<?> items) {
+            this.items = new WeakReference<Iterable<?>>(items);
+        }
+
+        private boolean isFor(Iterable<?> items) {
+            return this.items.get() == items;
+        }
+
+        private void add(long index, T item) {
+            if (failed < maxFailures) {
+                descriptions.appendText("\n          item ").appendText(Long.toString(index)).appendText(": ");
+                matcher.describeMismatch(item, descriptions);
+            }
+            failed++;
+        }
+
+        private void describeTo(Description mismatchDescription) {
+            mismatchDescription.appendText(Long.toString(failed)).appendText(" of ").appendText(Long.toString(total))
+                .appendText(" items did not match");
+            if (failed > maxFailures) {
+                mismatchDescription.appendText(", the first ").appendText(Integer.toString(maxFailures))
+                    .appendText(" were:");
+            } else {
+                mismatchDescription.appendText(":");
+            }
+            mismatchDescription.appendText(descriptions.toString());
+        }
+    }
+}
@@ -18,7 +18,11 @@ package shiver.me.timbers.matchers;
 
 import org.hamcrest.Matcher;
 
+import java.time.temporal.Temporal;
+import java.util.Collection;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 
@@ -81,6 +85,64 @@ public class Matchers {
         return AfterDateMatcher.fallsAfter(expected, within);
     }
 
+    /**
+     * Check that the actual date falls within any of the supplied windows e.g.
+     * {@code fallsWithinAnyOf(fallsOn(first, within(1L, HOURS)), fallsAfter(second, within(5L, MINUTES)))}.
+     */
+    public static DateWindowsMatcher fallsWithinAnyOf(DateWindow... windows) {
+        return DateWindowsMatcher.fallsWithinAnyOf(windows);
+    }
+
+    /**
+     * Check that the actual date falls within any of the supplied windows.
+     */
+    public static DateWindowsMatcher fallsWithinAnyOf(Collection<? extends DateWindow> windows) {
+        return DateWindowsMatcher.fallsWithinAnyOf(windows);
+    }
+
+    /**
+     * Check that the actual time (e.g. {@link java.time.Instant}, {@link java.time.ZonedDateTime}) is before the
+     * expected.
+     */
+    public static <T extends Temporal> BeforeTemporalMatcher<T> fallsBefore(T expected) {
+        return BeforeTemporalMatcher.fallsBefore(expected);
+    }
+
+    /**
+     * Check that the actual time falls before the expected time within a supplied duration.
+     */
+    public static <T extends Temporal> BeforeWithinTemporalMatcher<T> fallsBefore(T expected, Within within) {
+        return BeforeTemporalMatcher.fallsBefore(expected, within);
+    }
+
+    /**
+     * Check that the actual time is the same instant as the expected.
+     */
+    public static <T extends Temporal> OnTemporalMatcher<T> fallsOn(T expected) {
+        return OnTemporalMatcher.fallsOn(expected);
+    }
+
+    /**
+     * Check that the actual time falls within the supplied duration before or after the expected time.
+     */
+    public static <T extends Temporal> WithinTemporalMatcher<T> fallsOn(T expected, Within within) {
+        return OnTemporalMatcher.fallsOn(expected, within);
+    }
+
+    /**
+     * Check that the actual time is after the expected.
+     */
+    public static <T extends Temporal> AfterTemporalMatcher<T> fallsAfter(T expected) {
+        return AfterTemporalMatcher.fallsAfter(expected);
+    }
+
+    /**
+     * Check that the actual time falls after the expected time within a supplied duration.
+     */
+    public static <T extends Temporal> AfterWithinTemporalMatcher<T> fallsAfter(T expected, Within within) {
+        return AfterTemporalMatcher.fallsAfter(expected, within);
+    }
+
     /**
      * Check the that the named fields value is valid for the supplied matcher.
      */
@@ -95,6 +157,48 @@ public class Matchers {
         return FieldMatcher.hasFieldThat(fieldName, equalTo(expected));
     }
 
+    /**
+     * Check the that each named fields value is valid for the matcher it is mapped to.
+     */
+    public static <T> FieldsMatcher<T> hasFields(Map<String, ? extends Matcher<?>> matchers) {
+        return FieldsMatcher.hasFields(matchers);
+    }
+
+    /**
+     * Check the that the named {@code int} field equals the expected value.
+     */
+    public static <T> PrimitiveFieldMatcher<T> hasIntField(String fieldName, int expected) {
+        return PrimitiveFieldMatcher.hasIntField(fieldName, expected);
+    }
+
+    /**
+     * Check the that the named {@code long} field equals the expected value.
+     */
+    public static <T> PrimitiveFieldMatcher<T> hasLongField(String fieldName, long expected) {
+        return PrimitiveFieldMatcher.hasLongField(fieldName, expected);
+    }
+
+    /**
+     * Check the that the named {@code double} field equals the expected value.
+     */
+    public static <T> PrimitiveFieldMatcher<T> hasDoubleField(String fieldName, double expected) {
+        return PrimitiveFieldMatcher.hasDoubleField(fieldName, expected);
+    }
+
+    /**
+     * Check the that the named {@code double} field is within the error of the expected value.
+     */
+    public static <T> PrimitiveFieldMatcher<T> hasDoubleFieldCloseTo(String fieldName, double expected, double error) {
+        return PrimitiveFieldMatcher.hasDoubleFieldCloseTo(fieldName, expected, error);
+    }
+
+    /**
+     * Check the that the named {@code boolean} field equals the expected value.
+     */
+    public static <T> PrimitiveFieldMatcher<T> hasBooleanField(String fieldName, boolean expected) {
+        return PrimitiveFieldMatcher.hasBooleanField(fieldName, expected);
+    }
+
     /**
      * Check the that the properties (e.g. "one.two.three") value is valid for the supplied matcher.
      */
@@ -109,10 +213,179 @@ public class Matchers {
         return PropertyMatcher.hasPropertyThat(property, equalTo(expected));
     }
 
+    /**
+     * Check that the object is structurally equal to the expected object, field by field.
+     */
+    public static <T> DeepEqualsMatcher<T> deeplyEqualTo(T expected) {
+        return DeepEqualsMatcher.deeplyEqualTo(expected);
+    }
+
+    /**
+     * Check the that every value of the property (e.g. "orders[*].lines[*].price") is valid for the supplied matcher.
+     */
+    public static <T> PropertyValuesMatcher<T> everyValue(String property, Matcher matcher) {
+        return PropertyValuesMatcher.everyValue(property, matcher);
+    }
+
+    /**
+     * Check the that at least one value of the property (e.g. "orders[*].lines[*].sku") is valid for the supplied
+     * matcher.
+     */
+    public static <T> PropertyValuesMatcher<T> anyValue(String property, Matcher matcher) {
+        return PropertyValuesMatcher.anyValue(property, matcher);
+    }
+
     /**
      * Check the that the regex pattern matches the supplied value.
      */
-    public static Matcher<String> matches(String pattern) {
+    public static <T extends CharSequence> Matcher<T> matches(String pattern) {
         return StringRegexMatcher.matches(pattern);
     }
+
+    /**
+     * Check the that the regex pattern compiled with the supplied flags matches the supplied value.
+     */
+    public static <T extends CharSequence> Matcher<T> matches(String pattern, int flags) {
+        return StringRegexMatcher.matches(pattern, flags);
+    }
+
+    /**
+     * Check the that the regex pattern matches the supplied value using the supplied engine.
+     */
+    public static <T extends CharSequence> Matcher<T> matches(String pattern, RegexEngine engine) {
+        return StringRegexMatcher.matches(pattern, engine);
+    }
+
+    /**
+     * Check the that the regex pattern compiled with the supplied flags matches the supplied value using the supplied
+     * engine.
+     */
+    public static <T extends CharSequence> Matcher<T> matches(String pattern, int flags, RegexEngine engine) {
+        return StringRegexMatcher.matches(pattern, flags, engine);
+    }
+
+    /**
+     * Check the that the regex pattern matches the supplied value, the match fails if it takes longer than the timeout.
+     */
+    public static <T extends CharSequence> Matcher<T> matches(String pattern, long timeout, TimeUnit unit) {
+        return StringRegexMatcher.matches(pattern, timeout, unit);
+    }
+
+    /**
+     * Check the that the supplied value contains a match for the regex pattern.
+     */
+    public static <T extends CharSequence> Matcher<T> containsPattern(String pattern) {
+        return StringContainsPatternMatcher.containsPattern(pattern);
+    }
+
+    /**
+     * Check the that the supplied value contains a match for the regex pattern compiled with the supplied flags.
+     */
+    public static <T extends CharSequence> Matcher<T> containsPattern(String pattern, int flags) {
+        return StringContainsPatternMatcher.containsPattern(pattern, flags);
+    }
+
+    /**
+     * Check the that the regex pattern matches the supplied value and that the named group matches the group matcher.
+     */
+    public static <T extends CharSequence> Matcher<T> matchesWithGroup(
+        String pattern,
+        String group,
+        Matcher<? super String> groupMatcher
+    ) {
+        return StringRegexGroupMatcher.matchesWithGroup(pattern, group, groupMatcher);
+    }
+
+    /**
+     * Check the that the regex pattern matches the supplied value and that the numbered group matches the group
+     * matcher.
+     */
+    public static <T extends CharSequence> Matcher<T> matchesWithGroup(
+        String pattern,
+        int group,
+        Matcher<? super String> groupMatcher
+    ) {
+        return StringRegexGroupMatcher.matchesWithGroup(pattern, group, groupMatcher);
+    }
+
+    /**
+     * Check the that the supplied value contains a match for the regex pattern and that the named group of the first
+     * match matches the group matcher.
+     */
+    public static <T extends CharSequence> Matcher<T> containsPatternWithGroup(
+        String pattern,
+        String group,
+        Matcher<? super String> groupMatcher
+    ) {
+        return StringRegexGroupMatcher.containsPatternWithGroup(pattern, group, groupMatcher);
+    }
+
+    /**
+     * Check the that the supplied value contains a match for the regex pattern and that the numbered group of the first
+     * match matches the group matcher.
+     */
+    public static <T extends CharSequence> Matcher<T> containsPatternWithGroup(
+        String pattern,
+        int group,
+        Matcher<? super String> groupMatcher
+    ) {
+        return StringRegexGroupMatcher.containsPatternWithGroup(pattern, group, groupMatcher);
+    }
+
+    /**
+     * Check that at least one of the regex patterns matches the supplied value.
+     */
+    public static <T extends CharSequence> Matcher<T> matchesAnyOf(String... patterns) {
+        return StringMultiRegexMatcher.matchesAnyOf(patterns);
+    }
+
+    /**
+     * Check that at least one of the regex patterns matches the supplied value.
+     */
+    public static <T extends CharSequence> Matcher<T> matchesAnyOf(Collection<String> patterns) {
+        return StringMultiRegexMatcher.matchesAnyOf(patterns);
+    }
+
+    /**
+     * Check that every one of the regex patterns matches the supplied value.
+     */
+    public static <T extends CharSequence> Matcher<T> matchesAllOf(String... patterns) {
+        return StringMultiRegexMatcher.matchesAllOf(patterns);
+    }
+
+    /**
+     * Check that every one of the regex patterns matches the supplied value.
+     */
+    public static <T extends CharSequence> Matcher<T> matchesAllOf(Collection<String> patterns) {
+        return StringMultiRegexMatcher.matchesAllOf(patterns);
+    }
+
+    /**
+     * Check that every item matches the supplied matcher, the first 10 failures will be described.
+     */
+    public static <T> EveryItemMatcher<T> everyItemMatches(Matcher<? super T> matcher) {
+        return EveryItemMatcher.everyItemMatches(matcher);
+    }
+
+    /**
+     * Check that every item matches the supplied matcher, up to {@code maxFailures} failures will be described.
+     */
+    public static <T> EveryItemMatcher<T> everyItemMatches(Matcher<? super T> matcher, int maxFailures) {
+        return EveryItemMatcher.everyItemMatches(matcher, maxFailures);
+    }
+
+    /**
+     * Check in parallel that every item matches the supplied matcher, the parallelism and sequential threshold can be
+     * changed on the returned {@link ParallelEveryItemMatcher}.
+     */
+    public static <T> ParallelEveryItemMatcher<T> everyItemMatchesInParallel(Matcher<? super T> matcher) {
+        return ParallelEveryItemMatcher.everyItemMatchesInParallel(matcher);
+    }
+
+    /**
+     * Check in parallel that every element of an array matches the supplied matcher.
+     */
+    public static <T> Matcher<T[]> everyElementMatchesInParallel(Matcher<? super T> matcher) {
+        return ParallelEveryItemMatcher.everyElementMatchesInParallel(matcher);
+    }
 }
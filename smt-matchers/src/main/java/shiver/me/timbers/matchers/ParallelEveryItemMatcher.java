@@ -0,0 +1,232 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A matcher to check that every item in a {@link Collection} matches the supplied matcher, the items are split across
+ * a {@link ForkJoinPool} so large collections can be checked on all the available cores. As soon as any item fails to
+ * match the remaining work is abandoned. The {@link ForkJoinPool#commonPool()} is used unless another pool or a
+ * parallelism is supplied.
+ * <p>
+ * The item matcher is called from many threads at once so it must be thread safe, all the smt-matchers are.
+ *
+ * @author Karl Bennett
+ */
+public class ParallelEveryItemMatcher<T> extends TypeSafeMatcher<Collection<? extends T>> {
+
+    static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1024;
+
+    /**
+     * The pools created for {@link #withParallelism(int)}, one for each parallelism so repeated calls don't keep creating
+     * new threads. Their worker threads are daemons so they don't stop the JVM from exiting.
+     */
+    private static final ConcurrentMap<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+    /**
+     * Check in parallel that every item matches the supplied matcher.
+     */
+    @Factory
+    public static <T> ParallelEveryItemMatcher<T> everyItemMatchesInParallel(Matcher<? super T> matcher) {
+        return new ParallelEveryItemMatcher<>(
+            matcher,
+            ForkJoinPool.commonPool(),
+            DEFAULT_SEQUENTIAL_THRESHOLD,
+            EveryItemMatcher.DEFAULT_MAX_FAILURES
+        );
+    }
+
+    /**
+     * Check in parallel that every element of an array matches the supplied matcher.
+     */
+    @Factory
+    public static <T> Matcher<T[]> everyElementMatchesInParallel(Matcher<? super T> matcher) {
+        return new ArrayMatcher<>(ParallelEveryItemMatcher.<T>everyItemMatchesInParallel(matcher));
+    }
+
+    private final Matcher<? super T> matcher;
+    private final ForkJoinPool pool;
+    private final int sequentialThreshold;
+    private final int maxFailures;
+
+    public ParallelEveryItemMatcher(
+        Matcher<? super T> matcher,
+        ForkJoinPool pool,
+        int sequentialThreshold,
+        int maxFailures
+    ) {
+        if (sequentialThreshold < 1) {
+            throw new IllegalArgumentException("The sequential threshold must be greater than zero.");
+        }
+        if (maxFailures < 1) {
+            throw new IllegalArgumentException("At least one failure must be described.");
+        }
+        this.matcher = matcher;
+        this.pool = pool;
+        this.sequentialThreshold = sequentialThreshold;
+        this.maxFailures = maxFailures;
+    }
+
+    /**
+     * Run the matching in a pool with the supplied number of threads, the pool is shared with every other matcher that
+     * asks for the same parallelism.
+     */
+    public ParallelEveryItemMatcher<T> withParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be greater than zero.");
+        }
+        final ForkJoinPool pool = POOLS.computeIfAbsent(parallelism, ForkJoinPool::new);
+        return withPool(pool);
+    }
+
+    /**
+     * Run the matching in the supplied pool.
+     */
+    public ParallelEveryItemMatcher<T> withPool(ForkJoinPool pool) {
+        return new ParallelEveryItemMatcher<>(matcher, pool, sequentialThreshold, maxFailures);
+    }
+
+    /**
+     * Set the number of items below which a chunk of the collection will be matched sequentially in a single task.
+     */
+    public ParallelEveryItemMatcher<T> withSequentialThreshold(int sequentialThreshold) {
+        return new ParallelEveryItemMatcher<>(matcher, pool, sequentialThreshold, maxFailures);
+    }
+
+    /**
+     * Set the number of failures that will be described.
+     */
+    public ParallelEveryItemMatcher<T> withMaxFailures(int maxFailures) {
+        return new ParallelEveryItemMatcher<>(matcher, pool, sequentialThreshold, maxFailures);
+    }
+
+    @Override
+    protected boolean matchesSafely(Collection<? extends T> items) {
+        return pool.invoke(new MatchTask<>(matcher, toList(items), 0, items.size(), sequentialThreshold));
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("every item to match ").appendDescriptionOf(matcher);
+    }
+
+    @Override
+    protected void describeMismatchSafely(Collection<? extends T> items, Description mismatchDescription) {
+        new EveryItemMatcher<T>(matcher, maxFailures).describeMismatch(items, mismatchDescription);
+    }
+
+    private static <T> List<? extends T> toList(Collection<? extends T> items) {
+        if (items instanceof List && items instanceof RandomAccess) {
+            return (List<? extends T>) items;
+        }
+        return new ArrayList<>(items);
+    }
+
+    private static class MatchTask<T> extends RecursiveTask<Boolean> {
+
+        private final Matcher<? super T> matcher;
+        private final List<? extends T> items;
+        private final int from;
+        private final int to;
+        private final int sequentialThreshold;
+        private final AtomicBoolean failed;
+
+        private MatchTask(Matcher<? super T> matcher, List<? extends T> items, int from, int to, int threshold) {
+            this(matcher, items, from, to, threshold, new AtomicBoolean());
+        }
+
+        private MatchTask(
+            Matcher<? super T> matcher,
+            List<? extends T> items,
+            int from,
+            int to,
+            int sequentialThreshold,
+            AtomicBoolean failed
+        ) {
+            this.matcher = matcher;
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.sequentialThreshold = sequentialThreshold;
+            this.failed = failed;
+        }
+
+        @Override
+        protected Boolean compute() {
+            if (to - from <= sequentialThreshold) {
+                return matchSequentially();
+            }
+            final int middle = (from + to) >>> 1;
+            final MatchTask<T> left = new MatchTask<>(matcher, items, from, middle, sequentialThreshold, failed);
+            left.fork();
+            final boolean right = new MatchTask<>(matcher, items, middle, to, sequentialThreshold, failed).compute();
+            return left.join() && right;
+        }
+
+        private boolean matchSequentially() {
+            for (int i = from; i < to; i++) {
+                if (failed.get()) {
+                    return false;
+                }
+                if (!matcher.matches(items.get(i))) {
+                    failed.set(true);
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static class ArrayMatcher<T> extends TypeSafeMatcher<T[]> {
+
+        private final ParallelEveryItemMatcher<T> matcher;
+
+        private ArrayMatcher(ParallelEveryItemMatcher<T> matcher) {
+            this.matcher = matcher;
+        }
+
+        @Override
+        protected boolean matchesSafely(T[] items) {
+            return matcher.matches(Arrays.asList(items));
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            matcher.describeTo(description);
+        }
+
+        @Override
+        protected void describeMismatchSafely(T[] items, Description mismatchDescription) {
+            matcher.describeMismatch(Arrays.asList(items), mismatchDescription);
+        }
+    }
+}
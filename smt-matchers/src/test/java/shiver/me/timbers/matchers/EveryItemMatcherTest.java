@@ -0,0 +1,184 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static shiver.me.timbers.data.random.RandomIntegers.someIntegerBetween;
+import static shiver.me.timbers.matchers.EveryItemMatcher.everyItemMatches;
+
+public class EveryItemMatcherTest {
+
+    private Matcher<Object> matcher;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        matcher = mock(Matcher.class);
+    }
+
+    @Test
+    public void Can_check_that_every_item_matches() {
+
+        final Object one = new Object();
+        final Object two = new Object();
+
+        // Given
+        given(matcher.matches(one)).willReturn(true);
+        given(matcher.matches(two)).willReturn(true);
+
+        // When
+        final boolean actual = everyItemMatches(matcher).matches(Arrays.asList(one, two));
+
+        // Then
+        assertThat(actual, is(true));
+    }
+
+    @Test
+    public void Can_check_that_an_empty_iterable_matches() {
+
+        // When
+        final boolean actual = everyItemMatches(matcher).matches(Collections.emptyList());
+
+        // Then
+        assertThat(actual, is(true));
+    }
+
+    @Test
+    public void Can_stop_matching_at_the_first_item_that_does_not_match() {
+
+        final Object one = new Object();
+        final Object two = new Object();
+
+        // Given
+        given(matcher.matches(one)).willReturn(false);
+
+        // When
+        final boolean actual = everyItemMatches(matcher).matches(Arrays.asList(one, two));
+
+        // Then
+        assertThat(actual, is(false));
+        verify(matcher, never()).matches(two);
+    }
+
+    @Test
+    public void Can_get_a_description() {
+
+        final Description description = mock(Description.class);
+        final Description descriptionStart = mock(Description.class);
+
+        // Given
+        given(description.appendText("every item to match ")).willReturn(descriptionStart);
+
+        // When
+        everyItemMatches(matcher).describeTo(description);
+
+        // Then
+        verify(descriptionStart).appendDescriptionOf(matcher);
+    }
+
+    @Test
+    public void Can_count_and_describe_all_the_failures() {
+
+        // Given
+        final List<Integer> items = Arrays.asList(5, 1, 7, 2);
+        final Description description = new StringDescription();
+
+        // When
+        everyItemMatches(greaterThan(3)).describeMismatch(items, description);
+
+        // Then
+        assertThat(description.toString(), equalTo(
+            "2 of 4 items did not match:" +
+                "\n          item 1: <1> was less than <3>" +
+                "\n          item 3: <2> was less than <3>"
+        ));
+    }
+
+    @Test
+    public void Can_limit_the_number_of_failures_that_are_described() {
+
+        // Given
+        final List<Integer> items = Arrays.asList(1, 2, 3);
+        final Description description = new StringDescription();
+
+        // When
+        everyItemMatches(greaterThan(3), 1).describeMismatch(items, description);
+
+        // Then
+        assertThat(description.toString(), equalTo(
+            "3 of 3 items did not match, the first 1 were:\n          item 0: <1> was less than <3>"
+        ));
+    }
+
+    @Test
+    public void Can_describe_the_failures_of_an_iterable_that_can_only_be_iterated_once() {
+
+        // Given
+        final Iterator<Integer> iterator = Arrays.asList(5, 1, 7, 2).iterator();
+        final Iterable<Integer> items = new Iterable<Integer>() {
+            private boolean iterated;
+
+            @Override
+            public Iterator<Integer> iterator() {
+                if (iterated) {
+                    throw new IllegalStateException("Already iterated.");
+                }
+                iterated = true;
+                return iterator;
+            }
+        };
+        final Matcher<Iterable<? extends Integer>> matcher = everyItemMatches(greaterThan(3));
+        final Description description = new StringDescription();
+
+        // When
+        final boolean actual = matcher.matches(items);
+        matcher.describeMismatch(items, description);
+
+        // Then
+        assertThat(actual, is(false));
+        assertThat(description.toString(), equalTo(
+            "2 of 4 items did not match:" +
+                "\n          item 1: <1> was less than <3>" +
+                "\n          item 3: <2> was less than <3>"
+        ));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Cannot_describe_less_than_one_failure() {
+
+        // When
+        everyItemMatches(matcher, someIntegerBetween(-10, 1));
+    }
+}
@@ -16,16 +16,28 @@
 
 package shiver.me.timbers.matchers;
 
+import org.hamcrest.Matcher;
 import org.junit.Test;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
 import static java.util.concurrent.TimeUnit.HOURS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.MINUTES;
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 import static shiver.me.timbers.data.random.RandomEnums.someEnum;
@@ -36,14 +48,32 @@ import static shiver.me.timbers.data.random.RandomLongs.someLongBetween;
 import static shiver.me.timbers.data.random.RandomLongs.somePositiveLong;
 import static shiver.me.timbers.data.random.RandomStrings.someAlphaNumericString;
 import static shiver.me.timbers.data.random.RandomThings.someThing;
+import static shiver.me.timbers.matchers.Matchers.anyValue;
+import static shiver.me.timbers.matchers.Matchers.containsPattern;
+import static shiver.me.timbers.matchers.Matchers.containsPatternWithGroup;
+import static shiver.me.timbers.matchers.Matchers.deeplyEqualTo;
+import static shiver.me.timbers.matchers.Matchers.everyElementMatchesInParallel;
+import static shiver.me.timbers.matchers.Matchers.everyItemMatches;
+import static shiver.me.timbers.matchers.Matchers.everyItemMatchesInParallel;
+import static shiver.me.timbers.matchers.Matchers.everyValue;
 import static shiver.me.timbers.matchers.Matchers.fallsAfter;
 import static shiver.me.timbers.matchers.Matchers.fallsBefore;
 import static shiver.me.timbers.matchers.Matchers.fallsOn;
+import static shiver.me.timbers.matchers.Matchers.fallsWithinAnyOf;
+import static shiver.me.timbers.matchers.Matchers.hasBooleanField;
+import static shiver.me.timbers.matchers.Matchers.hasDoubleField;
+import static shiver.me.timbers.matchers.Matchers.hasDoubleFieldCloseTo;
 import static shiver.me.timbers.matchers.Matchers.hasField;
 import static shiver.me.timbers.matchers.Matchers.hasFieldThat;
+import static shiver.me.timbers.matchers.Matchers.hasFields;
+import static shiver.me.timbers.matchers.Matchers.hasIntField;
+import static shiver.me.timbers.matchers.Matchers.hasLongField;
 import static shiver.me.timbers.matchers.Matchers.hasProperty;
 import static shiver.me.timbers.matchers.Matchers.hasPropertyThat;
 import static shiver.me.timbers.matchers.Matchers.matches;
+import static shiver.me.timbers.matchers.Matchers.matchesAllOf;
+import static shiver.me.timbers.matchers.Matchers.matchesAnyOf;
+import static shiver.me.timbers.matchers.Matchers.matchesWithGroup;
 import static shiver.me.timbers.matchers.Within.within;
 
 public class MatchersTest {
@@ -107,6 +137,37 @@ public class MatchersTest {
         assertThat(actual, fallsAfter(expected, within(duration, unit)));
     }
 
+    @Test
+    public void Can_check_that_a_date_falls_within_any_of_many_windows() {
+
+        // Given
+        final Date first = new Date(someLongBetween(0L, 1000L));
+        final Date second = new Date(first.getTime() + 10000);
+
+        // Then
+        assertThat(
+            first,
+            fallsWithinAnyOf(fallsOn(first, within(1L, SECONDS)), fallsAfter(second, within(1L, SECONDS)))
+        );
+        assertThat(new Date(second.getTime() + 1), fallsWithinAnyOf(asList(fallsAfter(second).within(1L, SECONDS))));
+    }
+
+    @Test
+    public void Can_check_java_time_values() {
+
+        // Given
+        final Instant expected = Instant.ofEpochSecond(someLongBetween(0L, 1000000L), 500);
+        final ZonedDateTime zoned = ZonedDateTime.ofInstant(expected, ZoneId.of("UTC"));
+
+        // Then
+        assertThat(expected, fallsOn(expected));
+        assertThat(expected.plusNanos(1), fallsOn(expected, within(Duration.ofNanos(1))));
+        assertThat(expected.minusNanos(1), fallsBefore(expected));
+        assertThat(expected.minusNanos(1), fallsBefore(expected, within(Duration.ofNanos(1))));
+        assertThat(zoned.plusNanos(1), fallsAfter(zoned));
+        assertThat(zoned.plusNanos(1), fallsAfter(zoned, within(Duration.ofNanos(1))));
+    }
+
     @Test
     public void Can_apply_a_matcher_to_a_classes_field() {
 
@@ -133,6 +194,43 @@ public class MatchersTest {
         assertThat(new AClass(), hasField("fieldName", expected));
     }
 
+    @Test
+    public void Can_apply_matchers_to_several_of_a_classes_fields() {
+
+        // Given
+        final Long expected = someLong();
+        class AClass {
+            private final long one = expected;
+            private final long two = expected;
+        }
+        final Map<String, Matcher<?>> matchers = new HashMap<>();
+        matchers.put("one", equalTo(expected));
+        matchers.put("two", equalTo(expected));
+
+        // Then
+        assertThat(new AClass(), hasFields(matchers));
+    }
+
+    @Test
+    public void Can_check_that_a_classes_primitive_fields_are_equal_to_values() {
+
+        // Given
+        final long expected = someLong();
+        class AClass {
+            private final int intName = (int) expected;
+            private final long longName = expected;
+            private final double doubleName = expected;
+            private final boolean booleanName = true;
+        }
+
+        // Then
+        assertThat(new AClass(), hasIntField("intName", (int) expected));
+        assertThat(new AClass(), hasLongField("longName", expected));
+        assertThat(new AClass(), hasDoubleField("doubleName", expected));
+        assertThat(new AClass(), hasDoubleFieldCloseTo("doubleName", expected, 1));
+        assertThat(new AClass(), hasBooleanField("booleanName", true));
+    }
+
     @Test
     public void Can_apply_a_matcher_to_a_property() {
 
@@ -171,6 +269,36 @@ public class MatchersTest {
         assertThat(new CClass(), hasProperty("one.two.three", expected));
     }
 
+    @Test
+    public void Can_check_that_an_object_is_deeply_equal_to_another() {
+
+        // Given
+        final Long expected = someLong();
+        class AClass {
+            private final List<Long> values = asList(expected, expected);
+        }
+
+        // Then
+        assertThat(new AClass(), deeplyEqualTo(new AClass()));
+    }
+
+    @Test
+    public void Can_check_the_values_of_a_wildcard_property() {
+
+        // Given
+        final Long expected = someLong();
+        class AClass {
+            private final long three = expected;
+        }
+        class BClass {
+            private final List<AClass> two = asList(new AClass(), new AClass());
+        }
+
+        // Then
+        assertThat(new BClass(), everyValue("two[*].three", equalTo(expected)));
+        assertThat(new BClass(), anyValue("two[*].three", equalTo(expected)));
+    }
+
     @Test
     public void Can_check_that_a_string_matches_the_supplied_pattern() {
 
@@ -180,4 +308,139 @@ public class MatchersTest {
         // Then
         assertThat(actual, matches("-?\\d+ -?\\d+\\.\\d\\d [a-zA-Z0-9]{4}"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void Can_check_that_a_char_sequence_matches_the_supplied_pattern() {
+
+        // Given
+        final StringBuilder actual = new StringBuilder(format("%d %s", someInteger(), someAlphaNumericString(4)));
+
+        // Then
+        assertThat(actual, matches("-?\\d+ [a-zA-Z0-9]{4}"));
+    }
+
+    @Test
+    public void Can_use_the_pattern_matcher_where_a_string_matcher_is_expected() {
+
+        // Given
+        final String actual = format("%d %s", someInteger(), someAlphaNumericString(4));
+
+        // When
+        final Matcher<String> matcher = matches("-?\\d+ [a-zA-Z0-9]{4}");
+
+        // Then
+        assertThat(actual, allOf(matcher, containsString(" ")));
+    }
+
+    @Test
+    public void Can_check_that_a_string_matches_the_supplied_pattern_and_flags() {
+
+        // Given
+        final String actual = format("%d %s", someInteger(), someAlphaNumericString(4).toUpperCase());
+
+        // Then
+        assertThat(actual, matches("-?\\d+ [a-z0-9]{4}", CASE_INSENSITIVE));
+    }
+
+    @Test
+    public void Can_check_that_a_string_matches_the_supplied_pattern_with_the_supplied_engine() {
+
+        // Given
+        final String actual = format("%d %s", someInteger(), someAlphaNumericString(4).toUpperCase());
+
+        // Then
+        assertThat(actual, matches("-?\\d+ [A-Z0-9]{4}", RegexEngine.LINEAR));
+        assertThat(actual, matches("-?\\d+ [a-z0-9]{4}", CASE_INSENSITIVE, RegexEngine.LINEAR));
+    }
+
+    @Test
+    public void Can_check_that_a_string_matches_the_supplied_pattern_within_a_timeout() {
+
+        // Given
+        final String actual = format("%d %s", someInteger(), someAlphaNumericString(4));
+
+        // Then
+        assertThat(actual, matches("-?\\d+ [a-zA-Z0-9]{4}", 1, SECONDS));
+    }
+
+    @Test
+    public void Can_check_that_a_string_contains_the_supplied_pattern() {
+
+        // Given
+        final String actual = format("%s %d %s", someAlphaNumericString(4), someInteger(), someAlphaNumericString(4));
+
+        // Then
+        assertThat(actual, containsPattern(" -?\\d+ "));
+        assertThat(actual.toUpperCase(), containsPattern("[a-z0-9]{4} ", CASE_INSENSITIVE));
+    }
+
+    @Test
+    public void Can_check_that_a_string_matches_the_supplied_pattern_with_a_group() {
+
+        // Given
+        final String actual = "ORDER-42 status=PAID";
+
+        // Then
+        assertThat(actual, matchesWithGroup("ORDER-\\d+ status=(?<status>\\w+)", "status", equalTo("PAID")));
+        assertThat(actual, matchesWithGroup("ORDER-(\\d+) .*", 1, equalTo("42")));
+        assertThat("on " + actual, containsPatternWithGroup("status=(?<status>\\w+)", "status", equalTo("PAID")));
+        assertThat("on " + actual, containsPatternWithGroup("ORDER-(\\d+)", 1, equalTo("42")));
+    }
+
+    @Test
+    public void Can_use_the_contains_and_group_pattern_matchers_where_string_matchers_are_expected() {
+
+        // Given
+        final String actual = "ORDER-42 status=PAID";
+
+        // When
+        final Matcher<String> contains = containsPattern("status=\\w+");
+        final Matcher<String> group = matchesWithGroup("ORDER-(\\d+) .*", 1, equalTo("42"));
+        final Matcher<String> containsGroup =
+            containsPatternWithGroup("status=(?<status>\\w+)", "status", equalTo("PAID"));
+
+        // Then
+        assertThat(actual, allOf(contains, group, containsGroup, containsString(" ")));
+    }
+
+    @Test
+    public void Can_check_that_a_string_matches_any_or_all_of_the_supplied_patterns() {
+
+        // Given
+        final String actual = format("ORDER-%d %s", someInteger(), someAlphaNumericString(4));
+
+        // Then
+        assertThat(actual, matchesAnyOf(".*ERROR.*", "ORDER-.*"));
+        assertThat(actual, matchesAnyOf(asList(".*ERROR.*", "ORDER-.*")));
+        assertThat(actual, matchesAllOf(".*-?\\d+ .*", "ORDER-.*"));
+        assertThat(actual, matchesAllOf(asList(".*-?\\d+ .*", "ORDER-.*")));
+    }
+
+    @Test
+    public void Can_check_that_every_item_has_a_matching_property() {
+
+        // Given
+        final Long expected = someLong();
+        class AClass {
+            private final long two = expected;
+        }
+        class BClass {
+            private final AClass one = new AClass();
+        }
+
+        // Then
+        assertThat(asList(new BClass(), new BClass()), everyItemMatches(hasProperty("one.two", expected)));
+        assertThat(asList(new BClass(), new BClass()), everyItemMatches(hasProperty("one.two", expected), 1));
+    }
+
+    @Test
+    public void Can_check_in_parallel_that_every_item_matches_a_pattern() {
+
+        // Given
+        final List<String> items = asList(someAlphaNumericString(4), someAlphaNumericString(4));
+
+        // Then
+        assertThat(items, everyItemMatchesInParallel(matches("[a-zA-Z0-9]{4}")));
+        assertThat(items.toArray(new String[0]), everyElementMatchesInParallel(matches("[a-zA-Z0-9]{4}")));
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2016 Karl Bennett
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package shiver.me.timbers.matchers;
+
+import org.hamcrest.CustomTypeSafeMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static shiver.me.timbers.data.random.RandomIntegers.someIntegerBetween;
+import static shiver.me.timbers.matchers.ParallelEveryItemMatcher.everyElementMatchesInParallel;
+import static shiver.me.timbers.matchers.ParallelEveryItemMatcher.everyItemMatchesInParallel;
+
+public class ParallelEveryItemMatcherTest {
+
+    @Test
+    public void Can_check_in_parallel_that_every_item_matches() {
+
+        // Given
+        final List<Integer> items = numbers(someIntegerBetween(1000, 10000));
+
+        // When
+        final boolean actual = everyItemMatchesInParallel(lessThan(items.size()))
+            .withSequentialThreshold(someIntegerBetween(1, 100)).matches(items);
+
+        // Then
+        assertThat(actual, is(true));
+    }
+
+    @Test
+    public void Can_check_in_parallel_that_an_item_does_not_match() {
+
+        // Given
+        final List<Integer> items = numbers(someIntegerBetween(1000, 10000));
+
+        // When
+        final boolean actual = everyItemMatchesInParallel(lessThan(items.size() - 1))
+            .withSequentialThreshold(someIntegerBetween(1, 100)).matches(items);
+
+        // Then
+        assertThat(actual, is(false));
+    }
+
+    @Test
+    public void Can_check_in_parallel_a_collection_that_is_not_a_list() {
+
+        // Given
+        final HashSet<Integer> items = new HashSet<>(numbers(someIntegerBetween(1000, 10000)));
+
+        // When
+        final boolean actual = everyItemMatchesInParallel(lessThan(items.size()))
+            .withSequentialThreshold(someIntegerBetween(1, 100)).matches(items);
+
+        // Then
+        assertThat(actual, is(true));
+    }
+
+    @Test
+    public void Can_check_in_parallel_an_empty_collection() {
+
+        // When
+        final boolean actual = everyItemMatchesInParallel(lessThan(0)).matches(Collections.emptyList());
+
+        // Then
+        assertThat(actual, is(true));
+    }
+
+    @Test
+    public void Can_check_in_parallel_with_a_specific_parallelism() {
+
+        // Given
+        final List<Integer> items = numbers(someIntegerBetween(1000, 10000));
+
+        // When
+        final boolean actual = everyItemMatchesInParallel(lessThan(items.size()))
+            .withParallelism(someIntegerBetween(1, 4)).withSequentialThreshold(10).matches(items);
+
+        // Then
+        assertThat(actual, is(true));
+    }
+
+    @Test
+    public void Can_share_a_pool_between_matchers_with_the_same_parallelism() {
+
+        // Given
+        final List<ForkJoinPool> pools = new CopyOnWriteArrayList<>();
+        final Matcher<Object> recordPool = new CustomTypeSafeMatcher<Object>("anything") {
+            @Override
+            protected boolean matchesSafely(Object item) {
+                pools.add(ForkJoinTask.getPool());
+                return true;
+            }
+        };
+        final List<Integer> items = numbers(1);
+
+        // When
+        everyItemMatchesInParallel(recordPool).withParallelism(3).matches(items);
+        everyItemMatchesInParallel(recordPool).withParallelism(3).matches(items);
+
+        // Then
+        assertThat(pools, hasSize(2));
+        assertThat(pools.get(0), sameInstance(pools.get(1)));
+        assertThat(pools.get(0).getParallelism(), is(3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Cannot_check_in_parallel_with_a_parallelism_less_than_one() {
+
+        // When
+        everyItemMatchesInParallel(lessThan(1)).withParallelism(0);
+    }
+
+    @Test
+    public void Can_check_in_parallel_with_a_specific_pool() {
+
+        final ForkJoinPool pool = new ForkJoinPool(2);
+
+        // Given
+        final List<Integer> items = numbers(someIntegerBetween(1000, 10000));
+
+        // When
+        final boolean actual = everyItemMatchesInParallel(lessThan(items.size())).withPool(pool).matches(items);
+
+        // Then
+        assertThat(actual, is(true));
+        pool.shutdown();
+    }
+
+    @Test
+    public void Can_check_in_parallel_that_every_element_of_an_array_matches() {
+
+        // Given
+        final Integer[] items = numbers(someIntegerBetween(1000, 10000)).toArray(new Integer[0]);
+
+        // Then
+        assertThat(items, everyElementMatchesInParallel(lessThan(items.length)));
+        assertThat(everyElementMatchesInParallel(lessThan(items.length - 1)).matches(items), is(false));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void Can_get_a_description() {
+
+        final Matcher<Object> matcher = mock(Matcher.class);
+        final Description description = mock(Description.class);
+        final Description descriptionStart = mock(Description.class);
+
+        // Given
+        given(description.appendText("every item to match ")).willReturn(descriptionStart);
+
+        // When
+        everyItemMatchesInParallel(matcher).describeTo(description);
+
+        // Then
+        verify(descriptionStart).appendDescriptionOf(matcher);
+    }
+
+    @Test
+    public void Can_describe_the_failures() {
+
+        // Given
+        final List<Integer> items = numbers(5);
+        final Description description = new StringDescription();
+
+        // When
+        everyItemMatchesInParallel(greaterThan(2)).withMaxFailures(2).describeMismatch(items, description);
+
+        // Then
+        assertThat(description.toString(), equalTo(
+            "3 of 5 items did not match, the first 2 were:" +
+                "\n          item 0: <0> was less than <2>" +
+                "\n          item 1: <1> was less than <2>"
+        ));
+    }
+
+    @Test
+    public void Can_describe_the_failures_of_an_array() {
+
+        // Given
+        final Integer[] items = {3, 1};
+        final Description arrayDescription = new StringDescription();
+        final Description description = new StringDescription();
+
+        // When
+        everyElementMatchesInParallel(greaterThan(2)).describeTo(arrayDescription);
+        everyElementMatchesInParallel(greaterThan(2)).describeMismatch(items, description);
+
+        // Then
+        assertThat(arrayDescription.toString(), equalTo("every item to match a value greater than <2>"));
+        assertThat(description.toString(), equalTo(
+            "1 of 2 items did not match:\n          item 1: <1> was less than <2>"
+        ));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Cannot_use_a_sequential_threshold_less_than_one() {
+
+        // When
+        everyItemMatchesInParallel(lessThan(0)).withSequentialThreshold(someIntegerBetween(-10, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Cannot_describe_less_than_one_failure() {
+
+        // When
+        everyItemMatchesInParallel(lessThan(0)).withMaxFailures(someIntegerBetween(-10, 1));
+    }
+
+    private static List<Integer> numbers(int size) {
+        final List<Integer> numbers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            numbers.add(i);
+        }
+        return numbers;
+    }
+}